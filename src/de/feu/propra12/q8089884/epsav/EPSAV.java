@@ -4,10 +4,18 @@
  */
 package de.feu.propra12.q8089884.epsav;
 
+import java.io.File;
+import java.io.IOException;
+
 import de.feu.propra12.interfaces.ISmallestCircleCalculator;
 import de.feu.propra12.q8089884.epsav.controller.SynchronizedPointSetController;
+import de.feu.propra12.q8089884.epsav.model.OffHeapPointSetAlgebra;
 import de.feu.propra12.q8089884.epsav.model.SmallestCircleCalculator;
+import de.feu.propra12.q8089884.epsav.model.StreamingConvexHull;
 import de.feu.propra12.q8089884.epsav.model.SynchronizedCompletePointSetAlgebra;
+import de.feu.propra12.q8089884.epsav.model.interfaces.IPointSetChangedSource;
+import de.feu.propra12.q8089884.epsav.model.interfaces.IRWPointSetAlgebra;
+import de.feu.propra12.q8089884.epsav.util.Point;
 import de.feu.propra12.q8089884.epsav.view.EPSAVMainFrame;
 import de.feu.propra12.tester.Tester;
 
@@ -29,6 +37,19 @@ public class EPSAV {
      * ProPraTester aufgerufen um die Rückgabewerte der PointSetAlgebra zu
      * testen.
      * 
+     * Bei übergebenem Parameter '-o' wird statt der vollstaendigen
+     * Punktmengenalgebra die OffHeapPointSetAlgebra fuer sehr grosse
+     * Punktmengen verwendet (ohne Rueckgaengigmachen und Triangulation im
+     * Hintergrund). Optional folgt der Name einer Datei, deren Punkte beim
+     * Start importiert werden.
+     * 
+     * Bei übergebenem Parameter '-s' mit einem Dateinamen wird kein Fenster
+     * geoeffnet, sondern die Datei mit StreamingConvexHull gelesen, ohne die
+     * Punktmenge zu speichern. Ausgegeben werden die Anzahl der Punkte, der
+     * kleinste umfassende Kreis und die Ecken der konvexen Huelle im
+     * Dateiformat; so lassen sich auch Dateien auswerten, die nicht in den
+     * Speicher passen.
+     * 
      * @param args
      *            die Argumente zum Programmstart
      */
@@ -41,11 +62,45 @@ public class EPSAV {
             System.out.println(tester.test());
 
         }
+        // bei Parameter '-s' nur die Huelle der Datei berechnen
+        else if (args.length > 1 && args[0].equals("-s")) {
+            StreamingConvexHull streamingConvexHull = new StreamingConvexHull();
+            try {
+                streamingConvexHull.importPointsFromFile(args[1]);
+            } catch (IOException e) {
+                System.out.println("Fehler beim Lesen der Datei!");
+                return;
+            }
+            System.out.println("Punkte: "
+                    + streamingConvexHull.getPointCount());
+            System.out.println("Kreis: "
+                    + streamingConvexHull.getSECCenterPointX() + " "
+                    + streamingConvexHull.getSECCenterPointY() + " "
+                    + streamingConvexHull.getSECRadius());
+            for (Point p : streamingConvexHull.getConvexHull()) {
+                System.out.println(p.getxPos() + " " + p.getyPos());
+            }
+        }
         // falls keine Parameter uebergeben wurden: Programm normal starten
         else {
 
-            // PointSetAlgebra erzeugen
-            SynchronizedCompletePointSetAlgebra pointSetAlgebra = new SynchronizedCompletePointSetAlgebra();
+            // PointSetAlgebra erzeugen; bei Parameter '-o' die Punktmenge
+            // ausserhalb des Heaps ablegen
+            IRWPointSetAlgebra pointSetAlgebra;
+            if (args.length > 0 && args[0].equals("-o")) {
+                OffHeapPointSetAlgebra offHeapPointSetAlgebra = new OffHeapPointSetAlgebra();
+                if (args.length > 1) {
+                    try {
+                        offHeapPointSetAlgebra.importPointsFromFile(new File(
+                                args[1]));
+                    } catch (IOException e) {
+                        System.out.println("Fehler beim Lesen der Datei!");
+                    }
+                }
+                pointSetAlgebra = offHeapPointSetAlgebra;
+            } else {
+                pointSetAlgebra = new SynchronizedCompletePointSetAlgebra();
+            }
 
             // Controller erzeugen
             SynchronizedPointSetController pointSetController = new SynchronizedPointSetController(
@@ -55,7 +110,8 @@ public class EPSAV {
             EPSAVMainFrame mainFrame = new EPSAVMainFrame(pointSetAlgebra);
 
             // Beobachtermuster zwischen View und Model etablieren
-            pointSetAlgebra.addPointSetChangedListener(mainFrame);
+            ((IPointSetChangedSource) pointSetAlgebra)
+                    .addPointSetChangedListener(mainFrame);
 
             // Beobachtermuster zwischen Controller und View etablieren
             mainFrame.addPointSetOperationListener(pointSetController);
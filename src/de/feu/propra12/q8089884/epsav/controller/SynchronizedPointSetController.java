@@ -8,7 +8,10 @@ import java.io.File;
 import java.util.LinkedList;
 
 import de.feu.propra12.q8089884.epsav.model.SynchronizedCompletePointSetAlgebra;
+import de.feu.propra12.q8089884.epsav.model.interfaces.IFilePersistent;
 import de.feu.propra12.q8089884.epsav.model.interfaces.IRWPointSet;
+import de.feu.propra12.q8089884.epsav.model.interfaces.IRWPointSetAlgebra;
+import de.feu.propra12.q8089884.epsav.model.interfaces.IUndoableRedoable;
 import de.feu.propra12.q8089884.epsav.util.*;
 
 /**
@@ -16,6 +19,11 @@ import de.feu.propra12.q8089884.epsav.util.*;
  * koordiniert Aenderungsoperationen aus unterschiedlichen Quellen und reagiert
  * auf auftretende Fehler/Ausnahmen.
  * 
+ * Operationen, die die verwaltete Punktmengenalgebra nicht unterstuetzt (etwa
+ * Rueckgaengigmachen bei OffHeapPointSetAlgebra), werden wie ungueltige
+ * Operationen mit einer PointSetException abgewiesen; das Verschieben eines
+ * Punktes mit der Maus wird dann ohne Start- und Endereignis ausgefuehrt.
+ * 
  * @author Felix Wenz
  * 
  */
@@ -30,7 +38,7 @@ public class SynchronizedPointSetController implements
     /**
      * die vom Controller zu verwaltende Punktmenge
      */
-    private SynchronizedCompletePointSetAlgebra pointSetAlgebra;
+    private IRWPointSetAlgebra pointSetAlgebra;
 
     /**
      * Der Konstruktor fuer einen Punktmengencontroller. Die zu verwaltende
@@ -39,8 +47,7 @@ public class SynchronizedPointSetController implements
      * @param pointSetAlgebra
      *            die Punktmengenalgebra
      */
-    public SynchronizedPointSetController(
-            SynchronizedCompletePointSetAlgebra pointSetAlgebra) {
+    public SynchronizedPointSetController(IRWPointSetAlgebra pointSetAlgebra) {
         this.pointSetAlgebra = pointSetAlgebra;
     }
 
@@ -63,6 +70,18 @@ public class SynchronizedPointSetController implements
             case MOVE_POINT:
                 pointSetAlgebra.movePoint((Point) args[0], (Point) args[1]);
                 break;
+            case START_MOVING_POINT:
+                if (pointSetAlgebra
+                        instanceof SynchronizedCompletePointSetAlgebra)
+                    ((SynchronizedCompletePointSetAlgebra) pointSetAlgebra)
+                            .startMovingPoint((Point) args[0]);
+                break;
+            case STOP_MOVING_POINT:
+                if (pointSetAlgebra
+                        instanceof SynchronizedCompletePointSetAlgebra)
+                    ((SynchronizedCompletePointSetAlgebra) pointSetAlgebra)
+                            .stopMovingPoint();
+                break;
             case REMOVE_POINT:
                 pointSetAlgebra.removePoint((Point) args[0]);
                 break;
@@ -75,16 +94,16 @@ public class SynchronizedPointSetController implements
                         (Integer) args[3], (Integer) args[4]);
                 break;
             case IMPORT_FROM_FILE:
-                pointSetAlgebra.importPointsFromFile((File) args[0]);
+                filePersistent().importPointsFromFile((File) args[0]);
                 break;
             case EXPORT_TO_FILE:
-                pointSetAlgebra.exportToFile((File) args[0]);
+                filePersistent().exportToFile((File) args[0]);
                 break;
             case UNDO:
-                pointSetAlgebra.undo();
+                undoableRedoable().undo();
                 break;
             case REDO:
-                pointSetAlgebra.redo();
+                undoableRedoable().redo();
                 break;
             case OPERATION_SOURCE_INIT:
                 operationsSources.add((IPointSetOperationSource) e.getSource());
@@ -105,6 +124,36 @@ public class SynchronizedPointSetController implements
         }
     }
 
+    /**
+     * Die Methode gibt die verwaltete Punktmengenalgebra als dateibasierte
+     * Punktmenge zurueck.
+     * 
+     * @return die Punktmengenalgebra
+     * @throws PointSetException
+     *             wird geworfen, falls die Punktmengenalgebra nicht gespeichert
+     *             und geladen werden kann
+     */
+    private IFilePersistent filePersistent() throws PointSetException {
+        if (!(pointSetAlgebra instanceof IFilePersistent))
+            throw new PointSetException("Ungültige Operation!");
+        return (IFilePersistent) pointSetAlgebra;
+    }
+
+    /**
+     * Die Methode gibt die verwaltete Punktmengenalgebra als Punktmenge mit
+     * Aenderungshistorie zurueck.
+     * 
+     * @return die Punktmengenalgebra
+     * @throws PointSetException
+     *             wird geworfen, falls die Punktmengenalgebra keine
+     *             Aenderungshistorie verwaltet
+     */
+    private IUndoableRedoable undoableRedoable() throws PointSetException {
+        if (!(pointSetAlgebra instanceof IUndoableRedoable))
+            throw new PointSetException("Ungültige Operation!");
+        return (IUndoableRedoable) pointSetAlgebra;
+    }
+
     /**
      * Die Methode gibt die verwaltete Punktmengenalgebra zurueck.
      * 
@@ -121,7 +170,7 @@ public class SynchronizedPointSetController implements
      *            die Punktmengenalgebra
      */
     public synchronized void setPointSetAlgebra(
-            SynchronizedCompletePointSetAlgebra pointSetAlgebra) {
+            IRWPointSetAlgebra pointSetAlgebra) {
         this.pointSetAlgebra = pointSetAlgebra;
     }
 
@@ -0,0 +1,143 @@
+/**
+ * Das Paket beinhaltet alle (abstrakten) Klassen, Interfaces und Enums,
+ * die zur Darstellung einer Punktmenge im zweidimensionalen Raum benoetigt
+ * werden.
+ */
+package de.feu.propra12.q8089884.epsav.model;
+
+import de.feu.propra12.q8089884.epsav.model.interfaces.IConvexHullEngine;
+import de.feu.propra12.q8089884.epsav.util.GeometricPredicates;
+
+/**
+ * Die Klasse stellt die gemeinsamen Hilfsmethoden der Verfahren zur Berechnung
+ * der konvexen Huelle bereit. Die Verfahren arbeiten auf Indizes in die nach
+ * (x, y) sortierten Koordinatenarrays; die Indexreihenfolge entspricht daher
+ * der Reihenfolge von West nach Ost.
+ * 
+ * @author Felix Wenz
+ * 
+ */
+public abstract class AbstractHullEngine implements IConvexHullEngine {
+
+    /**
+     * das Vorzeichen der noerdlichen Kette
+     */
+    protected static final int NORTH = 1;
+
+    /**
+     * das Vorzeichen der suedlichen Kette
+     */
+    protected static final int SOUTH = -1;
+
+    /*
+     * (non-Javadoc)
+     * 
+     * @see java.lang.Object#toString()
+     */
+    @Override
+    public String toString() {
+        return getName();
+    }
+
+    /**
+     * Die Methode bestimmt exakt das Vorzeichen des Kreuzprodukts (b - a) x
+     * (c - a) dreier Punkte (siehe GeometricPredicates.orient2d()).
+     * 
+     * @param xs
+     *            die x-Koordinaten
+     * @param ys
+     *            die y-Koordinaten
+     * @param a
+     *            der Index von a
+     * @param b
+     *            der Index von b
+     * @param c
+     *            der Index von c
+     * @return das Vorzeichen des Kreuzprodukts (-1, 0 oder 1)
+     */
+    protected static int orient(int[] xs, int[] ys, int a, int b, int c) {
+        return GeometricPredicates.orient2d(xs[a], ys[a], xs[b], ys[b], xs[c],
+                ys[c]);
+    }
+
+    /**
+     * Die Methode prueft, ob b zwischen a und c eine echte Ecke der Kette
+     * bildet.
+     * 
+     * @param sign
+     *            NORTH oder SOUTH
+     * @return wahr, falls b eine echte Ecke ist
+     */
+    protected static boolean isCorner(int[] xs, int[] ys, int a, int b,
+            int c, int sign) {
+        return sign * orient(xs, ys, a, b, c) > 0;
+    }
+
+    /**
+     * Die Methode prueft, ob c echt ausserhalb der Kante von a nach b liegt,
+     * also auf der Seite, auf der die Kette keine Punkte mehr hat.
+     * 
+     * @param sign
+     *            NORTH oder SOUTH
+     * @return wahr, falls c ausserhalb liegt
+     */
+    protected static boolean isOutside(int[] xs, int[] ys, int a, int b,
+            int c, int sign) {
+        return sign * orient(xs, ys, a, b, c) < 0;
+    }
+
+    /**
+     * Die Methode setzt die Huelle aus ihren Ketten zusammen: die noerdliche
+     * Kette von West nach Ost, dann die suedliche Kette ohne die gemeinsamen
+     * Endpunkte zurueck.
+     * 
+     * @param north
+     *            die Indizes der noerdlichen Kette
+     * @param northSize
+     *            die Laenge der noerdlichen Kette
+     * @param south
+     *            die Indizes der suedlichen Kette
+     * @param southSize
+     *            die Laenge der suedlichen Kette
+     * @return die Indizes der Eckpunkte in Huellenreihenfolge
+     */
+    protected static int[] toHull(int[] north, int northSize, int[] south,
+            int southSize) {
+        int[] hull = new int[northSize + Math.max(0, southSize - 2)];
+        System.arraycopy(north, 0, hull, 0, northSize);
+        int i = northSize;
+        for (int j = southSize - 2; j > 0; j--) {
+            hull[i++] = south[j];
+        }
+        return hull;
+    }
+
+    /**
+     * Die Methode berechnet eine Kette ueber einen Indexbereich (monotone
+     * Kette).
+     * 
+     * @param from
+     *            der erste Index (inklusive)
+     * @param to
+     *            der letzte Index (exklusive)
+     * @param sign
+     *            NORTH oder SOUTH
+     * @param chain
+     *            das Zielarray ab Index offset
+     * @param offset
+     *            der erste Index im Zielarray
+     * @return die Laenge der Kette
+     */
+    protected static int monotoneChain(int[] xs, int[] ys, int from, int to,
+            int sign, int[] chain, int offset) {
+        int top = offset;
+        for (int i = from; i < to; i++) {
+            while (top - offset >= 2
+                    && !isCorner(xs, ys, chain[top - 2], chain[top - 1], i,
+                            sign))
+                top--;
+            chain[top++] = i;
+        }
+        return top - offset;
+    }
+}
@@ -0,0 +1,104 @@
+/**
+ * Das Paket beinhaltet alle (abstrakten) Klassen, Interfaces und Enums,
+ * die zur Darstellung einer Punktmenge im zweidimensionalen Raum benoetigt
+ * werden.
+ */
+package de.feu.propra12.q8089884.epsav.model;
+
+/**
+ * Die Klasse waehlt das Verfahren zur Berechnung der konvexen Huelle anhand
+ * der Punktanzahl und einer Stichprobe der Punktmenge. Kleine Punktmengen
+ * berechnet die monotone Kette. Bei grossen Punktmengen wird die Huelle einer
+ * gleichmaessig ueber die sortierten Punkte verteilten Stichprobe berechnet:
+ * Hat sie nur wenige Ecken, liegen die meisten Punkte weit im Inneren und
+ * QuickHull verwirft sie nach einem Vergleich; andernfalls ist die monotone
+ * Kette schneller.
+ * 
+ * Das Verfahren nach Chan wird nicht gewaehlt, da es auf bereits sortierten
+ * Punkten in keiner der Messungen (siehe HullEngineBenchmark) schneller war.
+ * 
+ * @author Felix Wenz
+ * 
+ */
+public class AdaptiveHullEngine extends AbstractHullEngine {
+
+    /**
+     * die Punktanzahl, ab der eine Stichprobe genommen wird
+     */
+    private static final int SAMPLE_THRESHOLD = 4096;
+
+    /**
+     * die Groesse der Stichprobe
+     */
+    private static final int SAMPLE_SIZE = 1024;
+
+    /**
+     * die hoechste Eckenzahl der Stichprobe, bei der QuickHull gewaehlt wird
+     */
+    private static final int QUICKHULL_MAX_SAMPLE_VERTICES = 24;
+
+    /**
+     * die monotone Kette
+     */
+    private final MonotoneChainHullEngine monotoneChain =
+            new MonotoneChainHullEngine();
+
+    /**
+     * QuickHull
+     */
+    private final QuickHullEngine quickHull = new QuickHullEngine();
+
+    /*
+     * (non-Javadoc)
+     * 
+     * @see
+     * de.feu.propra12.q8089884.epsav.model.interfaces.IConvexHullEngine#getName
+     * ()
+     */
+    @Override
+    public String getName() {
+        return "Adaptiv";
+    }
+
+    /*
+     * (non-Javadoc)
+     * 
+     * @see
+     * de.feu.propra12.q8089884.epsav.model.interfaces.IConvexHullEngine#
+     * computeHull(int[], int[], int)
+     */
+    @Override
+    public int[] computeHull(int[] xPositions, int[] yPositions, int n) {
+        return select(xPositions, yPositions, n).computeHull(xPositions,
+                yPositions, n);
+    }
+
+    /**
+     * Die Methode waehlt das Verfahren fuer die uebergebenen Punkte.
+     * 
+     * @param xPositions
+     *            die x-Koordinaten
+     * @param yPositions
+     *            die y-Koordinaten
+     * @param n
+     *            die Anzahl der Punkte
+     * @return das Verfahren
+     */
+    public AbstractHullEngine select(int[] xPositions, int[] yPositions,
+            int n) {
+        if (n < SAMPLE_THRESHOLD)
+            return monotoneChain;
+
+        // jeder (n / SAMPLE_SIZE)-te Punkt; die Stichprobe bleibt sortiert
+        int[] xs = new int[SAMPLE_SIZE];
+        int[] ys = new int[SAMPLE_SIZE];
+        for (int i = 0; i < SAMPLE_SIZE; i++) {
+            int index = (int) ((long) i * (n - 1) / (SAMPLE_SIZE - 1));
+            xs[i] = xPositions[index];
+            ys[i] = yPositions[index];
+        }
+        int vertices = monotoneChain.computeHull(xs, ys, SAMPLE_SIZE).length;
+        return vertices <= QUICKHULL_MAX_SAMPLE_VERTICES ? quickHull
+                : monotoneChain;
+    }
+}
@@ -0,0 +1,270 @@
+/**
+ * Das Paket beinhaltet alle (abstrakten) Klassen, Interfaces und Enums,
+ * die zur Darstellung einer Punktmenge im zweidimensionalen Raum benoetigt
+ * werden.
+ */
+package de.feu.propra12.q8089884.epsav.model;
+
+import java.util.concurrent.atomic.AtomicLong;
+
+import de.feu.propra12.q8089884.epsav.model.interfaces.IConvexHullEngine;
+import de.feu.propra12.q8089884.epsav.util.GeometricPredicates;
+
+/**
+ * Die Klasse filtert die Punkte vor der Berechnung der konvexen Huelle nach
+ * Akl und Toussaint: In einem Durchlauf werden die extremen Punkte in acht
+ * Richtungen (entlang der Achsen und der Diagonalen) bestimmt. Punkte echt
+ * innerhalb des von ihnen gebildeten Achtecks koennen keine Ecken der Huelle
+ * sein und werden verworfen; die uebrigen Punkte berechnet ein anderes
+ * Verfahren. Da die Filterung die Reihenfolge erhaelt, bleiben die Punkte
+ * sortiert.
+ * 
+ * Die meisten Punkte scheiden bereits ueber ein achsenparalleles Rechteck
+ * innerhalb des Achtecks nach vier Vergleichen aus; nur die uebrigen werden
+ * gegen die Kanten des Achtecks geprueft.
+ * 
+ * Die Klasse ist threadsicher.
+ * 
+ * @author Felix Wenz
+ * 
+ */
+public class AklToussaintHullEngine extends AbstractHullEngine {
+
+    /**
+     * die Punktanzahl, ab der gefiltert wird
+     */
+    private static final int FILTER_THRESHOLD = 64;
+
+    /**
+     * die Punktanzahl, ab der zunaechst eine Stichprobe gefiltert wird
+     */
+    private static final int SAMPLE_THRESHOLD = 4096;
+
+    /**
+     * die Groesse der Stichprobe
+     */
+    private static final int SAMPLE_SIZE = 1024;
+
+    /**
+     * das Verfahren fuer die verbleibenden Punkte
+     */
+    private final IConvexHullEngine engine;
+
+    /**
+     * die Anzahl der bisher verworfenen Punkte
+     */
+    private final AtomicLong culledPoints = new AtomicLong();
+
+    /**
+     * Der Konstruktor fuer einen Filter vor AdaptiveHullEngine.
+     */
+    public AklToussaintHullEngine() {
+        this(new AdaptiveHullEngine());
+    }
+
+    /**
+     * Der Konstruktor fuer einen Filter vor dem angegebenen Verfahren.
+     * 
+     * @param engine
+     *            das Verfahren fuer die verbleibenden Punkte
+     */
+    public AklToussaintHullEngine(IConvexHullEngine engine) {
+        this.engine = engine;
+    }
+
+    /**
+     * Die Methode gibt die Anzahl der Punkte zurueck, die der Filter seit der
+     * Erzeugung verworfen hat.
+     * 
+     * @return die Anzahl der verworfenen Punkte
+     */
+    public long getCulledPoints() {
+        return culledPoints.get();
+    }
+
+    /*
+     * (non-Javadoc)
+     * 
+     * @see
+     * de.feu.propra12.q8089884.epsav.model.interfaces.IConvexHullEngine#getName
+     * ()
+     */
+    @Override
+    public String getName() {
+        return "Akl-Toussaint/" + engine.getName();
+    }
+
+    /*
+     * (non-Javadoc)
+     * 
+     * @see
+     * de.feu.propra12.q8089884.epsav.model.interfaces.IConvexHullEngine#
+     * computeHull(int[], int[], int)
+     */
+    @Override
+    public int[] computeHull(int[] xPositions, int[] yPositions, int n) {
+        if (n < FILTER_THRESHOLD || !isWorthFiltering(xPositions, yPositions,
+                n))
+            return engine.computeHull(xPositions, yPositions, n);
+
+        int[] kept = new int[n];
+        int count = filter(xPositions, yPositions, n, kept);
+        culledPoints.addAndGet(n - count);
+        if (count == n)
+            return engine.computeHull(xPositions, yPositions, n);
+
+        int[] xs = new int[count];
+        int[] ys = new int[count];
+        for (int i = 0; i < count; i++) {
+            xs[i] = xPositions[kept[i]];
+            ys[i] = yPositions[kept[i]];
+        }
+        int[] hull = engine.computeHull(xs, ys, count);
+        for (int i = 0; i < hull.length; i++) {
+            hull[i] = kept[hull[i]];
+        }
+        return hull;
+    }
+
+    /**
+     * Die Methode filtert bei grossen Punktmengen zunaechst eine gleichmaessig
+     * ueber die sortierten Punkte verteilte Stichprobe. Liegen die Punkte
+     * ueberwiegend am Rand (etwa auf einem Kreisring), verwirft der Filter
+     * kaum Punkte und kostet nur einen zusaetzlichen Durchlauf.
+     * 
+     * @return wahr, falls die Stichprobe mindestens zur Haelfte verworfen
+     *         wird
+     */
+    private static boolean isWorthFiltering(int[] xPositions,
+            int[] yPositions, int n) {
+        if (n < SAMPLE_THRESHOLD)
+            return true;
+        int[] xs = new int[SAMPLE_SIZE];
+        int[] ys = new int[SAMPLE_SIZE];
+        for (int i = 0; i < SAMPLE_SIZE; i++) {
+            int index = (int) ((long) i * (n - 1) / (SAMPLE_SIZE - 1));
+            xs[i] = xPositions[index];
+            ys[i] = yPositions[index];
+        }
+        return 2 * filter(xs, ys, SAMPLE_SIZE, new int[SAMPLE_SIZE])
+                <= SAMPLE_SIZE;
+    }
+
+    /**
+     * Die Methode bestimmt die Punkte, die nicht echt innerhalb des Achtecks
+     * der extremen Punkte liegen. Nur diese koennen Ecken der konvexen Huelle
+     * sein oder auf dem Rand des kleinsten umschliessenden Kreises liegen.
+     * 
+     * @param xPositions
+     *            die x-Koordinaten
+     * @param yPositions
+     *            die y-Koordinaten
+     * @param n
+     *            die Anzahl der Punkte
+     * @param kept
+     *            das Zielarray fuer die aufsteigenden Indizes der
+     *            verbleibenden Punkte; mindestens n lang
+     * @return die Anzahl der verbleibenden Punkte
+     */
+    public static int filter(int[] xPositions, int[] yPositions, int n,
+            int[] kept) {
+        if (n == 0)
+            return 0;
+
+        // extreme Punkte in den Richtungen 0, 45, ..., 315 Grad, also im
+        // mathematisch positiven Drehsinn; die Projektion auf die Diagonalen
+        // ist x + y bzw. x - y (bis auf einen positiven Faktor)
+        int[] extreme = new int[8];
+        long maxX = xPositions[0];
+        long maxSum = (long) xPositions[0] + yPositions[0];
+        long maxY = yPositions[0];
+        long minDiff = (long) xPositions[0] - yPositions[0];
+        long minX = maxX;
+        long minSum = maxSum;
+        long minY = maxY;
+        long maxDiff = minDiff;
+        for (int i = 1; i < n; i++) {
+            long x = xPositions[i];
+            long y = yPositions[i];
+            long sum = x + y;
+            long diff = x - y;
+            if (x > maxX) {
+                maxX = x;
+                extreme[0] = i;
+            } else if (x < minX) {
+                minX = x;
+                extreme[4] = i;
+            }
+            if (sum > maxSum) {
+                maxSum = sum;
+                extreme[1] = i;
+            } else if (sum < minSum) {
+                minSum = sum;
+                extreme[5] = i;
+            }
+            if (y > maxY) {
+                maxY = y;
+                extreme[2] = i;
+            } else if (y < minY) {
+                minY = y;
+                extreme[6] = i;
+            }
+            if (diff < minDiff) {
+                minDiff = diff;
+                extreme[3] = i;
+            } else if (diff > maxDiff) {
+                maxDiff = diff;
+                extreme[7] = i;
+            }
+        }
+
+        // Achteck ohne doppelte Ecken
+        int[] polygon = new int[8];
+        int corners = 0;
+        for (int d = 0; d < 8; d++) {
+            if (corners == 0 || extreme[d] != polygon[corners - 1])
+                polygon[corners++] = extreme[d];
+        }
+        while (corners > 1 && polygon[corners - 1] == polygon[0])
+            corners--;
+        if (corners < 3) {
+            for (int i = 0; i < n; i++) {
+                kept[i] = i;
+            }
+            return n;
+        }
+
+        // Rechteck innerhalb des Vierecks der diagonalen Extrempunkte
+        int left = Math.max(xPositions[extreme[3]], xPositions[extreme[5]]);
+        int right = Math.min(xPositions[extreme[1]], xPositions[extreme[7]]);
+        int bottom = Math.max(yPositions[extreme[5]], yPositions[extreme[7]]);
+        int top = Math.min(yPositions[extreme[3]], yPositions[extreme[1]]);
+
+        int count = 0;
+        for (int i = 0; i < n; i++) {
+            int x = xPositions[i];
+            int y = yPositions[i];
+            if (x > left && x < right && y > bottom && y < top)
+                continue;
+            if (!isInside(xPositions, yPositions, polygon, corners, x, y))
+                kept[count++] = i;
+        }
+        return count;
+    }
+
+    /**
+     * Die Methode prueft, ob ein Punkt echt innerhalb des konvexen Polygons
+     * liegt, dessen Ecken im mathematisch positiven Drehsinn angegeben sind.
+     */
+    private static boolean isInside(int[] xs, int[] ys, int[] polygon,
+            int corners, int x, int y) {
+        for (int i = 0; i < corners; i++) {
+            int a = polygon[i];
+            int b = polygon[i + 1 == corners ? 0 : i + 1];
+            if (GeometricPredicates.orient2d(xs[a], ys[a], xs[b], ys[b], x, y)
+                    <= 0)
+                return false;
+        }
+        return true;
+    }
+}
@@ -0,0 +1,396 @@
+/**
+ * Das Paket beinhaltet alle (abstrakten) Klassen, Interfaces und Enums,
+ * die zur Darstellung einer Punktmenge im zweidimensionalen Raum benoetigt
+ * werden.
+ */
+package de.feu.propra12.q8089884.epsav.model;
+
+import java.math.BigInteger;
+
+import de.feu.propra12.q8089884.epsav.util.GeometricPredicates;
+
+/**
+ * Die Klasse stellt eine Kette der konvexen Huelle (siehe HullChains) als
+ * unveraenderlichen AVL-Baum ueber den gepackten Schluesseln dar; der leere
+ * Baum ist null. Verbinden und Teilen veraendern keinen vorhandenen Knoten,
+ * sondern legen nur die O(log h) Knoten entlang des Suchpfads neu an. Die
+ * Ketten der Kinder eines Knotens von DynamicConvexHull bleiben so erhalten,
+ * waehrend der Knoten selbst daraus seine Kette bildet, und ein Leser kann
+ * eine Kette ohne Kopie festhalten.
+ * 
+ * Die Bruecke zwischen zwei Ketten wird wie bei Overmars und van Leeuwen
+ * durch gleichzeitiges Absteigen in beiden Baeumen in O(log h) Schritten
+ * gesucht; jeder Schritt verwirft anhand der Nachbarn der beiden aktuellen
+ * Punkte einen Teilbaum, der keinen Endpunkt der Bruecke enthaelt.
+ * 
+ * @author Felix Wenz
+ * 
+ */
+final class ChainTree {
+
+    /**
+     * die relative Fehlerschranke der Schnittpunktberechnung in double (4 *
+     * 2^-53)
+     */
+    private static final double ERROR_BOUND = 4.0 / (1L << 53);
+
+    /**
+     * der Schluessel des Knotens
+     */
+    final long key;
+
+    /**
+     * der westliche Teilbaum
+     */
+    final ChainTree left;
+
+    /**
+     * der oestliche Teilbaum
+     */
+    final ChainTree right;
+
+    /**
+     * die Hoehe des Teilbaums
+     */
+    private final int height;
+
+    /**
+     * die Anzahl der Schluessel im Teilbaum
+     */
+    final int size;
+
+    /**
+     * der kleinste Schluessel im Teilbaum
+     */
+    final long first;
+
+    /**
+     * der groesste Schluessel im Teilbaum
+     */
+    final long last;
+
+    private ChainTree(ChainTree left, long key, ChainTree right) {
+        this.key = key;
+        this.left = left;
+        this.right = right;
+        this.height = Math.max(height(left), height(right)) + 1;
+        this.size = size(left) + size(right) + 1;
+        this.first = left == null ? key : left.first;
+        this.last = right == null ? key : right.last;
+    }
+
+    /**
+     * Die Methode gibt die Anzahl der Schluessel eines Baums zurueck.
+     */
+    static int size(ChainTree tree) {
+        return tree == null ? 0 : tree.size;
+    }
+
+    private static int height(ChainTree tree) {
+        return tree == null ? 0 : tree.height;
+    }
+
+    /**
+     * Die Methode baut einen ausgeglichenen Baum ueber eine Kette auf.
+     * 
+     * @param chain
+     *            die Kette von West nach Ost
+     * @return der Baum; null bei leerer Kette
+     */
+    static ChainTree valueOf(long[] chain) {
+        return build(chain, 0, chain.length);
+    }
+
+    private static ChainTree build(long[] chain, int from, int to) {
+        if (from == to)
+            return null;
+        int mid = (from + to) >>> 1;
+        return new ChainTree(build(chain, from, mid), chain[mid], build(chain,
+                mid + 1, to));
+    }
+
+    /**
+     * Die Methode schreibt die Schluessel eines Baums von West nach Ost in
+     * ein neues Array.
+     * 
+     * @param tree
+     *            der Baum
+     * @return die Kette
+     */
+    static long[] toArray(ChainTree tree) {
+        long[] chain = new long[size(tree)];
+        copy(tree, chain, 0);
+        return chain;
+    }
+
+    private static int copy(ChainTree tree, long[] chain, int index) {
+        if (tree == null)
+            return index;
+        index = copy(tree.left, chain, index);
+        chain[index] = tree.key;
+        return copy(tree.right, chain, index + 1);
+    }
+
+    /**
+     * Die Methode verbindet die Ketten zweier Punktmengen, deren Schluessel
+     * vollstaendig vor bzw. hinter denen der anderen liegen, ueber ihre
+     * Bruecke. Das Ergebnis entspricht HullChains.merge(long[], long[], int);
+     * beide Baeume bleiben unveraendert.
+     * 
+     * @param west
+     *            die westliche Kette
+     * @param east
+     *            die oestliche Kette
+     * @param sign
+     *            NORTH oder SOUTH
+     * @return die verbundene Kette
+     */
+    static ChainTree merge(ChainTree west, ChainTree east, int sign) {
+        if (west == null)
+            return east;
+        if (east == null)
+            return west;
+        // jede Gerade x = separator trennt die beiden Mengen
+        int separator = PackedPointSet.unpackX(east.first);
+
+        // a und b sind die aktuellen Punkte p und q; die Vorgaenger und
+        // Nachfolger ausserhalb ihrer Teilbaeume ergeben sich aus dem Pfad
+        ChainTree a = west;
+        ChainTree b = east;
+        long aLow = 0, aHigh = 0, bLow = 0, bHigh = 0;
+        boolean hasALow = false, hasAHigh = false;
+        boolean hasBLow = false, hasBHigh = false;
+        while (a != null && b != null) {
+            long p = a.key;
+            long q = b.key;
+            boolean hasLp = a.left != null || hasALow;
+            long lp = a.left != null ? a.left.last : aLow;
+            boolean hasRp = a.right != null || hasAHigh;
+            long rp = a.right != null ? a.right.first : aHigh;
+            boolean hasLq = b.left != null || hasBLow;
+            long lq = b.left != null ? b.left.last : bLow;
+            boolean hasRq = b.right != null || hasBHigh;
+            long rq = b.right != null ? b.right.first : bHigh;
+
+            if (hasLp && !HullChains.isCorner(lp, p, q, sign)) {
+                // p liegt unter der Strecke von lp nach q
+                aHigh = p;
+                hasAHigh = true;
+                a = a.left;
+                continue;
+            }
+            if (hasRq && !HullChains.isCorner(p, q, rq, sign)) {
+                // q liegt unter der Strecke von p nach rq
+                bLow = q;
+                hasBLow = true;
+                b = b.right;
+                continue;
+            }
+            // rp bzw. lq liegen ausserhalb der Geraden durch p und q
+            boolean westOut = hasRp && HullChains.isCorner(p, rp, q, sign);
+            boolean eastOut = hasLq && HullChains.isCorner(p, lq, q, sign);
+            if (westOut && eastOut) {
+                // oestlich des Schnittpunkts der Geraden durch p und rp mit
+                // der durch lq und q ist die erste die aeussere. Liegt er
+                // westlich der Trennlinie, stuetzt sie beide Mengen und rp
+                // bleibt eine Ecke, sonst stuetzt die zweite beide und lq
+                // bleibt eine Ecke. Eine senkrechte Kante liegt am Rand ihrer
+                // Kette; ihr innerer Endpunkt bleibt eine Ecke, sofern die
+                // andere Menge keinen Punkt auf derselben Senkrechten hat.
+                int side;
+                if (PackedPointSet.unpackX(p) == PackedPointSet.unpackX(rp))
+                    side = PackedPointSet.unpackX(rp) < separator ? -1 : 1;
+                else if (PackedPointSet.unpackX(lq) == PackedPointSet
+                        .unpackX(q))
+                    side = PackedPointSet.unpackX(lq) > separator
+                            || PackedPointSet.unpackX(west.last) < separator ? 1
+                            : -1;
+                else
+                    side = compareIntersection(p, rp, lq, q, separator);
+                if (side == 0)
+                    // liegt lq auf der Geraden durch p und rp, ist er der
+                    // Schnittpunkt und bleibt eine Ecke; sonst liegt die
+                    // oestliche Menge ganz unter dieser Geraden
+                    side = isCollinear(p, rp, lq) ? 1 : -1;
+                westOut = side < 0;
+                eastOut = !westOut;
+            }
+            if (westOut) {
+                aLow = p;
+                hasALow = true;
+                a = a.right;
+            } else if (eastOut) {
+                bHigh = q;
+                hasBHigh = true;
+                b = b.left;
+            } else {
+                return join(head(west, p), p, tail(east, q));
+            }
+        }
+        throw new IllegalStateException("bridge not found");
+    }
+
+    /**
+     * Die Methode vergleicht die x-Koordinate des Schnittpunkts der Geraden
+     * durch p und rp mit der durch lq und q mit der Trennlinie.
+     * 
+     * @return eine negative Zahl, null oder eine positive Zahl, falls der
+     *         Schnittpunkt westlich, auf oder oestlich der Trennlinie liegt
+     */
+    private static int compareIntersection(long p, long rp, long lq, long q,
+            int separator) {
+        long px = PackedPointSet.unpackX(p);
+        long py = PackedPointSet.unpackY(p);
+        long ux = PackedPointSet.unpackX(rp) - px;
+        long uy = PackedPointSet.unpackY(rp) - py;
+        long lqx = PackedPointSet.unpackX(lq);
+        long lqy = PackedPointSet.unpackY(lq);
+        long vx = PackedPointSet.unpackX(q) - lqx;
+        long vy = PackedPointSet.unpackY(q) - lqy;
+        long wx = lqx - px;
+        long wy = lqy - py;
+        long dx = px - separator;
+        // Schnittpunkt p + t * u mit t = (w x v) / (u x v), also
+        // x - separator = (dx * (u x v) + ux * (w x v)) / (u x v)
+        if (fitsInt(ux) && fitsInt(uy) && fitsInt(vx) && fitsInt(vy)
+                && fitsInt(wx) && fitsInt(wy)) {
+            // die Kreuzprodukte passen in long; ihre Rundung auf double und
+            // die der folgenden Produkte und der Summe deckt ERROR_BOUND ab
+            long det = ux * vy - uy * vx;
+            long num = wx * vy - wy * vx;
+            double left = (double) dx * det;
+            double right = (double) ux * num;
+            double sum = left + right;
+            double bound = ERROR_BOUND * (Math.abs(left) + Math.abs(right));
+            if (sum > bound)
+                return Long.signum(det);
+            if (-sum > bound)
+                return -Long.signum(det);
+            return exactSign(dx, det, ux, num) * Long.signum(det);
+        }
+        BigInteger det = BigInteger.valueOf(ux).multiply(BigInteger.valueOf(vy))
+                .subtract(BigInteger.valueOf(uy).multiply(
+                        BigInteger.valueOf(vx)));
+        BigInteger num = BigInteger.valueOf(wx).multiply(BigInteger.valueOf(vy))
+                .subtract(BigInteger.valueOf(wy).multiply(
+                        BigInteger.valueOf(vx)));
+        return BigInteger.valueOf(dx).multiply(det)
+                .add(BigInteger.valueOf(ux).multiply(num)).signum()
+                * det.signum();
+    }
+
+    /**
+     * Die Methode bestimmt exakt das Vorzeichen von a * b + c * d, indem sie
+     * beide Produkte mit 128 Bit berechnet. Die Betraege der Produkte muessen
+     * kleiner als 2^126 sein.
+     */
+    private static int exactSign(long a, long b, long c, long d) {
+        long low = a * b;
+        long otherLow = c * d;
+        long sumLow = low + otherLow;
+        // Uebertrag der vorzeichenlosen Addition der unteren 64 Bit
+        long carry = (sumLow ^ Long.MIN_VALUE) < (low ^ Long.MIN_VALUE) ? 1
+                : 0;
+        long high = multiplyHigh(a, b) + multiplyHigh(c, d) + carry;
+        if (high != 0)
+            return Long.signum(high);
+        return sumLow == 0 ? 0 : 1;
+    }
+
+    /**
+     * Die Methode gibt die oberen 64 Bit des 128-Bit-Produkts zweier Zahlen
+     * mit Vorzeichen zurueck.
+     */
+    private static long multiplyHigh(long x, long y) {
+        long x1 = x >> 32;
+        long x2 = x & 0xFFFFFFFFL;
+        long y1 = y >> 32;
+        long y2 = y & 0xFFFFFFFFL;
+        long z2 = x2 * y2;
+        long t = x1 * y2 + (z2 >>> 32);
+        long z1 = (t & 0xFFFFFFFFL) + x2 * y1;
+        return x1 * y1 + (t >> 32) + (z1 >> 32);
+    }
+
+    private static boolean isCollinear(long a, long b, long c) {
+        return GeometricPredicates.orient2d(PackedPointSet.unpackX(a),
+                PackedPointSet.unpackY(a), PackedPointSet.unpackX(b),
+                PackedPointSet.unpackY(b), PackedPointSet.unpackX(c),
+                PackedPointSet.unpackY(c)) == 0;
+    }
+
+    private static boolean fitsInt(long value) {
+        return value >= -Integer.MAX_VALUE && value <= Integer.MAX_VALUE;
+    }
+
+    /**
+     * Die Methode gibt den Baum der Schluessel zurueck, die kleiner als der
+     * uebergebene sind.
+     */
+    static ChainTree head(ChainTree tree, long key) {
+        if (tree == null)
+            return null;
+        if (key <= tree.key)
+            return head(tree.left, key);
+        return join(tree.left, tree.key, head(tree.right, key));
+    }
+
+    /**
+     * Die Methode gibt den Baum der Schluessel zurueck, die mindestens so
+     * gross wie der uebergebene sind.
+     */
+    static ChainTree tail(ChainTree tree, long key) {
+        if (tree == null)
+            return null;
+        if (tree.key < key)
+            return tail(tree.right, key);
+        return join(tail(tree.left, key), tree.key, tree.right);
+    }
+
+    /**
+     * Die Methode verbindet zwei Baeume und einen Schluessel, der zwischen
+     * ihren Schluesseln liegt, in O(|Hoehenunterschied| + 1) Schritten.
+     */
+    static ChainTree join(ChainTree left, long key, ChainTree right) {
+        int leftHeight = height(left);
+        int rightHeight = height(right);
+        if (leftHeight > rightHeight + 1)
+            return balance(left.left, left.key,
+                    join(left.right, key, right));
+        if (rightHeight > leftHeight + 1)
+            return balance(join(left, key, right.left), right.key,
+                    right.right);
+        return new ChainTree(left, key, right);
+    }
+
+    /**
+     * Die Methode legt einen Knoten an, dessen Teilbaeume sich in der Hoehe
+     * um hoechstens zwei unterscheiden, und gleicht ihn durch Rotation aus.
+     */
+    private static ChainTree balance(ChainTree left, long key,
+            ChainTree right) {
+        int leftHeight = height(left);
+        int rightHeight = height(right);
+        if (rightHeight > leftHeight + 1) {
+            if (height(right.left) > height(right.right)) {
+                ChainTree inner = right.left;
+                return new ChainTree(new ChainTree(left, key, inner.left),
+                        inner.key, new ChainTree(inner.right, right.key,
+                                right.right));
+            }
+            return new ChainTree(new ChainTree(left, key, right.left),
+                    right.key, right.right);
+        }
+        if (leftHeight > rightHeight + 1) {
+            if (height(left.right) > height(left.left)) {
+                ChainTree inner = left.right;
+                return new ChainTree(new ChainTree(left.left, left.key,
+                        inner.left), inner.key, new ChainTree(inner.right, key,
+                        right));
+            }
+            return new ChainTree(left.left, left.key, new ChainTree(
+                    left.right, key, right));
+        }
+        return new ChainTree(left, key, right);
+    }
+}
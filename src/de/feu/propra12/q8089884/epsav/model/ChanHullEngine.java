@@ -0,0 +1,179 @@
+/**
+ * Das Paket beinhaltet alle (abstrakten) Klassen, Interfaces und Enums,
+ * die zur Darstellung einer Punktmenge im zweidimensionalen Raum benoetigt
+ * werden.
+ */
+package de.feu.propra12.q8089884.epsav.model;
+
+import java.util.Arrays;
+
+/**
+ * Die Klasse berechnet die konvexe Huelle mit dem ausgabesensitiven Verfahren
+ * nach Chan in O(n log h). Fuer eine geschaetzte Eckenzahl m werden die Punkte
+ * in Gruppen zu m aufeinanderfolgenden Punkten geteilt und deren Ketten mit
+ * der monotonen Kette berechnet. Anschliessend wird jede Kette der Huelle
+ * ausgehend vom westlichsten Punkt wie beim Einwickeln (Jarvis) abgeschritten;
+ * den naechsten Kandidaten jeder Gruppe liefert eine binaere Suche nach der
+ * Tangente an deren Kette. Hat eine Kette mehr als m Ecken, wird m quadriert
+ * und neu begonnen.
+ * 
+ * Da die Gruppen aufeinanderfolgende Punkte der sortierten Punktmenge sind,
+ * liegen sie in Streifen von West nach Ost; beim Abschreiten muessen daher nur
+ * die Gruppen oestlich der aktuellen Ecke betrachtet werden.
+ * 
+ * @author Felix Wenz
+ * 
+ */
+public class ChanHullEngine extends AbstractHullEngine {
+
+    /*
+     * (non-Javadoc)
+     * 
+     * @see
+     * de.feu.propra12.q8089884.epsav.model.interfaces.IConvexHullEngine#getName
+     * ()
+     */
+    @Override
+    public String getName() {
+        return "Chan";
+    }
+
+    /*
+     * (non-Javadoc)
+     * 
+     * @see
+     * de.feu.propra12.q8089884.epsav.model.interfaces.IConvexHullEngine#
+     * computeHull(int[], int[], int)
+     */
+    @Override
+    public int[] computeHull(int[] xPositions, int[] yPositions, int n) {
+        if (n == 0)
+            return new int[0];
+        int[] groupChains = new int[n];
+        int[] groupSizes = new int[n];
+        for (long m = 4;; m = Math.min(m * m, n)) {
+            int[] north = wrap(xPositions, yPositions, n, (int) m, NORTH,
+                    groupChains, groupSizes);
+            int[] south = north == null ? null : wrap(xPositions, yPositions,
+                    n, (int) m, SOUTH, groupChains, groupSizes);
+            if (south != null)
+                return toHull(north, north.length, south, south.length);
+        }
+    }
+
+    /**
+     * Die Methode schreitet eine Kette der Huelle mit hoechstens m Ecken ab.
+     * 
+     * @param m
+     *            die Gruppengroesse und die hoechste erlaubte Eckenzahl
+     * @param sign
+     *            NORTH oder SOUTH
+     * @param groupChains
+     *            ein Arbeitsarray der Laenge n fuer die Ketten der Gruppen;
+     *            die Kette der Gruppe g beginnt bei g * m
+     * @param groupSizes
+     *            ein Arbeitsarray fuer die Kettenlaengen der Gruppen
+     * @return die Indizes der Kette von West nach Ost; null, falls die Kette
+     *         mehr als m Ecken hat
+     */
+    private static int[] wrap(int[] xs, int[] ys, int n, int m, int sign,
+            int[] groupChains, int[] groupSizes) {
+        int groups = (n + m - 1) / m;
+        for (int g = 0; g < groups; g++) {
+            groupSizes[g] = monotoneChain(xs, ys, g * m,
+                    Math.min(n, (g + 1) * m), sign, groupChains, g * m);
+        }
+
+        int[] chain = new int[Math.min(m, 16)];
+        int size = 0;
+        int p = 0;
+        chain[size++] = p;
+        while (p != n - 1) {
+            if (size == m)
+                return null;
+
+            // Nachfolger in der eigenen Gruppe; p ist als Ecke der Huelle
+            // auch Ecke der Kette seiner Gruppe
+            int group = p / m;
+            int offset = group * m;
+            int end = offset + groupSizes[group];
+            int pos = Arrays.binarySearch(groupChains, offset, end, p);
+            int next = pos < end - 1 ? groupChains[pos + 1] : -1;
+
+            // Tangenten an die Ketten der oestlichen Gruppen
+            for (int g = group + 1; g < groups; g++) {
+                int candidate = tangent(xs, ys, p, groupChains, g * m,
+                        groupSizes[g], sign);
+                next = better(xs, ys, p, next, candidate, sign);
+            }
+
+            if (size == chain.length)
+                chain = Arrays.copyOf(chain, Math.min(m, size * 2));
+            chain[size++] = next;
+            p = next;
+        }
+        return Arrays.copyOf(chain, size);
+    }
+
+    /**
+     * Die Methode sucht binaer die Ecke einer Kette, an der die Tangente von
+     * einem westlich der Kette liegenden Punkt aus anliegt. Liegen mehrere
+     * Ecken auf der Tangente, wird die entfernteste gewaehlt.
+     * 
+     * @param p
+     *            der Index des Punktes
+     * @param chains
+     *            das Array mit der Kette
+     * @param offset
+     *            der Beginn der Kette im Array
+     * @param length
+     *            die Laenge der Kette
+     * @param sign
+     *            NORTH oder SOUTH
+     * @return der Index der Ecke
+     */
+    private static int tangent(int[] xs, int[] ys, int p, int[] chains,
+            int offset, int length, int sign) {
+        int low = offset;
+        int high = offset + length - 1;
+        while (low < high) {
+            int mid = (low + high) >>> 1;
+            // liegt die naechste Ecke ausserhalb oder auf der Geraden von p
+            // durch die mittlere Ecke, liegt die Tangente weiter oestlich
+            if (!isCorner(xs, ys, p, chains[mid], chains[mid + 1], sign))
+                low = mid + 1;
+            else
+                high = mid;
+        }
+        return chains[low];
+    }
+
+    /**
+     * Die Methode waehlt von zwei Kandidaten fuer die naechste Ecke nach p
+     * denjenigen, ausserhalb dessen Kante kein Punkt liegt; bei kolinearen
+     * Kandidaten den entfernteren.
+     * 
+     * @param p
+     *            die aktuelle Ecke
+     * @param q
+     *            der bisherige Kandidat; -1, falls es keinen gibt
+     * @param r
+     *            der neue Kandidat
+     * @param sign
+     *            NORTH oder SOUTH
+     * @return der bessere Kandidat
+     */
+    private static int better(int[] xs, int[] ys, int p, int q, int r,
+            int sign) {
+        if (q < 0)
+            return r;
+        int orientation = sign * orient(xs, ys, p, q, r);
+        if (orientation < 0)
+            return r;
+        // kolineare Kandidaten liegen beide oestlich von p auf demselben
+        // Strahl; der groessere Index ist der entferntere
+        if (orientation == 0)
+            return Math.max(q, r);
+        return q;
+    }
+}
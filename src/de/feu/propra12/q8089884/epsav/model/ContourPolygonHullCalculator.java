@@ -0,0 +1,296 @@
+/**
+ * Das Paket beinhaltet alle (abstrakten) Klassen, Interfaces und Enums, 
+ * die zur Darstellung einer Punktmenge im zweidimensionalen Raum benoetigt 
+ * werden.
+ */
+package de.feu.propra12.q8089884.epsav.model;
+
+import de.feu.propra12.q8089884.epsav.model.interfaces.IConvexHullEngine;
+import de.feu.propra12.q8089884.epsav.util.GeometricPredicates;
+import de.feu.propra12.q8089884.epsav.util.Point;
+import de.feu.propra12.q8089884.epsav.util.PointBuffer;
+
+/**
+ * Die Klasse berechnet Konturpolygon und konvexe Huelle einer nach (x, y)
+ * sortierten Punktmenge. Fuer das Konturpolygon wird von beiden Seiten ein
+ * "Faden" an die Punktmenge gelegt. Die konvexe Huelle berechnet ein
+ * austauschbares Verfahren (siehe IConvexHullEngine) direkt aus den
+ * sortierten Punkten.
+ * 
+ * @author Felix Wenz
+ * 
+ */
+public class ContourPolygonHullCalculator {
+
+    /**
+     * das Verfahren fuer die konvexe Huelle, falls keines angegeben wird
+     */
+    private static final IConvexHullEngine DEFAULT_ENGINE =
+            new AklToussaintHullEngine();
+
+    /**
+     * Die Klasse stellt nur statische Methoden bereit.
+     */
+    private ContourPolygonHullCalculator() {
+
+    }
+
+    /**
+     * Die Methode berechnet das Konturpolygon einer Punktmenge und gibt dessen
+     * Punkte zurueck.
+     * 
+     * @param points
+     *            die nach (x, y) sortierten Punkte der Punktmenge
+     * @return die Punkte des Konturpolygons
+     */
+    public static Point[] getContourPolygon(Point[] points) {
+
+        // Konturpolygon nur "berechnen", falls mehr als 3 Punkte in der Menge
+        // enthalten sind
+        if (points.length > 3) {
+            int[] xs = new int[points.length];
+            int[] ys = new int[points.length];
+            for (int i = 0; i < points.length; i++) {
+                xs[i] = points[i].getxPos();
+                ys[i] = points[i].getyPos();
+            }
+            PointBuffer result = new PointBuffer();
+            getContourPolygon(xs, ys, points.length, result);
+            return result.toPointArray();
+        } else
+            return points;
+    }
+
+    /**
+     * Die Methode berechnet das Konturpolygon einer Punktmenge und legt dessen
+     * Punkte im uebergebenen Puffer ab. Ausser beim Wachsen des Puffers werden
+     * keine Objekte erzeugt. Bis zu drei Punkte werden unveraendert
+     * uebernommen.
+     * 
+     * @param xPositions
+     *            die nach (x, y) sortierten x-Koordinaten
+     * @param yPositions
+     *            die zugehoerigen y-Koordinaten
+     * @param n
+     *            die Anzahl der Punkte
+     * @param result
+     *            der Puffer fuer die Punkte des Konturpolygons; wird zuvor
+     *            geleert
+     */
+    public static void getContourPolygon(int[] xPositions, int[] yPositions,
+            int n, PointBuffer result) {
+        result.clear();
+        if (n <= 3) {
+            for (int i = 0; i < n; i++) {
+                result.add(xPositions[i], yPositions[i]);
+            }
+            return;
+        }
+
+        // Index des letzten Elements der Punktmenge
+        int iLast = n - 1;
+
+        // Konturabschnitt Westen-Norden-Osten: "Faden" von links, dann von
+        // rechts an die Punktmenge "pusten". Die Faeden treffen sich
+        // hoechstens im letzten Punkt des linken Fadens; der rechte Faden
+        // wird in umgekehrter Reihenfolge gefunden und danach umgedreht.
+        result.add(xPositions[0], yPositions[0]);
+        int leftEnd = 0;
+        for (int i = 1; i < iLast; i++) {
+            if (yPositions[i] < yPositions[leftEnd]) {
+                leftEnd = i;
+                result.add(xPositions[i], yPositions[i]);
+            }
+        }
+        int from = result.size();
+        int minY = yPositions[iLast];
+        for (int i = iLast - 1; i > leftEnd; i--) {
+            if (yPositions[i] < minY) {
+                minY = yPositions[i];
+                result.add(xPositions[i], yPositions[i]);
+            }
+        }
+        result.reverse(from, result.size());
+
+        // Konturabschnitt Westen-Sueden-Osten von Osten nach Westen; Punkte,
+        // die schon zum noerdlichen Abschnitt gehoeren, werden ausgelassen
+        int north = result.size();
+        result.add(xPositions[iLast], yPositions[iLast]);
+        int rightEnd = iLast;
+        for (int i = iLast - 1; i > 0; i--) {
+            if (yPositions[i] > yPositions[rightEnd]) {
+                rightEnd = i;
+                if (!contains(result, north, xPositions[i], yPositions[i]))
+                    result.add(xPositions[i], yPositions[i]);
+            }
+        }
+        from = result.size();
+        int maxY = yPositions[0];
+        for (int i = 1; i < rightEnd; i++) {
+            if (yPositions[i] > maxY) {
+                maxY = yPositions[i];
+                if (!contains(result, north, xPositions[i], yPositions[i]))
+                    result.add(xPositions[i], yPositions[i]);
+            }
+        }
+        result.reverse(from, result.size());
+    }
+
+    /**
+     * Die Methode sucht einen Punkt binaer unter den ersten n, nach (x, y)
+     * sortierten Punkten des Puffers.
+     */
+    private static boolean contains(PointBuffer buffer, int n, int xPos,
+            int yPos) {
+        int low = 0;
+        int high = n - 1;
+        while (low <= high) {
+            int mid = (low + high) >>> 1;
+            int x = buffer.getxPos(mid);
+            int y = buffer.getyPos(mid);
+            if (x < xPos || (x == xPos && y < yPos))
+                low = mid + 1;
+            else if (x == xPos && y == yPos)
+                return true;
+            else
+                high = mid - 1;
+        }
+        return false;
+    }
+
+    /**
+     * Die Methode berechnet die konvexe Huelle einer Punktmenge und gibt deren
+     * Punkte zurueck. Die Punkte werden nach Akl und Toussaint gefiltert,
+     * danach waehlt AdaptiveHullEngine das Verfahren.
+     * 
+     * @param points
+     *            die nach (x, y) sortierten Punkte der Punktmenge
+     * @return die Punkte der konvexen Huelle
+     */
+    public static Point[] getConvexHull(Point[] points) {
+        return getConvexHull(points, DEFAULT_ENGINE);
+    }
+
+    /**
+     * Die Methode berechnet die konvexe Huelle einer Punktmenge mit dem
+     * angegebenen Verfahren und gibt deren Punkte zurueck. Bis zu drei Punkte
+     * werden unveraendert zurueckgegeben.
+     * 
+     * @param points
+     *            die nach (x, y) sortierten Punkte der Punktmenge
+     * @param engine
+     *            das Verfahren
+     * @return die Punkte der konvexen Huelle
+     */
+    public static Point[] getConvexHull(Point[] points,
+            IConvexHullEngine engine) {
+        if (points.length <= 3)
+            return points;
+
+        int[] xs = new int[points.length];
+        int[] ys = new int[points.length];
+        for (int i = 0; i < points.length; i++) {
+            xs[i] = points[i].getxPos();
+            ys[i] = points[i].getyPos();
+        }
+        int[] hull = engine.computeHull(xs, ys, points.length);
+        Point[] result = new Point[hull.length];
+        for (int i = 0; i < hull.length; i++) {
+            result[i] = points[hull[i]];
+        }
+        return result;
+    }
+
+    /**
+     * Die Methode berechnet die konvexe Huelle einer Punktmenge mit dem
+     * angegebenen Verfahren und gibt deren Punkte zurueck. Bis zu drei Punkte
+     * werden unveraendert zurueckgegeben.
+     * 
+     * @param xPositions
+     *            die nach (x, y) sortierten x-Koordinaten
+     * @param yPositions
+     *            die zugehoerigen y-Koordinaten
+     * @param n
+     *            die Anzahl der Punkte
+     * @param engine
+     *            das Verfahren
+     * @return die Punkte der konvexen Huelle
+     */
+    public static Point[] getConvexHull(int[] xPositions, int[] yPositions,
+            int n, IConvexHullEngine engine) {
+        if (n <= 3) {
+            Point[] result = new Point[n];
+            for (int i = 0; i < n; i++) {
+                result[i] = new Point(xPositions[i], yPositions[i]);
+            }
+            return result;
+        }
+
+        int[] hull = engine.computeHull(xPositions, yPositions, n);
+        Point[] result = new Point[hull.length];
+        for (int i = 0; i < hull.length; i++) {
+            result[i] = new Point(xPositions[hull[i]], yPositions[hull[i]]);
+        }
+        return result;
+    }
+
+    /**
+     * Die Methode berechnet die konvexe Huelle einer Punktmenge als monotone
+     * Kette und legt deren Punkte im uebergebenen Puffer ab, der dabei
+     * zugleich als Stapel dient. Ausser beim Wachsen des Puffers werden keine
+     * Objekte erzeugt. Bis zu drei Punkte werden unveraendert uebernommen.
+     * 
+     * @param xPositions
+     *            die nach (x, y) sortierten x-Koordinaten
+     * @param yPositions
+     *            die zugehoerigen y-Koordinaten
+     * @param n
+     *            die Anzahl der Punkte
+     * @param result
+     *            der Puffer fuer die Punkte der konvexen Huelle; wird zuvor
+     *            geleert
+     */
+    public static void getConvexHull(int[] xPositions, int[] yPositions,
+            int n, PointBuffer result) {
+        result.clear();
+        if (n <= 3) {
+            for (int i = 0; i < n; i++) {
+                result.add(xPositions[i], yPositions[i]);
+            }
+            return;
+        }
+
+        // noerdliche Kette von West nach Ost, dann suedliche Kette von Ost
+        // nach West; beide behalten nur echte Ecken im positiven Drehsinn
+        for (int i = 0; i < n; i++) {
+            push(result, 2, xPositions[i], yPositions[i]);
+        }
+        int bottom = result.size() + 1;
+        for (int i = n - 2; i >= 0; i--) {
+            push(result, bottom, xPositions[i], yPositions[i]);
+        }
+        // der erste Punkt wurde am Ende erneut abgelegt
+        result.truncate(result.size() - 1);
+    }
+
+    /**
+     * Die Methode legt einen Punkt auf den Stapel einer Kette und entfernt
+     * zuvor die Punkte, die dadurch keine Ecke mehr sind.
+     * 
+     * @param bottom
+     *            die Groesse des Stapels, unter die nicht entfernt wird
+     */
+    private static void push(PointBuffer chain, int bottom, int xPos,
+            int yPos) {
+        int size = chain.size();
+        while (size >= bottom) {
+            if (GeometricPredicates.orient2d(chain.getxPos(size - 2),
+                    chain.getyPos(size - 2), chain.getxPos(size - 1),
+                    chain.getyPos(size - 1), xPos, yPos) > 0)
+                break;
+            size--;
+        }
+        chain.truncate(size);
+        chain.add(xPos, yPos);
+    }
+}
@@ -0,0 +1,354 @@
+/**
+ * Das Paket beinhaltet alle (abstrakten) Klassen, Interfaces und Enums,
+ * die zur Darstellung einer Punktmenge im zweidimensionalen Raum benoetigt
+ * werden.
+ */
+package de.feu.propra12.q8089884.epsav.model;
+
+import de.feu.propra12.q8089884.epsav.util.GeometricPredicates;
+import de.feu.propra12.q8089884.epsav.util.Triangulation;
+
+/**
+ * Die Klasse berechnet die Delaunay-Triangulation einer nach (x, y)
+ * sortierten Punktmenge nach dem Teile-und-herrsche-Verfahren von Guibas und
+ * Stolfi: Die Punkte werden in eine westliche und eine oestliche Haelfte
+ * geteilt, beide werden rekursiv trianguliert und dann von der unteren
+ * gemeinsamen Tangente an nach oben zusammengenaeht, wobei Kanten, deren
+ * Umkreisbedingung verletzt ist, entfallen. Die Laufzeit ist auch im
+ * unguenstigsten Fall O(n log n), die Rekursionstiefe nur O(log n).
+ * 
+ * Waehrend der Berechnung werden die Kanten als Paare von Halbkanten mit dem
+ * naechsten und vorigen Nachbarn im Umlauf um den Anfangspunkt gehalten
+ * (Index e und e ^ 1 fuer die beiden Richtungen). Am Ende werden die Flaechen
+ * abgelaufen und in die dreiecksbasierte Struktur von Triangulation
+ * uebertragen. Orientierung und Umkreistest sind exakt (siehe
+ * GeometricPredicates); kolineare und kozirkulare Punkte sind daher kein
+ * Sonderfall.
+ * 
+ * @author Felix Wenz
+ * 
+ */
+public class DelaunayTriangulator {
+
+    /**
+     * die x-Koordinaten der Punkte
+     */
+    private final int[] xs;
+
+    /**
+     * die y-Koordinaten der Punkte
+     */
+    private final int[] ys;
+
+    /**
+     * die Anfangspunkte der Halbkanten; -1 fuer freie Halbkanten
+     */
+    private int[] origins;
+
+    /**
+     * die naechste Halbkante gegen den Uhrzeigersinn um den Anfangspunkt
+     */
+    private int[] onext;
+
+    /**
+     * die naechste Halbkante im Uhrzeigersinn um den Anfangspunkt
+     */
+    private int[] oprev;
+
+    /**
+     * die Anzahl der bisher belegten Halbkanten
+     */
+    private int edgeCount = 0;
+
+    /**
+     * die erste Halbkante der Liste entfernter Kanten; -1, falls leer
+     */
+    private int free = -1;
+
+    /**
+     * Der Konstruktor legt die Halbkanten fuer eine Punktmenge an.
+     */
+    private DelaunayTriangulator(int[] xs, int[] ys, int n) {
+        this.xs = xs;
+        this.ys = ys;
+        // eine Triangulation hat hoechstens 3n - 6 Kanten
+        int capacity = Math.max(6 * n, 8);
+        origins = new int[capacity];
+        onext = new int[capacity];
+        oprev = new int[capacity];
+    }
+
+    /**
+     * Die Methode berechnet die Delaunay-Triangulation der uebergebenen
+     * Punkte. Die Ecken der Triangulation tragen die Indizes der Punkte.
+     * 
+     * @param xs
+     *            die x-Koordinaten, nach (x, y) sortiert und ohne doppelte
+     *            Punkte
+     * @param ys
+     *            die y-Koordinaten
+     * @param n
+     *            die Anzahl der Punkte
+     * @return die Triangulation
+     */
+    public static Triangulation triangulate(int[] xs, int[] ys, int n) {
+        int[] vertexX = new int[n];
+        int[] vertexY = new int[n];
+        System.arraycopy(xs, 0, vertexX, 0, n);
+        System.arraycopy(ys, 0, vertexY, 0, n);
+        if (n < 3)
+            return new Triangulation(vertexX, vertexY, new int[0], new int[0]);
+
+        DelaunayTriangulator triangulator = new DelaunayTriangulator(vertexX,
+                vertexY, n);
+        triangulator.triangulate(0, n);
+        return triangulator.toTriangulation();
+    }
+
+    /**
+     * Die Methode trianguliert die Punkte mit den Indizes von lo
+     * (einschliesslich) bis hi (ausschliesslich); es sind mindestens zwei.
+     * 
+     * @return die Halbkante gegen den Uhrzeigersinn auf der Huelle, die am
+     *         westlichsten Punkt beginnt, in den oberen 32 Bit und die
+     *         Halbkante im Uhrzeigersinn, die am oestlichsten Punkt beginnt,
+     *         in den unteren 32 Bit
+     */
+    private long triangulate(int lo, int hi) {
+        if (hi - lo == 2) {
+            int a = makeEdge(lo, lo + 1);
+            return pair(a, a ^ 1);
+        }
+        if (hi - lo == 3) {
+            int a = makeEdge(lo, lo + 1);
+            int b = makeEdge(lo + 1, lo + 2);
+            splice(a ^ 1, b);
+            int turn = orient(lo, lo + 1, lo + 2);
+            if (turn > 0) {
+                connect(b, a);
+                return pair(a, b ^ 1);
+            }
+            if (turn < 0) {
+                int c = connect(b, a);
+                return pair(c ^ 1, c);
+            }
+            // kolinear: nur die beiden Kanten
+            return pair(a, b ^ 1);
+        }
+
+        int mid = (lo + hi) >>> 1;
+        long left = triangulate(lo, mid);
+        long right = triangulate(mid, hi);
+        int ldo = (int) (left >>> 32);
+        int ldi = (int) left;
+        int rdi = (int) (right >>> 32);
+        int rdo = (int) right;
+
+        // untere gemeinsame Tangente
+        while (true) {
+            if (orient(origins[rdi], origins[ldi], dest(ldi)) > 0)
+                ldi = lnext(ldi);
+            else if (orient(origins[ldi], dest(rdi), origins[rdi]) > 0)
+                rdi = onext[rdi ^ 1];
+            else
+                break;
+        }
+
+        int basel = connect(rdi ^ 1, ldi);
+        if (origins[ldi] == origins[ldo])
+            ldo = basel ^ 1;
+        if (origins[rdi] == origins[rdo])
+            rdo = basel;
+
+        // zusammennaehen
+        while (true) {
+            int lcand = onext[basel ^ 1];
+            if (isValid(lcand, basel)) {
+                while (inCircle(dest(basel), origins[basel], dest(lcand),
+                        dest(onext[lcand]))) {
+                    int t = onext[lcand];
+                    deleteEdge(lcand);
+                    lcand = t;
+                }
+            }
+            int rcand = oprev[basel];
+            if (isValid(rcand, basel)) {
+                while (inCircle(dest(basel), origins[basel], dest(rcand),
+                        dest(oprev[rcand]))) {
+                    int t = oprev[rcand];
+                    deleteEdge(rcand);
+                    rcand = t;
+                }
+            }
+            boolean leftValid = isValid(lcand, basel);
+            boolean rightValid = isValid(rcand, basel);
+            if (!leftValid && !rightValid)
+                break;
+            if (!leftValid
+                    || (rightValid && inCircle(dest(lcand), origins[lcand],
+                            origins[rcand], dest(rcand))))
+                basel = connect(rcand, basel ^ 1);
+            else
+                basel = connect(basel ^ 1, lcand ^ 1);
+        }
+        return pair(ldo, rdo);
+    }
+
+    /**
+     * Die Methode uebertraegt die Dreiecke in eine Triangulation. Jede Flaeche
+     * wird genau einmal abgelaufen; die aeussere Flaeche wird im
+     * Uhrzeigersinn umlaufen und entfaellt.
+     */
+    private Triangulation toTriangulation() {
+        int[] triangleEdges = new int[edgeCount];
+        for (int e = 0; e < edgeCount; e++) {
+            triangleEdges[e] = origins[e] < 0 ? -1 : -2;
+        }
+        int[] triangles = new int[edgeCount];
+        int halfEdges = 0;
+        for (int e = 0; e < edgeCount; e++) {
+            if (triangleEdges[e] != -2)
+                continue;
+            int b = lnext(e);
+            int c = lnext(b);
+            if (lnext(c) == e
+                    && orient(origins[e], origins[b], origins[c]) > 0) {
+                triangles[halfEdges] = e;
+                triangles[halfEdges + 1] = b;
+                triangles[halfEdges + 2] = c;
+                triangleEdges[e] = halfEdges;
+                triangleEdges[b] = halfEdges + 1;
+                triangleEdges[c] = halfEdges + 2;
+                halfEdges += 3;
+            } else {
+                int f = e;
+                do {
+                    triangleEdges[f] = -1;
+                    f = lnext(f);
+                } while (f != e);
+            }
+        }
+
+        int[] result = new int[halfEdges];
+        int[] twins = new int[halfEdges];
+        for (int h = 0; h < halfEdges; h++) {
+            int e = triangles[h];
+            result[h] = origins[e];
+            twins[h] = triangleEdges[e ^ 1];
+        }
+        return new Triangulation(xs, ys, result, twins);
+    }
+
+    /**
+     * Die Methode prueft, ob die Kante e oberhalb der Basiskante liegt, also
+     * ihr Endpunkt rechts von basel.
+     */
+    private boolean isValid(int e, int basel) {
+        return orient(dest(e), dest(basel), origins[basel]) > 0;
+    }
+
+    /**
+     * Die Methode legt eine neue Kante von a nach b an.
+     */
+    private int makeEdge(int a, int b) {
+        int e;
+        if (free >= 0) {
+            e = free;
+            free = onext[e];
+        } else {
+            if (edgeCount == origins.length)
+                grow();
+            e = edgeCount;
+            edgeCount += 2;
+        }
+        origins[e] = a;
+        origins[e ^ 1] = b;
+        onext[e] = e;
+        oprev[e] = e;
+        onext[e ^ 1] = e ^ 1;
+        oprev[e ^ 1] = e ^ 1;
+        return e;
+    }
+
+    /**
+     * Die Methode verbindet das Ende von a mit dem Anfang von b durch eine
+     * neue Kante, so dass a, die neue Kante und b dieselbe linke Flaeche
+     * haben.
+     */
+    private int connect(int a, int b) {
+        int e = makeEdge(dest(a), origins[b]);
+        splice(e, lnext(a));
+        splice(e ^ 1, b);
+        return e;
+    }
+
+    /**
+     * Die Methode entfernt eine Kante und merkt sie zur Wiederverwendung vor.
+     */
+    private void deleteEdge(int e) {
+        splice(e, oprev[e]);
+        splice(e ^ 1, oprev[e ^ 1]);
+        e &= ~1;
+        origins[e] = -1;
+        origins[e ^ 1] = -1;
+        onext[e] = free;
+        free = e;
+    }
+
+    /**
+     * Die Methode vertauscht die Nachfolger von a und b im Umlauf um ihren
+     * Anfangspunkt: Liegen beide im selben Umlauf, wird er geteilt, sonst
+     * werden die beiden Umlaeufe verbunden.
+     */
+    private void splice(int a, int b) {
+        int an = onext[a];
+        int bn = onext[b];
+        onext[a] = bn;
+        onext[b] = an;
+        oprev[bn] = a;
+        oprev[an] = b;
+    }
+
+    /**
+     * Die Methode gibt die naechste Halbkante gegen den Uhrzeigersinn um die
+     * linke Flaeche zurueck.
+     */
+    private int lnext(int e) {
+        return oprev[e ^ 1];
+    }
+
+    private int dest(int e) {
+        return origins[e ^ 1];
+    }
+
+    private int orient(int a, int b, int c) {
+        return GeometricPredicates.orient2d(xs[a], ys[a], xs[b], ys[b], xs[c],
+                ys[c]);
+    }
+
+    /**
+     * Die Methode prueft, ob d echt im Umkreis der gegen den Uhrzeigersinn
+     * angegebenen Punkte a, b und c liegt.
+     */
+    private boolean inCircle(int a, int b, int c, int d) {
+        return GeometricPredicates.inCircle(xs[a], ys[a], xs[b], ys[b], xs[c],
+                ys[c], xs[d], ys[d]) > 0;
+    }
+
+    private void grow() {
+        int capacity = origins.length * 2;
+        int[] newOrigins = new int[capacity];
+        int[] newOnext = new int[capacity];
+        int[] newOprev = new int[capacity];
+        System.arraycopy(origins, 0, newOrigins, 0, edgeCount);
+        System.arraycopy(onext, 0, newOnext, 0, edgeCount);
+        System.arraycopy(oprev, 0, newOprev, 0, edgeCount);
+        origins = newOrigins;
+        onext = newOnext;
+        oprev = newOprev;
+    }
+
+    private static long pair(int a, int b) {
+        return ((long) a << 32) | (b & 0xFFFFFFFFL);
+    }
+}
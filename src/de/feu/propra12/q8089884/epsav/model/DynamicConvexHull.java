@@ -0,0 +1,435 @@
+/**
+ * Das Paket beinhaltet alle (abstrakten) Klassen, Interfaces und Enums,
+ * die zur Darstellung einer Punktmenge im zweidimensionalen Raum benoetigt
+ * werden.
+ */
+package de.feu.propra12.q8089884.epsav.model;
+
+import java.util.Arrays;
+
+import de.feu.propra12.q8089884.epsav.model.interfaces.IPointCursor;
+import de.feu.propra12.q8089884.epsav.util.Point;
+import de.feu.propra12.q8089884.epsav.util.PointBuffer;
+
+/**
+ * Die Klasse haelt die konvexe Huelle einer Punktmenge beim Einfuegen,
+ * Entfernen und Verschieben von Punkten aktuell (nach Overmars und van
+ * Leeuwen). Die Punkte liegen als gepackte Schluessel (siehe
+ * PackedPointSet) in den Blaettern eines gewichtsbalancierten Baums, jedes
+ * Blatt haelt bis zu 2 * LEAF_CAPACITY sortierte Schluessel. Jeder Knoten
+ * speichert die noerdliche (kleine y-Koordinaten) und die suedliche Kette der
+ * Huelle seines Teilbaums; die Ketten eines inneren Knotens entstehen aus
+ * denen seiner Kinder, indem die Bruecke zwischen beiden gesucht wird.
+ * 
+ * Eine Aenderung berechnet daher nur das betroffene Blatt und die Ketten auf
+ * dem Pfad zur Wurzel neu, also O(log n) Knoten. Wie bei Overmars und van
+ * Leeuwen sind die Ketten verkettbare balancierte Baeume (siehe ChainTree):
+ * Jeder Knoten sucht die Bruecke binaer in den Ketten seiner Kinder und setzt
+ * seine Ketten durch Teilen und Verbinden aus deren Teilen zusammen, beides
+ * in O(log n). Da die Baeume unveraenderlich sind und Teilbaeume gemeinsam
+ * nutzen, bleiben die Ketten der Kinder dabei erhalten, ohne kopiert zu
+ * werden. Eine Aenderung kostet so O(log^2 n), unabhaengig von der Anzahl h
+ * der Ecken; hinzu kommen amortisiert die Neuaufbauten aus dem Gleichgewicht
+ * geratener Teilbaeume. Nur das Auslesen der Huelle kostet O(h).
+ * 
+ * Wie beim Verfahren der monotonen Kette enthalten die Ketten nur echte
+ * Ecken; kolineare Punkte auf den Kanten gehoeren nicht zur Huelle.
+ * 
+ * Die Klasse ist nicht synchronisiert.
+ * 
+ * @author Felix Wenz
+ * 
+ */
+public class DynamicConvexHull {
+
+    /**
+     * die Anzahl der Schluessel je Blatt beim Aufbau; ein Blatt wird geteilt,
+     * sobald es mehr als doppelt so viele Schluessel enthaelt
+     */
+    private static final int LEAF_CAPACITY = 64;
+
+    /**
+     * die Wurzel; null bei leerer Punktmenge
+     */
+    private Node root = null;
+
+    /**
+     * die zwischengespeicherten Eckpunkte in Huellenreihenfolge; null nach
+     * jeder Aenderung (volatile, da gleichzeitige Leser den Zwischenspeicher
+     * fuellen duerfen)
+     */
+    private volatile Point[] vertices = null;
+
+    /**
+     * Die Methode fuegt einen Punkt hinzu.
+     * 
+     * @param xPos
+     *            die x-Koordinate
+     * @param yPos
+     *            die y-Koordinate
+     * @return wahr, falls der Punkt noch nicht enthalten war
+     */
+    public boolean add(int xPos, int yPos) {
+        long key = PackedPointSet.pack(xPos, yPos);
+        if (root == null) {
+            root = new Node(new long[] { key }, 1);
+        } else {
+            if (contains(key))
+                return false;
+            root = insert(root, key);
+        }
+        vertices = null;
+        return true;
+    }
+
+    /**
+     * Die Methode entfernt einen Punkt.
+     * 
+     * @param xPos
+     *            die x-Koordinate
+     * @param yPos
+     *            die y-Koordinate
+     * @return wahr, falls der Punkt enthalten war
+     */
+    public boolean remove(int xPos, int yPos) {
+        long key = PackedPointSet.pack(xPos, yPos);
+        if (root == null || !contains(key))
+            return false;
+        root = delete(root, key);
+        vertices = null;
+        return true;
+    }
+
+    /**
+     * Die Methode verschiebt einen Punkt. Der Zielpunkt darf noch nicht
+     * enthalten sein.
+     * 
+     * @param xPos
+     *            die alte x-Koordinate
+     * @param yPos
+     *            die alte y-Koordinate
+     * @param newXPos
+     *            die neue x-Koordinate
+     * @param newYPos
+     *            die neue y-Koordinate
+     * @return wahr, falls der Punkt enthalten war und verschoben wurde
+     */
+    public boolean move(int xPos, int yPos, int newXPos, int newYPos) {
+        if (contains(PackedPointSet.pack(newXPos, newYPos))
+                || !remove(xPos, yPos))
+            return false;
+        return add(newXPos, newYPos);
+    }
+
+    /**
+     * Die Methode baut die Huelle in O(n) aus allen Punkten neu auf.
+     * 
+     * @param cursor
+     *            ein Cursor ueber alle Punkte in (x, y)-Reihenfolge
+     */
+    public void rebuild(IPointCursor cursor) {
+        long[] keys = new long[LEAF_CAPACITY];
+        int n = 0;
+        while (cursor.next()) {
+            if (n == keys.length)
+                keys = Arrays.copyOf(keys, n * 2);
+            keys[n++] = PackedPointSet.pack(cursor.getxPos(),
+                    cursor.getyPos());
+        }
+        root = n == 0 ? null : build(keys, 0, n);
+        vertices = null;
+    }
+
+    /**
+     * Die Methode entfernt alle Punkte.
+     */
+    public void clear() {
+        root = null;
+        vertices = null;
+    }
+
+    /**
+     * Die Methode gibt die Anzahl der Punkte zurueck.
+     * 
+     * @return die Anzahl der Punkte
+     */
+    public int size() {
+        return root == null ? 0 : root.size;
+    }
+
+    /**
+     * Die Methode gibt die Eckpunkte der Huelle zurueck: beginnend beim in
+     * (x, y)-Reihenfolge kleinsten Punkt die noerdliche Kette von West nach
+     * Ost, dann die suedliche Kette zurueck.
+     * 
+     * @return die Eckpunkte; das Array darf nicht veraendert werden
+     */
+    public Point[] getVertices() {
+        Point[] result = vertices;
+        if (result == null) {
+            if (root == null) {
+                result = new Point[0];
+            } else {
+                result = HullChains.toVertices(ChainTree.toArray(root.north),
+                        ChainTree.toArray(root.south));
+            }
+            vertices = result;
+        }
+        return result;
+    }
+
+    /**
+     * Die Methode haengt die Eckpunkte der Huelle in derselben Reihenfolge wie
+     * getVertices() an den uebergebenen Puffer an. Die Ketten werden direkt
+     * ausgelesen; es entstehen keine Punktobjekte.
+     * 
+     * @param result
+     *            der Puffer fuer die Eckpunkte
+     */
+    public void getVertices(PointBuffer result) {
+        Node node = root;
+        if (node != null)
+            HullChains.toVertices(ChainTree.toArray(node.north),
+                    ChainTree.toArray(node.south), result);
+    }
+
+    /**
+     * Die Methode gibt die noerdliche Kette der Huelle von West nach Ost
+     * zurueck. Die Kette ist unveraenderlich und bleibt bei spaeteren
+     * Aenderungen der Huelle gueltig.
+     * 
+     * @return die Kette; null bei leerer Punktmenge
+     */
+    ChainTree getNorthChain() {
+        Node node = root;
+        return node == null ? null : node.north;
+    }
+
+    /**
+     * Die Methode gibt die suedliche Kette der Huelle von West nach Ost
+     * zurueck. Die Kette ist unveraenderlich und bleibt bei spaeteren
+     * Aenderungen der Huelle gueltig.
+     * 
+     * @return die Kette; null bei leerer Punktmenge
+     */
+    ChainTree getSouthChain() {
+        Node node = root;
+        return node == null ? null : node.south;
+    }
+
+    /**
+     * Die Methode prueft, ob ein Schluessel enthalten ist.
+     */
+    private boolean contains(long key) {
+        Node node = root;
+        while (node != null && node.keys == null) {
+            node = key < node.split ? node.left : node.right;
+        }
+        return node != null
+                && Arrays.binarySearch(node.keys, 0, node.size, key) >= 0;
+    }
+
+    /**
+     * Die Methode fuegt einen nicht enthaltenen Schluessel in einen Teilbaum
+     * ein. Wuerde der Teilbaum dadurch aus dem Gleichgewicht geraten, wird er
+     * vollstaendig neu aufgebaut.
+     * 
+     * @return die neue Wurzel des Teilbaums
+     */
+    private static Node insert(Node node, long key) {
+        if (node.keys != null) {
+            int pos = -Arrays.binarySearch(node.keys, 0, node.size, key) - 1;
+            long[] keys = node.keys;
+            if (node.size == keys.length)
+                keys = Arrays.copyOf(keys, Math.min(keys.length * 2,
+                        2 * LEAF_CAPACITY + 1));
+            System.arraycopy(keys, pos, keys, pos + 1, node.size - pos);
+            keys[pos] = key;
+            if (node.size + 1 > 2 * LEAF_CAPACITY)
+                return build(keys, 0, node.size + 1);
+            return new Node(keys, node.size + 1);
+        }
+
+        boolean toLeft = key < node.split;
+        int childSize = (toLeft ? node.left : node.right).size + 1;
+        if (!isBalanced(childSize, node.size + 1)) {
+            long[] keys = new long[node.size + 1];
+            int n = collect(node, keys, 0);
+            int pos = -Arrays.binarySearch(keys, 0, n, key) - 1;
+            System.arraycopy(keys, pos, keys, pos + 1, n - pos);
+            keys[pos] = key;
+            return build(keys, 0, keys.length);
+        }
+        if (toLeft)
+            node.left = insert(node.left, key);
+        else
+            node.right = insert(node.right, key);
+        node.update();
+        return node;
+    }
+
+    /**
+     * Die Methode entfernt einen enthaltenen Schluessel aus einem Teilbaum.
+     * Wuerde der Teilbaum dadurch aus dem Gleichgewicht geraten, wird er
+     * vollstaendig neu aufgebaut.
+     * 
+     * @return die neue Wurzel des Teilbaums; null, wenn er leer ist
+     */
+    private static Node delete(Node node, long key) {
+        if (node.keys != null) {
+            if (node.size == 1)
+                return null;
+            int pos = Arrays.binarySearch(node.keys, 0, node.size, key);
+            System.arraycopy(node.keys, pos + 1, node.keys, pos, node.size
+                    - pos - 1);
+            return new Node(node.keys, node.size - 1);
+        }
+
+        boolean fromLeft = key < node.split;
+        // das andere Kind behaelt seine Groesse
+        int otherSize = (fromLeft ? node.right : node.left).size;
+        if (!isBalanced(otherSize, node.size - 1)) {
+            long[] keys = new long[node.size];
+            collect(node, keys, 0);
+            int pos = Arrays.binarySearch(keys, key);
+            System.arraycopy(keys, pos + 1, keys, pos, keys.length - pos - 1);
+            return build(keys, 0, keys.length - 1);
+        }
+        if (fromLeft)
+            node.left = delete(node.left, key);
+        else
+            node.right = delete(node.right, key);
+        // ein leer gewordenes Kind wird durch sein Geschwister ersetzt
+        if (node.left == null)
+            return node.right;
+        if (node.right == null)
+            return node.left;
+        node.update();
+        return node;
+    }
+
+    /**
+     * Die Methode prueft, ob ein Kind der angegebenen Groesse einen Teilbaum
+     * der angegebenen Groesse im Gleichgewicht laesst. Kleine Teilbaeume
+     * gelten immer als ausgeglichen.
+     */
+    private static boolean isBalanced(int childSize, int size) {
+        return size <= 4 * LEAF_CAPACITY || 4L * childSize <= 3L * size;
+    }
+
+    /**
+     * Die Methode baut einen ausgeglichenen Teilbaum ueber sortierte
+     * Schluessel auf.
+     * 
+     * @param keys
+     *            die sortierten Schluessel
+     * @param from
+     *            der erste Index (inklusive)
+     * @param to
+     *            der letzte Index (exklusive)
+     * @return die Wurzel des Teilbaums
+     */
+    private static Node build(long[] keys, int from, int to) {
+        int n = to - from;
+        if (n <= LEAF_CAPACITY) {
+            long[] leafKeys = new long[Math.min(2 * LEAF_CAPACITY + 1,
+                    n + n / 2 + 1)];
+            System.arraycopy(keys, from, leafKeys, 0, n);
+            return new Node(leafKeys, n);
+        }
+        int mid = from + n / 2;
+        return new Node(build(keys, from, mid), build(keys, mid, to),
+                keys[mid]);
+    }
+
+    /**
+     * Die Methode schreibt alle Schluessel eines Teilbaums sortiert in ein
+     * Array.
+     * 
+     * @return der Index hinter dem letzten geschriebenen Schluessel
+     */
+    private static int collect(Node node, long[] keys, int index) {
+        if (node.keys != null) {
+            System.arraycopy(node.keys, 0, keys, index, node.size);
+            return index + node.size;
+        }
+        return collect(node.right, keys, collect(node.left, keys, index));
+    }
+
+    /**
+     * Ein Knoten des Baums ist entweder ein Blatt mit sortierten Schluesseln
+     * oder ein innerer Knoten mit zwei nicht leeren Kindern.
+     */
+    private static class Node {
+
+        /**
+         * die sortierten Schluessel eines Blatts; null bei inneren Knoten
+         */
+        private final long[] keys;
+
+        /**
+         * das westliche Kind eines inneren Knotens
+         */
+        private Node left;
+
+        /**
+         * das oestliche Kind eines inneren Knotens
+         */
+        private Node right;
+
+        /**
+         * der kleinste Schluessel, der in das oestliche Kind gehoert
+         */
+        private final long split;
+
+        /**
+         * die Anzahl der Schluessel im Teilbaum
+         */
+        private int size;
+
+        /**
+         * die noerdliche Kette des Teilbaums von West nach Ost
+         */
+        private ChainTree north;
+
+        /**
+         * die suedliche Kette des Teilbaums von West nach Ost
+         */
+        private ChainTree south;
+
+        /**
+         * Der Konstruktor fuer ein Blatt.
+         */
+        private Node(long[] keys, int size) {
+            this.keys = keys;
+            this.split = 0;
+            this.size = size;
+            this.north = ChainTree.valueOf(HullChains.chain(keys, size,
+                    HullChains.NORTH));
+            this.south = ChainTree.valueOf(HullChains.chain(keys, size,
+                    HullChains.SOUTH));
+        }
+
+        /**
+         * Der Konstruktor fuer einen inneren Knoten.
+         */
+        private Node(Node left, Node right, long split) {
+            this.keys = null;
+            this.left = left;
+            this.right = right;
+            this.split = split;
+            update();
+        }
+
+        /**
+         * Die Methode berechnet Groesse und Ketten aus den Kindern neu.
+         */
+        private void update() {
+            size = left.size + right.size;
+            north = ChainTree.merge(left.north, right.north,
+                    HullChains.NORTH);
+            south = ChainTree.merge(left.south, right.south,
+                    HullChains.SOUTH);
+        }
+    }
+}
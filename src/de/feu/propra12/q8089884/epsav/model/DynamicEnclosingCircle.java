@@ -0,0 +1,109 @@
+/**
+ * Das Paket beinhaltet alle (abstrakten) Klassen, Interfaces und Enums,
+ * die zur Darstellung einer Punktmenge im zweidimensionalen Raum benoetigt
+ * werden.
+ */
+package de.feu.propra12.q8089884.epsav.model;
+
+import de.feu.propra12.q8089884.epsav.util.Circle;
+import de.feu.propra12.q8089884.epsav.util.Point;
+import de.feu.propra12.q8089884.epsav.util.PointBuffer;
+
+/**
+ * Die Klasse haelt den kleinsten umfassenden Kreis einer Punktmenge beim
+ * Einfuegen und Entfernen von Punkten aktuell. Gespeichert werden der Kreis
+ * und die zwei oder drei Punkte, die ihn festlegen (siehe
+ * WelzlCircleCalculator). Ein neuer Punkt innerhalb des Kreises und das
+ * Entfernen eines anderen als der festlegenden Punkte aendern den Kreis nicht
+ * und kosten daher nur O(1); der Test, ob ein Punkt im Kreis liegt, ist
+ * exakt. Nur wenn ein Punkt ausserhalb hinzukommt oder ein festlegender Punkt
+ * entfernt wird, wird der Kreis beim naechsten Zugriff aus der konvexen
+ * Huelle neu berechnet.
+ * 
+ * Die Klasse ist nicht synchronisiert.
+ * 
+ * @author Felix Wenz
+ * 
+ */
+public class DynamicEnclosingCircle {
+
+    /**
+     * der aktuelle Kreis; null, falls er neu berechnet werden muss
+     */
+    private Circle circle = Circle.EMPTY;
+
+    /**
+     * die Punkte, die den aktuellen Kreis festlegen
+     */
+    private final PointBuffer support = new PointBuffer(3);
+
+    /**
+     * Die Methode teilt mit, dass ein Punkt hinzugefuegt wurde.
+     * 
+     * @param xPos
+     *            die x-Koordinate
+     * @param yPos
+     *            die y-Koordinate
+     */
+    public void add(int xPos, int yPos) {
+        // der leere Kreis der leeren Punktmenge hat keine festlegenden Punkte
+        // und enthaelt keinen Punkt
+        if (circle != null
+                && !WelzlCircleCalculator.contains(support, xPos, yPos))
+            circle = null;
+    }
+
+    /**
+     * Die Methode teilt mit, dass ein Punkt entfernt wurde.
+     * 
+     * @param xPos
+     *            die x-Koordinate
+     * @param yPos
+     *            die y-Koordinate
+     */
+    public void remove(int xPos, int yPos) {
+        if (circle == null)
+            return;
+        for (int i = 0; i < support.size(); i++) {
+            if (support.getxPos(i) == xPos && support.getyPos(i) == yPos) {
+                circle = null;
+                return;
+            }
+        }
+    }
+
+    /**
+     * Die Methode teilt mit, dass alle Punkte entfernt wurden.
+     */
+    public void clear() {
+        circle = Circle.EMPTY;
+        support.clear();
+    }
+
+    /**
+     * Die Methode gibt den kleinsten umfassenden Kreis zurueck, sofern er
+     * nicht neu berechnet werden muss.
+     * 
+     * @return der kleinste umfassende Kreis; null, falls er neu berechnet
+     *         werden muss
+     */
+    public Circle getCircle() {
+        return circle;
+    }
+
+    /**
+     * Die Methode gibt den kleinsten umfassenden Kreis zurueck und berechnet
+     * ihn bei Bedarf aus der uebergebenen konvexen Huelle der aktuellen
+     * Punktmenge.
+     * 
+     * @param convexHull
+     *            die Punkte der konvexen Huelle der aktuellen Punktmenge
+     * @return der kleinste umfassende Kreis
+     */
+    public Circle getCircle(Point[] convexHull) {
+        if (circle == null)
+            circle = WelzlCircleCalculator.getSmallestEnclosingCircle(
+                    convexHull, support);
+        return circle;
+    }
+}
@@ -0,0 +1,887 @@
+/**
+ * Das Paket beinhaltet alle (abstrakten) Klassen, Interfaces und Enums,
+ * die zur Darstellung einer Punktmenge im zweidimensionalen Raum benoetigt
+ * werden.
+ */
+package de.feu.propra12.q8089884.epsav.model;
+
+import java.util.Arrays;
+
+import de.feu.propra12.q8089884.epsav.model.interfaces.IPointCursor;
+import de.feu.propra12.q8089884.epsav.util.GeometricPredicates;
+import de.feu.propra12.q8089884.epsav.util.Triangulation;
+
+/**
+ * Die Klasse haelt die Delaunay-Triangulation einer Punktmenge beim Einfuegen
+ * und Entfernen von Punkten aktuell. Die Dreiecke liegen wie bei
+ * Triangulation als Halbkanten in primitiven Arrays; zusaetzlich ist jede
+ * Kante der konvexen Huelle mit einer unendlich fernen Ecke zu einem
+ * Geisterdreieck verbunden, so dass jede Halbkante eine gegenlaeufige hat und
+ * Punkte ausserhalb der Huelle kein Sonderfall sind.
+ * 
+ * Ein neuer Punkt wird ausgehend vom zuletzt beruehrten Dreieck oder einer
+ * nahen Ecke aus einer kleinen Stichprobe durch Sichtbarkeitslaufen gesucht
+ * (Jump-and-walk). Nach Bowyer und Watson
+ * entfallen dann alle Dreiecke, in deren Umkreis er liegt; der Hohlraum ist
+ * sternfoermig und wird mit Dreiecken zum neuen Punkt gefuellt. Beim Entfernen
+ * eines Punktes entfallen die Dreiecke seines Sterns; der Hohlraum wird durch
+ * Abschneiden von Ohren gefuellt, deren Umkreis keinen Punkt des Randes
+ * enthaelt. Der Aufwand haengt nur von der Anzahl der betroffenen Dreiecke ab,
+ * im Mittel also O(1), solange aufeinanderfolgende Aenderungen nahe
+ * beieinander liegen, wie beim Einfuegen per Mausklick oder beim Verschieben.
+ * 
+ * Liegen alle Punkte auf einer Geraden, gibt es keine Dreiecke; erst der
+ * erste Punkt abseits der Geraden baut die Triangulation auf (siehe
+ * DelaunayTriangulator). Alle Tests sind exakt (siehe GeometricPredicates).
+ * 
+ * Die Klasse ist nicht synchronisiert.
+ * 
+ * @author Felix Wenz
+ * 
+ */
+public class DynamicTriangulation {
+
+    /**
+     * die unendlich ferne Ecke der Geisterdreiecke
+     */
+    private static final int INFINITE = 0;
+
+    /**
+     * Kennzeichen einer freien Ecke in vertexEdges
+     */
+    private static final int FREE = Integer.MIN_VALUE;
+
+    /**
+     * die x-Koordinaten der Ecken
+     */
+    private int[] xs = new int[16];
+
+    /**
+     * die y-Koordinaten der Ecken
+     */
+    private int[] ys = new int[16];
+
+    /**
+     * je Ecke eine Halbkante, die an ihr beginnt; -1, solange es keine
+     * Dreiecke gibt, FREE fuer freie Ecken
+     */
+    private int[] vertexEdges = new int[16];
+
+    /**
+     * die Anzahl der bisher belegten Ecken einschliesslich der unendlich
+     * fernen
+     */
+    private int vertexCount = 1;
+
+    /**
+     * die freien Ecken unterhalb von vertexCount
+     */
+    private int[] freeVertices = new int[16];
+
+    /**
+     * die Anzahl der freien Ecken
+     */
+    private int freeVertexCount = 0;
+
+    /**
+     * die Ecken nach ihrem gepackten Schluessel
+     */
+    private final VertexMap vertices = new VertexMap();
+
+    /**
+     * die Anfangspunkte der Halbkanten; -1 am Anfang freier Dreiecke
+     */
+    private int[] origins = new int[48];
+
+    /**
+     * die gegenlaeufigen Halbkanten; bei freien Dreiecken am Anfang das
+     * naechste freie Dreieck
+     */
+    private int[] twins = new int[48];
+
+    /**
+     * die Markierungen der Dreiecke bei der Suche des Hohlraums
+     */
+    private int[] marks = new int[16];
+
+    /**
+     * die aktuelle Markierung
+     */
+    private int epoch = 0;
+
+    /**
+     * die Anzahl der bisher belegten Dreiecke
+     */
+    private int triangleCount = 0;
+
+    /**
+     * das erste freie Dreieck; -1, falls es keines gibt
+     */
+    private int freeTriangle = -1;
+
+    /**
+     * die Anzahl der endlichen Dreiecke
+     */
+    private int finiteTriangles = 0;
+
+    /**
+     * wahr, falls es Dreiecke gibt; sonst liegen alle Punkte auf einer Geraden
+     */
+    private boolean triangulated = false;
+
+    /**
+     * zwei verschiedene Punkte, solange nicht trianguliert ist; -1, falls
+     * (noch) nicht bekannt
+     */
+    private int lineA = -1;
+
+    /**
+     * siehe lineA
+     */
+    private int lineB = -1;
+
+    /**
+     * das zuletzt beruehrte Dreieck, bei dem die Suche beginnt
+     */
+    private int lastTriangle = -1;
+
+    /**
+     * der Zustand des Zufallsgenerators fuer die Reihenfolge der Kanten beim
+     * Laufen
+     */
+    private int random = 1;
+
+    /**
+     * Arbeitsspeicher fuer Hohlraum und Stern
+     */
+    private int[] stack = new int[64];
+
+    private int[] boundaryFrom = new int[64];
+
+    private int[] boundaryTo = new int[64];
+
+    private int[] boundaryTwin = new int[64];
+
+    /**
+     * je Ecke des Randes das neue Dreieck, das mit ihr beginnt
+     */
+    private int[] fan = new int[16];
+
+    /**
+     * Die Methode fuegt einen Punkt hinzu.
+     * 
+     * @param xPos
+     *            die x-Koordinate
+     * @param yPos
+     *            die y-Koordinate
+     * @return wahr, falls der Punkt neu ist
+     */
+    public boolean add(int xPos, int yPos) {
+        long key = PackedPointSet.pack(xPos, yPos);
+        if (vertices.get(key) >= 0)
+            return false;
+        int v = newVertex(xPos, yPos);
+        vertices.put(key, v);
+        if (triangulated) {
+            insert(v);
+        } else if (lineA < 0) {
+            lineA = v;
+        } else if (lineB < 0) {
+            lineB = v;
+        } else if (orient(lineA, lineB, v) != 0) {
+            rebuild();
+        }
+        return true;
+    }
+
+    /**
+     * Die Methode entfernt einen Punkt.
+     * 
+     * @param xPos
+     *            die x-Koordinate
+     * @param yPos
+     *            die y-Koordinate
+     * @return wahr, falls der Punkt enthalten war
+     */
+    public boolean remove(int xPos, int yPos) {
+        int v = vertices.remove(PackedPointSet.pack(xPos, yPos));
+        if (v < 0)
+            return false;
+        if (!triangulated) {
+            freeVertex(v);
+            if (v == lineA || v == lineB)
+                rebuild();
+        } else if (!delete(v)) {
+            // alle Dreiecke hingen am Punkt; die uebrigen Punkte liegen
+            // womoeglich auf einer Geraden
+            freeVertex(v);
+            rebuild();
+        }
+        return true;
+    }
+
+    /**
+     * Die Methode baut die Triangulation fuer die Punkte neu auf, die der
+     * Cursor in (x, y)-Reihenfolge liefert.
+     * 
+     * @param cursor
+     *            der Cursor ueber die Punkte
+     */
+    public void rebuild(IPointCursor cursor) {
+        clear();
+        while (cursor.next()) {
+            int v = newVertex(cursor.getxPos(), cursor.getyPos());
+            vertices.put(PackedPointSet.pack(xs[v], ys[v]), v);
+        }
+        build();
+    }
+
+    /**
+     * Die Methode entfernt alle Punkte.
+     */
+    public void clear() {
+        vertexCount = 1;
+        freeVertexCount = 0;
+        vertices.clear();
+        triangleCount = 0;
+        freeTriangle = -1;
+        finiteTriangles = 0;
+        triangulated = false;
+        lineA = -1;
+        lineB = -1;
+        lastTriangle = -1;
+    }
+
+    /**
+     * Die Methode gibt die Anzahl der Punkte zurueck.
+     * 
+     * @return die Anzahl der Punkte
+     */
+    public int size() {
+        return vertices.size();
+    }
+
+    /**
+     * Die Methode gibt die aktuelle Triangulation ohne Geisterdreiecke als
+     * unveraenderliche Triangulation zurueck. Ecken und Dreiecke werden dabei
+     * fortlaufend neu nummeriert; der Aufwand ist linear.
+     * 
+     * @return die Delaunay-Triangulation
+     */
+    public Triangulation toTriangulation() {
+        int[] index = new int[vertexCount];
+        int n = 0;
+        for (int v = 1; v < vertexCount; v++) {
+            if (vertexEdges[v] != FREE)
+                index[v] = n++;
+        }
+        int[] vertexX = new int[n];
+        int[] vertexY = new int[n];
+        for (int v = 1; v < vertexCount; v++) {
+            if (vertexEdges[v] != FREE) {
+                vertexX[index[v]] = xs[v];
+                vertexY[index[v]] = ys[v];
+            }
+        }
+        if (!triangulated)
+            return new Triangulation(vertexX, vertexY, new int[0], new int[0]);
+
+        // die endlichen Dreiecke fortlaufend nummerieren
+        int[] triangleIndex = new int[triangleCount];
+        int m = 0;
+        for (int t = 0; t < triangleCount; t++) {
+            triangleIndex[t] = isFinite(t) ? m++ : -1;
+        }
+        int[] resultOrigins = new int[3 * m];
+        int[] resultTwins = new int[3 * m];
+        for (int t = 0; t < triangleCount; t++) {
+            int u = triangleIndex[t];
+            if (u < 0)
+                continue;
+            for (int k = 0; k < 3; k++) {
+                int twin = twins[3 * t + k];
+                int other = triangleIndex[twin / 3];
+                resultOrigins[3 * u + k] = index[origins[3 * t + k]];
+                resultTwins[3 * u + k] = other < 0 ? -1 : 3 * other + twin
+                        % 3;
+            }
+        }
+        return new Triangulation(vertexX, vertexY, resultOrigins, resultTwins);
+    }
+
+    /**
+     * Die Methode fuegt die Ecke v nach Bowyer und Watson in die
+     * Triangulation ein.
+     */
+    private void insert(int v) {
+        int start = locate(xs[v], ys[v]);
+
+        // Hohlraum: alle Dreiecke, in deren Umkreis der Punkt liegt, in
+        // Breitensuche; die Liste der Dreiecke dient zugleich als Warteschlange
+        epoch++;
+        marks[start] = epoch;
+        stack[0] = start;
+        int cavity = 1;
+        int boundary = 0;
+        for (int head = 0; head < cavity; head++) {
+            int t = stack[head];
+            for (int k = 0; k < 3; k++) {
+                int e = 3 * t + k;
+                int twin = twins[e];
+                int neighbor = twin / 3;
+                if (marks[neighbor] == epoch)
+                    continue;
+                if (marks[neighbor] != -epoch && conflicts(neighbor, v)) {
+                    marks[neighbor] = epoch;
+                    if (cavity == stack.length)
+                        stack = Arrays.copyOf(stack, cavity * 2);
+                    stack[cavity++] = neighbor;
+                    continue;
+                }
+                // Randkante gegen ein Dreieck ausserhalb des Hohlraums
+                marks[neighbor] = -epoch;
+                if (boundary == boundaryFrom.length)
+                    growBoundary();
+                boundaryFrom[boundary] = origins[e];
+                boundaryTo[boundary] = origins[Triangulation.next(e)];
+                boundaryTwin[boundary] = twin;
+                boundary++;
+            }
+        }
+        for (int i = 0; i < cavity; i++) {
+            freeTriangle(stack[i]);
+        }
+        fill(boundary, v);
+    }
+
+    /**
+     * Die Methode fuellt einen sternfoermigen Hohlraum mit Dreiecken von den
+     * Randkanten (boundaryFrom, boundaryTo) zur Ecke v.
+     */
+    private void fill(int boundary, int v) {
+        for (int i = 0; i < boundary; i++) {
+            int t = newTriangle(boundaryFrom[i], boundaryTo[i], v);
+            link(3 * t, boundaryTwin[i]);
+            fan[boundaryFrom[i]] = t;
+            vertexEdges[boundaryFrom[i]] = 3 * t;
+            if (isFinite(t))
+                lastTriangle = t;
+        }
+        for (int i = 0; i < boundary; i++) {
+            int t = fan[boundaryFrom[i]];
+            link(3 * t + 1, 3 * fan[boundaryTo[i]] + 2);
+        }
+        vertexEdges[v] = 3 * fan[boundaryFrom[0]] + 2;
+    }
+
+    /**
+     * Die Methode sucht ein Dreieck, in dessen Umkreis der Punkt liegt: das
+     * endliche Dreieck, das ihn enthaelt, oder das Geisterdreieck einer
+     * Huellkante, die er von aussen sieht. Die Suche beginnt beim zuletzt
+     * beruehrten Dreieck oder, falls eine von etwa n^(1/3) zufaellig
+     * gewaehlten Ecken naeher liegt, bei dieser; bei zufaelliger Reihenfolge
+     * der Punkte sind so im Mittel O(n^(1/3)) Schritte noetig statt
+     * O(n^(1/2)).
+     */
+    private int locate(int xPos, int yPos) {
+        int t = lastTriangle;
+        if (t < 0 || origins[3 * t] < 0 || !isFinite(t)) {
+            t = 0;
+            while (origins[3 * t] < 0 || !isFinite(t)) {
+                t++;
+            }
+        }
+        int nearest = origins[3 * t];
+        double nearestDistance = distance(nearest, xPos, yPos);
+        int samples = (int) Math.cbrt(vertexCount);
+        for (int i = 0; i < samples; i++) {
+            int u = 1 + nextRandom() % (vertexCount - 1);
+            if (vertexEdges[u] < 0)
+                continue;
+            double d = distance(u, xPos, yPos);
+            if (d < nearestDistance) {
+                nearest = u;
+                nearestDistance = d;
+            }
+        }
+        if (nearest != origins[3 * t]) {
+            // ein endliches Dreieck am Stern der Ecke
+            int e = vertexEdges[nearest];
+            while (!isFinite(e / 3)) {
+                e = twins[Triangulation.prev(e)];
+            }
+            t = e / 3;
+        }
+        while (true) {
+            if (!isFinite(t))
+                return t;
+            // zufaellige Reihenfolge der Kanten verhindert Kreislaeufe bei
+            // kozirkularen Punkten
+            int offset = nextRandom() % 3;
+            boolean moved = false;
+            for (int k = 0; k < 3; k++) {
+                int e = 3 * t + (offset + k) % 3;
+                int a = origins[e];
+                int b = origins[Triangulation.next(e)];
+                if (GeometricPredicates.orient2d(xs[a], ys[a], xs[b], ys[b],
+                        xPos, yPos) < 0) {
+                    t = twins[e] / 3;
+                    moved = true;
+                    break;
+                }
+            }
+            if (!moved)
+                return t;
+        }
+    }
+
+    /**
+     * Die Methode gibt das Quadrat des Abstands der Ecke v vom Punkt zurueck.
+     */
+    private double distance(int v, int xPos, int yPos) {
+        double dx = (double) xs[v] - xPos;
+        double dy = (double) ys[v] - yPos;
+        return dx * dx + dy * dy;
+    }
+
+    /**
+     * Die Methode gibt die naechste nichtnegative Zufallszahl zurueck
+     * (Xorshift).
+     */
+    private int nextRandom() {
+        random ^= random << 13;
+        random ^= random >>> 17;
+        random ^= random << 5;
+        return random >>> 1;
+    }
+
+    /**
+     * Die Methode prueft, ob die Ecke v im Umkreis des Dreiecks t liegt. Der
+     * Umkreis eines Geisterdreiecks ist die offene Halbebene jenseits seiner
+     * Huellkante einschliesslich des Inneren der Kante.
+     */
+    private boolean conflicts(int t, int v) {
+        int a = origins[3 * t];
+        int b = origins[3 * t + 1];
+        int c = origins[3 * t + 2];
+        if (a == INFINITE)
+            return conflictsGhost(c, b, v);
+        if (b == INFINITE)
+            return conflictsGhost(a, c, v);
+        if (c == INFINITE)
+            return conflictsGhost(b, a, v);
+        return GeometricPredicates.inCircle(xs[a], ys[a], xs[b], ys[b], xs[c],
+                ys[c], xs[v], ys[v]) > 0;
+    }
+
+    /**
+     * Die Methode prueft, ob die Ecke v jenseits der Huellkante von a nach b
+     * oder auf ihrem Inneren liegt.
+     */
+    private boolean conflictsGhost(int a, int b, int v) {
+        int turn = orient(a, b, v);
+        return turn < 0
+                || (turn == 0 && GeometricPredicates.inDiametralCircle(xs[a],
+                        ys[a], xs[b], ys[b], xs[v], ys[v]) > 0);
+    }
+
+    /**
+     * Die Methode entfernt die Ecke v und fuellt ihren Stern neu.
+     * 
+     * @return falsch, falls alle endlichen Dreiecke an v hingen; die
+     *         Triangulation ist dann unveraendert
+     */
+    private boolean delete(int v) {
+        // Stern gegen den Uhrzeigersinn: Dreieck i ist (v, link[i],
+        // link[i + 1]), seine aeussere Kante gehoert zu boundaryTwin[i]
+        int first = vertexEdges[v];
+        int e = first;
+        int degree = 0;
+        int finite = 0;
+        int infinite = -1;
+        do {
+            if (degree == boundaryFrom.length)
+                growBoundary();
+            int outer = Triangulation.next(e);
+            boundaryFrom[degree] = origins[outer];
+            boundaryTwin[degree] = twins[outer];
+            stack[degree] = e / 3;
+            if (origins[outer] == INFINITE)
+                infinite = degree;
+            if (isFinite(e / 3))
+                finite++;
+            degree++;
+            if (degree == stack.length)
+                stack = Arrays.copyOf(stack, stack.length * 2);
+            e = twins[Triangulation.prev(e)];
+        } while (e != first);
+        if (finite == finiteTriangles)
+            return false;
+
+        for (int i = 0; i < degree; i++) {
+            freeTriangle(stack[i]);
+        }
+        freeVertex(v);
+
+        // bei einer Ecke der Huelle steht die unendlich ferne Ecke zuletzt;
+        // Ohren werden nur zwischen endlichen Ecken abgeschnitten
+        int size = degree;
+        if (infinite >= 0) {
+            rotate(boundaryFrom, size, infinite + 1);
+            rotate(boundaryTwin, size, infinite + 1);
+        }
+        boolean hull = infinite >= 0;
+        while (size > 3) {
+            int ear = findEar(size, hull);
+            if (ear < 0)
+                break;
+            clip(ear, size);
+            size--;
+        }
+        // der Rest ist ein Dreieck oder, bei einer Ecke der Huelle, ein
+        // Faecher von Geisterdreiecken ueber der neuen Huellkette
+        while (size > 3) {
+            clip(0, size);
+            size--;
+        }
+        int t = newTriangle(boundaryFrom[0], boundaryFrom[1], boundaryFrom[2]);
+        for (int k = 0; k < 3; k++) {
+            link(3 * t + k, boundaryTwin[k]);
+            vertexEdges[boundaryFrom[k]] = 3 * t + k;
+        }
+        if (isFinite(t))
+            lastTriangle = t;
+        return true;
+    }
+
+    /**
+     * Die Methode sucht ein Ohr des Randes: eine Ecke mit endlichen Nachbarn,
+     * an der der Rand nach innen konvex ist und deren Dreieck keinen anderen
+     * Punkt des Randes im Umkreis hat.
+     * 
+     * @param hull
+     *            wahr, falls die unendlich ferne Ecke zuletzt im Rand steht
+     * @return der Index der Ecke; -1, falls es keine gibt
+     */
+    private int findEar(int size, boolean hull) {
+        int from = hull ? 1 : 0;
+        int to = hull ? size - 2 : size;
+        for (int i = from; i < to; i++) {
+            int a = boundaryFrom[(i + size - 1) % size];
+            int b = boundaryFrom[i];
+            int c = boundaryFrom[(i + 1) % size];
+            if (orient(a, b, c) <= 0)
+                continue;
+            boolean empty = true;
+            for (int j = 0; j < size && empty; j++) {
+                int d = boundaryFrom[j];
+                if (d == a || d == b || d == c || d == INFINITE)
+                    continue;
+                empty = GeometricPredicates.inCircle(xs[a], ys[a], xs[b],
+                        ys[b], xs[c], ys[c], xs[d], ys[d]) <= 0;
+            }
+            if (empty)
+                return i;
+        }
+        return -1;
+    }
+
+    /**
+     * Die Methode schneidet das Dreieck an der Ecke i des Randes ab.
+     */
+    private void clip(int i, int size) {
+        int prev = (i + size - 1) % size;
+        int next = (i + 1) % size;
+        int t = newTriangle(boundaryFrom[prev], boundaryFrom[i],
+                boundaryFrom[next]);
+        link(3 * t, boundaryTwin[prev]);
+        link(3 * t + 1, boundaryTwin[i]);
+        vertexEdges[boundaryFrom[prev]] = 3 * t;
+        vertexEdges[boundaryFrom[i]] = 3 * t + 1;
+        vertexEdges[boundaryFrom[next]] = 3 * t + 2;
+        // die neue Randkante von prev nach next liegt der Kante 3t + 2
+        // gegenueber
+        boundaryTwin[prev] = 3 * t + 2;
+        System.arraycopy(boundaryFrom, i + 1, boundaryFrom, i, size - i - 1);
+        System.arraycopy(boundaryTwin, i + 1, boundaryTwin, i, size - i - 1);
+        if (isFinite(t))
+            lastTriangle = t;
+    }
+
+    /**
+     * Die Methode baut die Triangulation aus den vorhandenen Ecken neu auf.
+     */
+    private void rebuild() {
+        long[] keys = new long[size()];
+        int n = 0;
+        for (int v = 1; v < vertexCount; v++) {
+            if (vertexEdges[v] != FREE)
+                keys[n++] = PackedPointSet.pack(xs[v], ys[v]);
+        }
+        PackedPointSet.sortKeys(keys, n);
+        clear();
+        for (int i = 0; i < n; i++) {
+            int v = newVertex(PackedPointSet.unpackX(keys[i]),
+                    PackedPointSet.unpackY(keys[i]));
+            vertices.put(keys[i], v);
+        }
+        build();
+    }
+
+    /**
+     * Die Methode trianguliert die Ecken 1 bis vertexCount - 1, die nach (x,
+     * y) sortiert sein muessen, und ergaenzt die Geisterdreiecke.
+     */
+    private void build() {
+        int n = vertexCount - 1;
+        int[] vertexX = Arrays.copyOfRange(xs, 1, vertexCount);
+        int[] vertexY = Arrays.copyOfRange(ys, 1, vertexCount);
+        Triangulation triangulation = DelaunayTriangulator.triangulate(
+                vertexX, vertexY, n);
+        int m = triangulation.getTriangleCount();
+        if (m == 0) {
+            lineA = n > 0 ? 1 : -1;
+            lineB = n > 1 ? 2 : -1;
+            return;
+        }
+
+        triangulated = true;
+        for (int t = 0; t < m; t++) {
+            newTriangle(triangulation.getOrigin(3 * t) + 1,
+                    triangulation.getOrigin(3 * t + 1) + 1,
+                    triangulation.getOrigin(3 * t + 2) + 1);
+        }
+        int[] ghosts = new int[vertexCount];
+        for (int e = 0; e < 3 * m; e++) {
+            vertexEdges[origins[e]] = e;
+            int twin = triangulation.getTwin(e);
+            if (twin >= 0) {
+                twins[e] = twin;
+                continue;
+            }
+            // Huellkante von a nach b: Geisterdreieck (b, a, unendlich)
+            int a = origins[e];
+            int b = origins[Triangulation.next(e)];
+            int g = newTriangle(b, a, INFINITE);
+            link(3 * g, e);
+            ghosts[a] = g;
+        }
+        for (int g = m; g < triangleCount; g++) {
+            link(3 * g + 2, 3 * ghosts[origins[3 * g]] + 1);
+        }
+        vertexEdges[INFINITE] = 3 * m + 2;
+        finiteTriangles = m;
+        lastTriangle = 0;
+    }
+
+    private int newVertex(int xPos, int yPos) {
+        int v;
+        if (freeVertexCount > 0) {
+            v = freeVertices[--freeVertexCount];
+        } else {
+            if (vertexCount == xs.length) {
+                int capacity = xs.length * 2;
+                xs = Arrays.copyOf(xs, capacity);
+                ys = Arrays.copyOf(ys, capacity);
+                vertexEdges = Arrays.copyOf(vertexEdges, capacity);
+                fan = Arrays.copyOf(fan, capacity);
+            }
+            v = vertexCount++;
+        }
+        xs[v] = xPos;
+        ys[v] = yPos;
+        vertexEdges[v] = -1;
+        return v;
+    }
+
+    private void freeVertex(int v) {
+        vertexEdges[v] = FREE;
+        if (freeVertexCount == freeVertices.length)
+            freeVertices = Arrays.copyOf(freeVertices, freeVertexCount * 2);
+        freeVertices[freeVertexCount++] = v;
+    }
+
+    /**
+     * Die Methode legt ein Dreieck mit den Ecken a, b und c an; die
+     * gegenlaeufigen Halbkanten sind noch zu setzen.
+     */
+    private int newTriangle(int a, int b, int c) {
+        int t;
+        if (freeTriangle >= 0) {
+            t = freeTriangle;
+            freeTriangle = twins[3 * t];
+        } else {
+            if (3 * triangleCount == origins.length) {
+                int capacity = origins.length * 2;
+                origins = Arrays.copyOf(origins, capacity);
+                twins = Arrays.copyOf(twins, capacity);
+                marks = Arrays.copyOf(marks, capacity / 3);
+            }
+            t = triangleCount++;
+        }
+        origins[3 * t] = a;
+        origins[3 * t + 1] = b;
+        origins[3 * t + 2] = c;
+        marks[t] = 0;
+        if (a != INFINITE && b != INFINITE && c != INFINITE)
+            finiteTriangles++;
+        return t;
+    }
+
+    private void freeTriangle(int t) {
+        if (isFinite(t))
+            finiteTriangles--;
+        origins[3 * t] = -1;
+        twins[3 * t] = freeTriangle;
+        freeTriangle = t;
+    }
+
+    /**
+     * Die Methode prueft, ob das belegte Dreieck t endlich ist.
+     */
+    private boolean isFinite(int t) {
+        return origins[3 * t] > INFINITE && origins[3 * t + 1] != INFINITE
+                && origins[3 * t + 2] != INFINITE;
+    }
+
+    private void link(int e, int f) {
+        twins[e] = f;
+        twins[f] = e;
+    }
+
+    private int orient(int a, int b, int c) {
+        return GeometricPredicates.orient2d(xs[a], ys[a], xs[b], ys[b], xs[c],
+                ys[c]);
+    }
+
+    private void growBoundary() {
+        int capacity = boundaryFrom.length * 2;
+        boundaryFrom = Arrays.copyOf(boundaryFrom, capacity);
+        boundaryTo = Arrays.copyOf(boundaryTo, capacity);
+        boundaryTwin = Arrays.copyOf(boundaryTwin, capacity);
+    }
+
+    /**
+     * Die Methode verschiebt die ersten size Werte zyklisch so, dass der Wert
+     * mit dem Index first vorne steht.
+     */
+    private static void rotate(int[] values, int size, int first) {
+        first %= size;
+        int[] copy = Arrays.copyOf(values, size);
+        for (int i = 0; i < size; i++) {
+            values[i] = copy[(first + i) % size];
+        }
+    }
+
+    /**
+     * Eine Hashtabelle mit offener Adressierung von gepackten Schluesseln auf
+     * Ecken.
+     */
+    private static class VertexMap {
+
+        /**
+         * die Schluessel
+         */
+        private long[] keys = new long[16];
+
+        /**
+         * die Ecken; -1 fuer freie Plaetze
+         */
+        private int[] values = new int[16];
+
+        /**
+         * die Anzahl der Eintraege
+         */
+        private int size = 0;
+
+        private VertexMap() {
+            Arrays.fill(values, -1);
+        }
+
+        /**
+         * Die Methode gibt die Ecke zum Schluessel zurueck; -1, falls es
+         * keine gibt.
+         */
+        private int get(long key) {
+            int mask = keys.length - 1;
+            for (int i = slot(key, mask);; i = (i + 1) & mask) {
+                if (values[i] < 0)
+                    return -1;
+                if (keys[i] == key)
+                    return values[i];
+            }
+        }
+
+        private void put(long key, int value) {
+            if (2 * (size + 1) > keys.length)
+                resize(keys.length * 2);
+            int mask = keys.length - 1;
+            int i = slot(key, mask);
+            while (values[i] >= 0 && keys[i] != key) {
+                i = (i + 1) & mask;
+            }
+            if (values[i] < 0)
+                size++;
+            keys[i] = key;
+            values[i] = value;
+        }
+
+        /**
+         * Die Methode entfernt den Schluessel und gibt seine Ecke zurueck; -1,
+         * falls es keine gibt. Nachfolgende Eintraege rutschen nach, damit
+         * keine Grabsteine noetig sind.
+         */
+        private int remove(long key) {
+            int mask = keys.length - 1;
+            int i = slot(key, mask);
+            while (values[i] >= 0 && keys[i] != key) {
+                i = (i + 1) & mask;
+            }
+            int result = values[i];
+            if (result < 0)
+                return -1;
+            size--;
+            int gap = i;
+            for (int j = (i + 1) & mask; values[j] >= 0; j = (j + 1) & mask) {
+                int home = slot(keys[j], mask);
+                // der Eintrag darf in die Luecke, wenn diese zyklisch
+                // zwischen seinem Platz und seiner Heimat liegt
+                if (((j - home) & mask) >= ((j - gap) & mask)) {
+                    keys[gap] = keys[j];
+                    values[gap] = values[j];
+                    gap = j;
+                }
+            }
+            values[gap] = -1;
+            return result;
+        }
+
+        private int size() {
+            return size;
+        }
+
+        private void clear() {
+            keys = new long[16];
+            values = new int[16];
+            Arrays.fill(values, -1);
+            size = 0;
+        }
+
+        private void resize(int capacity) {
+            long[] oldKeys = keys;
+            int[] oldValues = values;
+            keys = new long[capacity];
+            values = new int[capacity];
+            Arrays.fill(values, -1);
+            size = 0;
+            for (int i = 0; i < oldKeys.length; i++) {
+                if (oldValues[i] >= 0)
+                    put(oldKeys[i], oldValues[i]);
+            }
+        }
+
+        private static int slot(long key, int mask) {
+            return (int) ((key * 0x9E3779B97F4A7C15L) >>> 32) & mask;
+        }
+    }
+}
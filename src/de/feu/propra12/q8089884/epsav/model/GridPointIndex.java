@@ -0,0 +1,298 @@
+/**
+ * Das Paket beinhaltet alle (abstrakten) Klassen, Interfaces und Enums,
+ * die zur Darstellung einer Punktmenge im zweidimensionalen Raum benoetigt
+ * werden.
+ */
+package de.feu.propra12.q8089884.epsav.model;
+
+import java.util.HashMap;
+
+import de.feu.propra12.q8089884.epsav.util.Point;
+
+/**
+ * Die Klasse stellt einen gleichmaessigen Gitterindex ueber eine Punktmenge
+ * dar. Jeder Punkt wird in die Gitterzelle einsortiert, in der er liegt; leere
+ * Zellen belegen keinen Speicher. Eine Suche nach dem naechstgelegenen Punkt
+ * betrachtet nur die Zellen, die den Suchkreis schneiden, und bricht ab,
+ * sobald keine naehere Zelle mehr existieren kann.
+ * 
+ * Die Klasse ist nicht synchronisiert.
+ * 
+ * @author Felix Wenz
+ * 
+ */
+public class GridPointIndex {
+
+    /**
+     * der Zweierlogarithmus der Zellbreite (Zellbreite 16 Pixel)
+     */
+    private static final int CELL_SHIFT = 4;
+
+    /**
+     * die Zellbreite in Pixel
+     */
+    private static final int CELL_SIZE = 1 << CELL_SHIFT;
+
+    /**
+     * die belegten Zellen, adressiert ueber ihre gepackten Zellkoordinaten
+     */
+    private HashMap<Long, Cell> cells = new HashMap<Long, Cell>();
+
+    /**
+     * Die Methode fuegt einen Punkt in den Index ein. Der Punkt darf noch nicht
+     * enthalten sein.
+     * 
+     * @param xPos
+     *            die x-Koordinate
+     * @param yPos
+     *            die y-Koordinate
+     */
+    public void add(int xPos, int yPos) {
+        Long cellKey = cellKey(xPos >> CELL_SHIFT, yPos >> CELL_SHIFT);
+        Cell cell = cells.get(cellKey);
+        if (cell == null) {
+            cell = new Cell();
+            cells.put(cellKey, cell);
+        }
+        cell.add(xPos, yPos);
+    }
+
+    /**
+     * Die Methode entfernt einen Punkt aus dem Index, falls dieser enthalten
+     * ist.
+     * 
+     * @param xPos
+     *            die x-Koordinate
+     * @param yPos
+     *            die y-Koordinate
+     */
+    public void remove(int xPos, int yPos) {
+        Long cellKey = cellKey(xPos >> CELL_SHIFT, yPos >> CELL_SHIFT);
+        Cell cell = cells.get(cellKey);
+        if (cell != null && cell.remove(xPos, yPos) && cell.count == 0)
+            cells.remove(cellKey);
+    }
+
+    /**
+     * Die Methode entfernt alle Punkte aus dem Index.
+     */
+    public void clear() {
+        cells.clear();
+    }
+
+    /**
+     * Die Methode gibt den (euklidisch) naechstgelegenen Punkt innerhalb des
+     * Suchradius zurueck. Bei gleichem Abstand wird der in (x, y)-Reihenfolge
+     * kleinere Punkt gewaehlt.
+     * 
+     * @param xPos
+     *            die x-Koordinate
+     * @param yPos
+     *            die y-Koordinate
+     * @param range
+     *            der Suchradius
+     * @return den Punkt; null, wenn sich kein Punkt innerhalb des Suchradius
+     *         befindet
+     */
+    public Point getNearestPointWithinRange(int xPos, int yPos, int range) {
+        if (range < 0 || cells.isEmpty())
+            return null;
+
+        long maxDist2 = (long) range * range;
+        int cx = xPos >> CELL_SHIFT;
+        int cy = yPos >> CELL_SHIFT;
+        long maxRing = ((long) range >> CELL_SHIFT) + 1;
+
+        Nearest best = new Nearest(maxDist2);
+
+        // bei sehr grossen Radien ist das Durchsuchen aller belegten Zellen
+        // guenstiger als das Abschreiten der Ringe
+        if ((2 * maxRing + 1) * (2 * maxRing + 1) > cells.size()) {
+            for (Cell cell : cells.values()) {
+                cell.visitNearest(xPos, yPos, best);
+            }
+            return best.toPoint();
+        }
+
+        // Ringe von Zellen um die Zelle des Suchpunkts abschreiten
+        for (int ring = 0; ring <= maxRing; ring++) {
+            // Zellen im Ring haben mindestens den Abstand (ring - 1) * Breite
+            if (ring > 1) {
+                long minDist = (long) (ring - 1) * CELL_SIZE;
+                if (minDist * minDist > best.dist2)
+                    break;
+            }
+            for (int i = -ring; i <= ring; i++) {
+                visitCell(cx + i, cy - ring, xPos, yPos, best);
+                if (ring > 0)
+                    visitCell(cx + i, cy + ring, xPos, yPos, best);
+            }
+            for (int j = -ring + 1; j < ring; j++) {
+                visitCell(cx - ring, cy + j, xPos, yPos, best);
+                visitCell(cx + ring, cy + j, xPos, yPos, best);
+            }
+        }
+        return best.toPoint();
+    }
+
+    /**
+     * Die Methode untersucht die Punkte einer Zelle, falls die Zelle den
+     * Suchkreis schneidet.
+     * 
+     * @param cellX
+     *            die x-Koordinate der Zelle
+     * @param cellY
+     *            die y-Koordinate der Zelle
+     * @param xPos
+     *            die x-Koordinate des Suchpunkts
+     * @param yPos
+     *            die y-Koordinate des Suchpunkts
+     * @param best
+     *            der bisher beste Treffer
+     */
+    private void visitCell(int cellX, int cellY, int xPos, int yPos,
+            Nearest best) {
+        // Abstand des Suchpunkts zum Zellrechteck
+        long left = (long) cellX << CELL_SHIFT;
+        long top = (long) cellY << CELL_SHIFT;
+        long dx = Math.max(0,
+                Math.max(left - xPos, xPos - (left + CELL_SIZE - 1)));
+        long dy = Math.max(0,
+                Math.max(top - yPos, yPos - (top + CELL_SIZE - 1)));
+        if (dx * dx + dy * dy > best.dist2)
+            return;
+        Cell cell = cells.get(cellKey(cellX, cellY));
+        if (cell != null)
+            cell.visitNearest(xPos, yPos, best);
+    }
+
+    /**
+     * Die Methode bildet Zellkoordinaten auf einen Schluessel ab.
+     * 
+     * @param cellX
+     *            die x-Koordinate der Zelle
+     * @param cellY
+     *            die y-Koordinate der Zelle
+     * @return der Schluessel
+     */
+    private static Long cellKey(int cellX, int cellY) {
+        return Long.valueOf(PackedPointSet.pack(cellX, cellY));
+    }
+
+    /**
+     * Eine Gitterzelle speichert die Koordinaten ihrer Punkte in primitiven
+     * Arrays.
+     */
+    private static class Cell {
+
+        /**
+         * die x-Koordinaten
+         */
+        private int[] xs = new int[4];
+
+        /**
+         * die y-Koordinaten
+         */
+        private int[] ys = new int[4];
+
+        /**
+         * die Anzahl der Punkte
+         */
+        private int count = 0;
+
+        /**
+         * Die Methode fuegt einen Punkt an.
+         */
+        private void add(int xPos, int yPos) {
+            if (count == xs.length) {
+                int[] newXs = new int[count * 2];
+                int[] newYs = new int[count * 2];
+                System.arraycopy(xs, 0, newXs, 0, count);
+                System.arraycopy(ys, 0, newYs, 0, count);
+                xs = newXs;
+                ys = newYs;
+            }
+            xs[count] = xPos;
+            ys[count] = yPos;
+            count++;
+        }
+
+        /**
+         * Die Methode entfernt einen Punkt, indem sie ihn mit dem letzten
+         * Punkt ueberschreibt.
+         */
+        private boolean remove(int xPos, int yPos) {
+            for (int i = 0; i < count; i++) {
+                if (xs[i] == xPos && ys[i] == yPos) {
+                    count--;
+                    xs[i] = xs[count];
+                    ys[i] = ys[count];
+                    return true;
+                }
+            }
+            return false;
+        }
+
+        /**
+         * Die Methode vergleicht alle Punkte der Zelle mit dem bisher besten
+         * Treffer.
+         */
+        private void visitNearest(int xPos, int yPos, Nearest best) {
+            for (int i = 0; i < count; i++) {
+                long dx = (long) xs[i] - xPos;
+                long dy = (long) ys[i] - yPos;
+                best.offer(xs[i], ys[i], dx * dx + dy * dy);
+            }
+        }
+    }
+
+    /**
+     * Der bisher beste Treffer einer Suche.
+     */
+    private static class Nearest {
+
+        /**
+         * der quadrierte Abstand des Treffers bzw. die Obergrenze
+         */
+        private long dist2;
+
+        /**
+         * wahr, sobald ein Treffer gefunden wurde
+         */
+        private boolean found = false;
+
+        /**
+         * die x-Koordinate des Treffers
+         */
+        private int xPos;
+
+        /**
+         * die y-Koordinate des Treffers
+         */
+        private int yPos;
+
+        private Nearest(long maxDist2) {
+            this.dist2 = maxDist2;
+        }
+
+        /**
+         * Die Methode uebernimmt einen Kandidaten, falls dieser naeher liegt
+         * (bzw. bei gleichem Abstand in (x, y)-Reihenfolge kleiner ist).
+         */
+        private void offer(int x, int y, long d2) {
+            if (d2 > dist2)
+                return;
+            if (found && d2 == dist2
+                    && (x > xPos || (x == xPos && y >= yPos)))
+                return;
+            dist2 = d2;
+            xPos = x;
+            yPos = y;
+            found = true;
+        }
+
+        private Point toPoint() {
+            return found ? new Point(xPos, yPos) : null;
+        }
+    }
+}
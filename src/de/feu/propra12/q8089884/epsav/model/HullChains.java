@@ -0,0 +1,171 @@
+/**
+ * Das Paket beinhaltet alle (abstrakten) Klassen, Interfaces und Enums,
+ * die zur Darstellung einer Punktmenge im zweidimensionalen Raum benoetigt
+ * werden.
+ */
+package de.feu.propra12.q8089884.epsav.model;
+
+import java.util.Arrays;
+
+import de.feu.propra12.q8089884.epsav.util.GeometricPredicates;
+import de.feu.propra12.q8089884.epsav.util.Point;
+import de.feu.propra12.q8089884.epsav.util.PointBuffer;
+
+/**
+ * Die Klasse stellt Hilfsmethoden fuer die Ketten einer konvexen Huelle
+ * bereit. Eine Kette ist ein nach (x, y) sortiertes Array gepackter
+ * Schluessel (siehe PackedPointSet); die noerdliche Kette verlaeuft entlang
+ * der kleinen y-Koordinaten, die suedliche entlang der grossen. Wie beim
+ * Verfahren der monotonen Kette enthalten die Ketten nur echte Ecken.
+ * 
+ * @author Felix Wenz
+ * 
+ */
+final class HullChains {
+
+    /**
+     * das Vorzeichen der noerdlichen Kette
+     */
+    static final int NORTH = 1;
+
+    /**
+     * das Vorzeichen der suedlichen Kette
+     */
+    static final int SOUTH = -1;
+
+    private HullChains() {
+
+    }
+
+    /**
+     * Die Methode berechnet eine Kette ueber sortierte Schluessel (monotone
+     * Kette).
+     * 
+     * @param keys
+     *            die sortierten Schluessel
+     * @param n
+     *            die Anzahl der Schluessel
+     * @param sign
+     *            NORTH oder SOUTH
+     * @return die Kette von West nach Ost
+     */
+    static long[] chain(long[] keys, int n, int sign) {
+        long[] chain = new long[n];
+        int top = 0;
+        for (int i = 0; i < n; i++) {
+            while (top >= 2
+                    && !isCorner(chain[top - 2], chain[top - 1], keys[i], sign))
+                top--;
+            chain[top++] = keys[i];
+        }
+        return Arrays.copyOf(chain, top);
+    }
+
+    /**
+     * Die Methode verbindet die Ketten zweier Punktmengen, deren Schluessel
+     * vollstaendig vor bzw. hinter denen der anderen liegen, ueber ihre
+     * Bruecke. Vom Ende der westlichen und vom Anfang der oestlichen Kette
+     * werden so lange Punkte verworfen, bis beide Endpunkte der Bruecke echte
+     * Ecken bilden; jeder verworfene Punkt liegt unterhalb einer Strecke
+     * zwischen zwei Punkten der Menge und ist daher kein Eckpunkt.
+     * 
+     * @param west
+     *            die westliche Kette
+     * @param east
+     *            die oestliche Kette
+     * @param sign
+     *            NORTH oder SOUTH
+     * @return die verbundene Kette
+     */
+    static long[] merge(long[] west, long[] east, int sign) {
+        int i = west.length - 1;
+        int j = 0;
+        boolean moved = true;
+        while (moved) {
+            moved = false;
+            while (i > 0 && !isCorner(west[i - 1], west[i], east[j], sign)) {
+                i--;
+                moved = true;
+            }
+            while (j < east.length - 1
+                    && !isCorner(west[i], east[j], east[j + 1], sign)) {
+                j++;
+                moved = true;
+            }
+        }
+        long[] result = new long[i + 1 + east.length - j];
+        System.arraycopy(west, 0, result, 0, i + 1);
+        System.arraycopy(east, j, result, i + 1, east.length - j);
+        return result;
+    }
+
+    /**
+     * Die Methode setzt die Eckpunkte der Huelle aus ihren Ketten zusammen:
+     * beginnend beim in (x, y)-Reihenfolge kleinsten Punkt die noerdliche
+     * Kette von West nach Ost, dann die suedliche Kette zurueck.
+     * 
+     * @param north
+     *            die noerdliche Kette
+     * @param south
+     *            die suedliche Kette
+     * @return die Eckpunkte
+     */
+    static Point[] toVertices(long[] north, long[] south) {
+        Point[] result = new Point[north.length
+                + Math.max(0, south.length - 2)];
+        int i = 0;
+        for (int j = 0; j < north.length; j++) {
+            result[i++] = toPoint(north[j]);
+        }
+        // suedliche Kette ohne die gemeinsamen Endpunkte
+        for (int j = south.length - 2; j > 0; j--) {
+            result[i++] = toPoint(south[j]);
+        }
+        return result;
+    }
+
+    /**
+     * Die Methode legt die Eckpunkte der Huelle wie toVertices(long[], long[])
+     * im uebergebenen Puffer ab, ohne Punktobjekte zu erzeugen.
+     * 
+     * @param north
+     *            die noerdliche Kette
+     * @param south
+     *            die suedliche Kette
+     * @param result
+     *            der Puffer fuer die Eckpunkte
+     */
+    static void toVertices(long[] north, long[] south, PointBuffer result) {
+        for (int j = 0; j < north.length; j++) {
+            result.add(PackedPointSet.unpackX(north[j]),
+                    PackedPointSet.unpackY(north[j]));
+        }
+        for (int j = south.length - 2; j > 0; j--) {
+            result.add(PackedPointSet.unpackX(south[j]),
+                    PackedPointSet.unpackY(south[j]));
+        }
+    }
+
+    /**
+     * Die Methode prueft, ob b zwischen a und c eine echte Ecke der Kette
+     * bildet.
+     * 
+     * @param sign
+     *            NORTH oder SOUTH
+     */
+    static boolean isCorner(long a, long b, long c, int sign) {
+        return sign
+                * GeometricPredicates.orient2d(PackedPointSet.unpackX(a),
+                        PackedPointSet.unpackY(a), PackedPointSet.unpackX(b),
+                        PackedPointSet.unpackY(b), PackedPointSet.unpackX(c),
+                        PackedPointSet.unpackY(c)) > 0;
+    }
+
+    /**
+     * Die Methode wandelt einen gepackten Schluessel in einen Punkt um.
+     */
+    static Point toPoint(long key) {
+        return new Point(PackedPointSet.unpackX(key),
+                PackedPointSet.unpackY(key));
+    }
+}
@@ -0,0 +1,500 @@
+/**
+ * Das Paket beinhaltet alle (abstrakten) Klassen, Interfaces und Enums,
+ * die zur Darstellung einer Punktmenge im zweidimensionalen Raum benoetigt
+ * werden.
+ */
+package de.feu.propra12.q8089884.epsav.model;
+
+import java.util.Arrays;
+
+import de.feu.propra12.q8089884.epsav.util.Point;
+
+/**
+ * Die Klasse stellt einen balancierten k-d-Baum ueber eine Punktmenge dar, der
+ * die Suche nach den k naechsten Punkten und nach allen Punkten innerhalb
+ * eines Radius erlaubt.
+ * 
+ * Der Baum ist implizit in zwei int-Arrays abgelegt: der Knoten eines
+ * Teilbereichs liegt in dessen Mitte, links davon die Punkte mit kleinerer
+ * oder gleicher, rechts die mit groesserer oder gleicher Koordinate der
+ * Teilungsachse. Einfuegungen landen zunaechst in einem kleinen Puffer,
+ * Loeschungen markieren den Punkt nur. Sobald Puffer oder Markierungen zu
+ * gross werden, wird der Baum bei der naechsten Anfrage in O(n log n) neu
+ * aufgebaut; Aenderungen kosten so nur O(log n).
+ * 
+ * Die Klasse ist nicht synchronisiert. Da Anfragen den Baum neu aufbauen
+ * koennen, duerfen sie nur dann gleichzeitig laufen, wenn needsRebalance()
+ * falsch ist (siehe rebalanceIfNeeded()).
+ * 
+ * @author Felix Wenz
+ * 
+ */
+public class KdTree {
+
+    /**
+     * die Mindestgroesse des Einfuegepuffers vor einem Neuaufbau
+     */
+    private static final int MIN_BUFFER_SIZE = 64;
+
+    /**
+     * die x-Koordinaten des Baums
+     */
+    private int[] xs = new int[0];
+
+    /**
+     * die y-Koordinaten des Baums
+     */
+    private int[] ys = new int[0];
+
+    /**
+     * Markierungen fuer geloeschte Punkte des Baums
+     */
+    private boolean[] deleted = new boolean[0];
+
+    /**
+     * die Anzahl der Punkte im Baum (inklusive geloeschter)
+     */
+    private int treeSize = 0;
+
+    /**
+     * die Anzahl der als geloescht markierten Punkte im Baum
+     */
+    private int deletedCount = 0;
+
+    /**
+     * die x-Koordinaten des Einfuegepuffers
+     */
+    private int[] bufferXs = new int[MIN_BUFFER_SIZE];
+
+    /**
+     * die y-Koordinaten des Einfuegepuffers
+     */
+    private int[] bufferYs = new int[MIN_BUFFER_SIZE];
+
+    /**
+     * die Anzahl der Punkte im Einfuegepuffer
+     */
+    private int bufferSize = 0;
+
+    /**
+     * Die Methode baut den Baum aus den uebergebenen Koordinaten neu auf. Die
+     * Arrays werden uebernommen und umsortiert.
+     * 
+     * @param xPositions
+     *            die x-Koordinaten
+     * @param yPositions
+     *            die y-Koordinaten
+     * @param n
+     *            die Anzahl der Punkte
+     */
+    public void build(int[] xPositions, int[] yPositions, int n) {
+        xs = xPositions;
+        ys = yPositions;
+        treeSize = n;
+        deleted = new boolean[n];
+        deletedCount = 0;
+        bufferSize = 0;
+        build(0, n - 1, 0);
+    }
+
+    /**
+     * Die Methode fuegt einen Punkt ein. Der Punkt darf noch nicht enthalten
+     * sein.
+     * 
+     * @param xPos
+     *            die x-Koordinate
+     * @param yPos
+     *            die y-Koordinate
+     */
+    public void add(int xPos, int yPos) {
+        // zuvor geloeschten Punkt wiederbeleben, statt ihn zu puffern
+        int slot = find(xPos, yPos, 0, treeSize - 1, 0);
+        if (slot >= 0) {
+            if (deleted[slot]) {
+                deleted[slot] = false;
+                deletedCount--;
+            }
+            return;
+        }
+        if (bufferSize == bufferXs.length) {
+            bufferXs = Arrays.copyOf(bufferXs, bufferSize * 2);
+            bufferYs = Arrays.copyOf(bufferYs, bufferSize * 2);
+        }
+        bufferXs[bufferSize] = xPos;
+        bufferYs[bufferSize] = yPos;
+        bufferSize++;
+    }
+
+    /**
+     * Die Methode entfernt einen Punkt, falls dieser enthalten ist.
+     * 
+     * @param xPos
+     *            die x-Koordinate
+     * @param yPos
+     *            die y-Koordinate
+     */
+    public void remove(int xPos, int yPos) {
+        for (int i = 0; i < bufferSize; i++) {
+            if (bufferXs[i] == xPos && bufferYs[i] == yPos) {
+                bufferSize--;
+                bufferXs[i] = bufferXs[bufferSize];
+                bufferYs[i] = bufferYs[bufferSize];
+                return;
+            }
+        }
+        int slot = find(xPos, yPos, 0, treeSize - 1, 0);
+        if (slot >= 0 && !deleted[slot]) {
+            deleted[slot] = true;
+            deletedCount++;
+        }
+    }
+
+    /**
+     * Die Methode entfernt alle Punkte.
+     */
+    public void clear() {
+        xs = new int[0];
+        ys = new int[0];
+        deleted = new boolean[0];
+        treeSize = 0;
+        deletedCount = 0;
+        bufferSize = 0;
+    }
+
+    /**
+     * Die Methode gibt die k naechsten Punkte zur uebergebenen Position
+     * aufsteigend nach Abstand zurueck (bei gleichem Abstand in (x,
+     * y)-Reihenfolge).
+     * 
+     * @param xPos
+     *            die x-Koordinate
+     * @param yPos
+     *            die y-Koordinate
+     * @param k
+     *            die Anzahl der gesuchten Punkte
+     * @return die Punkte; weniger als k, falls die Punktmenge kleiner ist
+     */
+    public Point[] getKNearestPoints(int xPos, int yPos, int k) {
+        rebalanceIfNeeded();
+        Candidates result = new Candidates(k, Long.MAX_VALUE);
+        if (k <= 0)
+            return result.toPoints();
+        for (int i = 0; i < bufferSize; i++) {
+            result.offer(bufferXs[i], bufferYs[i], xPos, yPos);
+        }
+        searchNearest(0, treeSize - 1, 0, xPos, yPos, result);
+        return result.toPoints();
+    }
+
+    /**
+     * Die Methode gibt alle Punkte innerhalb des Radius um die uebergebene
+     * Position aufsteigend nach Abstand zurueck (bei gleichem Abstand in (x,
+     * y)-Reihenfolge).
+     * 
+     * @param xPos
+     *            die x-Koordinate
+     * @param yPos
+     *            die y-Koordinate
+     * @param radius
+     *            der Radius
+     * @return die Punkte
+     */
+    public Point[] getPointsWithinRadius(int xPos, int yPos, double radius) {
+        rebalanceIfNeeded();
+        if (radius < 0)
+            return new Point[0];
+        // groesster ganzzahliger quadrierter Abstand innerhalb des Radius
+        double r2 = radius * radius;
+        long maxDist2 = r2 >= Long.MAX_VALUE ? Long.MAX_VALUE : (long) r2;
+        Candidates result = new Candidates(Integer.MAX_VALUE, maxDist2);
+        for (int i = 0; i < bufferSize; i++) {
+            result.offer(bufferXs[i], bufferYs[i], xPos, yPos);
+        }
+        searchNearest(0, treeSize - 1, 0, xPos, yPos, result);
+        return result.toPoints();
+    }
+
+    /**
+     * Die Methode gibt an, ob die naechste Anfrage den Baum neu aufbauen
+     * wuerde, weil der Puffer oder die Anzahl geloeschter Punkte zu gross
+     * geworden ist.
+     * 
+     * @return wahr, falls ein Neuaufbau aussteht
+     */
+    public boolean needsRebalance() {
+        int live = treeSize - deletedCount;
+        int maxBuffer = Math.max(MIN_BUFFER_SIZE, (int) Math.sqrt(live));
+        return bufferSize > maxBuffer || deletedCount > treeSize / 4;
+    }
+
+    /**
+     * Die Methode baut den Baum neu auf, falls needsRebalance() wahr ist.
+     */
+    public void rebalanceIfNeeded() {
+        if (!needsRebalance())
+            return;
+
+        int live = treeSize - deletedCount;
+
+        int n = live + bufferSize;
+        int[] newXs = new int[n];
+        int[] newYs = new int[n];
+        int j = 0;
+        for (int i = 0; i < treeSize; i++) {
+            if (!deleted[i]) {
+                newXs[j] = xs[i];
+                newYs[j] = ys[i];
+                j++;
+            }
+        }
+        System.arraycopy(bufferXs, 0, newXs, j, bufferSize);
+        System.arraycopy(bufferYs, 0, newYs, j, bufferSize);
+        build(newXs, newYs, n);
+    }
+
+    /**
+     * Die Methode baut den Teilbaum im Bereich [lo, hi] rekursiv auf.
+     */
+    private void build(int lo, int hi, int depth) {
+        if (lo >= hi)
+            return;
+        int mid = (lo + hi) >>> 1;
+        select(lo, hi, mid, (depth & 1) == 0);
+        build(lo, mid - 1, depth + 1);
+        build(mid + 1, hi, depth + 1);
+    }
+
+    /**
+     * Die Methode ordnet den Bereich [lo, hi] so um, dass an Position k das
+     * Element steht, das dort bei Sortierung nach der Achse stuende (Auswahl
+     * nach Wirth).
+     */
+    private void select(int lo, int hi, int k, boolean xAxis) {
+        int[] c = xAxis ? xs : ys;
+        while (lo < hi) {
+            int pivot = c[k];
+            int i = lo;
+            int j = hi;
+            do {
+                while (c[i] < pivot)
+                    i++;
+                while (pivot < c[j])
+                    j--;
+                if (i <= j) {
+                    swap(i, j);
+                    i++;
+                    j--;
+                }
+            } while (i <= j);
+            if (j < k)
+                lo = i;
+            if (k < i)
+                hi = j;
+        }
+    }
+
+    /**
+     * Die Methode vertauscht zwei Punkte des Baums.
+     */
+    private void swap(int i, int j) {
+        int t = xs[i];
+        xs[i] = xs[j];
+        xs[j] = t;
+        t = ys[i];
+        ys[i] = ys[j];
+        ys[j] = t;
+    }
+
+    /**
+     * Die Methode sucht die Position eines Punktes im Baum (auch falls dieser
+     * als geloescht markiert ist).
+     * 
+     * @return die Position; -1, falls der Punkt nicht im Baum liegt
+     */
+    private int find(int xPos, int yPos, int lo, int hi, int depth) {
+        while (lo <= hi) {
+            int mid = (lo + hi) >>> 1;
+            if (xs[mid] == xPos && ys[mid] == yPos)
+                return mid;
+            boolean xAxis = (depth & 1) == 0;
+            int q = xAxis ? xPos : yPos;
+            int v = xAxis ? xs[mid] : ys[mid];
+            if (q == v) {
+                // gleiche Koordinaten koennen auf beiden Seiten liegen
+                int left = find(xPos, yPos, lo, mid - 1, depth + 1);
+                if (left >= 0)
+                    return left;
+                lo = mid + 1;
+            } else if (q < v) {
+                hi = mid - 1;
+            } else {
+                lo = mid + 1;
+            }
+            depth++;
+        }
+        return -1;
+    }
+
+    /**
+     * Die Methode durchsucht den Teilbaum im Bereich [lo, hi] und bietet alle
+     * Punkte, die naeher als der bisher schlechteste Kandidat liegen koennen,
+     * der Kandidatenliste an.
+     */
+    private void searchNearest(int lo, int hi, int depth, int xPos, int yPos,
+            Candidates result) {
+        while (lo <= hi) {
+            int mid = (lo + hi) >>> 1;
+            if (!deleted[mid])
+                result.offer(xs[mid], ys[mid], xPos, yPos);
+            boolean xAxis = (depth & 1) == 0;
+            long diff = xAxis ? (long) xPos - xs[mid] : (long) yPos - ys[mid];
+            depth++;
+            // zuerst die Seite des Suchpunkts, dann ggf. die andere Seite
+            if (diff < 0) {
+                searchNearest(lo, mid - 1, depth, xPos, yPos, result);
+                if (diff * diff > result.bound())
+                    return;
+                lo = mid + 1;
+            } else {
+                searchNearest(mid + 1, hi, depth, xPos, yPos, result);
+                if (diff * diff > result.bound())
+                    return;
+                hi = mid - 1;
+            }
+        }
+    }
+
+    /**
+     * Die Kandidatenliste haelt die bisher besten Treffer einer Suche in
+     * einem Max-Heap nach Abstand.
+     */
+    private static class Candidates {
+
+        /**
+         * die maximale Anzahl an Kandidaten
+         */
+        private final int capacity;
+
+        /**
+         * der maximal erlaubte quadrierte Abstand
+         */
+        private final long maxDist2;
+
+        /**
+         * die quadrierten Abstaende (Heapordnung)
+         */
+        private long[] dist2 = new long[16];
+
+        /**
+         * die x-Koordinaten (Heapordnung)
+         */
+        private int[] hx = new int[16];
+
+        /**
+         * die y-Koordinaten (Heapordnung)
+         */
+        private int[] hy = new int[16];
+
+        /**
+         * die Anzahl der Kandidaten
+         */
+        private int count = 0;
+
+        private Candidates(int capacity, long maxDist2) {
+            this.capacity = capacity;
+            this.maxDist2 = maxDist2;
+        }
+
+        /**
+         * Die Methode gibt den groessten quadrierten Abstand zurueck, den ein
+         * neuer Kandidat noch haben darf.
+         */
+        private long bound() {
+            return count < capacity ? maxDist2 : dist2[0];
+        }
+
+        /**
+         * Die Methode vergleicht zwei Kandidaten nach Abstand und (x, y).
+         */
+        private static boolean greater(long d1, int x1, int y1, long d2,
+                int x2, int y2) {
+            if (d1 != d2)
+                return d1 > d2;
+            if (x1 != x2)
+                return x1 > x2;
+            return y1 > y2;
+        }
+
+        /**
+         * Die Methode bietet einen Punkt als Kandidaten an.
+         */
+        private void offer(int x, int y, int xPos, int yPos) {
+            long dx = (long) x - xPos;
+            long dy = (long) y - yPos;
+            long d = dx * dx + dy * dy;
+            if (d > maxDist2)
+                return;
+            if (count < capacity) {
+                if (count == dist2.length) {
+                    dist2 = Arrays.copyOf(dist2, count * 2);
+                    hx = Arrays.copyOf(hx, count * 2);
+                    hy = Arrays.copyOf(hy, count * 2);
+                }
+                // nach oben sieben
+                int i = count++;
+                while (i > 0) {
+                    int parent = (i - 1) >> 1;
+                    if (!greater(d, x, y, dist2[parent], hx[parent],
+                            hy[parent]))
+                        break;
+                    set(i, dist2[parent], hx[parent], hy[parent]);
+                    i = parent;
+                }
+                set(i, d, x, y);
+            } else if (greater(dist2[0], hx[0], hy[0], d, x, y)) {
+                siftDown(0, d, x, y, count);
+            }
+        }
+
+        /**
+         * Die Methode setzt einen Kandidaten an Position i und siebt ihn
+         * innerhalb der ersten n Eintraege nach unten.
+         */
+        private void siftDown(int i, long d, int x, int y, int n) {
+            while (true) {
+                int child = 2 * i + 1;
+                if (child >= n)
+                    break;
+                if (child + 1 < n
+                        && greater(dist2[child + 1], hx[child + 1],
+                                hy[child + 1], dist2[child], hx[child],
+                                hy[child]))
+                    child++;
+                if (!greater(dist2[child], hx[child], hy[child], d, x, y))
+                    break;
+                set(i, dist2[child], hx[child], hy[child]);
+                i = child;
+            }
+            set(i, d, x, y);
+        }
+
+        private void set(int i, long d, int x, int y) {
+            dist2[i] = d;
+            hx[i] = x;
+            hy[i] = y;
+        }
+
+        /**
+         * Die Methode leert den Heap aufsteigend sortiert in ein Punktearray.
+         */
+        private Point[] toPoints() {
+            Point[] result = new Point[count];
+            for (int n = count - 1; n >= 0; n--) {
+                result[n] = new Point(hx[0], hy[0]);
+                siftDown(0, dist2[n], hx[n], hy[n], n);
+            }
+            count = 0;
+            return result;
+        }
+    }
+}
@@ -0,0 +1,189 @@
+/**
+ * Das Paket beinhaltet alle (abstrakten) Klassen, Interfaces und Enums,
+ * die zur Darstellung einer Punktmenge im zweidimensionalen Raum benoetigt
+ * werden.
+ */
+package de.feu.propra12.q8089884.epsav.model;
+
+import de.feu.propra12.q8089884.epsav.util.Point;
+import de.feu.propra12.q8089884.epsav.util.PointBuffer;
+
+/**
+ * Die Klasse verbindet die feste konvexe Huelle aller uebrigen Punkte mit
+ * einem einzelnen, gerade verschobenen Punkt. Dazu werden in der noerdlichen
+ * und der suedlichen Kette die beiden Tangentenpunkte des Punktes binaer
+ * gesucht; die Ecken dazwischen entfallen. Die neue Huelle steht damit nach
+ * O(log h) Schritten fest und wird erst beim Auslesen zusammengesetzt.
+ * 
+ * @author Felix Wenz
+ * 
+ */
+final class KineticConvexHull {
+
+    private KineticConvexHull() {
+
+    }
+
+    /**
+     * Die Methode gibt die Eckpunkte der Huelle der uebrigen Punkte und des
+     * verschobenen Punktes in derselben Reihenfolge wie
+     * DynamicConvexHull.getVertices() zurueck.
+     * 
+     * @param north
+     *            die noerdliche Kette der uebrigen Punkte; nicht leer
+     * @param south
+     *            die suedliche Kette der uebrigen Punkte; nicht leer
+     * @param key
+     *            der Schluessel des verschobenen Punktes
+     * @return die Eckpunkte
+     */
+    static Point[] getVertices(ChainTree north, ChainTree south, long key) {
+        PointBuffer result = new PointBuffer(ChainTree.size(north)
+                + ChainTree.size(south));
+        getVertices(north, south, key, result);
+        return result.toPointArray();
+    }
+
+    /**
+     * Die Methode haengt die Eckpunkte wie getVertices(ChainTree, ChainTree,
+     * long) an den uebergebenen Puffer an.
+     * 
+     * @param north
+     *            die noerdliche Kette der uebrigen Punkte; nicht leer
+     * @param south
+     *            die suedliche Kette der uebrigen Punkte; nicht leer
+     * @param key
+     *            der Schluessel des verschobenen Punktes
+     * @param result
+     *            der Puffer fuer die Eckpunkte
+     */
+    static void getVertices(ChainTree north, ChainTree south, long key,
+            PointBuffer result) {
+        // die Ausgabe kostet ohnehin O(h); die Tangenten werden daher in den
+        // ausgelesenen Ketten gesucht
+        Chain n = new Chain(ChainTree.toArray(north), key, HullChains.NORTH);
+        Chain s = new Chain(ChainTree.toArray(south), key, HullChains.SOUTH);
+        for (int k = 0; k < n.length; k++) {
+            add(result, n.get(k));
+        }
+        // suedliche Kette ohne die gemeinsamen Endpunkte
+        for (int k = s.length - 2; k > 0; k--) {
+            add(result, s.get(k));
+        }
+    }
+
+    private static void add(PointBuffer result, long key) {
+        result.add(PackedPointSet.unpackX(key), PackedPointSet.unpackY(key));
+    }
+
+    /**
+     * Eine Kette der uebrigen Punkte, in die der verschobene Punkt zwischen
+     * den Tangentenpunkten west und east eingefuegt ist.
+     */
+    private static class Chain {
+
+        /**
+         * die Kette der uebrigen Punkte
+         */
+        private final long[] chain;
+
+        /**
+         * der Schluessel des verschobenen Punktes
+         */
+        private final long key;
+
+        /**
+         * der Index des letzten Punktes vor dem verschobenen Punkt; -1, falls
+         * dieser ganz im Westen liegt
+         */
+        private final int west;
+
+        /**
+         * der Index des ersten Punktes nach dem verschobenen Punkt
+         */
+        private final int east;
+
+        /**
+         * die Laenge der Kette mit dem verschobenen Punkt
+         */
+        private final int length;
+
+        /**
+         * Der Konstruktor sucht die Tangentenpunkte.
+         * 
+         * @param sign
+         *            NORTH oder SOUTH
+         */
+        private Chain(long[] chain, long key, int sign) {
+            this.chain = chain;
+            this.key = key;
+            int m = chain.length;
+            int pos = insertionPoint(chain, key);
+            if ((pos < m && chain[pos] == key)
+                    || (pos > 0 && pos < m && !HullChains.isCorner(
+                            chain[pos - 1], key, chain[pos], sign))) {
+                // der Punkt ist keine Ecke dieser Kette
+                west = m - 1;
+                east = m;
+                length = m;
+                return;
+            }
+
+            // letzter Punkt im Westen, der vor dem verschobenen Punkt eine
+            // Ecke bleibt
+            int low = 0;
+            int high = pos - 1;
+            while (low < high) {
+                int mid = (low + high + 1) >>> 1;
+                if (HullChains.isCorner(chain[mid - 1], chain[mid], key, sign))
+                    low = mid;
+                else
+                    high = mid - 1;
+            }
+            west = pos == 0 ? -1 : low;
+
+            // erster Punkt im Osten, der nach dem verschobenen Punkt eine Ecke
+            // bleibt
+            low = pos;
+            high = m - 1;
+            while (low < high) {
+                int mid = (low + high) >>> 1;
+                if (HullChains.isCorner(key, chain[mid], chain[mid + 1], sign))
+                    high = mid;
+                else
+                    low = mid + 1;
+            }
+            east = pos == m ? m : low;
+            length = west + 2 + m - east;
+        }
+
+        /**
+         * Die Methode gibt den Schluessel mit dem uebergebenen Index der
+         * Kette mit dem verschobenen Punkt zurueck.
+         */
+        private long get(int index) {
+            if (index <= west)
+                return chain[index];
+            if (index == west + 1)
+                return key;
+            return chain[east + index - west - 2];
+        }
+
+        /**
+         * Die Methode gibt die Anzahl der Schluessel der Kette zurueck, die
+         * kleiner als der uebergebene Schluessel sind.
+         */
+        private static int insertionPoint(long[] chain, long key) {
+            int low = 0;
+            int high = chain.length;
+            while (low < high) {
+                int mid = (low + high) >>> 1;
+                if (chain[mid] < key)
+                    low = mid + 1;
+                else
+                    high = mid;
+            }
+            return low;
+        }
+    }
+}
@@ -0,0 +1,256 @@
+/**
+ * Das Paket beinhaltet alle (abstrakten) Klassen, Interfaces und Enums,
+ * die zur Darstellung einer Punktmenge im zweidimensionalen Raum benoetigt
+ * werden.
+ */
+package de.feu.propra12.q8089884.epsav.model;
+
+import de.feu.propra12.q8089884.epsav.util.Circle;
+import de.feu.propra12.q8089884.epsav.util.Point;
+import de.feu.propra12.q8089884.epsav.util.Triangulation;
+import de.feu.propra12.q8089884.epsav.util.VoronoiDiagram;
+
+/**
+ * Die Klasse berechnet den groessten leeren Kreis einer Punktmenge, dessen
+ * Mittelpunkt in der konvexen Huelle liegt. Der Abstand zum naechsten Punkt
+ * wird auf der Huelle an einer Ecke des Voronoi-Diagramms maximal oder dort,
+ * wo eine Kante des Diagramms den Rand der Huelle schneidet. Die Ecken werden
+ * in O(log h) gegen die Huelle geprueft. Die Schnittpunkte ergeben sich beim
+ * Ablaufen jeder Huellkante durch die Zellen, die sie durchquert: Der
+ * naechste Punkt wechselt dort, wo die Kante die Mittelsenkrechte zu einem
+ * Nachbarn in der Triangulation kreuzt.
+ * 
+ * Liegen alle Punkte auf einer Geraden, ist die Huelle eine Strecke, und der
+ * Mittelpunkt liegt in der Mitte der groessten Luecke zwischen zwei
+ * benachbarten Punkten.
+ * 
+ * @author Felix Wenz
+ * 
+ */
+public class LargestEmptyCircleCalculator {
+
+    /**
+     * Die Klasse stellt nur statische Methoden bereit.
+     */
+    private LargestEmptyCircleCalculator() {
+
+    }
+
+    /**
+     * Die Methode berechnet den groessten leeren Kreis, dessen Mittelpunkt in
+     * der konvexen Huelle liegt. Kein Punkt liegt echt im Kreis.
+     * 
+     * @param diagram
+     *            das Voronoi-Diagramm der Punktmenge
+     * @param convexHull
+     *            die Ecken der konvexen Huelle in beliebigem Umlaufsinn
+     * @return der Kreis; Circle.EMPTY fuer eine leere Punktmenge
+     */
+    public static Circle getLargestEmptyCircle(VoronoiDiagram diagram,
+            Point[] convexHull) {
+        Triangulation triangulation = diagram.getTriangulation();
+        if (triangulation.getVertexCount() == 0)
+            return Circle.EMPTY;
+        if (triangulation.getTriangleCount() == 0)
+            return getLargestGap(triangulation);
+
+        Point[] hull = counterClockwise(convexHull);
+
+        // Ecken des Diagramms innerhalb der Huelle
+        double bestX = 0;
+        double bestY = 0;
+        double best = -1;
+        for (int vertex = 0; vertex < diagram.getVertexCount(); vertex++) {
+            double x = diagram.getVertexX(vertex);
+            double y = diagram.getVertexY(vertex);
+            if (!contains(hull, x, y))
+                continue;
+            int site = triangulation.getOrigin(3 * vertex);
+            double distance = distance(triangulation, site, x, y);
+            if (distance > best) {
+                best = distance;
+                bestX = x;
+                bestY = y;
+            }
+        }
+
+        // Schnittpunkte der Kanten mit dem Rand der Huelle
+        for (int e = 0; e < triangulation.getHalfEdgeCount(); e++) {
+            if (triangulation.getTwin(e) >= 0)
+                continue;
+            int from = triangulation.getOrigin(e);
+            int to = triangulation.getOrigin(Triangulation.next(e));
+            double ax = triangulation.getxPos(from);
+            double ay = triangulation.getyPos(from);
+            double dx = triangulation.getxPos(to) - ax;
+            double dy = triangulation.getyPos(to) - ay;
+            int site = from;
+            double t = 0;
+            while (true) {
+                int next = nextSite(diagram, site, ax, ay, dx, dy);
+                if (next < 0)
+                    break;
+                t = Math.max(t, crossing(triangulation, site, next, ax, ay,
+                        dx, dy));
+                if (t >= 1)
+                    break;
+                double x = ax + t * dx;
+                double y = ay + t * dy;
+                double distance = distance(triangulation, site, x, y);
+                if (distance > best) {
+                    best = distance;
+                    bestX = x;
+                    bestY = y;
+                }
+                site = next;
+            }
+        }
+        return new Circle(bestX, bestY, best);
+    }
+
+    /**
+     * Die Methode bestimmt den Nachbarn des Punktes site, der beim Ablaufen
+     * der Strecke A + t (dx, dy) als naechster zum naechstgelegenen Punkt
+     * wird. In Frage kommen nur Nachbarn, die in Laufrichtung weiter vorn
+     * liegen; daher kann das Ablaufen nicht kreisen.
+     * 
+     * @return der Nachbar; -1, falls es keinen gibt
+     */
+    private static int nextSite(VoronoiDiagram diagram, int site, double ax,
+            double ay, double dx, double dy) {
+        Triangulation triangulation = diagram.getTriangulation();
+        double ahead = dx * triangulation.getxPos(site) + dy
+                * triangulation.getyPos(site);
+        int result = -1;
+        double first = Double.POSITIVE_INFINITY;
+        for (int i = 0; i < diagram.getCellSize(site); i++) {
+            int t = diagram.getCellVertex(site, i);
+            // die beiden anderen Ecken jedes Dreiecks um den Punkt
+            for (int k = 0; k < 3; k++) {
+                int neighbor = triangulation.getOrigin(3 * t + k);
+                if (neighbor == site
+                        || dx * triangulation.getxPos(neighbor) + dy
+                                * triangulation.getyPos(neighbor) <= ahead)
+                    continue;
+                double crossing = crossing(triangulation, site, neighbor, ax,
+                        ay, dx, dy);
+                if (crossing < first) {
+                    first = crossing;
+                    result = neighbor;
+                }
+            }
+        }
+        return result;
+    }
+
+    /**
+     * Die Methode berechnet den Parameter t, bei dem die Strecke A + t (dx,
+     * dy) die Mittelsenkrechte der Punkte site und neighbor kreuzt. Die
+     * Koordinaten werden relativ zu A gerechnet.
+     */
+    private static double crossing(Triangulation triangulation, int site,
+            int neighbor, double ax, double ay, double dx, double dy) {
+        double sx = triangulation.getxPos(site) - ax;
+        double sy = triangulation.getyPos(site) - ay;
+        double qx = triangulation.getxPos(neighbor) - ax;
+        double qy = triangulation.getyPos(neighbor) - ay;
+        return (qx * qx + qy * qy - sx * sx - sy * sy)
+                / (2 * (dx * (qx - sx) + dy * (qy - sy)));
+    }
+
+    /**
+     * Die Methode prueft in O(log h), ob der Punkt in der konvexen Huelle
+     * oder auf ihrem Rand liegt. Die Huelle wird dazu in Dreiecke um ihre
+     * erste Ecke zerlegt.
+     */
+    private static boolean contains(Point[] convexHull, double x, double y) {
+        int h = convexHull.length;
+        if (h < 3)
+            return false;
+        Point origin = convexHull[0];
+        if (cross(origin, convexHull[1], x, y) < 0
+                || cross(origin, convexHull[h - 1], x, y) > 0)
+            return false;
+        // das Dreieck (origin, convexHull[lo], convexHull[lo + 1]) mit dem
+        // Punkt
+        int lo = 1;
+        int hi = h - 1;
+        while (hi - lo > 1) {
+            int mid = (lo + hi) >>> 1;
+            if (cross(origin, convexHull[mid], x, y) >= 0)
+                lo = mid;
+            else
+                hi = mid;
+        }
+        return cross(convexHull[lo], convexHull[lo + 1], x, y) >= 0;
+    }
+
+    /**
+     * Die Methode gibt die Ecken der Huelle gegen den Uhrzeigersinn zurueck;
+     * bei umgekehrtem Umlaufsinn in einer Kopie.
+     */
+    private static Point[] counterClockwise(Point[] convexHull) {
+        double area = 0;
+        for (int i = 0; i < convexHull.length; i++) {
+            Point p = convexHull[i];
+            Point q = convexHull[(i + 1) % convexHull.length];
+            area += (double) p.getxPos() * q.getyPos() - (double) q.getxPos()
+                    * p.getyPos();
+        }
+        if (area >= 0)
+            return convexHull;
+        Point[] result = new Point[convexHull.length];
+        for (int i = 0; i < result.length; i++) {
+            result[i] = convexHull[result.length - 1 - i];
+        }
+        return result;
+    }
+
+    /**
+     * Die Methode berechnet das Kreuzprodukt (b - a) x (p - a).
+     */
+    private static double cross(Point a, Point b, double x, double y) {
+        double ux = (double) b.getxPos() - a.getxPos();
+        double uy = (double) b.getyPos() - a.getyPos();
+        return ux * (y - a.getyPos()) - uy * (x - a.getxPos());
+    }
+
+    private static double distance(Triangulation triangulation, int site,
+            double x, double y) {
+        double dx = triangulation.getxPos(site) - x;
+        double dy = triangulation.getyPos(site) - y;
+        return Math.sqrt(dx * dx + dy * dy);
+    }
+
+    /**
+     * Die Methode bestimmt fuer kolineare Punkte die Mitte der groessten
+     * Luecke zwischen zwei benachbarten Punkten. Nach (x, y) sortiert liegen
+     * die Punkte in ihrer Reihenfolge auf der Geraden.
+     */
+    private static Circle getLargestGap(Triangulation triangulation) {
+        int n = triangulation.getVertexCount();
+        long[] keys = new long[n];
+        for (int v = 0; v < n; v++) {
+            keys[v] = PackedPointSet.pack(triangulation.getxPos(v),
+                    triangulation.getyPos(v));
+        }
+        PackedPointSet.sortKeys(keys, n);
+        double bestX = PackedPointSet.unpackX(keys[0]);
+        double bestY = PackedPointSet.unpackY(keys[0]);
+        double best = 0;
+        for (int i = 1; i < n; i++) {
+            double ax = PackedPointSet.unpackX(keys[i - 1]);
+            double ay = PackedPointSet.unpackY(keys[i - 1]);
+            double bx = PackedPointSet.unpackX(keys[i]);
+            double by = PackedPointSet.unpackY(keys[i]);
+            double radius = Math.sqrt((bx - ax) * (bx - ax) + (by - ay)
+                    * (by - ay)) / 2;
+            if (radius > best) {
+                best = radius;
+                bestX = (ax + bx) / 2;
+                bestY = (ay + by) / 2;
+            }
+        }
+        return new Circle(bestX, bestY, best);
+    }
+}
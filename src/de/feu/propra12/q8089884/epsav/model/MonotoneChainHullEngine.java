@@ -0,0 +1,47 @@
+/**
+ * Das Paket beinhaltet alle (abstrakten) Klassen, Interfaces und Enums,
+ * die zur Darstellung einer Punktmenge im zweidimensionalen Raum benoetigt
+ * werden.
+ */
+package de.feu.propra12.q8089884.epsav.model;
+
+/**
+ * Die Klasse berechnet die konvexe Huelle mit dem Verfahren der monotonen
+ * Kette (nach Andrew). Da die Punkte bereits nach (x, y) sortiert vorliegen,
+ * entfaellt das Sortieren; beide Ketten entstehen in einem Durchlauf in O(n).
+ * 
+ * @author Felix Wenz
+ * 
+ */
+public class MonotoneChainHullEngine extends AbstractHullEngine {
+
+    /*
+     * (non-Javadoc)
+     * 
+     * @see
+     * de.feu.propra12.q8089884.epsav.model.interfaces.IConvexHullEngine#getName
+     * ()
+     */
+    @Override
+    public String getName() {
+        return "Monotone Kette";
+    }
+
+    /*
+     * (non-Javadoc)
+     * 
+     * @see
+     * de.feu.propra12.q8089884.epsav.model.interfaces.IConvexHullEngine#
+     * computeHull(int[], int[], int)
+     */
+    @Override
+    public int[] computeHull(int[] xPositions, int[] yPositions, int n) {
+        int[] north = new int[n];
+        int[] south = new int[n];
+        int northSize = monotoneChain(xPositions, yPositions, 0, n, NORTH,
+                north, 0);
+        int southSize = monotoneChain(xPositions, yPositions, 0, n, SOUTH,
+                south, 0);
+        return toHull(north, northSize, south, southSize);
+    }
+}
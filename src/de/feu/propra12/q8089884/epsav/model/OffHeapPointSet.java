@@ -0,0 +1,532 @@
+/**
+ * Das Paket beinhaltet alle (abstrakten) Klassen, Interfaces und Enums,
+ * die zur Darstellung einer Punktmenge im zweidimensionalen Raum benoetigt
+ * werden.
+ */
+package de.feu.propra12.q8089884.epsav.model;
+
+import java.nio.ByteBuffer;
+import java.nio.ByteOrder;
+import java.nio.LongBuffer;
+import java.util.Arrays;
+
+import de.feu.propra12.q8089884.epsav.model.interfaces.IPointCursor;
+
+/**
+ * Die Klasse stellt eine sortierte Punktmenge dar, deren gepackte Schluessel
+ * (siehe PackedPointSet) ausserhalb des Java-Heaps in direkten ByteBuffern
+ * liegen. Auf dem Heap verbleibt nur das Blockverzeichnis, also ein Eintrag je
+ * BLOCK_CAPACITY Punkte; die Speicherbereinigung sieht unabhaengig von der
+ * Anzahl der Punkte nur wenige Objekte.
+ * 
+ * Die Klasse ist nicht synchronisiert.
+ * 
+ * @author Felix Wenz
+ * 
+ */
+public class OffHeapPointSet {
+
+    /**
+     * die maximale Anzahl an Schluesseln pro Block (64 KB je Block)
+     */
+    static final int BLOCK_CAPACITY = 8192;
+
+    /**
+     * die Bloecke mit den sortierten Schluesseln; kein Block ist leer
+     */
+    private LongBuffer[] blocks = new LongBuffer[4];
+
+    /**
+     * die Anzahl belegter Eintraege pro Block
+     */
+    private int[] blockSizes = new int[4];
+
+    /**
+     * die Anzahl der Bloecke
+     */
+    private int blockCount = 0;
+
+    /**
+     * die Anzahl der Punkte
+     */
+    private long size = 0;
+
+    /**
+     * Die Methode gibt die Anzahl der Punkte zurueck.
+     * 
+     * @return die Anzahl der Punkte
+     */
+    public long size() {
+        return size;
+    }
+
+    /**
+     * Die Methode gibt an, ob die Punktmenge leer ist.
+     * 
+     * @return wahr, falls die Punktmenge leer ist
+     */
+    public boolean isEmpty() {
+        return size == 0;
+    }
+
+    /**
+     * Die Methode prueft, ob ein Punkt in der Punktmenge liegt.
+     * 
+     * @param xPos
+     *            die x-Koordinate
+     * @param yPos
+     *            die y-Koordinate
+     * @return wahr, falls der Punkt in der Punktmenge liegt
+     */
+    public boolean contains(int xPos, int yPos) {
+        if (blockCount == 0)
+            return false;
+        long key = PackedPointSet.pack(xPos, yPos);
+        return indexInBlock(findBlock(key), key) >= 0;
+    }
+
+    /**
+     * Die Methode fuegt einen Punkt ein, falls dieser noch nicht enthalten
+     * ist.
+     * 
+     * @param xPos
+     *            die x-Koordinate
+     * @param yPos
+     *            die y-Koordinate
+     * @return wahr, falls der Punkt eingefuegt wurde
+     */
+    public boolean add(int xPos, int yPos) {
+        long key = PackedPointSet.pack(xPos, yPos);
+        if (blockCount == 0) {
+            insertBlock(0, allocateBlock(), 0);
+        }
+        int b = findBlock(key);
+        int pos = indexInBlock(b, key);
+        if (pos >= 0)
+            return false;
+        pos = -(pos + 1);
+
+        // vollen Block in zwei Haelften teilen
+        if (blockSizes[b] == BLOCK_CAPACITY) {
+            int half = BLOCK_CAPACITY / 2;
+            LongBuffer upper = allocateBlock();
+            LongBuffer lowerHalf = blocks[b].duplicate();
+            lowerHalf.position(half);
+            upper.put(lowerHalf);
+            blockSizes[b] = half;
+            insertBlock(b + 1, upper, BLOCK_CAPACITY - half);
+            if (pos > half) {
+                b++;
+                pos -= half;
+            }
+        }
+
+        LongBuffer block = blocks[b];
+        for (int i = blockSizes[b]; i > pos; i--) {
+            block.put(i, block.get(i - 1));
+        }
+        block.put(pos, key);
+        blockSizes[b]++;
+        size++;
+        return true;
+    }
+
+    /**
+     * Die Methode fuegt mehrere Punkte auf einmal ein. Die Schluessel werden
+     * wie in PackedPointSet.addAll() einmal sortiert und Block fuer Block mit
+     * der bestehenden Punktmenge in neue direkte Puffer verschmolzen; bei im
+     * Verhaeltnis zur Punktmenge wenigen Schluesseln werden sie einzeln
+     * eingefuegt. Das uebergebene Array wird dabei sortiert.
+     * 
+     * @param keys
+     *            die gepackten Schluessel (siehe PackedPointSet.pack());
+     *            Duplikate sind erlaubt
+     * @param n
+     *            die Anzahl der gueltigen Schluessel im Array
+     * @return die aufsteigend sortierten Schluessel, die noch nicht enthalten
+     *         waren
+     */
+    public long[] addAll(long[] keys, int n) {
+        PackedPointSet.sortKeys(keys, n);
+        long[] added = new long[n];
+        int addedCount = 0;
+
+        if ((long) n * 64 < size) {
+            for (int i = 0; i < n; i++) {
+                if ((addedCount == 0 || keys[i] != added[addedCount - 1])
+                        && add(PackedPointSet.unpackX(keys[i]),
+                                PackedPointSet.unpackY(keys[i])))
+                    added[addedCount++] = keys[i];
+            }
+            return Arrays.copyOf(added, addedCount);
+        }
+
+        // neue Bloecke zu drei Vierteln fuellen, damit nachfolgende
+        // Einfuegungen nicht sofort Bloecke teilen
+        int fill = BLOCK_CAPACITY / 4 * 3;
+        int capacity = (int) Math.max(4, (size + n) / fill + 1);
+        LongBuffer[] newBlocks = new LongBuffer[capacity];
+        int[] newSizes = new int[capacity];
+        int newBlockCount = 0;
+        LongBuffer current = null;
+        int currentSize = 0;
+
+        int b = 0;
+        int offset = 0;
+        int i = 0;
+        long last = 0;
+        boolean hasLast = false;
+        while (b < blockCount || i < n) {
+            long key;
+            boolean fresh;
+            // bei Gleichheit zuerst den vorhandenen Schluessel uebernehmen
+            if (i >= n
+                    || (b < blockCount && blocks[b].get(offset) <= keys[i])) {
+                key = blocks[b].get(offset);
+                fresh = false;
+                if (++offset == blockSizes[b]) {
+                    b++;
+                    offset = 0;
+                }
+            } else {
+                key = keys[i++];
+                fresh = true;
+            }
+            if (hasLast && key == last)
+                continue;
+            last = key;
+            hasLast = true;
+            if (fresh)
+                added[addedCount++] = key;
+
+            if (current == null || currentSize == fill) {
+                if (current != null) {
+                    newBlocks[newBlockCount] = current;
+                    newSizes[newBlockCount++] = currentSize;
+                }
+                current = allocateBlock();
+                currentSize = 0;
+            }
+            current.put(currentSize++, key);
+        }
+        if (currentSize > 0) {
+            newBlocks[newBlockCount] = current;
+            newSizes[newBlockCount++] = currentSize;
+        }
+
+        if (addedCount > 0) {
+            blocks = newBlocks;
+            blockSizes = newSizes;
+            blockCount = newBlockCount;
+            size += addedCount;
+        }
+        return Arrays.copyOf(added, addedCount);
+    }
+
+    /**
+     * Die Methode entfernt einen Punkt, falls dieser enthalten ist.
+     * 
+     * @param xPos
+     *            die x-Koordinate
+     * @param yPos
+     *            die y-Koordinate
+     * @return wahr, falls der Punkt entfernt wurde
+     */
+    public boolean remove(int xPos, int yPos) {
+        if (blockCount == 0)
+            return false;
+        long key = PackedPointSet.pack(xPos, yPos);
+        int b = findBlock(key);
+        int pos = indexInBlock(b, key);
+        if (pos < 0)
+            return false;
+
+        LongBuffer block = blocks[b];
+        int last = blockSizes[b] - 1;
+        for (int i = pos; i < last; i++) {
+            block.put(i, block.get(i + 1));
+        }
+        blockSizes[b]--;
+        size--;
+
+        if (blockSizes[b] == 0) {
+            removeBlock(b);
+        } else if (blockSizes[b] < BLOCK_CAPACITY / 4) {
+            // duenn besetzte Bloecke mit einem Nachbarn verschmelzen
+            if (b + 1 < blockCount
+                    && blockSizes[b] + blockSizes[b + 1] <= BLOCK_CAPACITY / 2)
+                mergeWithSuccessor(b);
+            else if (b > 0
+                    && blockSizes[b - 1] + blockSizes[b] <= BLOCK_CAPACITY / 2)
+                mergeWithSuccessor(b - 1);
+        }
+        return true;
+    }
+
+    /**
+     * Die Methode entfernt alle Punkte. Der Speicher der Bloecke wird mit den
+     * zugehoerigen Puffern von der Speicherbereinigung freigegeben.
+     */
+    public void clear() {
+        blocks = new LongBuffer[4];
+        blockSizes = new int[4];
+        blockCount = 0;
+        size = 0;
+    }
+
+    /**
+     * Die Methode gibt einen neuen Cursor zurueck, der die Punkte aufsteigend
+     * durchlaeuft und vor dem ersten Punkt steht.
+     * 
+     * @return der Cursor
+     */
+    public IPointCursor cursor() {
+        return new Cursor();
+    }
+
+    /**
+     * Die Methode gibt einen neuen Cursor zurueck, der vor dem Punkt mit dem
+     * uebergebenen Index (in (x, y)-Reihenfolge) steht.
+     * 
+     * @param index
+     *            der Index des ersten Punktes, den next() liefert
+     * @return der Cursor
+     */
+    public IPointCursor cursor(long index) {
+        Cursor cursor = new Cursor();
+        int b = 0;
+        long remaining = Math.max(0, index);
+        while (b < blockCount && remaining >= blockSizes[b]) {
+            remaining -= blockSizes[b];
+            b++;
+        }
+        cursor.block = b;
+        cursor.offset = (int) Math.min(remaining, BLOCK_CAPACITY) - 1;
+        return cursor;
+    }
+
+    /**
+     * Die Methode gibt einen neuen Cursor zurueck, der die Punkte absteigend
+     * durchlaeuft und vor dem letzten Punkt steht. Die Methode seek()
+     * positioniert diesen Cursor vor dem letzten Punkt, der nicht groesser
+     * als die uebergebene Position ist.
+     * 
+     * @return der Cursor
+     */
+    public IPointCursor descendingCursor() {
+        return new DescendingCursor();
+    }
+
+    /**
+     * Die Methode reserviert einen neuen Block ausserhalb des Heaps.
+     * 
+     * @return der Block
+     */
+    private static LongBuffer allocateBlock() {
+        return ByteBuffer.allocateDirect(BLOCK_CAPACITY * 8)
+                .order(ByteOrder.nativeOrder()).asLongBuffer();
+    }
+
+    /**
+     * Die Methode gibt den Index des letzten Blocks zurueck, dessen erster
+     * Schluessel nicht groesser als der uebergebene Schluessel ist (bzw. 0).
+     */
+    private int findBlock(long key) {
+        int low = 0;
+        int high = blockCount - 1;
+        while (low < high) {
+            int mid = (low + high + 1) >>> 1;
+            if (blocks[mid].get(0) <= key)
+                low = mid;
+            else
+                high = mid - 1;
+        }
+        return low;
+    }
+
+    /**
+     * Die Methode sucht einen Schluessel binaer innerhalb eines Blocks.
+     * 
+     * @return die Position des Schluessels; falls nicht vorhanden
+     *         -(Einfuegeposition + 1)
+     */
+    private int indexInBlock(int b, long key) {
+        LongBuffer block = blocks[b];
+        int low = 0;
+        int high = blockSizes[b] - 1;
+        while (low <= high) {
+            int mid = (low + high) >>> 1;
+            long midKey = block.get(mid);
+            if (midKey < key)
+                low = mid + 1;
+            else if (midKey > key)
+                high = mid - 1;
+            else
+                return mid;
+        }
+        return -(low + 1);
+    }
+
+    /**
+     * Die Methode fuegt einen Block an der angegebenen Position ein.
+     */
+    private void insertBlock(int b, LongBuffer block, int blockSize) {
+        if (blockCount == blocks.length) {
+            LongBuffer[] newBlocks = new LongBuffer[blockCount * 2];
+            int[] newSizes = new int[blockCount * 2];
+            System.arraycopy(blocks, 0, newBlocks, 0, blockCount);
+            System.arraycopy(blockSizes, 0, newSizes, 0, blockCount);
+            blocks = newBlocks;
+            blockSizes = newSizes;
+        }
+        System.arraycopy(blocks, b, blocks, b + 1, blockCount - b);
+        System.arraycopy(blockSizes, b, blockSizes, b + 1, blockCount - b);
+        blocks[b] = block;
+        blockSizes[b] = blockSize;
+        blockCount++;
+    }
+
+    /**
+     * Die Methode entfernt den Block an der angegebenen Position.
+     */
+    private void removeBlock(int b) {
+        System.arraycopy(blocks, b + 1, blocks, b, blockCount - b - 1);
+        System.arraycopy(blockSizes, b + 1, blockSizes, b, blockCount - b - 1);
+        blockCount--;
+        blocks[blockCount] = null;
+    }
+
+    /**
+     * Die Methode haengt den Nachfolgerblock an den angegebenen Block an und
+     * entfernt den Nachfolger.
+     */
+    private void mergeWithSuccessor(int b) {
+        LongBuffer target = blocks[b].duplicate();
+        target.position(blockSizes[b]);
+        LongBuffer source = blocks[b + 1].duplicate();
+        source.position(0);
+        source.limit(blockSizes[b + 1]);
+        target.put(source);
+        blockSizes[b] += blockSizes[b + 1];
+        removeBlock(b + 1);
+    }
+
+    /**
+     * Der Cursor durchlaeuft die Bloecke aufsteigend. Er ist nur gueltig,
+     * solange die Punktmenge nicht veraendert wird.
+     */
+    private class Cursor implements IPointCursor {
+
+        /**
+         * der aktuelle Block
+         */
+        private int block = 0;
+
+        /**
+         * die Position im aktuellen Block; -1 vor dem ersten Punkt
+         */
+        private int offset = -1;
+
+        /**
+         * der aktuelle Schluessel
+         */
+        private long key;
+
+        @Override
+        public boolean next() {
+            offset++;
+            while (block < blockCount && offset >= blockSizes[block]) {
+                block++;
+                offset = 0;
+            }
+            if (block >= blockCount)
+                return false;
+            key = blocks[block].get(offset);
+            return true;
+        }
+
+        @Override
+        public int getxPos() {
+            return PackedPointSet.unpackX(key);
+        }
+
+        @Override
+        public int getyPos() {
+            return PackedPointSet.unpackY(key);
+        }
+
+        @Override
+        public void seek(int xPos, int yPos) {
+            if (blockCount == 0) {
+                block = 0;
+                offset = -1;
+                return;
+            }
+            long seekKey = PackedPointSet.pack(xPos, yPos);
+            block = findBlock(seekKey);
+            int pos = indexInBlock(block, seekKey);
+            if (pos < 0)
+                pos = -(pos + 1);
+            offset = pos - 1;
+        }
+    }
+
+    /**
+     * Der Cursor durchlaeuft die Bloecke absteigend. Er ist nur gueltig,
+     * solange die Punktmenge nicht veraendert wird.
+     */
+    private class DescendingCursor implements IPointCursor {
+
+        /**
+         * der aktuelle Block
+         */
+        private int block = blockCount - 1;
+
+        /**
+         * die Position im aktuellen Block; Blockgroesse hinter dem letzten
+         * Punkt
+         */
+        private int offset = block >= 0 ? blockSizes[block] : 0;
+
+        /**
+         * der aktuelle Schluessel
+         */
+        private long key;
+
+        @Override
+        public boolean next() {
+            offset--;
+            while (block >= 0 && offset < 0) {
+                block--;
+                offset = block >= 0 ? blockSizes[block] - 1 : -1;
+            }
+            if (block < 0)
+                return false;
+            key = blocks[block].get(offset);
+            return true;
+        }
+
+        @Override
+        public int getxPos() {
+            return PackedPointSet.unpackX(key);
+        }
+
+        @Override
+        public int getyPos() {
+            return PackedPointSet.unpackY(key);
+        }
+
+        @Override
+        public void seek(int xPos, int yPos) {
+            if (blockCount == 0) {
+                block = -1;
+                return;
+            }
+            long seekKey = PackedPointSet.pack(xPos, yPos);
+            block = findBlock(seekKey);
+            int pos = indexInBlock(block, seekKey);
+            // Position hinter dem letzten Schluessel <= seekKey
+            offset = pos >= 0 ? pos + 1 : -(pos + 1);
+        }
+    }
+}
@@ -0,0 +1,1132 @@
+/**
+ * Das Paket beinhaltet alle (abstrakten) Klassen, Interfaces und Enums,
+ * die zur Darstellung einer Punktmenge im zweidimensionalen Raum benoetigt
+ * werden.
+ */
+package de.feu.propra12.q8089884.epsav.model;
+
+import java.io.*;
+import java.util.*;
+
+import de.feu.propra12.q8089884.epsav.model.interfaces.*;
+import de.feu.propra12.q8089884.epsav.util.*;
+
+/**
+ * Die Klasse stellt eine synchronisierte Punktmengenalgebra fuer sehr grosse
+ * Punktmengen dar. Die Punkte liegen sortiert ausserhalb des Java-Heaps (siehe
+ * OffHeapPointSet); konvexe Huelle, Konturpolygon und Export laufen als
+ * Durchlauf ueber die sortierten Schluessel, ohne Punktobjekte fuer die
+ * gesamte Menge zu erzeugen. Der Heapbedarf haengt damit nur von der Groesse
+ * der Ergebnisse ab, nicht von der Anzahl der Punkte.
+ * 
+ * Einzig getAllPoints() muss die Punktmenge als Punktobjekte erzeugen und
+ * sollte fuer grosse Punktmengen nicht verwendet werden.
+ * 
+ * @author Felix Wenz
+ * 
+ */
+public class OffHeapPointSetAlgebra implements IRWPointSetAlgebra,
+        IPointSetChangedSource, IFilePersistent {
+
+    /**
+     * der Startradius der Nachbarschaftssuche
+     */
+    private static final long INITIAL_SEARCH_RADIUS = 16;
+
+    /**
+     * die Punktmenge
+     */
+    private OffHeapPointSet pointSet = new OffHeapPointSet();
+
+    /**
+     * die Liste der Aenderungsbeobachter
+     */
+    private LinkedList<IPointSetChangedListener> listeners = new LinkedList<IPointSetChangedListener>();
+
+    /**
+     * wahr, falls seit der letzten Aenderung nicht gespeichert wurde
+     */
+    private boolean unsaved = false;
+
+    /**
+     * das zwischengespeicherte Konturpolygon der aktuellen Punktmenge; null,
+     * solange nicht berechnet
+     */
+    private Point[] contourPolygon = null;
+
+    /**
+     * die zwischengespeicherte konvexe Huelle der aktuellen Punktmenge; null,
+     * solange nicht berechnet
+     */
+    private Point[] convexHull = null;
+
+    /**
+     * der zwischengespeicherte kleinste umfassende Kreis der aktuellen
+     * Punktmenge; null, solange nicht berechnet
+     */
+    private Circle smallestEnclosingCircle = null;
+
+    /**
+     * die zwischengespeicherte Delaunay-Triangulation der aktuellen
+     * Punktmenge; null, solange nicht berechnet
+     */
+    private Triangulation delaunayTriangulation = null;
+
+    /**
+     * das zwischengespeicherte Voronoi-Diagramm der aktuellen Punktmenge;
+     * null, solange nicht berechnet
+     */
+    private VoronoiDiagram voronoiDiagram = null;
+
+    /**
+     * der zwischengespeicherte groesste leere Kreis der aktuellen Punktmenge;
+     * null, solange nicht berechnet
+     */
+    private Circle largestEmptyCircle = null;
+
+    /**
+     * Der Standardkonstruktor fuer eine Punktmengenalgebra. Erzeugt eine leere
+     * Punktmenge.
+     */
+    public OffHeapPointSetAlgebra() {
+
+    }
+
+    /**
+     * Konstruktor, der Punkte aus der uebergebenen Datei in die Punktmenge
+     * importiert, falls die Datei lesbar ist.
+     * 
+     * @param file
+     *            die Datei
+     * @throws IOException
+     *             wird geworfen, falls Fehler beim Lesen der Datei auftreten
+     */
+    public OffHeapPointSetAlgebra(File file) throws IOException {
+        importPointsFromFile(file);
+    }
+
+    /**
+     * Die Methode gibt die Anzahl der Punkte zurueck.
+     * 
+     * @return die Anzahl der Punkte
+     */
+    public synchronized long size() {
+        return pointSet.size();
+    }
+
+    /*
+     * (non-Javadoc)
+     * 
+     * @see
+     * de.feu.propra12.q8089884.epsav.model.interfaces.IROPointSet#getAllPoints
+     * ()
+     */
+    @Override
+    public synchronized Point[] getAllPoints() {
+        Point[] result = new Point[(int) pointSet.size()];
+        IPointCursor cursor = pointSet.cursor();
+        for (int i = 0; cursor.next(); i++) {
+            result[i] = new Point(cursor.getxPos(), cursor.getyPos());
+        }
+        return result;
+    }
+
+    /*
+     * (non-Javadoc)
+     * 
+     * @see de.feu.propra12.q8089884.epsav.model.interfaces.IROPointSet#
+     * forEachPoint(de.feu.propra12.q8089884.epsav.model.interfaces.
+     * IPointVisitor)
+     */
+    @Override
+    public synchronized void forEachPoint(IPointVisitor visitor) {
+        IPointCursor cursor = pointSet.cursor();
+        while (cursor.next()) {
+            visitor.visit(cursor.getxPos(), cursor.getyPos());
+        }
+    }
+
+    /*
+     * (non-Javadoc)
+     * 
+     * @see de.feu.propra12.q8089884.epsav.model.interfaces.IROPointSet#
+     * forEachPoint(int, int, int, int,
+     * de.feu.propra12.q8089884.epsav.model.interfaces.IPointVisitor)
+     */
+    @Override
+    public synchronized void forEachPoint(int xLowerLimit,
+            int xUpperLimit, int yLowerLimit, int yUpperLimit,
+            IPointVisitor visitor) {
+        IPointCursor cursor = new RectangleCursor(pointSet.cursor(),
+                xLowerLimit, xUpperLimit, yLowerLimit, yUpperLimit);
+        while (cursor.next()) {
+            visitor.visit(cursor.getxPos(), cursor.getyPos());
+        }
+    }
+
+    /*
+     * (non-Javadoc)
+     * 
+     * @see de.feu.propra12.q8089884.epsav.model.interfaces.IROPointSet#
+     * copyPoints(int, int[], int[])
+     */
+    @Override
+    public synchronized int copyPoints(int index, int[] xPositions,
+            int[] yPositions) {
+        int length = Math.min(xPositions.length, yPositions.length);
+        IPointCursor cursor = pointSet.cursor(index);
+        int n = 0;
+        while (n < length && cursor.next()) {
+            xPositions[n] = cursor.getxPos();
+            yPositions[n] = cursor.getyPos();
+            n++;
+        }
+        return n;
+    }
+
+    /*
+     * (non-Javadoc)
+     * 
+     * @see
+     * de.feu.propra12.q8089884.epsav.model.interfaces.IROPointSet#contains(
+     * de.feu.propra12.q8089884.epsav.util.Point)
+     */
+    @Override
+    public synchronized boolean contains(Point p) {
+        return pointSet.contains(p.getxPos(), p.getyPos());
+    }
+
+    /*
+     * (non-Javadoc)
+     * 
+     * @see
+     * de.feu.propra12.q8089884.epsav.model.interfaces.IROPointSet#contains(int,
+     * int)
+     */
+    @Override
+    public synchronized boolean contains(int xPos, int yPos) {
+        return pointSet.contains(xPos, yPos);
+    }
+
+    /*
+     * (non-Javadoc)
+     * 
+     * @see de.feu.propra12.q8089884.epsav.model.interfaces.IROPointSet#
+     * getNearestPointWithinRange (int, int, int)
+     */
+    @Override
+    public synchronized Point getNearestPointWithinRange(int xPos, int yPos,
+            int range) {
+        if (range < 0)
+            return null;
+        List<Point> candidates = collectWithinRange(xPos, yPos, range);
+        return candidates.isEmpty() ? null : sortByDistance(candidates, xPos,
+                yPos).get(0);
+    }
+
+    /*
+     * (non-Javadoc)
+     * 
+     * @see de.feu.propra12.q8089884.epsav.model.interfaces.IROPointSet#
+     * getKNearestPoints(int, int, int)
+     */
+    @Override
+    public synchronized Point[] getKNearestPoints(int xPos, int yPos, int k) {
+        if (k <= 0 || pointSet.isEmpty())
+            return new Point[0];
+        // Suchradius verdoppeln, bis mindestens k Punkte gefunden wurden;
+        // alle Punkte innerhalb des Radius sind dann bekannt
+        List<Point> candidates;
+        long range = INITIAL_SEARCH_RADIUS;
+        while (true) {
+            candidates = collectWithinRange(xPos, yPos, range);
+            if (candidates.size() >= k || candidates.size() == pointSet.size()
+                    || range > 1L << 33)
+                break;
+            range *= 2;
+        }
+        sortByDistance(candidates, xPos, yPos);
+        return candidates.subList(0, Math.min(k, candidates.size())).toArray(
+                new Point[0]);
+    }
+
+    /*
+     * (non-Javadoc)
+     * 
+     * @see de.feu.propra12.q8089884.epsav.model.interfaces.IROPointSet#
+     * getKNearestPoints(int[], int[], int)
+     */
+    @Override
+    public synchronized Point[][] getKNearestPoints(int[] xPositions,
+            int[] yPositions, int k) {
+        Point[][] result = new Point[xPositions.length][];
+        for (int i = 0; i < result.length; i++) {
+            result[i] = getKNearestPoints(xPositions[i], yPositions[i], k);
+        }
+        return result;
+    }
+
+    /*
+     * (non-Javadoc)
+     * 
+     * @see de.feu.propra12.q8089884.epsav.model.interfaces.IROPointSet#
+     * getPointsWithinRadius(int, int, double)
+     */
+    @Override
+    public synchronized Point[] getPointsWithinRadius(int xPos, int yPos,
+            double radius) {
+        if (radius < 0)
+            return new Point[0];
+        long range = radius >= 1L << 33 ? 1L << 33 : (long) Math.ceil(radius);
+        List<Point> candidates = collectWithinRange(xPos, yPos, range);
+        // Punkte zwischen reellem und aufgerundetem Radius verwerfen
+        double r2 = radius * radius;
+        for (Iterator<Point> iterator = candidates.iterator(); iterator
+                .hasNext();) {
+            if (distance2(iterator.next(), xPos, yPos) > r2)
+                iterator.remove();
+        }
+        return sortByDistance(candidates, xPos, yPos).toArray(new Point[0]);
+    }
+
+    /*
+     * (non-Javadoc)
+     * 
+     * @see de.feu.propra12.q8089884.epsav.model.interfaces.IROPointSet#
+     * getPointsWithinRadius(int[], int[], double)
+     */
+    @Override
+    public synchronized Point[][] getPointsWithinRadius(int[] xPositions,
+            int[] yPositions, double radius) {
+        Point[][] result = new Point[xPositions.length][];
+        for (int i = 0; i < result.length; i++) {
+            result[i] = getPointsWithinRadius(xPositions[i], yPositions[i],
+                    radius);
+        }
+        return result;
+    }
+
+    /**
+     * Die Methode sammelt alle Punkte, deren Abstand zur uebergebenen Position
+     * hoechstens range betraegt. Dazu werden nur die Spalten des umgebenden
+     * Quadrats besucht, die Punkte enthalten (siehe RectangleCursor).
+     * 
+     * @param xPos
+     *            die x-Koordinate
+     * @param yPos
+     *            die y-Koordinate
+     * @param range
+     *            der Suchradius
+     * @return die Punkte in (x, y)-Reihenfolge
+     */
+    private List<Point> collectWithinRange(int xPos, int yPos, long range) {
+        List<Point> result = new ArrayList<Point>();
+        int xMin = clamp(xPos - range);
+        int xMax = clamp(xPos + range);
+        int yMin = clamp(yPos - range);
+        int yMax = clamp(yPos + range);
+        long maxDist2 = range * range;
+
+        IPointCursor cursor = new RectangleCursor(pointSet.cursor(), xMin,
+                xMax, yMin, yMax);
+        while (cursor.next()) {
+            int x = cursor.getxPos();
+            int y = cursor.getyPos();
+            long dx = (long) x - xPos;
+            long dy = (long) y - yPos;
+            if (dx * dx + dy * dy <= maxDist2)
+                result.add(new Point(x, y));
+        }
+        return result;
+    }
+
+    /**
+     * Die Methode begrenzt einen Wert auf den Wertebereich von int.
+     */
+    private static int clamp(long value) {
+        return (int) Math.max(Integer.MIN_VALUE,
+                Math.min(Integer.MAX_VALUE, value));
+    }
+
+    /**
+     * Die Methode berechnet den quadrierten Abstand eines Punktes zu einer
+     * Position.
+     */
+    private static long distance2(Point p, int xPos, int yPos) {
+        long dx = (long) p.getxPos() - xPos;
+        long dy = (long) p.getyPos() - yPos;
+        return dx * dx + dy * dy;
+    }
+
+    /**
+     * Die Methode sortiert Punkte aufsteigend nach ihrem Abstand zu einer
+     * Position, bei gleichem Abstand in (x, y)-Reihenfolge.
+     * 
+     * @return die sortierte Liste
+     */
+    private static List<Point> sortByDistance(List<Point> points,
+            final int xPos, final int yPos) {
+        Collections.sort(points, new Comparator<Point>() {
+            @Override
+            public int compare(Point p, Point q) {
+                long dp = distance2(p, xPos, yPos);
+                long dq = distance2(q, xPos, yPos);
+                if (dp != dq)
+                    return dp < dq ? -1 : 1;
+                return p.compareTo(q);
+            }
+        });
+        return points;
+    }
+
+    /*
+     * (non-Javadoc)
+     * 
+     * @see
+     * de.feu.propra12.q8089884.epsav.model.interfaces.IROPointSet#isEmpty()
+     */
+    @Override
+    public synchronized boolean isEmpty() {
+        return pointSet.isEmpty();
+    }
+
+    /*
+     * (non-Javadoc)
+     * 
+     * @see
+     * de.feu.propra12.q8089884.epsav.model.interfaces.IConvexHullCalculator
+     * #getContourPolygon()
+     */
+    @Override
+    public synchronized Point[] getContourPolygon() {
+        if (contourPolygon == null)
+            contourPolygon = computeContourPolygon();
+        return contourPolygon.clone();
+    }
+
+    /*
+     * (non-Javadoc)
+     * 
+     * @see
+     * de.feu.propra12.q8089884.epsav.model.interfaces.IConvexHullCalculator
+     * #getContourPolygon(de.feu.propra12.q8089884.epsav.util.PointBuffer)
+     */
+    @Override
+    public synchronized void getContourPolygon(PointBuffer result) {
+        if (contourPolygon == null)
+            contourPolygon = computeContourPolygon();
+        result.clear();
+        result.addAll(contourPolygon);
+    }
+
+    /**
+     * Die Methode berechnet das Konturpolygon der aktuellen Punktmenge.
+     * 
+     * @return die Punkte des Konturpolygons
+     */
+    private Point[] computeContourPolygon() {
+        long n = pointSet.size();
+        // wie in SynchronizedCompletePointSetAlgebra werden bis zu drei
+        // Punkte unveraendert zurueckgegeben
+        if (n <= 3)
+            return getAllPoints();
+
+        // Konturabschnitt Westen-Norden-Osten und Westen-Sueden-Osten
+        TreeSet<Point> wno = new TreeSet<Point>();
+        TreeSet<Point> wso = new TreeSet<Point>();
+
+        // "Faden" von links an die Punktmenge "pusten"; der erste Punkt
+        // gehoert zum noerdlichen Abschnitt, der letzte wird ausgelassen
+        IPointCursor cursor = pointSet.cursor();
+        cursor.next();
+        Point first = new Point(cursor.getxPos(), cursor.getyPos());
+        wno.add(first);
+        int minY = first.getyPos();
+        int maxY = first.getyPos();
+        for (long i = 1; i < n - 1 && cursor.next(); i++) {
+            int y = cursor.getyPos();
+            if (y < minY) {
+                minY = y;
+                wno.add(new Point(cursor.getxPos(), y));
+            }
+            if (y > maxY) {
+                maxY = y;
+                wso.add(new Point(cursor.getxPos(), y));
+            }
+        }
+
+        // "Faden" von rechts; der letzte Punkt gehoert zum suedlichen
+        // Abschnitt, der erste wird ausgelassen
+        cursor = pointSet.descendingCursor();
+        cursor.next();
+        Point last = new Point(cursor.getxPos(), cursor.getyPos());
+        wso.add(last);
+        minY = last.getyPos();
+        maxY = last.getyPos();
+        for (long i = 1; i < n - 1 && cursor.next(); i++) {
+            int y = cursor.getyPos();
+            if (y < minY) {
+                minY = y;
+                wno.add(new Point(cursor.getxPos(), y));
+            }
+            if (y > maxY) {
+                maxY = y;
+                wso.add(new Point(cursor.getxPos(), y));
+            }
+        }
+
+        // oberen und unteren Teil aneinander haengen; kein Punkt doppelt
+        LinkedHashSet<Point> result = new LinkedHashSet<Point>(wno);
+        result.addAll(wso.descendingSet());
+        return result.toArray(new Point[0]);
+    }
+
+    /*
+     * (non-Javadoc)
+     * 
+     * @see
+     * de.feu.propra12.q8089884.epsav.model.interfaces.IConvexHullCalculator
+     * #getConvexHull()
+     */
+    @Override
+    public synchronized Point[] getConvexHull() {
+        if (convexHull == null)
+            convexHull = computeConvexHull();
+        return convexHull.clone();
+    }
+
+    /*
+     * (non-Javadoc)
+     * 
+     * @see
+     * de.feu.propra12.q8089884.epsav.model.interfaces.IConvexHullCalculator
+     * #getConvexHull(de.feu.propra12.q8089884.epsav.util.PointBuffer)
+     */
+    @Override
+    public synchronized void getConvexHull(PointBuffer result) {
+        if (convexHull == null)
+            convexHull = computeConvexHull();
+        result.clear();
+        result.addAll(convexHull);
+    }
+
+    /**
+     * Die Methode berechnet die konvexe Huelle der aktuellen Punktmenge.
+     * 
+     * @return die Punkte der konvexen Huelle
+     */
+    private Point[] computeConvexHull() {
+        // wie in SynchronizedCompletePointSetAlgebra werden bis zu drei
+        // Punkte unveraendert zurueckgegeben, auch kollineare
+        if (pointSet.size() <= 3)
+            return getAllPoints();
+
+        // monotone Kette in einem Durchlauf: noerdliche Kette (kleine y) und
+        // suedliche Kette werden gleichzeitig aufgebaut
+        IntStack north = new IntStack();
+        IntStack south = new IntStack();
+        IPointCursor cursor = pointSet.cursor();
+        while (cursor.next()) {
+            int x = cursor.getxPos();
+            int y = cursor.getyPos();
+            while (north.size() >= 2 && north.orient(x, y) <= 0)
+                north.pop();
+            north.push(x, y);
+            while (south.size() >= 2 && south.orient(x, y) >= 0)
+                south.pop();
+            south.push(x, y);
+        }
+
+        // noerdliche Kette von West nach Ost, dann suedliche Kette von Ost
+        // nach West ohne die gemeinsamen Endpunkte
+        int n = north.size();
+        int s = south.size();
+        int count = n + Math.max(0, s - 2);
+        Point[] result = new Point[count];
+        for (int i = 0; i < n; i++) {
+            result[i] = new Point(north.x(i), north.y(i));
+        }
+        for (int i = s - 2; i >= 1; i--) {
+            result[n + s - 2 - i] = new Point(south.x(i), south.y(i));
+        }
+        return result;
+    }
+
+    /*
+     * (non-Javadoc)
+     * 
+     * @see
+     * de.feu.propra12.q8089884.epsav.model.interfaces.IConvexHullCalculator
+     * #getConvexHull(int)
+     */
+    @Override
+    public synchronized Point[] getConvexHull(int parallelism) {
+        if (parallelism <= 1 || convexHull != null)
+            return getConvexHull();
+        convexHull = ParallelConvexHullCalculator.getConvexHull(pointSet,
+                parallelism);
+        return convexHull.clone();
+    }
+
+    /*
+     * (non-Javadoc)
+     * 
+     * @see
+     * de.feu.propra12.q8089884.epsav.model.interfaces.IConvexHullCalculator
+     * #getConvexHull
+     * (de.feu.propra12.q8089884.epsav.model.interfaces.IConvexHullEngine)
+     */
+    @Override
+    public Point[] getConvexHull(IConvexHullEngine engine) {
+        int[] xs;
+        int[] ys;
+        synchronized (this) {
+            xs = new int[(int) pointSet.size()];
+            ys = new int[xs.length];
+            copyPoints(0, xs, ys);
+        }
+        return ContourPolygonHullCalculator.getConvexHull(xs, ys, xs.length,
+                engine);
+    }
+
+    /*
+     * (non-Javadoc)
+     * 
+     * @see de.feu.propra12.q8089884.epsav.model.interfaces.
+     * ISmallestEnclosingCircleCalculator#getCenterPointX()
+     */
+    @Override
+    public synchronized double getSECCenterPointX() {
+        return getSmallestEnclosingCircle().getCenterX();
+    }
+
+    /*
+     * (non-Javadoc)
+     * 
+     * @see de.feu.propra12.q8089884.epsav.model.interfaces.
+     * ISmallestEnclosingCircleCalculator#getCenterPointY()
+     */
+    @Override
+    public synchronized double getSECCenterPointY() {
+        return getSmallestEnclosingCircle().getCenterY();
+    }
+
+    /*
+     * (non-Javadoc)
+     * 
+     * @see de.feu.propra12.q8089884.epsav.model.interfaces.
+     * ISmallestEnclosingCircleCalculator#getRadius()
+     */
+    @Override
+    public synchronized double getSECRadius() {
+        return getSmallestEnclosingCircle().getRadius();
+    }
+
+    /**
+     * Die Methode gibt den zwischengespeicherten kleinsten umfassenden Kreis
+     * der aktuellen Punktmenge zurueck.
+     * 
+     * @return der kleinste umfassende Kreis
+     */
+    private synchronized Circle getSmallestEnclosingCircle() {
+        if (smallestEnclosingCircle == null) {
+            if (convexHull == null)
+                convexHull = computeConvexHull();
+            smallestEnclosingCircle = WelzlCircleCalculator
+                    .getSmallestEnclosingCircle(convexHull);
+        }
+        return smallestEnclosingCircle;
+    }
+
+    /*
+     * (non-Javadoc)
+     * 
+     * @see de.feu.propra12.q8089884.epsav.model.interfaces.
+     * ITriangulationCalculator#getDelaunayTriangulation()
+     */
+    @Override
+    public synchronized Triangulation getDelaunayTriangulation() {
+        if (delaunayTriangulation == null) {
+            int n = (int) pointSet.size();
+            int[] xs = new int[n];
+            int[] ys = new int[n];
+            copyPoints(0, xs, ys);
+            delaunayTriangulation = DelaunayTriangulator.triangulate(xs, ys,
+                    n);
+        }
+        return delaunayTriangulation;
+    }
+
+    /*
+     * (non-Javadoc)
+     * 
+     * @see de.feu.propra12.q8089884.epsav.model.interfaces.
+     * IVoronoiDiagramCalculator#getVoronoiDiagram()
+     */
+    @Override
+    public synchronized VoronoiDiagram getVoronoiDiagram() {
+        if (voronoiDiagram == null)
+            voronoiDiagram = new VoronoiDiagram(getDelaunayTriangulation());
+        return voronoiDiagram;
+    }
+
+    /*
+     * (non-Javadoc)
+     * 
+     * @see de.feu.propra12.q8089884.epsav.model.interfaces.
+     * IVoronoiDiagramCalculator#getLargestEmptyCircle()
+     */
+    @Override
+    public synchronized Circle getLargestEmptyCircle() {
+        if (largestEmptyCircle == null) {
+            if (convexHull == null)
+                convexHull = computeConvexHull();
+            largestEmptyCircle = LargestEmptyCircleCalculator
+                    .getLargestEmptyCircle(getVoronoiDiagram(), convexHull);
+        }
+        return largestEmptyCircle;
+    }
+
+    /*
+     * (non-Javadoc)
+     * 
+     * @see
+     * de.feu.propra12.q8089884.epsav.model.interfaces.IRWPointSet#addPoint(
+     * de.feu.propra12.q8089884.epsav.util.Point)
+     */
+    @Override
+    public synchronized void addPoint(Point p) {
+        pointSet.add(p.getxPos(), p.getyPos());
+        unsaved = true;
+        fireChangedEvent(new PointSetChangedEvent(this,
+                EPointSetChangedMode.POINT_ADDED));
+    }
+
+    /*
+     * (non-Javadoc)
+     * 
+     * @see
+     * de.feu.propra12.q8089884.epsav.model.interfaces.IRWPointSet#addPoint(int,
+     * int)
+     */
+    @Override
+    public synchronized void addPoint(int xPos, int yPos) {
+        addPoint(new Point(xPos, yPos));
+    }
+
+    /*
+     * (non-Javadoc)
+     * 
+     * @see
+     * de.feu.propra12.q8089884.epsav.model.interfaces.IRWPointSet#addPoints
+     * (de.feu.propra12. q8089884.epsav.util.Point[])
+     */
+    @Override
+    public synchronized void addPoints(Point[] points) {
+        long[] keys = new long[points.length];
+        for (int i = 0; i < points.length; i++) {
+            keys[i] = PackedPointSet.pack(points[i].getxPos(),
+                    points[i].getyPos());
+        }
+        if (pointSet.addAll(keys, keys.length).length > 0)
+            firePointsAdded();
+    }
+
+    /*
+     * (non-Javadoc)
+     * 
+     * @see
+     * de.feu.propra12.q8089884.epsav.model.interfaces.IRWPointSet#addPoints
+     * (int[], int[])
+     */
+    @Override
+    public synchronized void addPoints(int[] xPositions, int[] yPositions) {
+        long[] keys = new long[xPositions.length];
+        for (int i = 0; i < xPositions.length; i++) {
+            keys[i] = PackedPointSet.pack(xPositions[i], yPositions[i]);
+        }
+        if (pointSet.addAll(keys, keys.length).length > 0)
+            firePointsAdded();
+    }
+
+    /**
+     * Die Methode informiert die Beobachter einmal ueber mehrere eingefuegte
+     * Punkte.
+     */
+    private void firePointsAdded() {
+        unsaved = true;
+        fireChangedEvent(new PointSetChangedEvent(this,
+                EPointSetChangedMode.POINTS_ADDED));
+    }
+
+    /*
+     * (non-Javadoc)
+     * 
+     * @see
+     * de.feu.propra12.q8089884.epsav.model.interfaces.IRWPointSet#addRandomPoints
+     * (int, int, int, int, int)
+     */
+    @Override
+    public synchronized int addRandomPoints(int numberOfPoints,
+            int xLowerLimit, int xUpperLimit, int yLowerLimit, int yUpperLimit) {
+        return addRandomPoints(numberOfPoints, xLowerLimit, xUpperLimit,
+                yLowerLimit, yUpperLimit, new Random());
+    }
+
+    /*
+     * (non-Javadoc)
+     * 
+     * @see
+     * de.feu.propra12.q8089884.epsav.model.interfaces.IRWPointSet#addRandomPoints
+     * (int, int, int, int, int, long)
+     */
+    @Override
+    public synchronized int addRandomPoints(int numberOfPoints,
+            int xLowerLimit, int xUpperLimit, int yLowerLimit,
+            int yUpperLimit, long seed) {
+        return addRandomPoints(numberOfPoints, xLowerLimit, xUpperLimit,
+                yLowerLimit, yUpperLimit, new Random(seed));
+    }
+
+    /**
+     * Die Methode zieht die angegebene Anzahl freier Positionen ohne
+     * Verwerfen (siehe RandomPointSampler) und fuegt sie ein.
+     * 
+     * @return die Anzahl der hinzugefuegten Punkte
+     */
+    private int addRandomPoints(int numberOfPoints, int xLowerLimit,
+            int xUpperLimit, int yLowerLimit, int yUpperLimit, Random random) {
+        long[] keys = RandomPointSampler.sample(pointSet.cursor(),
+                numberOfPoints, xLowerLimit, xUpperLimit, yLowerLimit,
+                yUpperLimit, random);
+        pointSet.addAll(keys, keys.length);
+        if (keys.length > 0)
+            firePointsAdded();
+        return keys.length;
+    }
+
+    /*
+     * (non-Javadoc)
+     * 
+     * @see
+     * de.feu.propra12.q8089884.epsav.model.interfaces.IRWPointSet#movePoint
+     * (de.feu.propra12.q8089884.epsav.util.Point,
+     * de.feu.propra12.q8089884.epsav.util.Point)
+     */
+    @Override
+    public synchronized void movePoint(Point p, Point np)
+            throws PointSetException {
+        if (contains(p) && !contains(np)) {
+            pointSet.remove(p.getxPos(), p.getyPos());
+            pointSet.add(np.getxPos(), np.getyPos());
+            unsaved = true;
+            fireChangedEvent(new PointSetChangedEvent(this,
+                    EPointSetChangedMode.POINT_MOVED));
+        } else
+            throw new PointSetException(
+                    "Der übergebene Punkt liegt nicht in der Punktmenge!");
+    }
+
+    /*
+     * (non-Javadoc)
+     * 
+     * @see
+     * de.feu.propra12.q8089884.epsav.model.interfaces.IRWPointSet#movePoint
+     * (de.feu.propra12. q8089884.epsav.util.Point, int, int)
+     */
+    @Override
+    public synchronized void movePoint(Point p, int xPos, int yPos)
+            throws PointSetException {
+        movePoint(p, new Point(xPos, yPos));
+    }
+
+    /*
+     * (non-Javadoc)
+     * 
+     * @see
+     * de.feu.propra12.q8089884.epsav.model.interfaces.IRWPointSet#movePoint
+     * (int, int, int, int)
+     */
+    @Override
+    public synchronized void movePoint(int xPos, int yPos, int newXPos,
+            int newYPos) throws PointSetException {
+        movePoint(new Point(xPos, yPos), newXPos, newYPos);
+    }
+
+    /*
+     * (non-Javadoc)
+     * 
+     * @see
+     * de.feu.propra12.q8089884.epsav.model.interfaces.IRWPointSet#removePoint
+     * (de.feu.propra12 .q8089884.epsav.util.Point)
+     */
+    @Override
+    public synchronized void removePoint(Point p) throws PointSetException {
+        if (p != null && pointSet.remove(p.getxPos(), p.getyPos())) {
+            unsaved = true;
+            fireChangedEvent(new PointSetChangedEvent(this,
+                    EPointSetChangedMode.POINT_REMOVED));
+        } else
+            throw new PointSetException(
+                    "Der übergebene Punkt liegt nicht in der Punktmenge!");
+    }
+
+    /*
+     * (non-Javadoc)
+     * 
+     * @see
+     * de.feu.propra12.q8089884.epsav.model.interfaces.IRWPointSet#removePoint
+     * (int, int)
+     */
+    @Override
+    public synchronized void removePoint(int xPos, int yPos)
+            throws PointSetException {
+        removePoint(new Point(xPos, yPos));
+    }
+
+    /*
+     * (non-Javadoc)
+     * 
+     * @see de.feu.propra12.q8089884.epsav.model.interfaces.IRWPointSet#clear()
+     */
+    @Override
+    public synchronized void clear() {
+        pointSet.clear();
+        unsaved = false;
+        fireChangedEvent(new PointSetChangedEvent(this,
+                EPointSetChangedMode.POINTSET_CLEARED));
+    }
+
+    /*
+     * (non-Javadoc)
+     * 
+     * @see de.feu.propra12.q8089884.epsav.model.interfaces.IFilePersistent#
+     * hasUnsavedChanges()
+     */
+    @Override
+    public boolean hasUnsavedChanges() {
+        return unsaved;
+    }
+
+    /*
+     * (non-Javadoc)
+     * 
+     * @see
+     * de.feu.propra12.q8089884.epsav.model.interfaces.IFilePersistentPointSet
+     * #importPointsFromFile (java.io.File)
+     */
+    @Override
+    public void importPointsFromFile(File file) throws IOException {
+        try {
+            InputStream in = new FileInputStream(file);
+            try {
+                importPointsFromStream(in);
+            } finally {
+                in.close();
+            }
+        } catch (FileNotFoundException e) {
+            System.out.println("Fehler beim Lesen der Datei!");
+        }
+    }
+
+    /*
+     * (non-Javadoc)
+     * 
+     * @see de.feu.propra12.q8089884.epsav.model.interfaces.IFilePersistent#
+     * importPointsFromStream(java.io.InputStream)
+     */
+    @Override
+    public void importPointsFromStream(InputStream in) throws IOException {
+        // zuerst alle Zeilen ohne Sperre lesen, dann die Punkte in einem
+        // Durchgang einfuegen und die Beobachter nur einmal informieren
+        long[] keys = new long[1024];
+        int n = 0;
+        try {
+            BufferedReader reader = new BufferedReader(new InputStreamReader(
+                    in, "Cp1252"));
+            String line = reader.readLine();
+            while (line != null) {
+                try {
+                    Point p = Point.parsePoint(line);
+                    if (n == keys.length)
+                        keys = Arrays.copyOf(keys, n * 2);
+                    keys[n++] = PackedPointSet.pack(p.getxPos(), p.getyPos());
+                } catch (PointFormatException e) {
+                    System.out.println("Die Zeile '" + line
+                            + "' weist kein gueltiges Punktformat auf!");
+                }
+                line = reader.readLine();
+            }
+        } catch (Exception e) {
+            System.out.println("Fehler beim Lesen der Datei!");
+        }
+        synchronized (this) {
+            pointSet.addAll(keys, n);
+            unsaved = false;
+            fireChangedEvent(new PointSetChangedEvent(this,
+                    EPointSetChangedMode.POINTS_ADDED));
+        }
+    }
+
+    /*
+     * (non-Javadoc)
+     * 
+     * @see
+     * de.feu.propra12.q8089884.epsav.model.interfaces.IFilePersistentPointSet
+     * #importPointsFromFile (java.lang.String)
+     */
+    @Override
+    public void importPointsFromFile(String filename) throws IOException {
+        importPointsFromFile(new File(filename));
+    }
+
+    /*
+     * (non-Javadoc)
+     * 
+     * @see
+     * de.feu.propra12.q8089884.epsav.model.interfaces.IFilePersistentPointSet
+     * #exportToFile(java .io.File)
+     */
+    @Override
+    public synchronized void exportToFile(File file) throws IOException {
+        // Punkte direkt aus dem Cursor schreiben, ohne die gesamte Menge als
+        // Zeichenkette aufzubauen
+        try {
+            BufferedWriter writer = new BufferedWriter(new OutputStreamWriter(
+                    new FileOutputStream(file), "Cp1252"));
+            try {
+                IPointCursor cursor = pointSet.cursor();
+                while (cursor.next()) {
+                    writer.write(Integer.toString(cursor.getxPos()));
+                    writer.write(' ');
+                    writer.write(Integer.toString(cursor.getyPos()));
+                    writer.write('\n');
+                }
+            } finally {
+                writer.close();
+            }
+        } catch (Exception e) {
+            System.out.println("Fehler beim Schreiben der Datei!");
+        }
+        unsaved = false;
+    }
+
+    /*
+     * (non-Javadoc)
+     * 
+     * @see
+     * de.feu.propra12.q8089884.epsav.model.interfaces.IFilePersistentPointSet
+     * #exportToFile(java .lang.String)
+     */
+    @Override
+    public synchronized void exportToFile(String filename) throws IOException {
+        exportToFile(new File(filename));
+    }
+
+    /*
+     * (non-Javadoc)
+     * 
+     * @see
+     * de.feu.propra12.q8089884.epsav.model.interfaces.IPointSetChangeEventSource
+     * # addPointSetChangeEventListener
+     * (de.feu.propra12.q8089884.epsav.model.interfaces
+     * .IPointSetChangeEventListener)
+     */
+    @Override
+    public synchronized void addPointSetChangedListener(
+            IPointSetChangedListener l) {
+        listeners.add(l);
+    }
+
+    /*
+     * (non-Javadoc)
+     * 
+     * @see
+     * de.feu.propra12.q8089884.epsav.model.interfaces.IPointSetChangeEventSource
+     * # removePointSetChangeEventListener
+     * (de.feu.propra12.q8089884.epsav.model.
+     * interfaces.IPointSetChangeEventListener)
+     */
+    @Override
+    public synchronized void removePointSetChangedListener(
+            IPointSetChangedListener l) {
+        listeners.remove(l);
+    }
+
+    /**
+     * Die Methode verwirft die zwischengespeicherten Koerper und informiert
+     * alle Beobachter ueber das Aenderungsereignis. Alle Aenderungen der
+     * Punktmenge enden hier, noch innerhalb derselben Sperre; ein Leser sieht
+     * daher nie Koerper verschiedener Versionen.
+     * 
+     * @param e
+     *            das Aenderungsereignis
+     */
+    private synchronized void fireChangedEvent(PointSetChangedEvent e) {
+        contourPolygon = null;
+        convexHull = null;
+        smallestEnclosingCircle = null;
+        delaunayTriangulation = null;
+        voronoiDiagram = null;
+        largestEmptyCircle = null;
+        for (IPointSetChangedListener l : listeners) {
+            l.firePointSetChangedEvent(e);
+        }
+    }
+
+    /**
+     * Ein Stapel von Koordinatenpaaren fuer die Ketten der konvexen Huelle.
+     */
+    private static class IntStack {
+
+        /**
+         * die x-Koordinaten
+         */
+        private int[] xs = new int[16];
+
+        /**
+         * die y-Koordinaten
+         */
+        private int[] ys = new int[16];
+
+        /**
+         * die Anzahl der Eintraege
+         */
+        private int size = 0;
+
+        private int size() {
+            return size;
+        }
+
+        private int x(int i) {
+            return xs[i];
+        }
+
+        private int y(int i) {
+            return ys[i];
+        }
+
+        private void push(int x, int y) {
+            if (size == xs.length) {
+                xs = Arrays.copyOf(xs, size * 2);
+                ys = Arrays.copyOf(ys, size * 2);
+            }
+            xs[size] = x;
+            ys[size] = y;
+            size++;
+        }
+
+        private void pop() {
+            size--;
+        }
+
+        /**
+         * Die Methode bestimmt die Orientierung der beiden obersten Eintraege
+         * und des uebergebenen Punktes.
+         */
+        private int orient(int x, int y) {
+            return GeometricPredicates.orient2d(xs[size - 2], ys[size - 2],
+                    xs[size - 1], ys[size - 1], x, y);
+        }
+    }
+}
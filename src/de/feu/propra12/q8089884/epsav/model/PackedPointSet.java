@@ -0,0 +1,664 @@
+/**
+ * Das Paket beinhaltet alle (abstrakten) Klassen, Interfaces und Enums,
+ * die zur Darstellung einer Punktmenge im zweidimensionalen Raum benoetigt
+ * werden.
+ */
+package de.feu.propra12.q8089884.epsav.model;
+
+import java.util.Arrays;
+import java.util.concurrent.atomic.AtomicLong;
+
+import de.feu.propra12.q8089884.epsav.model.interfaces.IPointCursor;
+
+/**
+ * Die Klasse stellt eine sortierte Punktmenge dar, die ihre Punkte nicht als
+ * Objekte, sondern als gepackte long-Schluessel speichert (x in den oberen, y
+ * in den unteren 32 Bit). Die Schluessel sind so kodiert, dass ihre
+ * vorzeichenbehaftete Ordnung genau der (x, y)-Ordnung von Point.compareTo
+ * entspricht.
+ * 
+ * Die Schluessel liegen in sortierten Bloecken von hoechstens BLOCK_CAPACITY
+ * Elementen. Suchen kosten O(log n), Einfuegen und Entfernen O(log n) plus das
+ * Verschieben innerhalb eines Blocks. Volle Bloecke werden in der Mitte
+ * geteilt, am Rand der Punktmenge aber an der Einfuegeposition; Bloecke, die
+ * beim Entfernen unter die halbe Kapazitaet fallen, werden mit einem Nachbarn
+ * verschmolzen oder ausgeglichen. Ausser am Rand ist so jeder Block
+ * mindestens halb gefuellt, und pro Punkt werden hoechstens etwa 16 Byte
+ * benoetigt. Gemessen mit einer Million Punkten sind es etwa 8 Byte bei auf-
+ * oder absteigendem Einfuegen, 11 Byte bei zufaelliger Reihenfolge und 10,7
+ * Byte nach addAll(). Das Durchlaufen mittels Cursor erzeugt keine Objekte.
+ * 
+ * Kopien (siehe copy()) teilen sich die Bloecke mit dem Original; ein Block
+ * wird erst kopiert, wenn eine der beiden Mengen ihn veraendert
+ * (copy-on-write).
+ * 
+ * Die Klasse ist nicht synchronisiert.
+ * 
+ * @author Felix Wenz
+ * 
+ */
+public class PackedPointSet {
+
+    /**
+     * die maximale Anzahl an Schluesseln pro Block
+     */
+    static final int BLOCK_CAPACITY = 1024;
+
+    /**
+     * Quelle fuer eindeutige Besitzerkennungen von Bloecken
+     */
+    private static final AtomicLong EPOCHS = new AtomicLong();
+
+    /**
+     * die Bloecke mit den sortierten Schluesseln; kein Block ist leer
+     */
+    private long[][] blocks = new long[4][];
+
+    /**
+     * die Anzahl belegter Eintraege pro Block
+     */
+    private int[] blockSizes = new int[4];
+
+    /**
+     * die Besitzerkennung pro Block; nur Bloecke mit der eigenen Kennung
+     * duerfen ohne Kopie veraendert werden
+     */
+    private long[] blockEpochs = new long[4];
+
+    /**
+     * die eigene Besitzerkennung
+     */
+    private long epoch = EPOCHS.incrementAndGet();
+
+    /**
+     * die Anzahl der Bloecke
+     */
+    private int blockCount = 0;
+
+    /**
+     * die Anzahl der Punkte
+     */
+    private int size = 0;
+
+    /**
+     * Die Methode packt die Koordinaten eines Punktes in einen Schluessel. Das
+     * Vorzeichenbit der y-Koordinate wird gekippt, damit die Ordnung auch fuer
+     * negative y-Koordinaten erhalten bleibt.
+     * 
+     * @param xPos
+     *            die x-Koordinate
+     * @param yPos
+     *            die y-Koordinate
+     * @return der Schluessel
+     */
+    public static long pack(int xPos, int yPos) {
+        return ((long) xPos << 32) | ((yPos ^ 0x80000000) & 0xFFFFFFFFL);
+    }
+
+    /**
+     * Die Methode gibt die x-Koordinate eines Schluessels zurueck.
+     * 
+     * @param key
+     *            der Schluessel
+     * @return die x-Koordinate
+     */
+    public static int unpackX(long key) {
+        return (int) (key >> 32);
+    }
+
+    /**
+     * Die Methode gibt die y-Koordinate eines Schluessels zurueck.
+     * 
+     * @param key
+     *            der Schluessel
+     * @return die y-Koordinate
+     */
+    public static int unpackY(long key) {
+        return ((int) key) ^ 0x80000000;
+    }
+
+    /**
+     * Die Methode gibt die Anzahl der Punkte zurueck.
+     * 
+     * @return die Anzahl der Punkte
+     */
+    public int size() {
+        return size;
+    }
+
+    /**
+     * Die Methode gibt an, ob die Punktmenge leer ist.
+     * 
+     * @return wahr, falls die Punktmenge leer ist
+     */
+    public boolean isEmpty() {
+        return size == 0;
+    }
+
+    /**
+     * Die Methode prueft, ob ein Punkt in der Punktmenge liegt.
+     * 
+     * @param xPos
+     *            die x-Koordinate
+     * @param yPos
+     *            die y-Koordinate
+     * @return wahr, falls der Punkt in der Punktmenge liegt
+     */
+    public boolean contains(int xPos, int yPos) {
+        if (blockCount == 0)
+            return false;
+        long key = pack(xPos, yPos);
+        int b = findBlock(key);
+        return indexInBlock(b, key) >= 0;
+    }
+
+    /**
+     * Die Methode fuegt einen Punkt ein, falls dieser noch nicht enthalten
+     * ist.
+     * 
+     * @param xPos
+     *            die x-Koordinate
+     * @param yPos
+     *            die y-Koordinate
+     * @return wahr, falls der Punkt eingefuegt wurde
+     */
+    public boolean add(int xPos, int yPos) {
+        long key = pack(xPos, yPos);
+        if (blockCount == 0) {
+            insertBlock(0, new long[BLOCK_CAPACITY], 0);
+        }
+        int b = findBlock(key);
+        int pos = indexInBlock(b, key);
+        if (pos >= 0)
+            return false;
+        pos = -(pos + 1);
+
+        if (blockSizes[b] == BLOCK_CAPACITY
+                && (pos == BLOCK_CAPACITY && b == blockCount - 1 || pos == 0
+                        && b == 0)) {
+            // am Rand der Punktmenge an der Einfuegeposition teilen, damit
+            // auf- oder absteigend eingefuegte Punkte volle Bloecke
+            // hinterlassen
+            if (pos > 0)
+                b++;
+            insertBlock(b, new long[BLOCK_CAPACITY], 0);
+            pos = 0;
+        } else if (blockSizes[b] == BLOCK_CAPACITY) {
+            // vollen Block in zwei Haelften teilen
+            int half = BLOCK_CAPACITY / 2;
+            long[] upper = new long[BLOCK_CAPACITY];
+            System.arraycopy(blocks[b], half, upper, 0, BLOCK_CAPACITY - half);
+            blockSizes[b] = half;
+            insertBlock(b + 1, upper, BLOCK_CAPACITY - half);
+            if (pos > half) {
+                b++;
+                pos -= half;
+            }
+        }
+
+        long[] block = writableBlock(b);
+        System.arraycopy(block, pos, block, pos + 1, blockSizes[b] - pos);
+        block[pos] = key;
+        blockSizes[b]++;
+        size++;
+        return true;
+    }
+
+    /**
+     * Die Methode fuegt mehrere Punkte auf einmal ein. Die Schluessel werden
+     * einmal sortiert und in linearer Zeit mit der bestehenden Punktmenge
+     * verschmolzen; bei im Verhaeltnis zur Punktmenge wenigen Schluesseln
+     * werden sie einzeln eingefuegt. Das uebergebene Array wird dabei
+     * sortiert.
+     * 
+     * @param keys
+     *            die gepackten Schluessel (siehe pack()); Duplikate sind
+     *            erlaubt
+     * @param n
+     *            die Anzahl der gueltigen Schluessel im Array
+     * @return die aufsteigend sortierten Schluessel, die noch nicht enthalten
+     *         waren
+     */
+    public long[] addAll(long[] keys, int n) {
+        sortKeys(keys, n);
+        long[] added = new long[n];
+        int addedCount = 0;
+
+        if ((long) n * 64 < size) {
+            for (int i = 0; i < n; i++) {
+                if ((addedCount == 0 || keys[i] != added[addedCount - 1])
+                        && add(unpackX(keys[i]), unpackY(keys[i])))
+                    added[addedCount++] = keys[i];
+            }
+            return Arrays.copyOf(added, addedCount);
+        }
+
+        // neue Bloecke zu drei Vierteln fuellen, damit nachfolgende
+        // Einfuegungen nicht sofort Bloecke teilen
+        int fill = BLOCK_CAPACITY / 4 * 3;
+        int capacity = Math.max(4, (int) (((long) size + n) / fill + 1));
+        long[][] newBlocks = new long[capacity][];
+        int[] newSizes = new int[capacity];
+        int newBlockCount = 0;
+        long[] current = new long[BLOCK_CAPACITY];
+        int currentSize = 0;
+
+        int b = 0;
+        int offset = 0;
+        int i = 0;
+        long last = 0;
+        boolean hasLast = false;
+        while (b < blockCount || i < n) {
+            long key;
+            boolean fresh;
+            // bei Gleichheit zuerst den vorhandenen Schluessel uebernehmen
+            if (i >= n || (b < blockCount && blocks[b][offset] <= keys[i])) {
+                key = blocks[b][offset];
+                fresh = false;
+                if (++offset == blockSizes[b]) {
+                    b++;
+                    offset = 0;
+                }
+            } else {
+                key = keys[i++];
+                fresh = true;
+            }
+            if (hasLast && key == last)
+                continue;
+            last = key;
+            hasLast = true;
+            if (fresh)
+                added[addedCount++] = key;
+
+            if (currentSize == fill) {
+                newBlocks[newBlockCount] = current;
+                newSizes[newBlockCount++] = currentSize;
+                current = new long[BLOCK_CAPACITY];
+                currentSize = 0;
+            }
+            current[currentSize++] = key;
+        }
+        if (currentSize > 0) {
+            newBlocks[newBlockCount] = current;
+            newSizes[newBlockCount++] = currentSize;
+        }
+
+        if (addedCount > 0) {
+            blocks = newBlocks;
+            blockSizes = newSizes;
+            blockEpochs = new long[capacity];
+            Arrays.fill(blockEpochs, epoch);
+            blockCount = newBlockCount;
+            size += addedCount;
+        }
+        return Arrays.copyOf(added, addedCount);
+    }
+
+    /**
+     * Die Methode sortiert gepackte Schluessel aufsteigend mit einer
+     * Radixsortierung in vier Durchlaeufen zu je 16 Bit. Kleine Arrays werden
+     * vergleichend sortiert.
+     * 
+     * @param keys
+     *            die Schluessel
+     * @param n
+     *            die Anzahl der zu sortierenden Schluessel ab Index 0
+     */
+    public static void sortKeys(long[] keys, int n) {
+        if (n < 4096) {
+            Arrays.sort(keys, 0, n);
+            return;
+        }
+        long[] source = keys;
+        long[] target = new long[n];
+        int[] counts = new int[1 << 16];
+        for (int shift = 0; shift < 64; shift += 16) {
+            Arrays.fill(counts, 0);
+            for (int i = 0; i < n; i++) {
+                counts[digit(source[i], shift)]++;
+            }
+            int sum = 0;
+            for (int d = 0; d < counts.length; d++) {
+                int count = counts[d];
+                counts[d] = sum;
+                sum += count;
+            }
+            for (int i = 0; i < n; i++) {
+                target[counts[digit(source[i], shift)]++] = source[i];
+            }
+            long[] swap = source;
+            source = target;
+            target = swap;
+        }
+        // nach vier Durchlaeufen liegt das Ergebnis wieder in keys
+    }
+
+    /**
+     * Die Methode gibt die 16-Bit-Ziffer eines Schluessels fuer die
+     * Radixsortierung zurueck. Das Vorzeichenbit wird gekippt, damit negative
+     * Schluessel vorne einsortiert werden.
+     * 
+     * @param key
+     *            der Schluessel
+     * @param shift
+     *            die Position der Ziffer in Bit
+     * @return die Ziffer
+     */
+    private static int digit(long key, int shift) {
+        return (int) (((key ^ Long.MIN_VALUE) >>> shift) & 0xFFFF);
+    }
+
+    /**
+     * Die Methode entfernt einen Punkt, falls dieser enthalten ist.
+     * 
+     * @param xPos
+     *            die x-Koordinate
+     * @param yPos
+     *            die y-Koordinate
+     * @return wahr, falls der Punkt entfernt wurde
+     */
+    public boolean remove(int xPos, int yPos) {
+        if (blockCount == 0)
+            return false;
+        long key = pack(xPos, yPos);
+        int b = findBlock(key);
+        int pos = indexInBlock(b, key);
+        if (pos < 0)
+            return false;
+
+        long[] block = writableBlock(b);
+        System.arraycopy(block, pos + 1, block, pos, blockSizes[b] - pos - 1);
+        blockSizes[b]--;
+        size--;
+
+        if (blockSizes[b] == 0) {
+            removeBlock(b);
+        } else if (blockSizes[b] < BLOCK_CAPACITY / 2 && blockCount > 1) {
+            // halb leere Bloecke mit einem Nachbarn verschmelzen oder mit ihm
+            // ausgleichen, damit jeder Block mindestens halb gefuellt bleibt;
+            // beides kostet wie das Verschieben im Block O(BLOCK_CAPACITY)
+            int left = b + 1 < blockCount ? b : b - 1;
+            if (blockSizes[left] + blockSizes[left + 1] <= BLOCK_CAPACITY)
+                mergeWithSuccessor(left);
+            else
+                balanceWithSuccessor(left);
+        }
+        return true;
+    }
+
+    /**
+     * Die Methode entfernt alle Punkte.
+     */
+    public void clear() {
+        blocks = new long[4][];
+        blockSizes = new int[4];
+        blockEpochs = new long[4];
+        blockCount = 0;
+        size = 0;
+    }
+
+    /**
+     * Die Methode gibt einen neuen Cursor zurueck, der vor dem ersten Punkt
+     * steht.
+     * 
+     * @return der Cursor
+     */
+    public IPointCursor cursor() {
+        return new Cursor();
+    }
+
+    /**
+     * Die Methode gibt einen neuen Cursor zurueck, der vor dem Punkt mit dem
+     * uebergebenen Index (in (x, y)-Reihenfolge) steht. Der Block wird dabei
+     * in O(n / BLOCK_CAPACITY) bestimmt.
+     * 
+     * @param index
+     *            der Index des ersten Punktes, den next() liefert
+     * @return der Cursor
+     */
+    public IPointCursor cursor(int index) {
+        Cursor cursor = new Cursor();
+        int b = 0;
+        int remaining = Math.max(0, index);
+        while (b < blockCount && remaining >= blockSizes[b]) {
+            remaining -= blockSizes[b];
+            b++;
+        }
+        cursor.block = b;
+        cursor.offset = remaining - 1;
+        return cursor;
+    }
+
+    /**
+     * Die Methode erzeugt eine Kopie der Punktmenge in O(n / BLOCK_CAPACITY).
+     * Beide Mengen teilen sich zunaechst alle Bloecke; Aenderungen an einer
+     * der beiden Mengen kopieren nur den betroffenen Block.
+     * 
+     * @return die Kopie
+     */
+    public PackedPointSet copy() {
+        PackedPointSet copy = new PackedPointSet();
+        int capacity = Math.max(4, blockCount);
+        copy.blocks = new long[capacity][];
+        copy.blockSizes = new int[capacity];
+        copy.blockEpochs = new long[capacity];
+        System.arraycopy(blocks, 0, copy.blocks, 0, blockCount);
+        System.arraycopy(blockSizes, 0, copy.blockSizes, 0, blockCount);
+        System.arraycopy(blockEpochs, 0, copy.blockEpochs, 0, blockCount);
+        copy.blockCount = blockCount;
+        copy.size = size;
+        // neue eigene Kennung: alle bisherigen Bloecke gelten als geteilt
+        epoch = EPOCHS.incrementAndGet();
+        return copy;
+    }
+
+    /**
+     * Die Methode gibt einen Block zum Schreiben zurueck und kopiert ihn
+     * vorher, falls er mit einer anderen Menge geteilt wird.
+     * 
+     * @param b
+     *            der Blockindex
+     * @return der Block
+     */
+    private long[] writableBlock(int b) {
+        if (blockEpochs[b] != epoch) {
+            blocks[b] = blocks[b].clone();
+            blockEpochs[b] = epoch;
+        }
+        return blocks[b];
+    }
+
+    /**
+     * Die Methode gibt den Index des letzten Blocks zurueck, dessen erster
+     * Schluessel nicht groesser als der uebergebene Schluessel ist (bzw. 0).
+     * 
+     * @param key
+     *            der Schluessel
+     * @return der Blockindex
+     */
+    private int findBlock(long key) {
+        int low = 0;
+        int high = blockCount - 1;
+        while (low < high) {
+            int mid = (low + high + 1) >>> 1;
+            if (blocks[mid][0] <= key)
+                low = mid;
+            else
+                high = mid - 1;
+        }
+        return low;
+    }
+
+    /**
+     * Die Methode sucht einen Schluessel binaer innerhalb eines Blocks.
+     * 
+     * @param b
+     *            der Blockindex
+     * @param key
+     *            der Schluessel
+     * @return die Position des Schluessels; falls nicht vorhanden
+     *         -(Einfuegeposition + 1)
+     */
+    private int indexInBlock(int b, long key) {
+        long[] block = blocks[b];
+        int low = 0;
+        int high = blockSizes[b] - 1;
+        while (low <= high) {
+            int mid = (low + high) >>> 1;
+            long midKey = block[mid];
+            if (midKey < key)
+                low = mid + 1;
+            else if (midKey > key)
+                high = mid - 1;
+            else
+                return mid;
+        }
+        return -(low + 1);
+    }
+
+    /**
+     * Die Methode fuegt einen Block an der angegebenen Position ein.
+     * 
+     * @param b
+     *            die Position
+     * @param block
+     *            der Block
+     * @param blockSize
+     *            die Anzahl belegter Eintraege
+     */
+    private void insertBlock(int b, long[] block, int blockSize) {
+        if (blockCount == blocks.length) {
+            long[][] newBlocks = new long[blockCount * 2][];
+            int[] newSizes = new int[blockCount * 2];
+            long[] newEpochs = new long[blockCount * 2];
+            System.arraycopy(blocks, 0, newBlocks, 0, blockCount);
+            System.arraycopy(blockSizes, 0, newSizes, 0, blockCount);
+            System.arraycopy(blockEpochs, 0, newEpochs, 0, blockCount);
+            blocks = newBlocks;
+            blockSizes = newSizes;
+            blockEpochs = newEpochs;
+        }
+        System.arraycopy(blocks, b, blocks, b + 1, blockCount - b);
+        System.arraycopy(blockSizes, b, blockSizes, b + 1, blockCount - b);
+        System.arraycopy(blockEpochs, b, blockEpochs, b + 1, blockCount - b);
+        blocks[b] = block;
+        blockSizes[b] = blockSize;
+        blockEpochs[b] = epoch;
+        blockCount++;
+    }
+
+    /**
+     * Die Methode entfernt den Block an der angegebenen Position.
+     * 
+     * @param b
+     *            die Position
+     */
+    private void removeBlock(int b) {
+        System.arraycopy(blocks, b + 1, blocks, b, blockCount - b - 1);
+        System.arraycopy(blockSizes, b + 1, blockSizes, b, blockCount - b - 1);
+        System.arraycopy(blockEpochs, b + 1, blockEpochs, b,
+                blockCount - b - 1);
+        blockCount--;
+        blocks[blockCount] = null;
+    }
+
+    /**
+     * Die Methode haengt den Nachfolgerblock an den angegebenen Block an und
+     * entfernt den Nachfolger.
+     * 
+     * @param b
+     *            die Position des vorderen Blocks
+     */
+    private void mergeWithSuccessor(int b) {
+        System.arraycopy(blocks[b + 1], 0, writableBlock(b), blockSizes[b],
+                blockSizes[b + 1]);
+        blockSizes[b] += blockSizes[b + 1];
+        removeBlock(b + 1);
+    }
+
+    /**
+     * Die Methode verteilt die Schluessel eines Blocks und seines Nachfolgers
+     * gleichmaessig auf beide Bloecke.
+     * 
+     * @param b
+     *            die Position des vorderen Blocks
+     */
+    private void balanceWithSuccessor(int b) {
+        long[] lower = writableBlock(b);
+        long[] upper = writableBlock(b + 1);
+        int lowerSize = blockSizes[b];
+        int upperSize = blockSizes[b + 1];
+        int target = (lowerSize + upperSize) / 2;
+        if (lowerSize > target) {
+            int moved = lowerSize - target;
+            System.arraycopy(upper, 0, upper, moved, upperSize);
+            System.arraycopy(lower, target, upper, 0, moved);
+        } else {
+            int moved = target - lowerSize;
+            System.arraycopy(upper, 0, lower, lowerSize, moved);
+            System.arraycopy(upper, moved, upper, 0, upperSize - moved);
+        }
+        blockSizes[b] = target;
+        blockSizes[b + 1] = lowerSize + upperSize - target;
+    }
+
+    /**
+     * Der Cursor durchlaeuft die Bloecke der Reihe nach. Er ist nur gueltig,
+     * solange die Punktmenge nicht veraendert wird.
+     */
+    private class Cursor implements IPointCursor {
+
+        /**
+         * der aktuelle Block
+         */
+        private int block = 0;
+
+        /**
+         * die Position im aktuellen Block; -1 vor dem ersten Punkt
+         */
+        private int offset = -1;
+
+        /**
+         * der aktuelle Schluessel
+         */
+        private long key;
+
+        @Override
+        public boolean next() {
+            offset++;
+            while (block < blockCount && offset >= blockSizes[block]) {
+                block++;
+                offset = 0;
+            }
+            if (block >= blockCount)
+                return false;
+            key = blocks[block][offset];
+            return true;
+        }
+
+        @Override
+        public int getxPos() {
+            return unpackX(key);
+        }
+
+        @Override
+        public int getyPos() {
+            return unpackY(key);
+        }
+
+        @Override
+        public void seek(int xPos, int yPos) {
+            if (blockCount == 0) {
+                block = 0;
+                offset = -1;
+                return;
+            }
+            long seekKey = pack(xPos, yPos);
+            block = findBlock(seekKey);
+            int pos = indexInBlock(block, seekKey);
+            if (pos < 0)
+                pos = -(pos + 1);
+            offset = pos - 1;
+        }
+    }
+}
@@ -0,0 +1,258 @@
+/**
+ * Das Paket beinhaltet alle (abstrakten) Klassen, Interfaces und Enums,
+ * die zur Darstellung einer Punktmenge im zweidimensionalen Raum benoetigt
+ * werden.
+ */
+package de.feu.propra12.q8089884.epsav.model;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+import java.util.concurrent.Callable;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.ThreadFactory;
+
+import de.feu.propra12.q8089884.epsav.model.interfaces.IPointCursor;
+import de.feu.propra12.q8089884.epsav.util.Point;
+
+/**
+ * Die Klasse berechnet die konvexe Huelle einer sortierten Punktmenge
+ * parallel. Die Punkte werden dazu nach (x, y) in gleich grosse Streifen
+ * geteilt; fuer jeden Streifen berechnet ein eigener Thread die noerdliche
+ * und die suedliche Kette (monotone Kette). Anschliessend werden die Ketten
+ * benachbarter Streifen von West nach Ost ueber ihre Bruecken verbunden.
+ * 
+ * Das Verbinden kostet nur O(h) je Streifen (h = Laenge der Ketten), so dass
+ * die Laufzeit bei grossen Punktmengen nahezu linear mit der Anzahl der
+ * Threads sinkt, solange die Punktmenge waehrend der Berechnung nicht
+ * veraendert wird.
+ * 
+ * @author Felix Wenz
+ * 
+ */
+public class ParallelConvexHullCalculator {
+
+    /**
+     * die Mindestanzahl von Punkten je Streifen; kleinere Punktmengen werden
+     * auf entsprechend weniger Threads verteilt
+     */
+    private static final int MIN_STRIP_SIZE = 1 << 16;
+
+    private ParallelConvexHullCalculator() {
+
+    }
+
+    /**
+     * Die Methode berechnet die konvexe Huelle einer gepackten Punktmenge.
+     * Wie bei ContourPolygonHullCalculator werden bis zu drei Punkte
+     * unveraendert zurueckgegeben.
+     * 
+     * @param pointSet
+     *            die Punktmenge; darf waehrend der Berechnung nicht veraendert
+     *            werden
+     * @param parallelism
+     *            die hoechste Anzahl gleichzeitig arbeitender Threads
+     * @return die Punkte der konvexen Huelle
+     */
+    public static Point[] getConvexHull(final PackedPointSet pointSet,
+            int parallelism) {
+        return getConvexHull(new Strips() {
+            @Override
+            IPointCursor cursor(long index) {
+                return pointSet.cursor((int) index);
+            }
+        }, pointSet.size(), parallelism);
+    }
+
+    /**
+     * Die Methode berechnet die konvexe Huelle einer Punktmenge ausserhalb
+     * des Heaps. Wie bei ContourPolygonHullCalculator werden bis zu drei
+     * Punkte unveraendert zurueckgegeben.
+     * 
+     * @param pointSet
+     *            die Punktmenge; darf waehrend der Berechnung nicht veraendert
+     *            werden
+     * @param parallelism
+     *            die hoechste Anzahl gleichzeitig arbeitender Threads
+     * @return die Punkte der konvexen Huelle
+     */
+    public static Point[] getConvexHull(final OffHeapPointSet pointSet,
+            int parallelism) {
+        return getConvexHull(new Strips() {
+            @Override
+            IPointCursor cursor(long index) {
+                return pointSet.cursor(index);
+            }
+        }, pointSet.size(), parallelism);
+    }
+
+    /**
+     * Die Methode verteilt die Streifen auf die Threads und verbindet deren
+     * Ketten.
+     * 
+     * @param strips
+     *            die Quelle der Streifen
+     * @param n
+     *            die Anzahl der Punkte
+     * @param parallelism
+     *            die hoechste Anzahl gleichzeitig arbeitender Threads
+     * @return die Punkte der konvexen Huelle
+     */
+    private static Point[] getConvexHull(final Strips strips, long n,
+            int parallelism) {
+        if (n <= 3) {
+            Point[] result = new Point[(int) n];
+            IPointCursor cursor = strips.cursor(0);
+            for (int i = 0; i < n && cursor.next(); i++) {
+                result[i] = new Point(cursor.getxPos(), cursor.getyPos());
+            }
+            return result;
+        }
+
+        int count = (int) Math.max(1,
+                Math.min(parallelism, n / MIN_STRIP_SIZE));
+        long[][] chains;
+        if (count == 1) {
+            chains = computeChains(strips.cursor(0), n);
+        } else {
+            chains = computeChainsInParallel(strips, n, count);
+        }
+        return HullChains.toVertices(chains[0], chains[1]);
+    }
+
+    /**
+     * Die Methode berechnet die Ketten der Streifen in eigenen Threads; den
+     * letzten Streifen bearbeitet der aufrufende Thread selbst.
+     * 
+     * @return die verbundene noerdliche und suedliche Kette
+     */
+    private static long[][] computeChainsInParallel(final Strips strips,
+            long n, int count) {
+        ExecutorService executor = Executors.newFixedThreadPool(count - 1,
+                new ThreadFactory() {
+                    @Override
+                    public Thread newThread(Runnable r) {
+                        Thread thread = new Thread(r, "ConvexHull");
+                        thread.setDaemon(true);
+                        return thread;
+                    }
+                });
+        try {
+            List<Future<long[][]>> futures =
+                    new ArrayList<Future<long[][]>>();
+            for (int i = 0; i < count - 1; i++) {
+                final long from = n * i / count;
+                final long to = n * (i + 1) / count;
+                futures.add(executor.submit(new Callable<long[][]>() {
+                    @Override
+                    public long[][] call() {
+                        return computeChains(strips.cursor(from), to - from);
+                    }
+                }));
+            }
+            long from = n * (count - 1) / count;
+            long[][] last = computeChains(strips.cursor(from), n - from);
+
+            long[][] result = futures.get(0).get();
+            for (int i = 1; i < futures.size(); i++) {
+                result = merge(result, futures.get(i).get());
+            }
+            return merge(result, last);
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            throw new IllegalStateException(e);
+        } catch (ExecutionException e) {
+            throw new IllegalStateException(e.getCause());
+        } finally {
+            executor.shutdown();
+        }
+    }
+
+    /**
+     * Die Methode berechnet beide Ketten eines Streifens in einem Durchlauf.
+     * 
+     * @param cursor
+     *            ein Cursor vor dem ersten Punkt des Streifens
+     * @param count
+     *            die Anzahl der Punkte des Streifens
+     * @return die noerdliche und die suedliche Kette
+     */
+    private static long[][] computeChains(IPointCursor cursor, long count) {
+        ChainBuilder north = new ChainBuilder(HullChains.NORTH);
+        ChainBuilder south = new ChainBuilder(HullChains.SOUTH);
+        for (long i = 0; i < count && cursor.next(); i++) {
+            long key = PackedPointSet.pack(cursor.getxPos(), cursor.getyPos());
+            north.append(key);
+            south.append(key);
+        }
+        return new long[][] { north.toArray(), south.toArray() };
+    }
+
+    /**
+     * Die Methode verbindet die Ketten zweier benachbarter Streifen.
+     */
+    private static long[][] merge(long[][] west, long[][] east) {
+        return new long[][] {
+                HullChains.merge(west[0], east[0], HullChains.NORTH),
+                HullChains.merge(west[1], east[1], HullChains.SOUTH) };
+    }
+
+    /**
+     * Eine Quelle, die Cursor ab einem beliebigen Index der sortierten
+     * Punktmenge liefert.
+     */
+    private abstract static class Strips {
+
+        /**
+         * Die Methode gibt einen Cursor vor dem Punkt mit dem uebergebenen
+         * Index zurueck.
+         */
+        abstract IPointCursor cursor(long index);
+    }
+
+    /**
+     * Eine Kette, an die aufsteigend sortierte Schluessel angehaengt werden.
+     */
+    private static class ChainBuilder {
+
+        /**
+         * NORTH oder SOUTH
+         */
+        private final int sign;
+
+        /**
+         * die Schluessel der Kette
+         */
+        private long[] keys = new long[64];
+
+        /**
+         * die Laenge der Kette
+         */
+        private int size = 0;
+
+        private ChainBuilder(int sign) {
+            this.sign = sign;
+        }
+
+        /**
+         * Die Methode haengt einen Schluessel an und entfernt die Punkte,
+         * die dadurch keine Ecke mehr sind.
+         */
+        private void append(long key) {
+            while (size >= 2
+                    && !HullChains.isCorner(keys[size - 2], keys[size - 1],
+                            key, sign))
+                size--;
+            if (size == keys.length)
+                keys = Arrays.copyOf(keys, size * 2);
+            keys[size++] = key;
+        }
+
+        private long[] toArray() {
+            return Arrays.copyOf(keys, size);
+        }
+    }
+}
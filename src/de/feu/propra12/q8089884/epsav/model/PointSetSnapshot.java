@@ -0,0 +1,462 @@
+/**
+ * Das Paket beinhaltet alle (abstrakten) Klassen, Interfaces und Enums,
+ * die zur Darstellung einer Punktmenge im zweidimensionalen Raum benoetigt
+ * werden.
+ */
+package de.feu.propra12.q8089884.epsav.model;
+
+import de.feu.propra12.q8089884.epsav.model.interfaces.IConvexHullEngine;
+import de.feu.propra12.q8089884.epsav.model.interfaces.IPointCursor;
+import de.feu.propra12.q8089884.epsav.model.interfaces.IPointSetSnapshot;
+import de.feu.propra12.q8089884.epsav.util.Circle;
+import de.feu.propra12.q8089884.epsav.util.Point;
+import de.feu.propra12.q8089884.epsav.util.PointBuffer;
+import de.feu.propra12.q8089884.epsav.util.Triangulation;
+import de.feu.propra12.q8089884.epsav.util.VoronoiDiagram;
+
+/**
+ * Die Klasse stellt einen unveraenderlichen Schnappschuss einer gepackten
+ * Punktmenge dar. Der Schnappschuss teilt sich die Bloecke mit der Punktmenge
+ * (siehe PackedPointSet.copy()) und ist daher in O(n / BLOCK_CAPACITY)
+ * erstellt. Konturpolygon, konvexe Huelle, kleinster umfassender Kreis,
+ * Delaunay-Triangulation, Voronoi-Diagramm und groesster leerer Kreis werden
+ * beim ersten Zugriff berechnet und fuer alle weiteren Leser
+ * zwischengespeichert. Die konvexe Huelle wird dabei in O(h) aus den bei der
+ * Erzeugung festgehaltenen, unveraenderlichen Ketten der gepflegten Huelle
+ * (siehe DynamicConvexHull) ausgelesen. Kreis und Triangulation werden,
+ * solange sich die Punktmenge nicht geaendert hat, von der
+ * Punktmengenalgebra uebernommen, die sie fortschreibt. Da sich alle
+ * Ergebnisse auf dieselbe Version beziehen, passen sie stets zueinander.
+ * 
+ * Die Klasse ist threadsicher, da der Zustand nach der Erzeugung nicht mehr
+ * veraendert wird.
+ * 
+ * @author Felix Wenz
+ * 
+ */
+public class PointSetSnapshot implements IPointSetSnapshot {
+
+    /**
+     * die Punkte des Schnappschusses; werden nicht mehr veraendert
+     */
+    private final PackedPointSet pointSet;
+
+    /**
+     * die Versionsnummer
+     */
+    private final long version;
+
+    /**
+     * die noerdliche Kette der Huelle dieser Version; null, falls die Huelle
+     * aus den Punkten berechnet werden soll
+     */
+    private final ChainTree north;
+
+    /**
+     * die suedliche Kette der Huelle dieser Version
+     */
+    private final ChainTree south;
+
+    /**
+     * der gerade verschobene Punkt, der nicht in den Ketten enthalten ist;
+     * null, falls kein Punkt verschoben wird
+     */
+    private final Point movingPoint;
+
+    /**
+     * das zwischengespeicherte Konturpolygon; null, solange nicht berechnet
+     */
+    private volatile Point[] contourPolygon = null;
+
+    /**
+     * die zwischengespeicherte konvexe Huelle; null, solange nicht berechnet
+     */
+    private volatile Point[] convexHull = null;
+
+    /**
+     * der zwischengespeicherte kleinste umfassende Kreis; null, solange nicht
+     * berechnet
+     */
+    private volatile Circle smallestEnclosingCircle = null;
+
+    /**
+     * die zwischengespeicherte Delaunay-Triangulation; null, solange nicht
+     * berechnet
+     */
+    private volatile Triangulation delaunayTriangulation = null;
+
+    /**
+     * das zwischengespeicherte Voronoi-Diagramm; null, solange nicht
+     * berechnet
+     */
+    private volatile VoronoiDiagram voronoiDiagram = null;
+
+    /**
+     * der zwischengespeicherte groesste leere Kreis; null, solange nicht
+     * berechnet
+     */
+    private volatile Circle largestEmptyCircle = null;
+
+    /**
+     * die Punktmengenalgebra, die die Triangulation fortschreibt; null, falls
+     * es keine gibt
+     */
+    private final SynchronizedCompletePointSetAlgebra source;
+
+    /**
+     * Der Konstruktor fuer einen Schnappschuss. Die uebergebene Punktmenge
+     * darf danach nicht mehr veraendert werden.
+     * 
+     * @param pointSet
+     *            die Punkte des Schnappschusses
+     * @param version
+     *            die Versionsnummer
+     * @param north
+     *            die noerdliche Kette der Huelle; null, falls die Huelle bei
+     *            Bedarf aus den Punkten berechnet werden soll
+     * @param south
+     *            die suedliche Kette der Huelle
+     * @param movingPoint
+     *            der gerade verschobene Punkt, der nicht in den Ketten
+     *            enthalten ist; null, falls kein Punkt verschoben wird
+     * @param smallestEnclosingCircle
+     *            der bereits bekannte kleinste umfassende Kreis; null, falls er
+     *            bei Bedarf berechnet werden soll
+     * @param source
+     *            die Punktmengenalgebra, die die Delaunay-Triangulation
+     *            fortschreibt; null, falls sie bei Bedarf neu berechnet
+     *            werden soll
+     */
+    PointSetSnapshot(PackedPointSet pointSet, long version, ChainTree north,
+            ChainTree south, Point movingPoint,
+            Circle smallestEnclosingCircle,
+            SynchronizedCompletePointSetAlgebra source) {
+        this.pointSet = pointSet;
+        this.version = version;
+        this.north = north;
+        this.south = south;
+        this.movingPoint = movingPoint;
+        this.smallestEnclosingCircle = smallestEnclosingCircle;
+        this.source = source;
+    }
+
+    /*
+     * (non-Javadoc)
+     * 
+     * @see
+     * de.feu.propra12.q8089884.epsav.model.interfaces.IPointSetSnapshot#getVersion
+     * ()
+     */
+    @Override
+    public long getVersion() {
+        return version;
+    }
+
+    /*
+     * (non-Javadoc)
+     * 
+     * @see de.feu.propra12.q8089884.epsav.model.interfaces.IPointSetSnapshot#size()
+     */
+    @Override
+    public int size() {
+        return pointSet.size();
+    }
+
+    /*
+     * (non-Javadoc)
+     * 
+     * @see
+     * de.feu.propra12.q8089884.epsav.model.interfaces.IPointSetSnapshot#isEmpty()
+     */
+    @Override
+    public boolean isEmpty() {
+        return pointSet.isEmpty();
+    }
+
+    /*
+     * (non-Javadoc)
+     * 
+     * @see
+     * de.feu.propra12.q8089884.epsav.model.interfaces.IPointSetSnapshot#contains
+     * (int, int)
+     */
+    @Override
+    public boolean contains(int xPos, int yPos) {
+        return pointSet.contains(xPos, yPos);
+    }
+
+    /*
+     * (non-Javadoc)
+     * 
+     * @see
+     * de.feu.propra12.q8089884.epsav.model.interfaces.IPointSetSnapshot#cursor()
+     */
+    @Override
+    public IPointCursor cursor() {
+        return pointSet.cursor();
+    }
+
+    /**
+     * Die Methode gibt einen Cursor zurueck, der vor dem Punkt mit dem
+     * uebergebenen Index steht.
+     * 
+     * @param index
+     *            der Index des ersten Punktes
+     * @return der Cursor
+     */
+    IPointCursor cursor(int index) {
+        return pointSet.cursor(index);
+    }
+
+    /*
+     * (non-Javadoc)
+     * 
+     * @see
+     * de.feu.propra12.q8089884.epsav.model.interfaces.IConvexHullCalculator
+     * #getContourPolygon()
+     */
+    @Override
+    public Point[] getContourPolygon() {
+        Point[] result = contourPolygon;
+        if (result == null) {
+            // gleichzeitige erste Zugriffe berechnen schlimmstenfalls doppelt
+            result = ContourPolygonHullCalculator
+                    .getContourPolygon(toPointArray());
+            contourPolygon = result;
+        }
+        return result.clone();
+    }
+
+    /*
+     * (non-Javadoc)
+     * 
+     * @see
+     * de.feu.propra12.q8089884.epsav.model.interfaces.IConvexHullCalculator
+     * #getContourPolygon(de.feu.propra12.q8089884.epsav.util.PointBuffer)
+     */
+    @Override
+    public void getContourPolygon(PointBuffer result) {
+        Point[] contour = contourPolygon;
+        if (contour == null) {
+            getContourPolygon();
+            contour = contourPolygon;
+        }
+        result.clear();
+        result.addAll(contour);
+    }
+
+    /*
+     * (non-Javadoc)
+     * 
+     * @see
+     * de.feu.propra12.q8089884.epsav.model.interfaces.IConvexHullCalculator
+     * #getConvexHull()
+     */
+    @Override
+    public Point[] getConvexHull() {
+        return currentConvexHull().clone();
+    }
+
+    /*
+     * (non-Javadoc)
+     * 
+     * @see
+     * de.feu.propra12.q8089884.epsav.model.interfaces.IConvexHullCalculator
+     * #getConvexHull(de.feu.propra12.q8089884.epsav.util.PointBuffer)
+     */
+    @Override
+    public void getConvexHull(PointBuffer result) {
+        result.clear();
+        result.addAll(currentConvexHull());
+    }
+
+    /**
+     * Die Methode gibt die zwischengespeicherte konvexe Huelle zurueck und
+     * ermittelt sie beim ersten Zugriff. Wie bei ContourPolygonHullCalculator
+     * werden bis zu drei Punkte unveraendert in (x, y)-Reihenfolge
+     * zurueckgegeben.
+     * 
+     * @return die Punkte der konvexen Huelle; das Array darf nicht veraendert
+     *         werden
+     */
+    private Point[] currentConvexHull() {
+        Point[] result = convexHull;
+        if (result == null) {
+            // gleichzeitige erste Zugriffe berechnen schlimmstenfalls doppelt
+            if (pointSet.size() <= 3 || north == null)
+                result = ContourPolygonHullCalculator
+                        .getConvexHull(toPointArray());
+            else if (movingPoint != null)
+                result = KineticConvexHull.getVertices(north, south,
+                        PackedPointSet.pack(movingPoint.getxPos(),
+                                movingPoint.getyPos()));
+            else
+                result = HullChains.toVertices(ChainTree.toArray(north),
+                        ChainTree.toArray(south));
+            convexHull = result;
+        }
+        return result;
+    }
+
+    /*
+     * (non-Javadoc)
+     * 
+     * @see
+     * de.feu.propra12.q8089884.epsav.model.interfaces.IConvexHullCalculator
+     * #getConvexHull(int)
+     */
+    @Override
+    public Point[] getConvexHull(int parallelism) {
+        if (parallelism <= 1 || convexHull != null || north != null)
+            return getConvexHull();
+        // der Schnappschuss wird nicht veraendert und darf daher ohne Sperre
+        // von mehreren Threads gelesen werden; das Ergebnis wird nicht
+        // zwischengespeichert, damit getConvexHull() stets dieselbe
+        // Reihenfolge liefert
+        return ParallelConvexHullCalculator.getConvexHull(pointSet,
+                parallelism);
+    }
+
+    /*
+     * (non-Javadoc)
+     * 
+     * @see
+     * de.feu.propra12.q8089884.epsav.model.interfaces.IConvexHullCalculator
+     * #getConvexHull
+     * (de.feu.propra12.q8089884.epsav.model.interfaces.IConvexHullEngine)
+     */
+    @Override
+    public Point[] getConvexHull(IConvexHullEngine engine) {
+        return ContourPolygonHullCalculator.getConvexHull(toPointArray(),
+                engine);
+    }
+
+    /*
+     * (non-Javadoc)
+     * 
+     * @see de.feu.propra12.q8089884.epsav.model.interfaces.
+     * ISmallestEnclosingCircleCalculator#getSECCenterPointX()
+     */
+    @Override
+    public double getSECCenterPointX() {
+        return getSmallestEnclosingCircle().getCenterX();
+    }
+
+    /*
+     * (non-Javadoc)
+     * 
+     * @see de.feu.propra12.q8089884.epsav.model.interfaces.
+     * ISmallestEnclosingCircleCalculator#getSECCenterPointY()
+     */
+    @Override
+    public double getSECCenterPointY() {
+        return getSmallestEnclosingCircle().getCenterY();
+    }
+
+    /*
+     * (non-Javadoc)
+     * 
+     * @see de.feu.propra12.q8089884.epsav.model.interfaces.
+     * ISmallestEnclosingCircleCalculator#getSECRadius()
+     */
+    @Override
+    public double getSECRadius() {
+        return getSmallestEnclosingCircle().getRadius();
+    }
+
+    /**
+     * Die Methode gibt den kleinsten umfassenden Kreis des Schnappschusses
+     * zurueck. Mittelpunkt und Radius stammen so stets aus derselben
+     * Berechnung.
+     * 
+     * @return der kleinste umfassende Kreis
+     */
+    public Circle getSmallestEnclosingCircle() {
+        Circle result = smallestEnclosingCircle;
+        if (result == null) {
+            Point[] hull = currentConvexHull();
+            if (source != null)
+                result = source.getSmallestEnclosingCircle(version, hull);
+            if (result == null)
+                // Punktmenge seit dem Schnappschuss geaendert
+                result = WelzlCircleCalculator.getSmallestEnclosingCircle(hull);
+            smallestEnclosingCircle = result;
+        }
+        return result;
+    }
+
+    /*
+     * (non-Javadoc)
+     * 
+     * @see de.feu.propra12.q8089884.epsav.model.interfaces.
+     * ITriangulationCalculator#getDelaunayTriangulation()
+     */
+    @Override
+    public Triangulation getDelaunayTriangulation() {
+        Triangulation result = delaunayTriangulation;
+        if (result == null && source != null)
+            result = source.getDelaunayTriangulation(version);
+        if (result == null) {
+            // keine Algebra oder Punktmenge seit dem Schnappschuss geaendert
+            int n = pointSet.size();
+            int[] xs = new int[n];
+            int[] ys = new int[n];
+            IPointCursor cursor = pointSet.cursor();
+            for (int i = 0; cursor.next(); i++) {
+                xs[i] = cursor.getxPos();
+                ys[i] = cursor.getyPos();
+            }
+            result = DelaunayTriangulator.triangulate(xs, ys, n);
+        }
+        delaunayTriangulation = result;
+        return result;
+    }
+
+    /*
+     * (non-Javadoc)
+     * 
+     * @see de.feu.propra12.q8089884.epsav.model.interfaces.
+     * IVoronoiDiagramCalculator#getVoronoiDiagram()
+     */
+    @Override
+    public VoronoiDiagram getVoronoiDiagram() {
+        VoronoiDiagram result = voronoiDiagram;
+        if (result == null) {
+            result = new VoronoiDiagram(getDelaunayTriangulation());
+            voronoiDiagram = result;
+        }
+        return result;
+    }
+
+    /*
+     * (non-Javadoc)
+     * 
+     * @see de.feu.propra12.q8089884.epsav.model.interfaces.
+     * IVoronoiDiagramCalculator#getLargestEmptyCircle()
+     */
+    @Override
+    public Circle getLargestEmptyCircle() {
+        Circle result = largestEmptyCircle;
+        if (result == null) {
+            result = LargestEmptyCircleCalculator.getLargestEmptyCircle(
+                    getVoronoiDiagram(), currentConvexHull());
+            largestEmptyCircle = result;
+        }
+        return result;
+    }
+
+    /**
+     * Die Methode erzeugt ein nach (x, y) sortiertes Array mit neuen
+     * Punktobjekten fuer alle Punkte des Schnappschusses.
+     * 
+     * @return das Punktearray
+     */
+    private Point[] toPointArray() {
+        Point[] result = new Point[pointSet.size()];
+        IPointCursor cursor = pointSet.cursor();
+        for (int i = 0; cursor.next(); i++) {
+            result[i] = new Point(cursor.getxPos(), cursor.getyPos());
+        }
+        return result;
+    }
+}
@@ -0,0 +1,163 @@
+/**
+ * Das Paket beinhaltet alle (abstrakten) Klassen, Interfaces und Enums,
+ * die zur Darstellung einer Punktmenge im zweidimensionalen Raum benoetigt
+ * werden.
+ */
+package de.feu.propra12.q8089884.epsav.model;
+
+import java.util.Arrays;
+
+import de.feu.propra12.q8089884.epsav.util.GeometricPredicates;
+
+/**
+ * Die Klasse berechnet die konvexe Huelle mit dem QuickHull-Verfahren. Jede
+ * Kette beginnt mit der Kante zwischen dem westlichsten und dem oestlichsten
+ * Punkt; zu jeder Kante wird der am weitesten ausserhalb liegende Punkt als
+ * neue Ecke gewaehlt und die verbleibenden Punkte auf die beiden neuen Kanten
+ * verteilt. Punkte innerhalb des entstehenden Dreiecks scheiden sofort aus,
+ * so dass der Aufwand bei wenigen Ecken nahe O(n) liegt.
+ * 
+ * Die Kanten werden ueber einen eigenen Stapel statt rekursiv abgearbeitet,
+ * damit auch Punktmengen mit sehr vielen Ecken keinen Stapelueberlauf
+ * verursachen.
+ * 
+ * @author Felix Wenz
+ * 
+ */
+public class QuickHullEngine extends AbstractHullEngine {
+
+    /*
+     * (non-Javadoc)
+     * 
+     * @see
+     * de.feu.propra12.q8089884.epsav.model.interfaces.IConvexHullEngine#getName
+     * ()
+     */
+    @Override
+    public String getName() {
+        return "QuickHull";
+    }
+
+    /*
+     * (non-Javadoc)
+     * 
+     * @see
+     * de.feu.propra12.q8089884.epsav.model.interfaces.IConvexHullEngine#
+     * computeHull(int[], int[], int)
+     */
+    @Override
+    public int[] computeHull(int[] xPositions, int[] yPositions, int n) {
+        if (n <= 2) {
+            int[] chain = new int[n];
+            for (int i = 0; i < n; i++) {
+                chain[i] = i;
+            }
+            return toHull(chain, n, chain, n);
+        }
+        int[] buffer = new int[n];
+        int[] scratch = new int[n];
+        int[] north = chain(xPositions, yPositions, n, NORTH, buffer, scratch);
+        int[] south = chain(xPositions, yPositions, n, SOUTH, buffer, scratch);
+        return toHull(north, north.length, south, south.length);
+    }
+
+    /**
+     * Die Methode berechnet eine Kette vom westlichsten zum oestlichsten
+     * Punkt.
+     * 
+     * @param sign
+     *            NORTH oder SOUTH
+     * @param buffer
+     *            ein Arbeitsarray der Laenge n fuer die Kandidaten
+     * @param scratch
+     *            ein Arbeitsarray der Laenge n zum Verteilen der Kandidaten
+     * @return die Indizes der Kette von West nach Ost
+     */
+    private static int[] chain(int[] xs, int[] ys, int n, int sign,
+            int[] buffer, int[] scratch) {
+        int last = n - 1;
+        int candidates = 0;
+        for (int i = 1; i < last; i++) {
+            if (isOutside(xs, ys, 0, last, i, sign))
+                buffer[candidates++] = i;
+        }
+
+        int[] vertices = new int[16];
+        vertices[0] = 0;
+        vertices[1] = last;
+        int vertexCount = 2;
+
+        // offene Kanten als (a, b, erster Kandidat, Kandidatenende)
+        int[] stack = new int[64];
+        int top = 0;
+        stack[top++] = 0;
+        stack[top++] = last;
+        stack[top++] = 0;
+        stack[top++] = candidates;
+        while (top > 0) {
+            int end = stack[--top];
+            int start = stack[--top];
+            int b = stack[--top];
+            int a = stack[--top];
+            if (start == end)
+                continue;
+
+            // am weitesten ausserhalb liegender Kandidat; bei Gleichstand der
+            // westlichste, da nur dieser sicher eine echte Ecke ist
+            int c = buffer[start];
+            for (int i = start + 1; i < end; i++) {
+                if (isFarther(xs, ys, a, b, buffer[i], c, sign))
+                    c = buffer[i];
+            }
+            if (vertexCount == vertices.length)
+                vertices = Arrays.copyOf(vertices, vertexCount * 2);
+            vertices[vertexCount++] = c;
+
+            // Kandidaten ausserhalb von a-c nach vorne, ausserhalb von c-b
+            // zunaechst in das zweite Arbeitsarray
+            int west = start;
+            int east = 0;
+            for (int i = start; i < end; i++) {
+                int p = buffer[i];
+                if (isOutside(xs, ys, a, c, p, sign))
+                    buffer[west++] = p;
+                else if (isOutside(xs, ys, c, b, p, sign))
+                    scratch[east++] = p;
+            }
+            System.arraycopy(scratch, 0, buffer, west, east);
+
+            if (top + 8 > stack.length)
+                stack = Arrays.copyOf(stack, stack.length * 2);
+            stack[top++] = a;
+            stack[top++] = c;
+            stack[top++] = start;
+            stack[top++] = west;
+            stack[top++] = c;
+            stack[top++] = b;
+            stack[top++] = west;
+            stack[top++] = west + east;
+        }
+
+        // die Indexreihenfolge entspricht der Reihenfolge von West nach Ost
+        int[] chain = Arrays.copyOf(vertices, vertexCount);
+        Arrays.sort(chain);
+        return chain;
+    }
+
+    /**
+     * Die Methode prueft, ob p echt weiter ausserhalb der Kante von a nach b
+     * liegt als c. Der Abstandsvergleich ist gleichbedeutend mit dem
+     * Vorzeichen von (b - a) x (p - c) und daher ebenfalls exakt.
+     * 
+     * @param sign
+     *            NORTH oder SOUTH
+     * @return wahr, falls p weiter ausserhalb liegt
+     */
+    private static boolean isFarther(int[] xs, int[] ys, int a, int b, int p,
+            int c, int sign) {
+        return -sign
+                * GeometricPredicates.crossSign((long) xs[b] - xs[a],
+                        (long) ys[b] - ys[a], (long) xs[p] - xs[c],
+                        (long) ys[p] - ys[c]) > 0;
+    }
+}
@@ -0,0 +1,217 @@
+/**
+ * Das Paket beinhaltet alle (abstrakten) Klassen, Interfaces und Enums,
+ * die zur Darstellung einer Punktmenge im zweidimensionalen Raum benoetigt
+ * werden.
+ */
+package de.feu.propra12.q8089884.epsav.model;
+
+import java.util.Arrays;
+import java.util.HashSet;
+import java.util.Random;
+
+import de.feu.propra12.q8089884.epsav.model.interfaces.IPointCursor;
+
+/**
+ * Die Klasse zieht zufaellige, paarweise verschiedene und noch nicht belegte
+ * Positionen innerhalb eines Rechtecks. Die freien Positionen werden dazu
+ * spaltenweise durchnummeriert; aus diesen Nummern wird mit dem Algorithmus
+ * von Floyd ohne Verwerfen gezogen. Jede Auswahl gleicher Groesse ist gleich
+ * wahrscheinlich, und der Aufwand haengt nicht davon ab, wie voll das
+ * Rechteck bereits ist.
+ * 
+ * Passt die Anzahl der Positionen im Rechteck nicht in einen long (bei fast
+ * vollem int-Wertebereich in beiden Richtungen), ist hoechstens jede
+ * 2^32-te Position belegt. Dann wird verworfen, was belegt oder schon
+ * gezogen ist; das trifft praktisch nie zu.
+ * 
+ * @author Felix Wenz
+ * 
+ */
+public class RandomPointSampler {
+
+    /**
+     * Die Klasse stellt nur statische Methoden bereit.
+     */
+    private RandomPointSampler() {
+
+    }
+
+    /**
+     * Die Methode zieht zufaellige freie Positionen innerhalb der Schranken.
+     * Sind weniger freie Positionen vorhanden als angefordert, werden alle
+     * freien Positionen zurueckgegeben.
+     * 
+     * @param occupied
+     *            ein Cursor ueber die bereits belegten Positionen
+     * @param numberOfPoints
+     *            die Anzahl der gewuenschten Positionen
+     * @param xLowerLimit
+     *            untere Schranke fuer x-Koordinaten
+     * @param xUpperLimit
+     *            obere Schranke fuer x-Koordinaten
+     * @param yLowerLimit
+     *            untere Schranke fuer y-Koordinaten
+     * @param yUpperLimit
+     *            obere Schranke fuer y-Koordinaten
+     * @param random
+     *            der Zufallszahlengenerator
+     * @return die gepackten Schluessel (siehe PackedPointSet) der Positionen
+     *         in (x, y)-Reihenfolge
+     */
+    public static long[] sample(IPointCursor occupied, int numberOfPoints,
+            int xLowerLimit, int xUpperLimit, int yLowerLimit,
+            int yUpperLimit, Random random) {
+        if (numberOfPoints <= 0 || xUpperLimit < xLowerLimit
+                || yUpperLimit < yLowerLimit)
+            return new long[0];
+
+        long xRange = (long) xUpperLimit - xLowerLimit + 1;
+        long yRange = (long) yUpperLimit - yLowerLimit + 1;
+        if (xRange > Long.MAX_VALUE / yRange)
+            return sampleSparse(occupied, numberOfPoints, xLowerLimit,
+                    xUpperLimit, yLowerLimit, yUpperLimit, random);
+        long cells = xRange * yRange;
+        long[] taken = occupiedCells(occupied, xLowerLimit, xUpperLimit,
+                yLowerLimit, yUpperLimit);
+        long free = cells - taken.length;
+        int count = (int) Math.min(numberOfPoints, free);
+
+        // Nummern der gezogenen freien Positionen; bei mehr als der Haelfte
+        // wird stattdessen das kleinere Komplement gezogen
+        long[] ranks;
+        if (count <= free / 2) {
+            ranks = floyd(free, count, random);
+        } else {
+            long[] skipped = floyd(free, (int) (free - count), random);
+            ranks = new long[count];
+            int i = 0;
+            int s = 0;
+            for (long rank = 0; i < count; rank++) {
+                if (s < skipped.length && skipped[s] == rank)
+                    s++;
+                else
+                    ranks[i++] = rank;
+            }
+        }
+
+        // Nummern freier Positionen auf Positionen im Rechteck abbilden,
+        // indem die davor liegenden belegten Positionen uebersprungen werden
+        long[] keys = new long[count];
+        int t = 0;
+        for (int i = 0; i < count; i++) {
+            long cell = ranks[i] + t;
+            while (t < taken.length && taken[t] <= cell) {
+                t++;
+                cell = ranks[i] + t;
+            }
+            keys[i] = PackedPointSet.pack(
+                    (int) (xLowerLimit + cell / yRange),
+                    (int) (yLowerLimit + cell % yRange));
+        }
+        return keys;
+    }
+
+    /**
+     * Die Methode zieht zufaellige freie Positionen in einem Rechteck, dessen
+     * Positionen sich nicht in einem long durchnummerieren lassen, und
+     * verwirft belegte oder bereits gezogene Positionen.
+     * 
+     * @return die gepackten Schluessel der Positionen in (x, y)-Reihenfolge
+     */
+    private static long[] sampleSparse(IPointCursor occupied,
+            int numberOfPoints, int xLowerLimit, int xUpperLimit,
+            int yLowerLimit, int yUpperLimit, Random random) {
+        HashSet<Long> taken = new HashSet<Long>();
+        IPointCursor within = new RectangleCursor(occupied, xLowerLimit,
+                xUpperLimit, yLowerLimit, yUpperLimit);
+        while (within.next()) {
+            taken.add(Long.valueOf(PackedPointSet.pack(within.getxPos(),
+                    within.getyPos())));
+        }
+        long xRange = (long) xUpperLimit - xLowerLimit + 1;
+        long yRange = (long) yUpperLimit - yLowerLimit + 1;
+        long[] keys = new long[numberOfPoints];
+        int count = 0;
+        while (count < numberOfPoints) {
+            long key = PackedPointSet.pack(
+                    (int) (xLowerLimit + nextLong(random, xRange)),
+                    (int) (yLowerLimit + nextLong(random, yRange)));
+            if (taken.add(Long.valueOf(key)))
+                keys[count++] = key;
+        }
+        PackedPointSet.sortKeys(keys, count);
+        return keys;
+    }
+
+    /**
+     * Die Methode zieht mit dem Algorithmus von Floyd paarweise verschiedene
+     * Zahlen aus [0, bound).
+     * 
+     * @param bound
+     *            die obere Schranke (exklusiv)
+     * @param count
+     *            die Anzahl der Zahlen; hoechstens bound
+     * @param random
+     *            der Zufallszahlengenerator
+     * @return die Zahlen aufsteigend sortiert
+     */
+    private static long[] floyd(long bound, int count, Random random) {
+        HashSet<Long> chosen = new HashSet<Long>(count * 2);
+        for (long j = bound - count; j < bound; j++) {
+            Long t = Long.valueOf(nextLong(random, j + 1));
+            if (!chosen.add(t))
+                chosen.add(Long.valueOf(j));
+        }
+        long[] result = new long[count];
+        int i = 0;
+        for (Long value : chosen) {
+            result[i++] = value.longValue();
+        }
+        PackedPointSet.sortKeys(result, count);
+        return result;
+    }
+
+    /**
+     * Die Methode gibt eine gleichverteilte Zufallszahl aus [0, bound)
+     * zurueck.
+     * 
+     * @param random
+     *            der Zufallszahlengenerator
+     * @param bound
+     *            die obere Schranke (exklusiv, positiv)
+     * @return die Zufallszahl
+     */
+    private static long nextLong(Random random, long bound) {
+        if (bound <= Integer.MAX_VALUE)
+            return random.nextInt((int) bound);
+        long bits;
+        long value;
+        do {
+            bits = random.nextLong() >>> 1;
+            value = bits % bound;
+        } while (bits - value + (bound - 1) < 0);
+        return value;
+    }
+
+    /**
+     * Die Methode bestimmt die spaltenweisen Nummern aller belegten Positionen
+     * innerhalb der Schranken.
+     * 
+     * @return die Nummern aufsteigend sortiert
+     */
+    private static long[] occupiedCells(IPointCursor cursor, int xLowerLimit,
+            int xUpperLimit, int yLowerLimit, int yUpperLimit) {
+        long yRange = (long) yUpperLimit - yLowerLimit + 1;
+        long[] result = new long[16];
+        int n = 0;
+        IPointCursor within = new RectangleCursor(cursor, xLowerLimit,
+                xUpperLimit, yLowerLimit, yUpperLimit);
+        while (within.next()) {
+            if (n == result.length)
+                result = Arrays.copyOf(result, n * 2);
+            result[n++] = ((long) within.getxPos() - xLowerLimit) * yRange
+                    + ((long) within.getyPos() - yLowerLimit);
+        }
+        return Arrays.copyOf(result, n);
+    }
+}
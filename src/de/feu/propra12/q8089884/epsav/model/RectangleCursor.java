@@ -0,0 +1,134 @@
+/**
+ * Das Paket beinhaltet alle (abstrakten) Klassen, Interfaces und Enums,
+ * die zur Darstellung einer Punktmenge im zweidimensionalen Raum benoetigt
+ * werden.
+ */
+package de.feu.propra12.q8089884.epsav.model;
+
+import de.feu.propra12.q8089884.epsav.model.interfaces.IPointCursor;
+
+/**
+ * Der Cursor durchlaeuft nur die Punkte eines anderen Cursors, die innerhalb
+ * eines achsenparallelen Rechtecks liegen. Er besucht dabei nur die belegten
+ * Spalten des Rechtecks: liegt ein Punkt ober- oder unterhalb des
+ * y-Bereichs, springt der zugrunde liegende Cursor mit einer Suche an den
+ * Anfang des y-Bereichs derselben bzw. der naechsten Spalte.
+ * 
+ * @author Felix Wenz
+ * 
+ */
+public class RectangleCursor implements IPointCursor {
+
+    /**
+     * der zugrunde liegende Cursor
+     */
+    private final IPointCursor cursor;
+
+    /**
+     * untere Schranke fuer x-Koordinaten
+     */
+    private final int xLowerLimit;
+
+    /**
+     * obere Schranke fuer x-Koordinaten
+     */
+    private final int xUpperLimit;
+
+    /**
+     * untere Schranke fuer y-Koordinaten
+     */
+    private final int yLowerLimit;
+
+    /**
+     * obere Schranke fuer y-Koordinaten
+     */
+    private final int yUpperLimit;
+
+    /**
+     * Der Konstruktor fuer einen Rechteckcursor. Der zugrunde liegende Cursor
+     * wird vor den ersten Punkt des Rechtecks positioniert.
+     * 
+     * @param cursor
+     *            der zugrunde liegende aufsteigende Cursor
+     * @param xLowerLimit
+     *            untere Schranke fuer x-Koordinaten
+     * @param xUpperLimit
+     *            obere Schranke fuer x-Koordinaten
+     * @param yLowerLimit
+     *            untere Schranke fuer y-Koordinaten
+     * @param yUpperLimit
+     *            obere Schranke fuer y-Koordinaten
+     */
+    public RectangleCursor(IPointCursor cursor, int xLowerLimit,
+            int xUpperLimit, int yLowerLimit, int yUpperLimit) {
+        this.cursor = cursor;
+        this.xLowerLimit = xLowerLimit;
+        this.xUpperLimit = xUpperLimit;
+        this.yLowerLimit = yLowerLimit;
+        this.yUpperLimit = yUpperLimit;
+        cursor.seek(xLowerLimit, yLowerLimit);
+    }
+
+    /*
+     * (non-Javadoc)
+     * 
+     * @see de.feu.propra12.q8089884.epsav.model.interfaces.IPointCursor#next()
+     */
+    @Override
+    public boolean next() {
+        if (yUpperLimit < yLowerLimit)
+            return false;
+        while (cursor.next()) {
+            int x = cursor.getxPos();
+            if (x > xUpperLimit)
+                return false;
+            int y = cursor.getyPos();
+            if (x < xLowerLimit) {
+                cursor.seek(xLowerLimit, yLowerLimit);
+            } else if (y < yLowerLimit) {
+                cursor.seek(x, yLowerLimit);
+            } else if (y > yUpperLimit) {
+                if (x == Integer.MAX_VALUE)
+                    return false;
+                cursor.seek(x + 1, yLowerLimit);
+            } else {
+                return true;
+            }
+        }
+        return false;
+    }
+
+    /*
+     * (non-Javadoc)
+     * 
+     * @see
+     * de.feu.propra12.q8089884.epsav.model.interfaces.IPointCursor#getxPos()
+     */
+    @Override
+    public int getxPos() {
+        return cursor.getxPos();
+    }
+
+    /*
+     * (non-Javadoc)
+     * 
+     * @see
+     * de.feu.propra12.q8089884.epsav.model.interfaces.IPointCursor#getyPos()
+     */
+    @Override
+    public int getyPos() {
+        return cursor.getyPos();
+    }
+
+    /*
+     * (non-Javadoc)
+     * 
+     * @see
+     * de.feu.propra12.q8089884.epsav.model.interfaces.IPointCursor#seek(int,
+     * int)
+     */
+    @Override
+    public void seek(int xPos, int yPos) {
+        cursor.seek(xPos, yPos);
+    }
+}
@@ -6,7 +6,7 @@ package de.feu.propra12.q8089884.epsav.model;
 import java.io.IOException;
 
 import de.feu.propra12.interfaces.ISmallestCircleCalculator;
-import de.feu.propra12.q8089884.epsav.util.Point;
+import de.feu.propra12.q8089884.epsav.util.PointBuffer;
 
 /**
  * Die Klasse implementiert das ProPra-Testinterface. Gleichzeitig stellt es
@@ -23,6 +23,11 @@ public class SmallestCircleCalculator implements ISmallestCircleCalculator {
      */
     private SynchronizedCompletePointSetAlgebra psa = new SynchronizedCompletePointSetAlgebra();
 
+    /**
+     * der wiederverwendete Puffer fuer die konvexe Huelle
+     */
+    private final PointBuffer convexHull = new PointBuffer();
+
     @Override
     public void addPoint(int x, int y) {
         psa.addPoint(x, y);
@@ -91,13 +96,14 @@ public class SmallestCircleCalculator implements ISmallestCircleCalculator {
      * @see de.feu.propra12.interfaces.ISmallestCircleCalculator#getConvexHull()
      */
     @Override
-    public int[][] getConvexHull() {
-        Point[] points = psa.getConvexHull();
-        int[][] result = new int[points.length][2];
-        // alle Punkte in Koordinatenarray transformieren
-        for (int i = 0; i < points.length; i++) {
-            result[i][0] = points[i].getxPos();
-            result[i][1] = points[i].getyPos();
+    public synchronized int[][] getConvexHull() {
+        // die Huelle wird ohne Punktobjekte in den Puffer kopiert; nur das
+        // Ergebnisarray entsteht neu
+        psa.getConvexHull(convexHull);
+        int[][] result = new int[convexHull.size()][];
+        for (int i = 0; i < result.length; i++) {
+            result[i] = new int[] { convexHull.getxPos(i),
+                    convexHull.getyPos(i) };
         }
         return result;
     }
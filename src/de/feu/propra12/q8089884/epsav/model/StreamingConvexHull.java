@@ -0,0 +1,370 @@
+/**
+ * Das Paket beinhaltet alle (abstrakten) Klassen, Interfaces und Enums,
+ * die zur Darstellung einer Punktmenge im zweidimensionalen Raum benoetigt
+ * werden.
+ */
+package de.feu.propra12.q8089884.epsav.model;
+
+import java.io.*;
+import java.util.Arrays;
+
+import de.feu.propra12.q8089884.epsav.model.interfaces.ISmallestEnclosingCircleCalculator;
+import de.feu.propra12.q8089884.epsav.util.*;
+
+/**
+ * Die Klasse berechnet die konvexe Huelle und den kleinsten umfassenden Kreis
+ * von Punkten, die nacheinander (etwa aus einer sehr grossen Datei) gelesen
+ * werden, ohne die Punktmenge selbst zu speichern. Gehalten werden nur die
+ * Ketten der Huelle der bisher verarbeiteten Punkte und ein Puffer neuer
+ * Punkte, so dass der Speicherbedarf nicht von der Anzahl der Punkte abhaengt.
+ * 
+ * Ein neuer Punkt echt innerhalb der bisherigen Huelle kann keine Ecke mehr
+ * werden und wird nach einer binaeren Suche in O(log h) verworfen. Die
+ * uebrigen Punkte werden gepuffert; ist der Puffer voll, werden sie mit den
+ * Ecken der Huelle sortiert und zu einer neuen Huelle (monotone Kette)
+ * verbunden. Da der kleinste umfassende Kreis nur von den Ecken der Huelle
+ * abhaengt, genuegt die Huelle auch fuer ihn.
+ * 
+ * Die Klasse ist nicht threadsicher.
+ * 
+ * @author Felix Wenz
+ * 
+ */
+public class StreamingConvexHull implements ISmallestEnclosingCircleCalculator {
+
+    /**
+     * die Anzahl der ersten Punkte, nach der die Huelle zum ersten Mal
+     * verbunden wird; die Grenze wird danach bis zu MAX_PENDING verdoppelt,
+     * damit frueh eine Huelle zum Verwerfen vorliegt
+     */
+    private static final int MIN_PENDING = 1 << 10;
+
+    /**
+     * die hoechste Anzahl gepufferter Punkte
+     */
+    private static final int MAX_PENDING = 1 << 16;
+
+    /**
+     * die noerdliche Kette der Huelle der verbundenen Punkte
+     */
+    private long[] north = new long[0];
+
+    /**
+     * die suedliche Kette der Huelle der verbundenen Punkte
+     */
+    private long[] south = new long[0];
+
+    /**
+     * die gepufferten Punkte, die noch nicht mit der Huelle verbunden sind;
+     * am Ende ist Platz fuer die Ecken der Huelle
+     */
+    private long[] pending = new long[MAX_PENDING];
+
+    /**
+     * die Anzahl der gepufferten Punkte
+     */
+    private int pendingCount = 0;
+
+    /**
+     * die Anzahl der Punkte, ab der der Puffer verbunden wird
+     */
+    private int pendingLimit = MIN_PENDING;
+
+    /**
+     * die ersten bis zu vier verschiedenen Punkte; wie bei
+     * ContourPolygonHullCalculator werden bis zu drei Punkte unveraendert
+     * zurueckgegeben
+     */
+    private final long[] firstKeys = new long[4];
+
+    /**
+     * die Anzahl der verschiedenen Punkte in firstKeys
+     */
+    private int distinct = 0;
+
+    /**
+     * die Anzahl aller gelesenen Punkte einschliesslich doppelter
+     */
+    private long count = 0;
+
+    /**
+     * der zwischengespeicherte kleinste umfassende Kreis; null, solange nicht
+     * berechnet
+     */
+    private Circle smallestEnclosingCircle = null;
+
+    /**
+     * die Punkte, die den zwischengespeicherten Kreis festlegen
+     */
+    private final PointBuffer circleSupport = new PointBuffer(3);
+
+    /**
+     * Die Methode verarbeitet einen weiteren Punkt.
+     * 
+     * @param xPos
+     *            die x-Koordinate
+     * @param yPos
+     *            die y-Koordinate
+     */
+    public void addPoint(int xPos, int yPos) {
+        count++;
+        long key = PackedPointSet.pack(xPos, yPos);
+        if (distinct < firstKeys.length)
+            remember(key);
+        // ein Punkt im Kreis aendert den Kreis nicht
+        if (smallestEnclosingCircle != null
+                && !WelzlCircleCalculator.contains(circleSupport, xPos, yPos))
+            smallestEnclosingCircle = null;
+        if (isInside(north, HullChains.NORTH, xPos, yPos)
+                && isInside(south, HullChains.SOUTH, xPos, yPos))
+            return;
+
+        if (pendingCount == pendingLimit) {
+            flush();
+            pendingLimit = Math.min(pendingLimit * 2, MAX_PENDING);
+        }
+        pending[pendingCount++] = key;
+    }
+
+    /**
+     * Die Methode liest Punkte aus einer Datei (ein Punkt pro Zeile) und
+     * verarbeitet sie nacheinander.
+     * 
+     * @param file
+     *            die Datei
+     * @throws IOException
+     *             wird geworfen, wenn ein Fehler beim Lesen der Datei auftritt
+     */
+    public void importPointsFromFile(File file) throws IOException {
+        try {
+            InputStream in = new FileInputStream(file);
+            try {
+                importPointsFromStream(in);
+            } finally {
+                in.close();
+            }
+        } catch (FileNotFoundException e) {
+            System.out.println("Fehler beim Lesen der Datei!");
+        }
+    }
+
+    /**
+     * Die Methode liest Punkte aus einer Datei (ein Punkt pro Zeile) und
+     * verarbeitet sie nacheinander.
+     * 
+     * @param filename
+     *            der Dateipfad
+     * @throws IOException
+     *             wird geworfen, wenn ein Fehler beim Lesen der Datei auftritt
+     */
+    public void importPointsFromFile(String filename) throws IOException {
+        importPointsFromFile(new File(filename));
+    }
+
+    /**
+     * Die Methode liest Punkte aus einem Datenstrom im Dateiformat (ein Punkt
+     * pro Zeile) und verarbeitet sie nacheinander. Der Datenstrom wird nicht
+     * geschlossen.
+     * 
+     * @param in
+     *            der Datenstrom
+     * @throws IOException
+     *             wird geworfen, wenn ein Fehler beim Lesen des Datenstroms
+     *             auftritt
+     */
+    public void importPointsFromStream(InputStream in) throws IOException {
+        try {
+            BufferedReader reader = new BufferedReader(new InputStreamReader(
+                    in, "Cp1252"));
+            String line = reader.readLine();
+            while (line != null) {
+                // pruefen ob Zeile gueltiges Punktformat hat
+                try {
+                    Point p = Point.parsePoint(line);
+                    addPoint(p.getxPos(), p.getyPos());
+                } catch (PointFormatException e) {
+                    System.out.println("Die Zeile '" + line
+                            + "' weist kein gueltiges Punktformat auf!");
+                }
+                line = reader.readLine();
+            }
+        } catch (Exception e) {
+            System.out.println("Fehler beim Lesen der Datei!");
+        }
+    }
+
+    /**
+     * Die Methode gibt die Anzahl der bisher gelesenen Punkte einschliesslich
+     * doppelter Punkte zurueck.
+     * 
+     * @return die Anzahl der gelesenen Punkte
+     */
+    public long getPointCount() {
+        return count;
+    }
+
+    /**
+     * Die Methode gibt die Punkte der konvexen Huelle aller bisher gelesenen
+     * Punkte zurueck, in derselben Reihenfolge wie
+     * IConvexHullCalculator.getConvexHull().
+     * 
+     * @return die Punkte der konvexen Huelle
+     */
+    public Point[] getConvexHull() {
+        PointBuffer result = new PointBuffer();
+        getConvexHull(result);
+        return result.toPointArray();
+    }
+
+    /**
+     * Die Methode legt die Punkte der konvexen Huelle aller bisher gelesenen
+     * Punkte im uebergebenen Puffer ab.
+     * 
+     * @param result
+     *            der Puffer fuer die Punkte der konvexen Huelle; wird zuvor
+     *            geleert
+     */
+    public void getConvexHull(PointBuffer result) {
+        result.clear();
+        if (distinct < firstKeys.length) {
+            long[] keys = Arrays.copyOf(firstKeys, distinct);
+            Arrays.sort(keys);
+            for (long key : keys) {
+                result.add(PackedPointSet.unpackX(key),
+                        PackedPointSet.unpackY(key));
+            }
+            return;
+        }
+        flush();
+        HullChains.toVertices(north, south, result);
+    }
+
+    /**
+     * Die Methode verwirft alle bisher gelesenen Punkte.
+     */
+    public void clear() {
+        north = new long[0];
+        south = new long[0];
+        pending = new long[MAX_PENDING];
+        pendingCount = 0;
+        pendingLimit = MIN_PENDING;
+        distinct = 0;
+        count = 0;
+        smallestEnclosingCircle = null;
+    }
+
+    /*
+     * (non-Javadoc)
+     * 
+     * @see de.feu.propra12.q8089884.epsav.model.interfaces.
+     * ISmallestEnclosingCircleCalculator#getSECCenterPointX()
+     */
+    @Override
+    public double getSECCenterPointX() {
+        return getSmallestEnclosingCircle().getCenterX();
+    }
+
+    /*
+     * (non-Javadoc)
+     * 
+     * @see de.feu.propra12.q8089884.epsav.model.interfaces.
+     * ISmallestEnclosingCircleCalculator#getSECCenterPointY()
+     */
+    @Override
+    public double getSECCenterPointY() {
+        return getSmallestEnclosingCircle().getCenterY();
+    }
+
+    /*
+     * (non-Javadoc)
+     * 
+     * @see de.feu.propra12.q8089884.epsav.model.interfaces.
+     * ISmallestEnclosingCircleCalculator#getSECRadius()
+     */
+    @Override
+    public double getSECRadius() {
+        return getSmallestEnclosingCircle().getRadius();
+    }
+
+    /**
+     * Die Methode gibt den kleinsten umfassenden Kreis aller bisher gelesenen
+     * Punkte zurueck.
+     * 
+     * @return der kleinste umfassende Kreis
+     */
+    public Circle getSmallestEnclosingCircle() {
+        if (smallestEnclosingCircle == null) {
+            smallestEnclosingCircle = WelzlCircleCalculator
+                    .getSmallestEnclosingCircle(getConvexHull(), circleSupport);
+        }
+        return smallestEnclosingCircle;
+    }
+
+    /**
+     * Die Methode merkt sich einen Schluessel unter den ersten verschiedenen
+     * Punkten.
+     */
+    private void remember(long key) {
+        for (int i = 0; i < distinct; i++) {
+            if (firstKeys[i] == key)
+                return;
+        }
+        firstKeys[distinct++] = key;
+    }
+
+    /**
+     * Die Methode verbindet die gepufferten Punkte mit den Ecken der Huelle zu
+     * einer neuen Huelle.
+     */
+    private void flush() {
+        if (pendingCount == 0)
+            return;
+        int n = pendingCount + north.length + south.length;
+        if (n > pending.length)
+            pending = Arrays.copyOf(pending, n);
+        System.arraycopy(north, 0, pending, pendingCount, north.length);
+        System.arraycopy(south, 0, pending, pendingCount + north.length,
+                south.length);
+        PackedPointSet.sortKeys(pending, n);
+
+        // doppelte Schluessel entfernen
+        int m = 0;
+        for (int i = 0; i < n; i++) {
+            if (m == 0 || pending[i] != pending[m - 1])
+                pending[m++] = pending[i];
+        }
+        north = HullChains.chain(pending, m, HullChains.NORTH);
+        south = HullChains.chain(pending, m, HullChains.SOUTH);
+        pendingCount = 0;
+    }
+
+    /**
+     * Die Methode prueft, ob ein Punkt echt auf der inneren Seite einer Kette
+     * liegt, also innerhalb ihres x-Bereichs und nicht auf ihr.
+     * 
+     * @param chain
+     *            die Kette von West nach Ost
+     * @param sign
+     *            NORTH oder SOUTH
+     */
+    private static boolean isInside(long[] chain, int sign, int xPos,
+            int yPos) {
+        int last = chain.length - 1;
+        if (last < 1 || xPos <= PackedPointSet.unpackX(chain[0])
+                || xPos >= PackedPointSet.unpackX(chain[last]))
+            return false;
+
+        // Kante [low, high] mit x(low) < xPos <= x(high)
+        int low = 0;
+        int high = last;
+        while (high - low > 1) {
+            int mid = (low + high) >>> 1;
+            if (PackedPointSet.unpackX(chain[mid]) < xPos)
+                low = mid;
+            else
+                high = mid;
+        }
+        return HullChains.isCorner(chain[low], chain[high],
+                PackedPointSet.pack(xPos, yPos), sign);
+    }
+}
@@ -7,6 +7,7 @@ package de.feu.propra12.q8089884.epsav.model;
 
 import java.io.*;
 import java.util.*;
+import java.util.concurrent.locks.ReentrantReadWriteLock;
 
 import de.feu.propra12.q8089884.epsav.model.interfaces.*;
 import de.feu.propra12.q8089884.epsav.util.*;
@@ -25,6 +26,15 @@ import de.feu.propra12.q8089884.epsav.util.*;
  * 4. Triangulationslinien anzeigen
  * 
  * 
+ * Lesende Zugriffe duerfen gleichzeitig erfolgen; nur Aenderungen sperren die
+ * Punktmenge exklusiv (ReentrantReadWriteLock). Den Schnappschuss der neuen
+ * Version erzeugt die Aenderung selbst, bevor sie die Schreibsperre
+ * freigibt; lesende Methoden nehmen daher die Schreibsperre nicht. Einzige
+ * Ausnahme sind Nachbarschaftsanfragen, die einen ausstehenden Neuaufbau des
+ * k-d-Baums nachholen und deshalb nicht unter einer bereits gehaltenen
+ * Lesesperre aufgerufen werden duerfen.
+ * 
+ * 
  * Auch sind folgende Funktionen fuer das Arbeiten mit der Punktmenge vorhanden:
  * 
  * - Speichern/Laden aus Datei
@@ -37,7 +47,7 @@ import de.feu.propra12.q8089884.epsav.util.*;
  */
 public class SynchronizedCompletePointSetAlgebra implements IRWPointSetAlgebra,
         IPointSetChangedSource, IFilePersistent, IUndoableRedoable,
-        IModuleMetaInformationProvider {
+        IModuleMetaInformationProvider, IPointSetSnapshotProvider {
 
     /**
      * Die Emailadresse des Programmierers
@@ -54,11 +64,67 @@ public class SynchronizedCompletePointSetAlgebra implements IRWPointSetAlgebra,
      */
     private final String NAME = "Felix Wenz";
 
-    // TODO effizientere Datenstruktur für Punktmenge (evtl. selbst anpassen)
+    /**
+     * die Sperre; lesende Methoden teilen sich die Lesesperre, aendernde
+     * Methoden nehmen die Schreibsperre
+     */
+    private final ReentrantReadWriteLock lock = new ReentrantReadWriteLock();
+
     /**
      * die Punktmenge
      */
-    private TreeSet<Point> pointSet = new TreeSet<Point>();
+    private PackedPointSet pointSet = new PackedPointSet();
+
+    /**
+     * der Gitterindex fuer die Suche nach naechstgelegenen Punkten
+     */
+    private GridPointIndex gridIndex = new GridPointIndex();
+
+    /**
+     * der k-d-Baum fuer Nachbarschafts- und Umkreissuchen
+     */
+    private KdTree kdTree = new KdTree();
+
+    /**
+     * die bei jeder Aenderung fortgeschriebene konvexe Huelle
+     */
+    private DynamicConvexHull convexHull = new DynamicConvexHull();
+
+    /**
+     * der bei jeder Aenderung fortgeschriebene kleinste umfassende Kreis
+     */
+    private DynamicEnclosingCircle enclosingCircle = new DynamicEnclosingCircle();
+
+    /**
+     * die bei jeder Aenderung fortgeschriebene Delaunay-Triangulation; null,
+     * solange sie nicht angefordert wurde oder nach vielen neuen Punkten neu
+     * aufzubauen ist
+     */
+    private DynamicTriangulation triangulation = null;
+
+    /**
+     * der Punkt, der gerade interaktiv verschoben wird, an seiner aktuellen
+     * Position; null, falls keiner verschoben wird. Der Punkt liegt in der
+     * Punktmenge und allen Indizes ausser convexHull (siehe
+     * startMovingPoint(Point)).
+     */
+    private Point movingPoint = null;
+
+    /**
+     * die Position des verschobenen Punktes zu Beginn der Verschiebung
+     */
+    private Point movingOrigin = null;
+
+    /**
+     * die Versionsnummer der Punktmenge; wird bei jeder Aenderung erhoeht
+     */
+    private long version = 0;
+
+    /**
+     * der Schnappschuss der aktuellen Version; null nur waehrend einer
+     * Aenderung unter der Schreibsperre
+     */
+    private volatile PointSetSnapshot snapshot = null;
 
     /**
      * die Liste der Aenderungsbeobachter
@@ -68,14 +134,14 @@ public class SynchronizedCompletePointSetAlgebra implements IRWPointSetAlgebra,
     /**
      * wahr, falls seit der letzten Aenderung nicht gespeichert wurde
      */
-    private boolean unsaved = false;
+    private volatile boolean unsaved = false;
 
     /**
      * Der Standardkonstruktor fuer eine Punktmengenalgebra. Erzeugt eine leere
      * Punktmenge.
      */
     public SynchronizedCompletePointSetAlgebra() {
-
+        snapshot = createSnapshot();
     }
 
     /**
@@ -85,6 +151,7 @@ public class SynchronizedCompletePointSetAlgebra implements IRWPointSetAlgebra,
      *            die Punkte
      */
     public SynchronizedCompletePointSetAlgebra(Point[] points) {
+        this();
         addPoints(points);
     }
 
@@ -99,6 +166,7 @@ public class SynchronizedCompletePointSetAlgebra implements IRWPointSetAlgebra,
      */
     public SynchronizedCompletePointSetAlgebra(String filename)
             throws IOException {
+        this();
         importPointsFromFile(filename);
     }
 
@@ -112,6 +180,7 @@ public class SynchronizedCompletePointSetAlgebra implements IRWPointSetAlgebra,
      *             wird geworfen, falls Fehler beim Lesen der Datei auftreten
      */
     public SynchronizedCompletePointSetAlgebra(File file) throws IOException {
+        this();
         importPointsFromFile(file);
     }
 
@@ -122,17 +191,166 @@ public class SynchronizedCompletePointSetAlgebra implements IRWPointSetAlgebra,
      * de.feu.propra12.q8089884.epsav.model.interfaces.IROPointSet#getPoints()
      */
     @Override
-    public synchronized Point[] getAllPoints() {
-        // erzeuge ein Array, das Kopien der Punkte in der Punktmenge beinhaltet
-        // und gebe dieses zurueck
-        Point[] origin = pointSet.toArray(new Point[0]);
-        Point[] result = new Point[origin.length];
-        for (int i = 0; i < result.length; i++) {
-            result[i] = new Point(origin[i].getxPos(), origin[i].getyPos());
+    public Point[] getAllPoints() {
+        lock.readLock().lock();
+        try {
+            // erzeuge ein Array, das Kopien der Punkte in der Punktmenge
+            // beinhaltet und gebe dieses zurueck
+            return toPointArray();
+        } finally {
+            lock.readLock().unlock();
+        }
+    }
+
+    /**
+     * Die Methode erzeugt ein nach (x, y) sortiertes Array mit neuen
+     * Punktobjekten fuer alle Punkte der Punktmenge.
+     * 
+     * @return das Punktearray
+     */
+    private Point[] toPointArray() {
+        Point[] result = new Point[pointSet.size()];
+        IPointCursor cursor = pointSet.cursor();
+        for (int i = 0; cursor.next(); i++) {
+            result[i] = new Point(cursor.getxPos(), cursor.getyPos());
         }
         return result;
     }
 
+    /*
+     * (non-Javadoc)
+     * 
+     * @see de.feu.propra12.q8089884.epsav.model.interfaces.
+     * IPointSetSnapshotProvider#getSnapshot()
+     */
+    @Override
+    public IPointSetSnapshot getSnapshot() {
+        // Leser der aktuellen Version kommen ohne Sperre aus
+        PointSetSnapshot result = snapshot;
+        if (result != null)
+            return result;
+        if (lock.isWriteLockedByCurrentThread()) {
+            // ein Beobachter fragt noch waehrend der Aenderung ab
+            result = createSnapshot();
+            snapshot = result;
+            return result;
+        }
+        // eine Aenderung laeuft gerade und erzeugt den Schnappschuss, bevor
+        // sie die Schreibsperre freigibt
+        lock.readLock().lock();
+        try {
+            return snapshot;
+        } finally {
+            lock.readLock().unlock();
+        }
+    }
+
+    /**
+     * Die Methode erzeugt den Schnappschuss der aktuellen Version. Sie wird
+     * nur unter der Schreibsperre aufgerufen, da copy() eine neue
+     * Blockkennung vergibt und damit aendernd ist. Huelle und Kreis werden
+     * nicht berechnet: Der Schnappschuss erhaelt nur die unveraenderlichen
+     * Ketten der gepflegten Huelle und den Kreis, sofern dieser noch gilt,
+     * und leitet beide erst beim ersten Zugriff ab.
+     * 
+     * @return der Schnappschuss
+     */
+    private PointSetSnapshot createSnapshot() {
+        return new PointSetSnapshot(pointSet.copy(), version,
+                convexHull.getNorthChain(), convexHull.getSouthChain(),
+                movingPoint, enclosingCircle.getCircle(), this);
+    }
+
+    /**
+     * Die Methode gibt die Schreibsperre frei. Bei der aeussersten Freigabe
+     * wird zuvor der Schnappschuss der neuen Version erzeugt, damit lesende
+     * Methoden ihn nie unter der Schreibsperre aufbauen muessen.
+     * Der Schnappschuss kostet O(n / BLOCK_CAPACITY) und die Kopie eines
+     * Blocks bei der naechsten Aenderung (siehe PackedPointSet.copy()).
+     */
+    private void unlockWrite() {
+        try {
+            if (lock.getWriteHoldCount() == 1 && snapshot == null)
+                snapshot = createSnapshot();
+        } finally {
+            lock.writeLock().unlock();
+        }
+    }
+
+    /**
+     * Die Methode erhoeht nach einer Aenderung die Versionsnummer und
+     * verwirft den Schnappschuss der alten Version.
+     */
+    private void newVersion() {
+        version++;
+        snapshot = null;
+    }
+
+    /*
+     * (non-Javadoc)
+     * 
+     * @see de.feu.propra12.q8089884.epsav.model.interfaces.IROPointSet#
+     * forEachPoint(de.feu.propra12.q8089884.epsav.model.interfaces.
+     * IPointVisitor)
+     */
+    @Override
+    public void forEachPoint(IPointVisitor visitor) {
+        // der Besucher laeuft ohne Sperre ueber den Schnappschuss und darf
+        // die Punktmenge daher abfragen und sogar veraendern
+        IPointCursor cursor = getSnapshot().cursor();
+        while (cursor.next()) {
+            visitor.visit(cursor.getxPos(), cursor.getyPos());
+        }
+    }
+
+    /*
+     * (non-Javadoc)
+     * 
+     * @see de.feu.propra12.q8089884.epsav.model.interfaces.IROPointSet#
+     * forEachPoint(int, int, int, int,
+     * de.feu.propra12.q8089884.epsav.model.interfaces.IPointVisitor)
+     */
+    @Override
+    public void forEachPoint(int xLowerLimit, int xUpperLimit,
+            int yLowerLimit, int yUpperLimit, IPointVisitor visitor) {
+        IPointCursor cursor = new RectangleCursor(getSnapshot().cursor(),
+                xLowerLimit, xUpperLimit, yLowerLimit, yUpperLimit);
+        while (cursor.next()) {
+            visitor.visit(cursor.getxPos(), cursor.getyPos());
+        }
+    }
+
+    /*
+     * (non-Javadoc)
+     * 
+     * @see de.feu.propra12.q8089884.epsav.model.interfaces.IROPointSet#
+     * copyPoints(int, int[], int[])
+     */
+    @Override
+    public int copyPoints(int index, int[] xPositions, int[] yPositions) {
+        return copyPoints((PointSetSnapshot) getSnapshot(), index,
+                xPositions, yPositions);
+    }
+
+    /**
+     * Die Methode kopiert die Koordinaten der Punkte eines Schnappschusses ab
+     * dem uebergebenen Index in die uebergebenen Arrays.
+     * 
+     * @return die Anzahl der kopierten Punkte
+     */
+    private static int copyPoints(PointSetSnapshot snapshot, int index,
+            int[] xPositions, int[] yPositions) {
+        int length = Math.min(xPositions.length, yPositions.length);
+        IPointCursor cursor = snapshot.cursor(index);
+        int n = 0;
+        while (n < length && cursor.next()) {
+            xPositions[n] = cursor.getxPos();
+            yPositions[n] = cursor.getyPos();
+            n++;
+        }
+        return n;
+    }
+
     /*
      * (non-Javadoc)
      * 
@@ -141,8 +359,13 @@ public class SynchronizedCompletePointSetAlgebra implements IRWPointSetAlgebra,
      * de.feu.propra12.q8089884.epsav.util.Point)
      */
     @Override
-    public synchronized boolean contains(Point p) {
-        return pointSet.contains(p);
+    public boolean contains(Point p) {
+        lock.readLock().lock();
+        try {
+            return pointSet.contains(p.getxPos(), p.getyPos());
+        } finally {
+            lock.readLock().unlock();
+        }
     }
 
     /*
@@ -153,8 +376,13 @@ public class SynchronizedCompletePointSetAlgebra implements IRWPointSetAlgebra,
      * int)
      */
     @Override
-    public synchronized boolean contains(int xPos, int yPos) {
-        return pointSet.contains(new Point(xPos, yPos));
+    public boolean contains(int xPos, int yPos) {
+        lock.readLock().lock();
+        try {
+            return pointSet.contains(xPos, yPos);
+        } finally {
+            lock.readLock().unlock();
+        }
     }
 
     /*
@@ -164,40 +392,121 @@ public class SynchronizedCompletePointSetAlgebra implements IRWPointSetAlgebra,
      * getNearestPointWithinRange (int, int, int)
      */
     @Override
-    public synchronized Point getNearestPointWithinRange(int xPos, int yPos,
-            int range) {
-        Point tempPoint = new Point(xPos, yPos);
-        // auf direkten Treffer reagieren
-        if (contains(tempPoint))
-            return tempPoint;
-        // Schleife fuer den Radius
-        for (int i = 1; i <= range; i++) {
-            // Schleife fuer horizontale Perimeter
-            for (int j = -i; j <= i; j++) {
-                // alle um -1 auf der y-Achse verschobenen Punkte pruefen
-                tempPoint.moveTo(xPos + j, yPos - i);
-                if (contains(tempPoint))
-                    return tempPoint;
-                // alle um +1 auf der y-Achse verschobenen Punkte pruefen
-                tempPoint.moveTo(xPos + j, yPos + i);
-                if (contains(tempPoint))
-                    return tempPoint;
+    public Point getNearestPointWithinRange(int xPos, int yPos, int range) {
+        lock.readLock().lock();
+        try {
+            return gridIndex.getNearestPointWithinRange(xPos, yPos, range);
+        } finally {
+            lock.readLock().unlock();
+        }
+    }
+
+    /*
+     * (non-Javadoc)
+     * 
+     * @see de.feu.propra12.q8089884.epsav.model.interfaces.IROPointSet#
+     * getKNearestPoints(int, int, int)
+     */
+    @Override
+    public Point[] getKNearestPoints(int xPos, int yPos, int k) {
+        readLockWithBalancedKdTree();
+        try {
+            return kdTree.getKNearestPoints(xPos, yPos, k);
+        } finally {
+            lock.readLock().unlock();
+        }
+    }
+
+    /*
+     * (non-Javadoc)
+     * 
+     * @see de.feu.propra12.q8089884.epsav.model.interfaces.IROPointSet#
+     * getKNearestPoints(int[], int[], int)
+     */
+    @Override
+    public Point[][] getKNearestPoints(int[] xPositions, int[] yPositions,
+            int k) {
+        readLockWithBalancedKdTree();
+        try {
+            Point[][] result = new Point[xPositions.length][];
+            for (int i = 0; i < result.length; i++) {
+                result[i] = kdTree.getKNearestPoints(xPositions[i],
+                        yPositions[i], k);
             }
-            // Schleife fuer vertikale Perimeter
-            for (int j = -i + 1; j < i; j++) {
-                // alle um -1 auf der x-Achse verschobenen (inneren) Punkte
-                // pruefen
-                tempPoint.moveTo(xPos - i, yPos + j);
-                if (contains(tempPoint))
-                    return tempPoint;
-                // alle um +1 auf der x-Achse verschobenen (inneren) Punkte
-                // pruefen
-                tempPoint.moveTo(xPos + i, yPos + j);
-                if (contains(tempPoint))
-                    return tempPoint;
+            return result;
+        } finally {
+            lock.readLock().unlock();
+        }
+    }
+
+    /*
+     * (non-Javadoc)
+     * 
+     * @see de.feu.propra12.q8089884.epsav.model.interfaces.IROPointSet#
+     * getPointsWithinRadius(int, int, double)
+     */
+    @Override
+    public Point[] getPointsWithinRadius(int xPos, int yPos, double radius) {
+        readLockWithBalancedKdTree();
+        try {
+            return kdTree.getPointsWithinRadius(xPos, yPos, radius);
+        } finally {
+            lock.readLock().unlock();
+        }
+    }
+
+    /*
+     * (non-Javadoc)
+     * 
+     * @see de.feu.propra12.q8089884.epsav.model.interfaces.IROPointSet#
+     * getPointsWithinRadius(int[], int[], double)
+     */
+    @Override
+    public Point[][] getPointsWithinRadius(int[] xPositions,
+            int[] yPositions, double radius) {
+        readLockWithBalancedKdTree();
+        try {
+            Point[][] result = new Point[xPositions.length][];
+            for (int i = 0; i < result.length; i++) {
+                result[i] = kdTree.getPointsWithinRadius(xPositions[i],
+                        yPositions[i], radius);
             }
+            return result;
+        } finally {
+            lock.readLock().unlock();
+        }
+    }
+
+    /**
+     * Die Methode nimmt die Lesesperre, nachdem ein ausstehender Neuaufbau des
+     * k-d-Baums unter der Schreibsperre erledigt wurde. Unter der Lesesperre
+     * veraendern Anfragen an den Baum diesen dann nicht mehr.
+     * 
+     * Anders als der Schnappschuss wird der Baum nicht schon bei jeder
+     * Aenderung ausbalanciert: Der Puffer fasst nur etwa Wurzel n Punkte, ein
+     * Neuaufbau kostet O(n log n), und einzeln eingefuegte Punkte wuerden so
+     * O(Wurzel n log n) je Punkt kosten, auch wenn nie eine Nachbarschaft
+     * abgefragt wird. Die Methode darf daher nicht aufgerufen werden, waehrend
+     * der aufrufende Thread nur die Lesesperre haelt; sie wirft dann eine
+     * IllegalStateException, statt beim Erweitern der Sperre zu haengen.
+     */
+    private void readLockWithBalancedKdTree() {
+        lock.readLock().lock();
+        if (!kdTree.needsRebalance() || lock.isWriteLockedByCurrentThread())
+            return;
+        // die Lesesperre laesst sich nicht zur Schreibsperre erweitern
+        lock.readLock().unlock();
+        if (lock.getReadHoldCount() > 0)
+            throw new IllegalStateException(
+                    "Nachbarschaftsanfragen sind unter der Lesesperre nicht "
+                            + "moeglich!");
+        lock.writeLock().lock();
+        try {
+            kdTree.rebalanceIfNeeded();
+            lock.readLock().lock();
+        } finally {
+            lock.writeLock().unlock();
         }
-        return null;
     }
 
     /*
@@ -208,7 +517,12 @@ public class SynchronizedCompletePointSetAlgebra implements IRWPointSetAlgebra,
      */
     @Override
     public boolean isEmpty() {
-        return pointSet.isEmpty();
+        lock.readLock().lock();
+        try {
+            return pointSet.isEmpty();
+        } finally {
+            lock.readLock().unlock();
+        }
     }
 
     /*
@@ -219,83 +533,21 @@ public class SynchronizedCompletePointSetAlgebra implements IRWPointSetAlgebra,
      * #getContourPolygon()
      */
     @Override
-    public synchronized Point[] getContourPolygon() {
-        Point[] points = pointSet.toArray(new Point[0]);
-
-        // Konturpolygon nur "berechnen", falls mehr als 3 Punkte in der Menge
-        // enthalten sind
-        if (points.length > 3) {
-
-            // Konturabschnitte in vorsortierter Datenstruktur speichern, um
-            // doppelte Punkte zu vermeiden
-
-            // Konturabschnitt Westen-Norden-Osten
-            TreeSet<Point> wno = new TreeSet<Point>();
-            // Konturabschnitt Westen-Sueden-Osten
-            TreeSet<Point> wso = new TreeSet<Point>();
-
-            // Index des letzten Elements der Punktmenge
-            int iLast = points.length - 1;
-
-            // Punkt mit der temporaer groessten y-Koordinate von links kommend
-            Point leftMaxY = points[0];
-            // Punkt mit der temporaer kleinsten y-Koordinate von links kommend
-            Point leftMinY = points[0];
-            // Punkt mit der temporaer groessten y-Koordinate von rechts kommend
-            Point rightMaxY = points[iLast];
-            // Punkt mit der temporaer kleinsten y-Koordinate von rechts kommend
-            Point rightMinY = points[iLast];
-
-            // Punkte W und O entsprechend einfuegen
-            wno.add(leftMinY);
-            wso.add(rightMaxY);
-
-            // TODO evtl. Performanz verbessern durch Einsatz einer
-            // while-Schleife mit Abbruchbedingung "Faeden ueberlappen"...
-
-            // "Faden" von beiden Seiten an die Punktmenge "pusten"; neue
-            // max-/min-Y Punkte in Konturlinien einfuegen
-            for (int i = 1; i < iLast; i++) {
-
-                if (points[i].getyPos() < leftMinY.getyPos()) {
-                    leftMinY = points[i];
-                    wno.add(leftMinY);
-                }
-                if (points[iLast - i].getyPos() < rightMinY.getyPos()) {
-                    rightMinY = points[iLast - i];
-                    wno.add(rightMinY);
-                }
-                if (points[i].getyPos() > leftMaxY.getyPos()) {
-                    leftMaxY = points[i];
-                    wso.add(leftMaxY);
-                }
-                if (points[iLast - i].getyPos() > rightMaxY.getyPos()) {
-                    rightMaxY = points[iLast - i];
-                    wso.add(rightMaxY);
-                }
-            }
-
-            // oberen und unteren Teil des Konturpolygons aneinander haengen;
-            // kein Punkt darf doppelt vorkommen
-            // TODO ...eigentlich sollte das Konturpolygon auch kolineare Punkte
-            // enthalten dürfen...;-)
-            LinkedList<Point> result = new LinkedList<Point>();
-            for (Iterator<Point> iterator = wno.iterator(); iterator.hasNext();) {
-                Point wnoNext = iterator.next();
-                if (!result.contains(wnoNext))
-                    result.add(wnoNext);
-            }
-            for (Iterator<Point> iterator = wso.descendingIterator(); iterator
-                    .hasNext();) {
-                Point wsoNext = iterator.next();
-                if (!result.contains(wsoNext))
-                    result.add(wsoNext);
-            }
-
-            return result.toArray(new Point[0]);
+    public Point[] getContourPolygon() {
+        // der Schnappschuss der aktuellen Version haelt das Ergebnis vor
+        return getSnapshot().getContourPolygon();
+    }
 
-        } else
-            return points;
+    /*
+     * (non-Javadoc)
+     * 
+     * @see
+     * de.feu.propra12.q8089884.epsav.model.interfaces.IConvexHullCalculator
+     * #getContourPolygon(de.feu.propra12.q8089884.epsav.util.PointBuffer)
+     */
+    @Override
+    public void getContourPolygon(PointBuffer result) {
+        getSnapshot().getContourPolygon(result);
     }
 
     /*
@@ -306,183 +558,79 @@ public class SynchronizedCompletePointSetAlgebra implements IRWPointSetAlgebra,
      * #getConvexHull()
      */
     @Override
-    public synchronized Point[] getConvexHull() {
-        Point[] contourPolygon = getContourPolygon();
-
-        // konvexe Huelle nur "berechnen", falls mehr als 3 Punkte das
-        // Konturpolygon bilden
-        if (contourPolygon.length > 3) {
-
-            // Indizes der Extrempunkte feststellen
-            int iWest = 0;
-            int iNorth = 0;
-            int iEast = 0;
-            int iSouth = 0;
-
-            for (int i = 1; i < contourPolygon.length; i++) {
-                if (contourPolygon[i].getyPos() <= contourPolygon[iNorth]
-                        .getyPos())
-                    iNorth = i;
-                if (contourPolygon[i].getyPos() >= contourPolygon[iSouth]
-                        .getyPos())
-                    iSouth = i;
-                if (contourPolygon[i].getxPos() >= contourPolygon[iEast]
-                        .getxPos())
-                    iEast = i;
-            }
-
-            // "Dellen" aus den Polygonabschnitten entfernen
-            eliminateCornersFromPolygonIntercept(contourPolygon, iWest, iNorth);
-            eliminateCornersFromPolygonIntercept(contourPolygon, iNorth, iEast);
-            eliminateCornersFromPolygonIntercept(contourPolygon, iEast, iSouth);
-            eliminateCornersFromPolygonIntercept(contourPolygon, iSouth, iWest);
-
-            // verbliebene Punkte in Liste erfassen und als Array zurueckgeben
-            LinkedList<Point> result = new LinkedList<Point>();
-            for (int i = 0; i < contourPolygon.length; i++) {
-                if (contourPolygon[i] != null)
-                    result.add(contourPolygon[i]);
-            }
-
-            return result.toArray(new Point[0]);
-
-        } else
-            return contourPolygon;
-    }
-
-    /**
-     * Die Methode entfernt Punkte, die eine Delle auf dem angegebenen
-     * Polygonabschnitt darstellen.
-     * 
-     * @param polygon
-     *            das Polygon
-     * @param iFirst
-     *            Startpunkt des Polygonabschnitts
-     * @param iLast
-     *            Endpunkt des Polygonabschnitts
-     */
-    private void eliminateCornersFromPolygonIntercept(Point[] polygon,
-            int iFirst, int iLast) {
-
-        int pLength = polygon.length;
-        int diff = (iLast - iFirst + pLength) % pLength;
-
-        // es koennen nur Ecken entfernt werden, wenn mehr als drei Punkte den
-        // Abschnitt bilden
-        if (diff >= 2) {
-            // laufe vom zweiten Punkt des Polygonabschnitts bis zum vorletzten
-            // Spezialfall Arrayüberlauf --> wird hier stets mittels MODULO
-            // abfangen
-            for (int i = 1; i < diff; i++) {
-
-                int pos = (iFirst + i) % pLength;
-                // ersten existierenden Vorgaenger und Nachfolger merken
-                int predecessor = getPredecessorInRingArray(polygon, pos);
-                int successor = getSuccessorInRingArray(polygon, pos);
-
-                // mit direktem Vorgeaenger und Nachfolger auf lokale Delle
-                // und Kolinearitaet pruefen
-                long determinant = determinantABC(polygon[predecessor],
-                        polygon[successor], polygon[pos]);
-
-                // bei Kolinearitaet Punkt entfernen
-                if (determinant == 0)
-                    polygon[pos] = null;
-
-                // bei Delle
-                else if (determinant > 0) {
-                    // gehe zurueck bis zum ersten Punkt P(j) für den der
-                    // Nachfolger des Dellenpunktes P(i) rechts der Geraden
-                    // durch P(j-1) und P(j) liegt
-                    for (int j = predecessor; j >= iFirst; j--) {
-                        if (polygon[j] != null
-                                && determinantABC(
-                                        polygon[getPredecessorInRingArray(
-                                                polygon, j)], polygon[j],
-                                        polygon[successor]) > 0) {
-                            // entferne alle Punkte zwischen P(j) und dem
-                            // Nachfolger von P(i)
-                            for (int k = 1; k < (successor - j + pLength)
-                                    % pLength; k++) {
-                                polygon[(j + k) % pLength] = null;
-                            }
-                            break;
-                        }
-                    }
-                }
-            }
-        }
+    public Point[] getConvexHull() {
+        return getSnapshot().getConvexHull();
     }
 
-    /**
-     * Die Methode bildet ein Array auf einen Ring ab und gibt zu einer Position
-     * die Position des Vorgaengers im Ring zurueck. Gibt es keine anderen
-     * Elemente mehr im Ring wird -1 zurueckgegeben.
+    /*
+     * (non-Javadoc)
      * 
-     * @param ringArray
-     *            das Ringarray
-     * @param pos
-     *            die Position
-     * @return die Position des Vorgaengers
+     * @see
+     * de.feu.propra12.q8089884.epsav.model.interfaces.IConvexHullCalculator
+     * #getConvexHull(de.feu.propra12.q8089884.epsav.util.PointBuffer)
      */
-    private int getPredecessorInRingArray(Object[] ringArray, int pos) {
-        int result = -1;
-        int l = ringArray.length;
-        for (int i = 1; i < l; i++) {
-            if (ringArray[(pos - i + l) % l] != null) {
-                result = (pos - i + l) % l;
-                break;
+    @Override
+    public void getConvexHull(PointBuffer result) {
+        // die Ketten der gepflegten Huelle werden ohne Schnappschuss und ohne
+        // Punktobjekte kopiert
+        lock.readLock().lock();
+        try {
+            result.clear();
+            if (pointSet.size() <= 3) {
+                IPointCursor cursor = pointSet.cursor();
+                while (cursor.next()) {
+                    result.add(cursor.getxPos(), cursor.getyPos());
+                }
+            } else if (movingPoint != null) {
+                KineticConvexHull.getVertices(convexHull.getNorthChain(),
+                        convexHull.getSouthChain(), PackedPointSet.pack(
+                                movingPoint.getxPos(), movingPoint.getyPos()),
+                        result);
+            } else {
+                convexHull.getVertices(result);
             }
+        } finally {
+            lock.readLock().unlock();
         }
-        return result;
     }
 
-    /**
-     * Die Methode bildet ein Array auf einen Ring ab und gibt zu einer Position
-     * die Position des Nachfolgers im Ring zurueck. Gibt es keine anderen
-     * Elemente mehr im Ring wird -1 zurueckgegeben.
+    /*
+     * (non-Javadoc)
      * 
-     * @param ringArray
-     *            das Ringarray
-     * @param pos
-     *            die Position
-     * @return die Position des Nachfolgers
+     * @see
+     * de.feu.propra12.q8089884.epsav.model.interfaces.IConvexHullCalculator
+     * #getConvexHull(int)
      */
-    private int getSuccessorInRingArray(Object[] ringArray, int pos) {
-        int result = -1;
-        int l = ringArray.length;
-        for (int i = 1; i < l; i++) {
-            if (ringArray[(pos + i) % l] != null) {
-                result = (pos + i) % l;
-                break;
-            }
+    @Override
+    public Point[] getConvexHull(int parallelism) {
+        if (parallelism <= 1)
+            return getConvexHull();
+        lock.readLock().lock();
+        try {
+            return ParallelConvexHullCalculator.getConvexHull(pointSet,
+                    parallelism);
+        } finally {
+            lock.readLock().unlock();
         }
-        return result;
     }
 
-    /**
-     * Die Methode berechnet die Determinante der Punkte A, B und C. Der
-     * Rückgabewert ist < 0 wenn C links, > 0 wenn C rechts und = 0 wenn C auf
-     * der Geraden von A nach B liegt. Die Orientierung ist hierbei x von links
-     * nach rechts aufsteigend und y von oben nach unten aufsteigend.
-     * 
-     * @param a
-     *            der Punkt A
-     * @param b
-     *            der Punkt B
-     * @param c
-     *            der Punkt C
-     * @return < 0 wenn C links, > 0 wenn C rechts und = 0 wenn C auf der
-     *         Geraden von A nach B liegt
-     */
-    private long determinantABC(Point a, Point b, Point c) {
-        long result = ((long) (c.getxPos() - a.getxPos()) * (long) (c.getyPos() + a
-                .getyPos()))
-                + ((long) (b.getxPos() - c.getxPos()) * (long) (b.getyPos() + c
-                        .getyPos()))
-                + ((long) (a.getxPos() - b.getxPos()) * (long) (a.getyPos() + b
-                        .getyPos()));
-        return result;
+    /*
+     * (non-Javadoc)
+     * 
+     * @see
+     * de.feu.propra12.q8089884.epsav.model.interfaces.IConvexHullCalculator
+     * #getConvexHull
+     * (de.feu.propra12.q8089884.epsav.model.interfaces.IConvexHullEngine)
+     */
+    @Override
+    public Point[] getConvexHull(IConvexHullEngine engine) {
+        PointSetSnapshot current = (PointSetSnapshot) getSnapshot();
+        int[] xs = new int[current.size()];
+        int[] ys = new int[xs.length];
+        copyPoints(current, 0, xs, ys);
+        // die Berechnung arbeitet auf der Kopie und haelt keine Sperre
+        return ContourPolygonHullCalculator.getConvexHull(xs, ys, xs.length,
+                engine);
     }
 
     /*
@@ -492,9 +640,8 @@ public class SynchronizedCompletePointSetAlgebra implements IRWPointSetAlgebra,
      * ISmallestEnclosingCircleCalculator#getCenterPointX()
      */
     @Override
-    public synchronized double getSECCenterPointX() {
-        // TODO Auto-generated method stub
-        return 0;
+    public double getSECCenterPointX() {
+        return getSnapshot().getSECCenterPointX();
     }
 
     /*
@@ -504,9 +651,8 @@ public class SynchronizedCompletePointSetAlgebra implements IRWPointSetAlgebra,
      * ISmallestEnclosingCircleCalculator#getCenterPointY()
      */
     @Override
-    public synchronized double getSECCenterPointY() {
-        // TODO Auto-generated method stub
-        return 0;
+    public double getSECCenterPointY() {
+        return getSnapshot().getSECCenterPointY();
     }
 
     /*
@@ -516,9 +662,128 @@ public class SynchronizedCompletePointSetAlgebra implements IRWPointSetAlgebra,
      * ISmallestEnclosingCircleCalculator#getRadius()
      */
     @Override
-    public synchronized double getSECRadius() {
-        // TODO Auto-generated method stub
-        return 0;
+    public double getSECRadius() {
+        return getSnapshot().getSECRadius();
+    }
+
+    /*
+     * (non-Javadoc)
+     * 
+     * @see de.feu.propra12.q8089884.epsav.model.interfaces.
+     * ITriangulationCalculator#getDelaunayTriangulation()
+     */
+    @Override
+    public Triangulation getDelaunayTriangulation() {
+        return getSnapshot().getDelaunayTriangulation();
+    }
+
+    /*
+     * (non-Javadoc)
+     * 
+     * @see de.feu.propra12.q8089884.epsav.model.interfaces.
+     * IVoronoiDiagramCalculator#getVoronoiDiagram()
+     */
+    @Override
+    public VoronoiDiagram getVoronoiDiagram() {
+        return getSnapshot().getVoronoiDiagram();
+    }
+
+    /*
+     * (non-Javadoc)
+     * 
+     * @see de.feu.propra12.q8089884.epsav.model.interfaces.
+     * IVoronoiDiagramCalculator#getLargestEmptyCircle()
+     */
+    @Override
+    public Circle getLargestEmptyCircle() {
+        return getSnapshot().getLargestEmptyCircle();
+    }
+
+    /**
+     * Die Methode gibt den fortgeschriebenen kleinsten umfassenden Kreis
+     * zurueck, sofern die Punktmenge noch die uebergebene Version hat. Muss
+     * der Kreis neu berechnet werden, geschieht das unter der Schreibsperre,
+     * damit die festlegenden Punkte fuer die folgenden Aenderungen
+     * festgehalten werden.
+     * 
+     * @param version
+     *            die Versionsnummer des anfragenden Schnappschusses
+     * @param convexHull
+     *            die konvexe Huelle dieser Version
+     * @return der Kreis; null, falls sich die Punktmenge inzwischen geaendert
+     *         hat oder der Kreis unter einer bereits gehaltenen Lesesperre
+     *         neu berechnet werden muesste
+     */
+    Circle getSmallestEnclosingCircle(long version, Point[] convexHull) {
+        lock.readLock().lock();
+        try {
+            if (version != this.version)
+                return null;
+            Circle circle = enclosingCircle.getCircle();
+            if (circle != null)
+                return circle;
+        } finally {
+            lock.readLock().unlock();
+        }
+        // die Lesesperre laesst sich nicht zur Schreibsperre erweitern
+        if (lock.getReadHoldCount() > 0 && !lock.isWriteLockedByCurrentThread())
+            return null;
+        lock.writeLock().lock();
+        try {
+            if (version != this.version)
+                return null;
+            return enclosingCircle.getCircle(convexHull);
+        } finally {
+            unlockWrite();
+        }
+    }
+
+    /**
+     * Die Methode gibt die fortgeschriebene Delaunay-Triangulation zurueck,
+     * sofern die Punktmenge noch die uebergebene Version hat. Wurde die
+     * Triangulation bisher nicht fortgeschrieben, wird sie zuvor einmalig
+     * unter der Schreibsperre in O(n log n) aufgebaut; danach kostet jede
+     * Aenderung nur die Umgebung des betroffenen Punktes, und die Ausgabe
+     * wird unter der Lesesperre, also gleichzeitig mit anderen Lesern, in O(n)
+     * erstellt.
+     * 
+     * @param version
+     *            die Versionsnummer des anfragenden Schnappschusses
+     * @return die Triangulation; null, falls sich die Punktmenge inzwischen
+     *         geaendert hat oder die Triangulation unter einer bereits
+     *         gehaltenen Lesesperre erst aufgebaut werden muesste
+     */
+    Triangulation getDelaunayTriangulation(long version) {
+        lock.readLock().lock();
+        try {
+            if (version != this.version)
+                return null;
+            if (triangulation != null)
+                return triangulation.toTriangulation();
+        } finally {
+            lock.readLock().unlock();
+        }
+        // die Lesesperre laesst sich nicht zur Schreibsperre erweitern
+        if (lock.getReadHoldCount() > 0 && !lock.isWriteLockedByCurrentThread())
+            return null;
+        lock.writeLock().lock();
+        try {
+            if (version != this.version)
+                return null;
+            if (triangulation == null) {
+                triangulation = new DynamicTriangulation();
+                triangulation.rebuild(pointSet.cursor());
+            }
+            // die Ausgabe haelt andere Leser nicht auf
+            lock.readLock().lock();
+        } finally {
+            unlockWrite();
+        }
+        try {
+            return triangulation.toTriangulation();
+        } finally {
+            lock.readLock().unlock();
+        }
     }
 
     /*
@@ -529,11 +794,16 @@ public class SynchronizedCompletePointSetAlgebra implements IRWPointSetAlgebra,
      * de.feu.propra12.q8089884.epsav.util.Point)
      */
     @Override
-    public synchronized void addPoint(Point p) {
-        pointSet.add(p);
-        unsaved = true;
-        fireChangedEvent(new PointSetChangedEvent(this,
-                EPointSetChangedMode.POINT_ADDED));
+    public void addPoint(Point p) {
+        lock.writeLock().lock();
+        try {
+            insert(p.getxPos(), p.getyPos());
+            unsaved = true;
+            fireChangedEvent(new PointSetChangedEvent(this,
+                    EPointSetChangedMode.POINT_ADDED));
+        } finally {
+            unlockWrite();
+        }
     }
 
     /*
@@ -544,10 +814,33 @@ public class SynchronizedCompletePointSetAlgebra implements IRWPointSetAlgebra,
      * int)
      */
     @Override
-    public synchronized void addPoint(int xPos, int yPos) {
+    public void addPoint(int xPos, int yPos) {
         addPoint(new Point(xPos, yPos));
     }
 
+    /**
+     * Die Methode fuegt einen Punkt in die Punktmenge und alle Indizes ein,
+     * ohne Beobachter zu informieren.
+     * 
+     * @param xPos
+     *            die x-Koordinate
+     * @param yPos
+     *            die y-Koordinate
+     * @return wahr, falls der Punkt noch nicht enthalten war
+     */
+    private boolean insert(int xPos, int yPos) {
+        if (!pointSet.add(xPos, yPos))
+            return false;
+        gridIndex.add(xPos, yPos);
+        kdTree.add(xPos, yPos);
+        convexHull.add(xPos, yPos);
+        enclosingCircle.add(xPos, yPos);
+        if (triangulation != null)
+            triangulation.add(xPos, yPos);
+        newVersion();
+        return true;
+    }
+
     /*
      * (non-Javadoc)
      * 
@@ -556,14 +849,101 @@ public class SynchronizedCompletePointSetAlgebra implements IRWPointSetAlgebra,
      * (de.feu.propra12. q8089884.epsav.util.Point[])
      */
     @Override
-    public synchronized void addPoints(Point[] points) {
-        // nur Punkte hinzufuegen und Beobachter informieren, falls Punkte
-        // vorhanden sind
-        if (points.length > 0) {
-            for (Point point : points) {
-                pointSet.add(point);
+    public void addPoints(Point[] points) {
+        long[] keys = new long[points.length];
+        for (int i = 0; i < keys.length; i++) {
+            keys[i] = PackedPointSet.pack(points[i].getxPos(),
+                    points[i].getyPos());
+        }
+        addKeys(keys, keys.length);
+    }
+
+    /*
+     * (non-Javadoc)
+     * 
+     * @see
+     * de.feu.propra12.q8089884.epsav.model.interfaces.IRWPointSet#addPoints
+     * (int[], int[])
+     */
+    @Override
+    public void addPoints(int[] xPositions, int[] yPositions) {
+        long[] keys = new long[xPositions.length];
+        for (int i = 0; i < keys.length; i++) {
+            keys[i] = PackedPointSet.pack(xPositions[i], yPositions[i]);
+        }
+        addKeys(keys, keys.length);
+    }
+
+    /**
+     * Die Methode fuegt gepackte Schluessel in einem Durchgang ein und
+     * informiert die Beobachter einmal, falls Punkte hinzugekommen sind.
+     * 
+     * @param keys
+     *            die Schluessel; das Array wird sortiert
+     * @param n
+     *            die Anzahl der gueltigen Schluessel
+     */
+    private void addKeys(long[] keys, int n) {
+        lock.writeLock().lock();
+        try {
+            // nur Beobachter informieren, falls Punkte hinzugekommen sind
+            if (insertAll(keys, n) > 0) {
+                unsaved = true;
+                fireChangedEvent(new PointSetChangedEvent(this,
+                        EPointSetChangedMode.POINTS_ADDED));
+            }
+        } finally {
+            unlockWrite();
+        }
+    }
+
+    /**
+     * Die Methode fuegt gepackte Schluessel in einem Durchgang in die
+     * Punktmenge und alle Indizes ein, ohne Beobachter zu informieren.
+     * 
+     * @param keys
+     *            die Schluessel; das Array wird sortiert
+     * @param n
+     *            die Anzahl der gueltigen Schluessel
+     * @return die Anzahl der Punkte, die noch nicht enthalten waren
+     */
+    private int insertAll(long[] keys, int n) {
+        boolean wasEmpty = pointSet.isEmpty();
+        long[] added = pointSet.addAll(keys, n);
+        if (added.length == 0)
+            return 0;
+        int[] xs = new int[added.length];
+        int[] ys = new int[added.length];
+        for (int i = 0; i < added.length; i++) {
+            xs[i] = PackedPointSet.unpackX(added[i]);
+            ys[i] = PackedPointSet.unpackY(added[i]);
+            gridIndex.add(xs[i], ys[i]);
+            enclosingCircle.add(xs[i], ys[i]);
+        }
+        if (wasEmpty) {
+            kdTree.build(xs, ys, added.length);
+        } else {
+            for (int i = 0; i < added.length; i++) {
+                kdTree.add(xs[i], ys[i]);
+            }
+        }
+        // bei vielen neuen Punkten ist ein Durchlauf guenstiger als das
+        // einzelne Fortschreiben der Huelle
+        if ((long) added.length * 8 > pointSet.size()) {
+            convexHull.rebuild(pointSet.cursor());
+            if (movingPoint != null)
+                convexHull.remove(movingPoint.getxPos(), movingPoint.getyPos());
+            // die Triangulation wird erst bei Bedarf neu aufgebaut
+            triangulation = null;
+        } else {
+            for (int i = 0; i < added.length; i++) {
+                convexHull.add(xs[i], ys[i]);
+                if (triangulation != null)
+                    triangulation.add(xs[i], ys[i]);
             }
         }
+        newVersion();
+        return added.length;
     }
 
     /*
@@ -574,25 +954,56 @@ public class SynchronizedCompletePointSetAlgebra implements IRWPointSetAlgebra,
      * (int, int, int, int, int)
      */
     @Override
-    public synchronized void addRandomPoints(int numberOfPoints,
-            int xLowerLimit, int xUpperLimit, int yLowerLimit, int yUpperLimit) {
-
-        // x- und y-Distanz erfassen
-        int xRange = xUpperLimit - xLowerLimit + 1;
-        int yRange = yUpperLimit - yLowerLimit + 1;
+    public int addRandomPoints(int numberOfPoints, int xLowerLimit,
+            int xUpperLimit, int yLowerLimit, int yUpperLimit) {
+        return addRandomPoints(numberOfPoints, xLowerLimit, xUpperLimit,
+                yLowerLimit, yUpperLimit, new Random());
+    }
 
-        Random random = new Random();
-        Point tempPoint;
+    /*
+     * (non-Javadoc)
+     * 
+     * @see
+     * de.feu.propra12.q8089884.epsav.model.interfaces.IRWPointSet#addRandomPoints
+     * (int, int, int, int, int, long)
+     */
+    @Override
+    public int addRandomPoints(int numberOfPoints, int xLowerLimit,
+            int xUpperLimit, int yLowerLimit, int yUpperLimit, long seed) {
+        return addRandomPoints(numberOfPoints, xLowerLimit, xUpperLimit,
+                yLowerLimit, yUpperLimit, new Random(seed));
+    }
 
-        // angegebene Anzahl an zufaelligen Punkten hinzufuegen
-        // Zufallszahlen im Rahmen der Distanzen erzeugen und als Offset zur
-        // unteren Schranke addieren
-        for (int i = 0; i < numberOfPoints; i++) {
-            do {
-                tempPoint = new Point(xLowerLimit + random.nextInt(xRange),
-                        yLowerLimit + random.nextInt(yRange));
-            } while (contains(tempPoint));
-            addPoint(tempPoint);
+    /**
+     * Die Methode zieht die angegebene Anzahl freier Positionen ohne
+     * Verwerfen (siehe RandomPointSampler) und fuegt sie in einem Durchgang
+     * ein.
+     * 
+     * @param numberOfPoints
+     *            die Anzahl
+     * @param xLowerLimit
+     *            untere Schranke fuer x-Koordinaten
+     * @param xUpperLimit
+     *            obere Schranke fuer x-Koordinaten
+     * @param yLowerLimit
+     *            untere Schranke fuer y-Koordinaten
+     * @param yUpperLimit
+     *            obere Schranke fuer y-Koordinaten
+     * @param random
+     *            der Zufallszahlengenerator
+     * @return die Anzahl der hinzugefuegten Punkte
+     */
+    private int addRandomPoints(int numberOfPoints, int xLowerLimit,
+            int xUpperLimit, int yLowerLimit, int yUpperLimit, Random random) {
+        lock.writeLock().lock();
+        try {
+            long[] keys = RandomPointSampler.sample(pointSet.cursor(),
+                    numberOfPoints, xLowerLimit, xUpperLimit, yLowerLimit,
+                    yUpperLimit, random);
+            addKeys(keys, keys.length);
+            return keys.length;
+        } finally {
+            unlockWrite();
         }
     }
 
@@ -606,20 +1017,30 @@ public class SynchronizedCompletePointSetAlgebra implements IRWPointSetAlgebra,
      */
     @Override
     public void movePoint(Point p, Point np) throws PointSetException {
-        // Falls der Punkt Teil der Punktmenge ist wird diser zuerst aus der
-        // Punktmenge entfernt, dann an die neuen Koordinaten bewegt und
-        // anschließend wieder in die Punktmenge eingefuegt. Dies geschieht um
-        // die Integritaet der vorsortierten Datenstruktur zu gewaehleisten.
-        if (contains(p) && !contains(np)) {
-            removePoint(p);
-            p.moveTo(np.getxPos(), np.getyPos());
-            addPoint(p);
-            unsaved = true;
-            fireChangedEvent(new PointSetChangedEvent(this,
-                    EPointSetChangedMode.POINT_MOVED));
-        } else
-            throw new PointSetException(
-                    "Der übergebene Punkt liegt nicht in der Punktmenge!");
+        lock.writeLock().lock();
+        try {
+            // Falls der Punkt Teil der Punktmenge ist wird diser zuerst aus
+            // der Punktmenge entfernt und anschließend der Punkt mit den neuen
+            // Koordinaten eingefuegt. Punkte sind unveraenderlich; der
+            // uebergebene Punkt behaelt seine Koordinaten.
+            if (contains(p) && !contains(np)) {
+                if (p.equals(movingPoint)) {
+                    // ein Schritt des interaktiven Verschiebens; die Huelle
+                    // wird erst bei stopMovingPoint() fortgeschrieben
+                    relocateMovingPoint(np);
+                } else {
+                    delete(p.getxPos(), p.getyPos());
+                    insert(np.getxPos(), np.getyPos());
+                    unsaved = true;
+                }
+                fireChangedEvent(new PointSetChangedEvent(this,
+                        EPointSetChangedMode.POINT_MOVED));
+            } else
+                throw new PointSetException(
+                        "Der übergebene Punkt liegt nicht in der Punktmenge!");
+        } finally {
+            unlockWrite();
+        }
     }
 
     /*
@@ -630,7 +1051,7 @@ public class SynchronizedCompletePointSetAlgebra implements IRWPointSetAlgebra,
      * (de.feu.propra12. q8089884.epsav.util.Point, int, int)
      */
     @Override
-    public synchronized void movePoint(Point p, int xPos, int yPos)
+    public void movePoint(Point p, int xPos, int yPos)
             throws PointSetException {
         movePoint(p, new Point(xPos, yPos));
     }
@@ -643,8 +1064,8 @@ public class SynchronizedCompletePointSetAlgebra implements IRWPointSetAlgebra,
      * (int, int, int, int)
      */
     @Override
-    public synchronized void movePoint(int xPos, int yPos, int newXPos,
-            int newYPos) throws PointSetException {
+    public void movePoint(int xPos, int yPos, int newXPos, int newYPos)
+            throws PointSetException {
         movePoint(new Point(xPos, yPos), newXPos, newYPos);
     }
 
@@ -656,14 +1077,19 @@ public class SynchronizedCompletePointSetAlgebra implements IRWPointSetAlgebra,
      * (de.feu.propra12 .q8089884.epsav.util.Point)
      */
     @Override
-    public synchronized void removePoint(Point p) throws PointSetException {
-        if (p != null && pointSet.remove(p)) {
-            unsaved = true;
-            fireChangedEvent(new PointSetChangedEvent(this,
-                    EPointSetChangedMode.POINT_REMOVED));
-        } else
-            throw new PointSetException(
-                    "Der übergebene Punkt liegt nicht in der Punktmenge!");
+    public void removePoint(Point p) throws PointSetException {
+        lock.writeLock().lock();
+        try {
+            if (p != null && delete(p.getxPos(), p.getyPos())) {
+                unsaved = true;
+                fireChangedEvent(new PointSetChangedEvent(this,
+                        EPointSetChangedMode.POINT_REMOVED));
+            } else
+                throw new PointSetException(
+                        "Der übergebene Punkt liegt nicht in der Punktmenge!");
+        } finally {
+            unlockWrite();
+        }
     }
 
     /*
@@ -674,22 +1100,140 @@ public class SynchronizedCompletePointSetAlgebra implements IRWPointSetAlgebra,
      * (int, int)
      */
     @Override
-    public synchronized void removePoint(int xPos, int yPos)
-            throws PointSetException {
+    public void removePoint(int xPos, int yPos) throws PointSetException {
         removePoint(new Point(xPos, yPos));
     }
 
+    /**
+     * Die Methode entfernt einen Punkt aus der Punktmenge und allen Indizes,
+     * ohne Beobachter zu informieren.
+     * 
+     * @param xPos
+     *            die x-Koordinate
+     * @param yPos
+     *            die y-Koordinate
+     * @return wahr, falls der Punkt enthalten war
+     */
+    private boolean delete(int xPos, int yPos) {
+        if (!pointSet.remove(xPos, yPos))
+            return false;
+        gridIndex.remove(xPos, yPos);
+        kdTree.remove(xPos, yPos);
+        enclosingCircle.remove(xPos, yPos);
+        if (triangulation != null)
+            triangulation.remove(xPos, yPos);
+        if (movingPoint != null && movingPoint.getxPos() == xPos
+                && movingPoint.getyPos() == yPos) {
+            // der verschobene Punkt liegt nicht in convexHull
+            movingPoint = null;
+            movingOrigin = null;
+        } else {
+            convexHull.remove(xPos, yPos);
+        }
+        newVersion();
+        return true;
+    }
+
+    /**
+     * Die Methode beginnt das interaktive Verschieben eines Punktes. Bis
+     * stopMovingPoint() aufgerufen wird, fuehrt movePoint(Point, Point) fuer
+     * diesen Punkt die Huelle nicht mehr fort: Die Huelle der uebrigen Punkte
+     * bleibt stehen, und jeder Schritt verbindet sie nur noch mit der neuen
+     * Position des Punktes (siehe KineticConvexHull). Andere Aenderungen sind
+     * waehrenddessen weiterhin moeglich.
+     * 
+     * @param p
+     *            der zu verschiebende Punkt
+     * @throws PointSetException
+     *             wird geworfen, falls der Punkt nicht in der Punktmenge liegt
+     */
+    public void startMovingPoint(Point p) throws PointSetException {
+        lock.writeLock().lock();
+        try {
+            stopMovingPoint();
+            if (!contains(p))
+                throw new PointSetException(
+                        "Der übergebene Punkt liegt nicht in der Punktmenge!");
+            // die sichtbare Huelle bleibt dieselbe, daher keine neue Version
+            convexHull.remove(p.getxPos(), p.getyPos());
+            movingPoint = p;
+            movingOrigin = p;
+        } finally {
+            unlockWrite();
+        }
+    }
+
+    /**
+     * Die Methode beendet das interaktive Verschieben und uebernimmt die
+     * letzte Position des Punktes als eine einzige Verschiebung in die
+     * fortgeschriebene Huelle. Wird gerade kein Punkt verschoben, geschieht
+     * nichts.
+     */
+    public void stopMovingPoint() {
+        lock.writeLock().lock();
+        try {
+            if (movingPoint == null)
+                return;
+            convexHull.add(movingPoint.getxPos(), movingPoint.getyPos());
+            if (!movingPoint.equals(movingOrigin))
+                unsaved = true;
+            movingPoint = null;
+            movingOrigin = null;
+        } finally {
+            unlockWrite();
+        }
+    }
+
+    /**
+     * Die Methode versetzt den gerade interaktiv verschobenen Punkt in der
+     * Punktmenge und den Indizes ausser der Huelle.
+     * 
+     * @param np
+     *            die neue Position; darf nicht belegt sein
+     */
+    private void relocateMovingPoint(Point np) {
+        int xPos = movingPoint.getxPos();
+        int yPos = movingPoint.getyPos();
+        pointSet.remove(xPos, yPos);
+        gridIndex.remove(xPos, yPos);
+        kdTree.remove(xPos, yPos);
+        pointSet.add(np.getxPos(), np.getyPos());
+        gridIndex.add(np.getxPos(), np.getyPos());
+        kdTree.add(np.getxPos(), np.getyPos());
+        enclosingCircle.remove(xPos, yPos);
+        enclosingCircle.add(np.getxPos(), np.getyPos());
+        if (triangulation != null) {
+            triangulation.remove(xPos, yPos);
+            triangulation.add(np.getxPos(), np.getyPos());
+        }
+        movingPoint = np;
+        newVersion();
+    }
+
     /*
      * (non-Javadoc)
      * 
      * @see de.feu.propra12.q8089884.epsav.model.interfaces.IRWPointSet#clear()
      */
     @Override
-    public synchronized void clear() {
-        pointSet.clear();
-        unsaved = false;
-        fireChangedEvent(new PointSetChangedEvent(this,
-                EPointSetChangedMode.POINTSET_CLEARED));
+    public void clear() {
+        lock.writeLock().lock();
+        try {
+            pointSet.clear();
+            gridIndex.clear();
+            kdTree.clear();
+            convexHull.clear();
+            enclosingCircle.clear();
+            triangulation = null;
+            movingPoint = null;
+            movingOrigin = null;
+            newVersion();
+            unsaved = false;
+            fireChangedEvent(new PointSetChangedEvent(this,
+                    EPointSetChangedMode.POINTSET_CLEARED));
+        } finally {
+            unlockWrite();
+        }
     }
 
     /*
@@ -699,7 +1243,7 @@ public class SynchronizedCompletePointSetAlgebra implements IRWPointSetAlgebra,
      * de.feu.propra12.q8089884.epsav.model.interfaces.IUndoableRedoable#undo()
      */
     @Override
-    public synchronized void undo() throws IllegalStateException {
+    public void undo() throws IllegalStateException {
         // TODO Auto-generated method stub
 
     }
@@ -711,7 +1255,7 @@ public class SynchronizedCompletePointSetAlgebra implements IRWPointSetAlgebra,
      * de.feu.propra12.q8089884.epsav.model.interfaces.IUndoableRedoable#redo()
      */
     @Override
-    public synchronized void redo() throws IllegalStateException {
+    public void redo() throws IllegalStateException {
         // TODO Auto-generated method stub
 
     }
@@ -735,18 +1279,43 @@ public class SynchronizedCompletePointSetAlgebra implements IRWPointSetAlgebra,
      * #importPointsFromFile (java.io.File)
      */
     @Override
-    public synchronized void importPointsFromFile(File file) throws IOException {
+    public void importPointsFromFile(File file) throws IOException {
         try {
-            // Datei mittels BufferedReader zeilenweise einlesen
+            InputStream in = new FileInputStream(file);
+            try {
+                importPointsFromStream(in);
+            } finally {
+                in.close();
+            }
+        } catch (FileNotFoundException e) {
+            System.out.println("Fehler beim Lesen der Datei!");
+        }
+    }
+
+    /*
+     * (non-Javadoc)
+     * 
+     * @see de.feu.propra12.q8089884.epsav.model.interfaces.IFilePersistent#
+     * importPointsFromStream(java.io.InputStream)
+     */
+    @Override
+    public void importPointsFromStream(InputStream in) throws IOException {
+        // zuerst alle Zeilen ohne Sperre lesen, dann die Punkte in einem
+        // Durchgang einfuegen und die Beobachter nur einmal informieren
+        long[] keys = new long[1024];
+        int n = 0;
+        try {
+            // Datenstrom mittels BufferedReader zeilenweise einlesen
             BufferedReader reader = new BufferedReader(new InputStreamReader(
-                    new FileInputStream(file), "Cp1252"));
+                    in, "Cp1252"));
             String line = reader.readLine();
             while (line != null) {
                 // pruefen ob Zeile gueltiges Punktformat hat
                 try {
-                    // Punkt parsen und einfuegen
                     Point p = Point.parsePoint(line);
-                    addPoint(p);
+                    if (n == keys.length)
+                        keys = Arrays.copyOf(keys, n * 2);
+                    keys[n++] = PackedPointSet.pack(p.getxPos(), p.getyPos());
                 } catch (PointFormatException e) {
                     System.out.println("Die Zeile '" + line
                             + "' weist kein gueltiges Punktformat auf!");
@@ -756,7 +1325,15 @@ public class SynchronizedCompletePointSetAlgebra implements IRWPointSetAlgebra,
         } catch (Exception e) {
             System.out.println("Fehler beim Lesen der Datei!");
         }
-        unsaved = false;
+        lock.writeLock().lock();
+        try {
+            if (insertAll(keys, n) > 0)
+                fireChangedEvent(new PointSetChangedEvent(this,
+                        EPointSetChangedMode.POINTS_ADDED));
+            unsaved = false;
+        } finally {
+            unlockWrite();
+        }
     }
 
     /*
@@ -767,8 +1344,7 @@ public class SynchronizedCompletePointSetAlgebra implements IRWPointSetAlgebra,
      * #importPointsFromFile (java.lang.String)
      */
     @Override
-    public synchronized void importPointsFromFile(String filename)
-            throws IOException {
+    public void importPointsFromFile(String filename) throws IOException {
         importPointsFromFile(new File(filename));
     }
 
@@ -780,17 +1356,34 @@ public class SynchronizedCompletePointSetAlgebra implements IRWPointSetAlgebra,
      * #exportToFile(java .io.File)
      */
     @Override
-    public synchronized void exportToFile(File file) throws IOException {
+    public void exportToFile(File file) throws IOException {
+        lock.readLock().lock();
         try {
-            // Datei mittels BufferedWriter schreiben
-            BufferedWriter writer = new BufferedWriter(new OutputStreamWriter(
-                    new FileOutputStream(file), "Cp1252"));
-            writer.write(toString());
-            writer.flush();
-        } catch (Exception e) {
-            System.out.println("Fehler beim Schreiben der Datei!");
+            try {
+                // Datei mittels BufferedWriter schreiben; die Punkte werden
+                // direkt aus dem Cursor geschrieben, ohne die gesamte Menge
+                // als Zeichenkette aufzubauen
+                BufferedWriter writer = new BufferedWriter(
+                        new OutputStreamWriter(new FileOutputStream(file),
+                                "Cp1252"));
+                try {
+                    IPointCursor cursor = pointSet.cursor();
+                    while (cursor.next()) {
+                        writer.write(Integer.toString(cursor.getxPos()));
+                        writer.write(' ');
+                        writer.write(Integer.toString(cursor.getyPos()));
+                        writer.write('\n');
+                    }
+                } finally {
+                    writer.close();
+                }
+            } catch (Exception e) {
+                System.out.println("Fehler beim Schreiben der Datei!");
+            }
+            unsaved = false;
+        } finally {
+            lock.readLock().unlock();
         }
-        unsaved = false;
     }
 
     /*
@@ -801,7 +1394,7 @@ public class SynchronizedCompletePointSetAlgebra implements IRWPointSetAlgebra,
      * #exportToFile(java .lang.String)
      */
     @Override
-    public synchronized void exportToFile(String filename) throws IOException {
+    public void exportToFile(String filename) throws IOException {
         exportToFile(new File(filename));
     }
 
@@ -811,13 +1404,19 @@ public class SynchronizedCompletePointSetAlgebra implements IRWPointSetAlgebra,
      * @see java.lang.Object#toString()
      */
     @Override
-    public synchronized String toString() {
-        // TODO Stringkonkatenation mittels BufferedWriter umsetzen
-        String result = "";
-        for (Point p : pointSet) {
-            result += p + "\n";
+    public String toString() {
+        lock.readLock().lock();
+        try {
+            StringBuilder result = new StringBuilder();
+            IPointCursor cursor = pointSet.cursor();
+            while (cursor.next()) {
+                result.append(cursor.getxPos()).append(' ')
+                        .append(cursor.getyPos()).append('\n');
+            }
+            return result.toString();
+        } finally {
+            lock.readLock().unlock();
         }
-        return result;
     }
 
     /*
@@ -863,9 +1462,13 @@ public class SynchronizedCompletePointSetAlgebra implements IRWPointSetAlgebra,
      * .IPointSetChangeEventListener)
      */
     @Override
-    public synchronized void addPointSetChangedListener(
-            IPointSetChangedListener l) {
-        listeners.add(l);
+    public void addPointSetChangedListener(IPointSetChangedListener l) {
+        lock.writeLock().lock();
+        try {
+            listeners.add(l);
+        } finally {
+            unlockWrite();
+        }
     }
 
     /*
@@ -878,18 +1481,24 @@ public class SynchronizedCompletePointSetAlgebra implements IRWPointSetAlgebra,
      * interfaces.IPointSetChangeEventListener)
      */
     @Override
-    public synchronized void removePointSetChangedListener(
+    public void removePointSetChangedListener(
             IPointSetChangedListener l) {
-        listeners.remove(l);
+        lock.writeLock().lock();
+        try {
+            listeners.remove(l);
+        } finally {
+            unlockWrite();
+        }
     }
 
     /**
      * Die Methode informiert alle Beobachter ueber das Aenderungsereignis.
+     * Sie wird nur unter der Schreibsperre aufgerufen.
      * 
      * @param e
      *            das Aenderungsereignis
      */
-    private synchronized void fireChangedEvent(PointSetChangedEvent e) {
+    private void fireChangedEvent(PointSetChangedEvent e) {
         for (IPointSetChangedListener l : listeners) {
             l.firePointSetChangedEvent(e);
         }
@@ -0,0 +1,229 @@
+/**
+ * Das Paket beinhaltet alle (abstrakten) Klassen, Interfaces und Enums,
+ * die zur Darstellung einer Punktmenge im zweidimensionalen Raum benoetigt
+ * werden.
+ */
+package de.feu.propra12.q8089884.epsav.model;
+
+import java.util.Random;
+
+import de.feu.propra12.q8089884.epsav.util.Circle;
+import de.feu.propra12.q8089884.epsav.util.GeometricPredicates;
+import de.feu.propra12.q8089884.epsav.util.Point;
+import de.feu.propra12.q8089884.epsav.util.PointBuffer;
+
+/**
+ * Die Klasse berechnet den kleinsten umfassenden Kreis einer Punktmenge nach
+ * Welzl in der iterativen Move-to-front-Form: Die Punkte werden zufaellig
+ * gemischt und nacheinander betrachtet; liegt ein Punkt ausserhalb des
+ * bisherigen Kreises, muss er auf dem Rand des neuen Kreises liegen, der dann
+ * mit ein bzw. zwei festen Randpunkten aus den vorherigen Punkten neu
+ * aufgebaut wird. Die erwartete Laufzeit ist linear, eine Rekursion und damit
+ * ein Stapelueberlauf bei grossen Punktmengen gibt es nicht.
+ * 
+ * Waehrend der Berechnung wird der Kreis nur durch seine festlegenden Punkte
+ * dargestellt; ob ein Punkt darin liegt, entscheiden die exakten Praedikate
+ * aus GeometricPredicates. Mittelpunkt und Radius werden erst am Ende einmal
+ * in double berechnet.
+ * 
+ * Da der Kreis nur von den Ecken der konvexen Huelle abhaengt, genuegt es,
+ * ihm diese zu uebergeben.
+ * 
+ * @author Felix Wenz
+ * 
+ */
+public class WelzlCircleCalculator {
+
+    /**
+     * der feste Startwert fuer das Mischen, damit wiederholte Berechnungen
+     * dasselbe Ergebnis liefern
+     */
+    private static final long SEED = 0x5DEECE66DL;
+
+    /**
+     * Die Klasse stellt nur statische Methoden bereit.
+     */
+    private WelzlCircleCalculator() {
+
+    }
+
+    /**
+     * Die Methode berechnet den kleinsten umfassenden Kreis der uebergebenen
+     * Punkte.
+     * 
+     * @param points
+     *            die Punkte, etwa die Ecken der konvexen Huelle
+     * @return der kleinste umfassende Kreis; Circle.EMPTY fuer keine Punkte
+     */
+    public static Circle getSmallestEnclosingCircle(Point[] points) {
+        return getSmallestEnclosingCircle(points, null);
+    }
+
+    /**
+     * Die Methode berechnet den kleinsten umfassenden Kreis der uebergebenen
+     * Punkte und legt die Punkte, die ihn festlegen, im uebergebenen Puffer
+     * ab: ein Punkt, die beiden Endpunkte eines Durchmessers oder drei Punkte
+     * auf dem Rand. Solange diese Punkte erhalten bleiben, aendert das
+     * Entfernen anderer Punkte den Kreis nicht.
+     * 
+     * @param points
+     *            die Punkte, etwa die Ecken der konvexen Huelle
+     * @param support
+     *            der Puffer fuer die festlegenden Punkte; wird zuvor geleert;
+     *            null, falls sie nicht benoetigt werden
+     * @return der kleinste umfassende Kreis; Circle.EMPTY fuer keine Punkte
+     */
+    public static Circle getSmallestEnclosingCircle(Point[] points,
+            PointBuffer support) {
+        int[] xs = new int[points.length];
+        int[] ys = new int[points.length];
+        for (int i = 0; i < points.length; i++) {
+            xs[i] = points[i].getxPos();
+            ys[i] = points[i].getyPos();
+        }
+        return compute(xs, ys, points.length, support);
+    }
+
+    /**
+     * Die Methode prueft exakt (siehe GeometricPredicates), ob ein Punkt im
+     * Kreis oder auf dem Rand des Kreises liegt, den die uebergebenen Punkte
+     * festlegen.
+     * 
+     * @param support
+     *            die festlegenden Punkte, wie sie
+     *            getSmallestEnclosingCircle(Point[], PointBuffer) liefert
+     * @param xPos
+     *            die x-Koordinate
+     * @param yPos
+     *            die y-Koordinate
+     * @return wahr, falls der Punkt im Kreis liegt; falsch, falls der Puffer
+     *         leer ist
+     */
+    public static boolean contains(PointBuffer support, int xPos, int yPos) {
+        int count = support.size();
+        if (count == 0)
+            return false;
+        int last = count - 1;
+        return contains(support.getxPos(0), support.getyPos(0),
+                support.getxPos(Math.min(1, last)),
+                support.getyPos(Math.min(1, last)), support.getxPos(last),
+                support.getyPos(last), count, xPos, yPos);
+    }
+
+    /**
+     * Die Methode berechnet den Kreis; die Reihenfolge der Koordinaten wird
+     * dabei veraendert.
+     */
+    private static Circle compute(int[] xs, int[] ys, int n,
+            PointBuffer support) {
+        if (support != null)
+            support.clear();
+        if (n == 0)
+            return Circle.EMPTY;
+
+        // zufaellige Reihenfolge; die Ecken einer Huelle in Umlaufreihenfolge
+        // waeren der unguenstigste Fall
+        Random random = new Random(SEED);
+        for (int i = n - 1; i > 0; i--) {
+            int j = random.nextInt(i + 1);
+            int x = xs[i];
+            xs[i] = xs[j];
+            xs[j] = x;
+            int y = ys[i];
+            ys[i] = ys[j];
+            ys[j] = y;
+        }
+
+        // der aktuelle Kreis wird nur durch die Indizes der festlegenden
+        // Punkte dargestellt; Mittelpunkt und Radius entstehen erst am Ende
+        int[] s = { 0, 0, 0 };
+        int count = 1;
+        for (int i = 1; i < n; i++) {
+            if (contains(xs, ys, s, count, i))
+                continue;
+            // p[i] liegt auf dem Rand
+            s[0] = i;
+            count = 1;
+            for (int j = 0; j < i; j++) {
+                if (contains(xs, ys, s, count, j))
+                    continue;
+                // p[i] und p[j] liegen auf dem Rand
+                s[1] = j;
+                count = 2;
+                for (int k = 0; k < j; k++) {
+                    if (contains(xs, ys, s, count, k))
+                        continue;
+                    // p[i], p[j] und p[k] liegen auf dem Rand; da die Tests
+                    // exakt sind, sind die drei Punkte nicht kolinear
+                    s[2] = k;
+                    count = 3;
+                }
+            }
+        }
+
+        if (support != null) {
+            for (int i = 0; i < count; i++) {
+                support.add(xs[s[i]], ys[s[i]]);
+            }
+        }
+        return toCircle(xs, ys, s, count);
+    }
+
+    /**
+     * Die Methode prueft, ob der Punkt mit dem Index p im Kreis der
+     * festlegenden Punkte mit den Indizes s[0], ..., s[count - 1] liegt.
+     */
+    private static boolean contains(int[] xs, int[] ys, int[] s, int count,
+            int p) {
+        int b = s[Math.min(1, count - 1)];
+        int c = s[count - 1];
+        return contains(xs[s[0]], ys[s[0]], xs[b], ys[b], xs[c], ys[c], count,
+                xs[p], ys[p]);
+    }
+
+    /**
+     * Die Methode prueft, ob der Punkt p im Kreis liegt, den der Punkt a
+     * (count = 1), die Punkte a und b als Durchmesser (count = 2) oder die
+     * Punkte a, b und c (count = 3) festlegen.
+     */
+    private static boolean contains(int ax, int ay, int bx, int by, int cx,
+            int cy, int count, int px, int py) {
+        switch (count) {
+        case 1:
+            return ax == px && ay == py;
+        case 2:
+            return GeometricPredicates.inDiametralCircle(ax, ay, bx, by, px,
+                    py) >= 0;
+        default:
+            return GeometricPredicates.orient2d(ax, ay, bx, by, cx, cy)
+                    * GeometricPredicates.inCircle(ax, ay, bx, by, cx, cy, px,
+                            py) >= 0;
+        }
+    }
+
+    /**
+     * Die Methode berechnet Mittelpunkt und Radius des Kreises der
+     * festlegenden Punkte. Gerechnet wird relativ zum ersten Punkt, damit
+     * grosse Koordinaten keine Stellen kosten.
+     */
+    private static Circle toCircle(int[] xs, int[] ys, int[] s, int count) {
+        double ax = xs[s[0]];
+        double ay = ys[s[0]];
+        if (count == 1)
+            return new Circle(ax, ay, 0);
+        double ux = xs[s[1]] - ax;
+        double uy = ys[s[1]] - ay;
+        if (count == 2)
+            return new Circle(ax + ux / 2, ay + uy / 2,
+                    Math.sqrt(ux * ux + uy * uy) / 2);
+        double vx = xs[s[2]] - ax;
+        double vy = ys[s[2]] - ay;
+        double d = 2 * (ux * vy - uy * vx);
+        double u = ux * ux + uy * uy;
+        double v = vx * vx + vy * vy;
+        double centerX = (vy * u - uy * v) / d;
+        double centerY = (ux * v - vx * u) / d;
+        return new Circle(ax + centerX, ay + centerY, Math.sqrt(centerX
+                * centerX + centerY * centerY));
+    }
+}
@@ -7,6 +7,7 @@
 package de.feu.propra12.q8089884.epsav.model.interfaces;
 
 import de.feu.propra12.q8089884.epsav.util.Point;
+import de.feu.propra12.q8089884.epsav.util.PointBuffer;
 
 /**
  * Das Interface spezifiziert Methoden, die das Berechnen der konvexen Huelle
@@ -25,10 +26,58 @@ public interface IConvexHullCalculator {
      */
     public Point[] getContourPolygon();
 
+    /**
+     * Die Methode legt die Punkte des Konturpolygons in derselben Reihenfolge
+     * wie getContourPolygon() im uebergebenen Puffer ab. Der Puffer wird
+     * zuvor geleert und waechst nur bei Bedarf; wird derselbe Puffer
+     * wiederverwendet, entstehen dabei keine Punktobjekte oder Arrays.
+     * 
+     * @param result
+     *            der Puffer fuer die Punkte des Konturpolygons
+     */
+    public void getContourPolygon(PointBuffer result);
+
     /**
      * Die Methode berechnet die konvexe Huelle und gibt deren Punkte zurueck.
+     * Implementierungen koennen die Huelle auch bei Aenderungen fortschreiben;
+     * SynchronizedCompletePointSetAlgebra zahlt dafuer je Aenderung
+     * O(log^2 n) (siehe DynamicConvexHull), und der Aufruf selbst kostet dann
+     * O(h) fuer h Punkte der Huelle.
      * 
      * @return die Punkte der konvexen Huelle
      */
     public Point[] getConvexHull();
+
+    /**
+     * Die Methode legt die Punkte der konvexen Huelle in derselben
+     * Reihenfolge wie getConvexHull() im uebergebenen Puffer ab. Der Puffer
+     * wird zuvor geleert und waechst nur bei Bedarf; wird derselbe Puffer
+     * wiederverwendet, entstehen dabei keine Punktobjekte oder Arrays.
+     * 
+     * @param result
+     *            der Puffer fuer die Punkte der konvexen Huelle
+     */
+    public void getConvexHull(PointBuffer result);
+
+    /**
+     * Die Methode berechnet die konvexe Huelle aus allen Punkten neu und
+     * verteilt die Berechnung dabei auf bis zu parallelism Threads. Bei
+     * parallelism <= 1 entspricht sie getConvexHull().
+     * 
+     * @param parallelism
+     *            die hoechste Anzahl gleichzeitig arbeitender Threads
+     * @return die Punkte der konvexen Huelle
+     */
+    public Point[] getConvexHull(int parallelism);
+
+    /**
+     * Die Methode berechnet die konvexe Huelle mit dem angegebenen Verfahren
+     * aus allen Punkten neu. Alle Verfahren liefern dieselbe Huelle wie
+     * getConvexHull().
+     * 
+     * @param engine
+     *            das Verfahren
+     * @return die Punkte der konvexen Huelle
+     */
+    public Point[] getConvexHull(IConvexHullEngine engine);
 }
@@ -0,0 +1,42 @@
+/**
+ * Das Paket beinhaltet alle Interfaces, die verschiedene Zugriffsarten auf 
+ * eine Punkmenge voneinander abgrenzen, bestimmte Operationen auf diesen nach
+ * aussen zugaenglich machen und den generellen Umgang mit diesen naeher 
+ * spezifizieren.
+ */
+package de.feu.propra12.q8089884.epsav.model.interfaces;
+
+/**
+ * Das Interface spezifiziert ein Verfahren zur Berechnung der konvexen Huelle.
+ * Alle Verfahren liefern fuer dieselben Punkte dieselbe Huelle: beginnend beim
+ * in (x, y)-Reihenfolge kleinsten Punkt die noerdliche Kette (kleine
+ * y-Koordinaten) von West nach Ost, dann die suedliche Kette zurueck. Die
+ * Huelle enthaelt nur echte Ecken; kolineare Punkte auf den Kanten gehoeren
+ * nicht dazu.
+ * 
+ * @author Felix Wenz
+ * 
+ */
+public interface IConvexHullEngine {
+
+    /**
+     * Die Methode gibt den Namen des Verfahrens zurueck.
+     * 
+     * @return der Name
+     */
+    public String getName();
+
+    /**
+     * Die Methode berechnet die konvexe Huelle nach (x, y) sortierter,
+     * paarweise verschiedener Punkte.
+     * 
+     * @param xPositions
+     *            die x-Koordinaten
+     * @param yPositions
+     *            die y-Koordinaten
+     * @param n
+     *            die Anzahl der Punkte
+     * @return die Indizes der Eckpunkte in Huellenreihenfolge
+     */
+    public int[] computeHull(int[] xPositions, int[] yPositions, int n);
+}
@@ -38,6 +38,19 @@ public interface IFilePersistent {
      */
     public void importPointsFromFile(File file) throws IOException;
 
+    /**
+     * Die Methode fuegt der Punktmenge Punkte aus einem Datenstrom im
+     * Dateiformat hinzu (ein Punkt pro Zeile). Der Datenstrom wird nicht
+     * geschlossen.
+     * 
+     * @param in
+     *            der Datenstrom
+     * @throws IOException
+     *             wird geworfen, wenn ein Fehler beim Lesen des Datenstroms
+     *             auftritt
+     */
+    public void importPointsFromStream(InputStream in) throws IOException;
+
     /**
      * Die Methode speichert die Punkte der Punktmenge in einer Datei.
      * 
@@ -0,0 +1,51 @@
+/**
+ * Das Paket beinhaltet alle Interfaces, die verschiedene Zugriffsarten auf
+ * eine Punkmenge voneinander abgrenzen, bestimmte Operationen auf diesen nach
+ * aussen zugaenglich machen und den generellen Umgang mit diesen naeher
+ * spezifizieren.
+ */
+package de.feu.propra12.q8089884.epsav.model.interfaces;
+
+/**
+ * Das Interface spezifiziert einen Cursor, mit dem die Punkte einer sortierten
+ * Punktmenge in (x, y)-Reihenfolge durchlaufen werden koennen, ohne dass fuer
+ * jeden Punkt ein Objekt erzeugt werden muss.
+ * 
+ * @author Felix Wenz
+ * 
+ */
+public interface IPointCursor {
+
+    /**
+     * Die Methode bewegt den Cursor auf den naechsten Punkt.
+     * 
+     * @return wahr, falls ein weiterer Punkt vorhanden ist
+     */
+    public boolean next();
+
+    /**
+     * Die Methode gibt die x-Koordinate des aktuellen Punktes zurueck.
+     * 
+     * @return die x-Koordinate
+     */
+    public int getxPos();
+
+    /**
+     * Die Methode gibt die y-Koordinate des aktuellen Punktes zurueck.
+     * 
+     * @return die y-Koordinate
+     */
+    public int getyPos();
+
+    /**
+     * Die Methode positioniert den Cursor so, dass der naechste Aufruf von
+     * next() auf den ersten Punkt zeigt, der in (x, y)-Reihenfolge nicht
+     * kleiner als die uebergebene Position ist.
+     * 
+     * @param xPos
+     *            die x-Koordinate
+     * @param yPos
+     *            die y-Koordinate
+     */
+    public void seek(int xPos, int yPos);
+}
@@ -0,0 +1,65 @@
+/**
+ * Das Paket beinhaltet alle Interfaces, die verschiedene Zugriffsarten auf
+ * eine Punkmenge voneinander abgrenzen, bestimmte Operationen auf diesen nach
+ * aussen zugaenglich machen und den generellen Umgang mit diesen naeher
+ * spezifizieren.
+ */
+package de.feu.propra12.q8089884.epsav.model.interfaces;
+
+
+/**
+ * Das Interface spezifiziert einen unveraenderlichen Stand (Schnappschuss)
+ * einer Punktmenge. Ein Schnappschuss kann ohne Sperren der Punktmenge gelesen
+ * werden; spaetere Aenderungen der Punktmenge wirken sich nicht auf ihn aus.
+ * Die konvexe Huelle, der kleinste umfassende Kreis und die
+ * Delaunay-Triangulation samt Voronoi-Diagramm und groesstem leeren Kreis
+ * werden erst bei Bedarf und hoechstens einmal pro Schnappschuss berechnet.
+ * 
+ * @author Felix Wenz
+ * 
+ */
+public interface IPointSetSnapshot extends IConvexHullCalculator,
+        ISmallestEnclosingCircleCalculator, ITriangulationCalculator,
+        IVoronoiDiagramCalculator {
+
+    /**
+     * Die Methode gibt die Versionsnummer des Schnappschusses zurueck. Jede
+     * Aenderung der Punktmenge erhoeht die Versionsnummer.
+     * 
+     * @return die Versionsnummer
+     */
+    public long getVersion();
+
+    /**
+     * Die Methode gibt die Anzahl der Punkte zurueck.
+     * 
+     * @return die Anzahl der Punkte
+     */
+    public int size();
+
+    /**
+     * Die Methode gibt an, ob der Schnappschuss leer ist.
+     * 
+     * @return wahr, falls keine Punkte enthalten sind
+     */
+    public boolean isEmpty();
+
+    /**
+     * Die Methode prueft, ob ein Punkt im Schnappschuss enthalten ist.
+     * 
+     * @param xPos
+     *            die x-Koordinate
+     * @param yPos
+     *            die y-Koordinate
+     * @return wahr, falls der Punkt enthalten ist
+     */
+    public boolean contains(int xPos, int yPos);
+
+    /**
+     * Die Methode gibt einen neuen Cursor zurueck, der die Punkte des
+     * Schnappschusses in (x, y)-Reihenfolge durchlaeuft, ohne sie zu kopieren.
+     * 
+     * @return der Cursor
+     */
+    public IPointCursor cursor();
+}
@@ -0,0 +1,27 @@
+/**
+ * Das Paket beinhaltet alle Interfaces, die verschiedene Zugriffsarten auf
+ * eine Punkmenge voneinander abgrenzen, bestimmte Operationen auf diesen nach
+ * aussen zugaenglich machen und den generellen Umgang mit diesen naeher
+ * spezifizieren.
+ */
+package de.feu.propra12.q8089884.epsav.model.interfaces;
+
+
+/**
+ * Das Interface spezifiziert eine Punktmenge, die unveraenderliche
+ * Schnappschuesse ihres aktuellen Standes zur Verfuegung stellt.
+ * 
+ * @author Felix Wenz
+ * 
+ */
+public interface IPointSetSnapshotProvider {
+
+    /**
+     * Die Methode gibt einen Schnappschuss des aktuellen Standes der
+     * Punktmenge zurueck. Solange die Punktmenge nicht veraendert wird, liefern
+     * wiederholte Aufrufe denselben Schnappschuss.
+     * 
+     * @return der Schnappschuss
+     */
+    public IPointSetSnapshot getSnapshot();
+}
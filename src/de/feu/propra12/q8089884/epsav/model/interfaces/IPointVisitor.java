@@ -0,0 +1,36 @@
+/**
+ * Das Paket beinhaltet alle Interfaces, die verschiedene Zugriffsarten auf
+ * eine Punkmenge voneinander abgrenzen, bestimmte Operationen auf diesen nach
+ * aussen zugaenglich machen und den generellen Umgang mit diesen naeher
+ * spezifizieren.
+ */
+package de.feu.propra12.q8089884.epsav.model.interfaces;
+
+
+/**
+ * Das Interface spezifiziert einen Besucher, dem die Punkte einer Punktmenge
+ * einzeln als Koordinatenpaar uebergeben werden, ohne dass fuer jeden Punkt
+ * ein Objekt erzeugt werden muss.
+ * 
+ * Ob der Besucher waehrend des Durchlaufs Methoden der besuchten Punktmenge
+ * aufrufen darf, haengt von der Implementierung ab: Eine
+ * SynchronizedCompletePointSetAlgebra besucht einen Schnappschuss ohne
+ * Sperre, der Besucher darf sie also abfragen und veraendern und sieht
+ * dabei weiter die Punkte des Schnappschusses. Bei anderen
+ * Implementierungen darf der Besucher die Punktmenge nicht veraendern.
+ * 
+ * @author Felix Wenz
+ * 
+ */
+public interface IPointVisitor {
+
+    /**
+     * Die Methode wird fuer jeden besuchten Punkt aufgerufen.
+     * 
+     * @param xPos
+     *            die x-Koordinate
+     * @param yPos
+     *            die y-Koordinate
+     */
+    public void visit(int xPos, int yPos);
+}
@@ -27,6 +27,56 @@ public interface IROPointSet {
      */
     public Point[] getAllPoints();
 
+    /**
+     * Die Methode uebergibt alle Punkte der Punktmenge in (x, y)-Reihenfolge
+     * an den Besucher, ohne Punktobjekte zu erzeugen. Ob der Besucher die
+     * Punktmenge abfragen oder veraendern darf, legt die Implementierung fest
+     * (siehe IPointVisitor).
+     * 
+     * @param visitor
+     *            der Besucher
+     */
+    public void forEachPoint(IPointVisitor visitor);
+
+    /**
+     * Die Methode uebergibt alle Punkte der Punktmenge, die innerhalb der
+     * Schranken (einschliesslich) liegen, in (x, y)-Reihenfolge an den
+     * Besucher, ohne Punktobjekte zu erzeugen. Ob der Besucher die Punktmenge
+     * abfragen oder veraendern darf, legt die Implementierung fest (siehe
+     * IPointVisitor).
+     * 
+     * @param xLowerLimit
+     *            untere Schranke fuer x-Koordinaten
+     * @param xUpperLimit
+     *            obere Schranke fuer x-Koordinaten
+     * @param yLowerLimit
+     *            untere Schranke fuer y-Koordinaten
+     * @param yUpperLimit
+     *            obere Schranke fuer y-Koordinaten
+     * @param visitor
+     *            der Besucher
+     */
+    public void forEachPoint(int xLowerLimit, int xUpperLimit,
+            int yLowerLimit, int yUpperLimit, IPointVisitor visitor);
+
+    /**
+     * Die Methode kopiert die Koordinaten der Punkte ab dem uebergebenen Index
+     * (in (x, y)-Reihenfolge) in die uebergebenen Arrays, hoechstens so viele,
+     * wie in das kuerzere der beiden Arrays passen. Durch wiederholte Aufrufe
+     * mit fortgeschriebenem Index laesst sich die Punktmenge seitenweise
+     * auslesen.
+     * 
+     * @param index
+     *            der Index des ersten zu kopierenden Punktes
+     * @param xPositions
+     *            das Array fuer die x-Koordinaten
+     * @param yPositions
+     *            das Array fuer die y-Koordinaten
+     * @return die Anzahl der kopierten Punkte; 0, falls ab dem Index keine
+     *         Punkte mehr vorhanden sind
+     */
+    public int copyPoints(int index, int[] xPositions, int[] yPositions);
+
     /**
      * Die Methode prueft, ob ein Punkt in der Punktmenge liegt.
      * 
@@ -48,8 +98,9 @@ public interface IROPointSet {
     public boolean contains(int xPos, int yPos);
 
     /**
-     * Die Methode gibt den der uebergebenen Position naechtsgelegenen Punkt
-     * innerhalb des angegebenen Suchradius zurueck.
+     * Die Methode gibt den der uebergebenen Position (euklidisch)
+     * naechtsgelegenen Punkt innerhalb des angegebenen Suchradius zurueck. Bei
+     * gleichem Abstand wird der in (x, y)-Reihenfolge kleinere Punkt gewaehlt.
      * 
      * @param xPos
      *            die x-Koordinate
@@ -62,6 +113,66 @@ public interface IROPointSet {
      */
     public Point getNearestPointWithinRange(int xPos, int yPos, int range);
 
+    /**
+     * Die Methode gibt die k der uebergebenen Position naechstgelegenen Punkte
+     * aufsteigend nach Abstand zurueck. Bei gleichem Abstand wird der in (x,
+     * y)-Reihenfolge kleinere Punkt zuerst aufgefuehrt.
+     * 
+     * @param xPos
+     *            die x-Koordinate
+     * @param yPos
+     *            die y-Koordinate
+     * @param k
+     *            die Anzahl der gesuchten Punkte
+     * @return die Punkte; weniger als k, falls die Punktmenge weniger Punkte
+     *         enthaelt
+     */
+    public Point[] getKNearestPoints(int xPos, int yPos, int k);
+
+    /**
+     * Die Methode fuehrt die Suche nach den k naechstgelegenen Punkten fuer
+     * mehrere Positionen auf demselben Stand der Punktmenge aus.
+     * 
+     * @param xPositions
+     *            die x-Koordinaten
+     * @param yPositions
+     *            die y-Koordinaten
+     * @param k
+     *            die Anzahl der gesuchten Punkte je Position
+     * @return fuer jede Position die Punkte aufsteigend nach Abstand
+     */
+    public Point[][] getKNearestPoints(int[] xPositions, int[] yPositions,
+            int k);
+
+    /**
+     * Die Methode gibt alle Punkte, deren Abstand zur uebergebenen Position
+     * hoechstens dem Radius entspricht, aufsteigend nach Abstand zurueck.
+     * 
+     * @param xPos
+     *            die x-Koordinate
+     * @param yPos
+     *            die y-Koordinate
+     * @param radius
+     *            der Radius
+     * @return die Punkte
+     */
+    public Point[] getPointsWithinRadius(int xPos, int yPos, double radius);
+
+    /**
+     * Die Methode fuehrt die Umkreissuche fuer mehrere Positionen auf
+     * demselben Stand der Punktmenge aus.
+     * 
+     * @param xPositions
+     *            die x-Koordinaten
+     * @param yPositions
+     *            die y-Koordinaten
+     * @param radius
+     *            der Radius
+     * @return fuer jede Position die Punkte aufsteigend nach Abstand
+     */
+    public Point[][] getPointsWithinRadius(int[] xPositions,
+            int[] yPositions, double radius);
+
     /**
      * Die Methode gibt an, ob die Punktmenge leer ist oder nicht.
      * 
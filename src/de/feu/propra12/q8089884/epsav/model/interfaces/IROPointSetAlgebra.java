@@ -10,13 +10,20 @@ package de.feu.propra12.q8089884.epsav.model.interfaces;
  * Das Interface spezifiziert die Methoden, die eine Punktmengenalgebra für nur
  * lesenden Zugriff zur Verfuegung stellen muss.
  * 
+ * Die berechneten Koerper (Konturpolygon, konvexe Huelle, kleinster
+ * umfassender Kreis, Delaunay-Triangulation, Voronoi-Diagramm und groesster
+ * leerer Kreis) werden je Version der Punktmenge nur einmal berechnet.
+ * Jeder einzelne Aufruf liefert das Ergebnis einer Version; aufeinander
+ * folgende Aufrufe koennen aber verschiedene Versionen sehen, falls die
+ * Punktmenge dazwischen veraendert wird. Werden zusammengehoerige Koerper
+ * benoetigt, sind sie ueber einen Schnappschuss abzufragen (siehe
+ * IPointSetSnapshotProvider).
+ * 
  * @author Felix Wenz
  * 
  */
 public interface IROPointSetAlgebra extends IROPointSet, IConvexHullCalculator,
-        ISmallestEnclosingCircleCalculator {
+        ISmallestEnclosingCircleCalculator, ITriangulationCalculator,
+        IVoronoiDiagramCalculator {
 
-    // TODO der Zugriff auf die berechneten Körper sollte innerhlab eines
-    // synchronized Blocks passieren, damit alle Berechnungen auf derselben
-    // Punktmenge passieren!!!
 }
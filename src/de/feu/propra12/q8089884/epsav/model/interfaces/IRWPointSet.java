@@ -37,16 +37,30 @@ public interface IRWPointSet extends IROPointSet {
     public void addPoint(int xPos, int yPos);
 
     /**
-     * Die Methode fuegt der Punktmenge mehrere Punkte hinzu.
+     * Die Methode fuegt der Punktmenge mehrere Punkte hinzu. Beobachter werden
+     * hoechstens einmal informiert.
      * 
      * @param points
      *            das Array von Punkten.
      */
     public void addPoints(Point[] points);
 
+    /**
+     * Die Methode fuegt der Punktmenge mehrere Punkte hinzu, deren
+     * Koordinaten in zwei gleich langen Arrays uebergeben werden. Beobachter
+     * werden hoechstens einmal informiert.
+     * 
+     * @param xPositions
+     *            die x-Koordinaten
+     * @param yPositions
+     *            die y-Koordinaten
+     */
+    public void addPoints(int[] xPositions, int[] yPositions);
+
     /**
      * Die Methode fuegt der Punktemenge eine Anzahl zufaelliger Punkte
-     * innerhalb gegebener Koordinatenschranken hinzu.
+     * innerhalb gegebener Koordinatenschranken hinzu. Sind weniger freie
+     * Positionen vorhanden, werden alle freien Positionen belegt.
      * 
      * @param numberOfPoints
      *            die Anzahl
@@ -58,10 +72,37 @@ public interface IRWPointSet extends IROPointSet {
      *            untere Schranke fuer y-Koordinaten
      * @param yUpperLimit
      *            obere Schranke fuer y-Koordinaten
+     * @return die Anzahl der hinzugefuegten Punkte; kleiner als
+     *         numberOfPoints, falls nicht genug freie Positionen vorhanden
+     *         sind
      */
-    public void addRandomPoints(int numberOfPoints, int xLowerLimit,
+    public int addRandomPoints(int numberOfPoints, int xLowerLimit,
             int xUpperLimit, int yLowerLimit, int yUpperLimit);
 
+    /**
+     * Die Methode fuegt der Punktemenge eine Anzahl zufaelliger Punkte
+     * innerhalb gegebener Koordinatenschranken hinzu. Bei gleichem Startwert
+     * und gleicher Punktmenge werden dieselben Punkte erzeugt.
+     * 
+     * @param numberOfPoints
+     *            die Anzahl
+     * @param xLowerLimit
+     *            untere Schranke fuer x-Koordinaten
+     * @param xUpperLimit
+     *            obere Schranke fuer x-Koordinaten
+     * @param yLowerLimit
+     *            untere Schranke fuer y-Koordinaten
+     * @param yUpperLimit
+     *            obere Schranke fuer y-Koordinaten
+     * @param seed
+     *            der Startwert des Zufallszahlengenerators
+     * @return die Anzahl der hinzugefuegten Punkte; kleiner als
+     *         numberOfPoints, falls nicht genug freie Positionen vorhanden
+     *         sind
+     */
+    public int addRandomPoints(int numberOfPoints, int xLowerLimit,
+            int xUpperLimit, int yLowerLimit, int yUpperLimit, long seed);
+
     /**
      * Die Methode entfernt einen Punkt aus der Punktmenge.
      * 
@@ -40,6 +40,4 @@ public interface ISmallestEnclosingCircleCalculator {
      * @return den Radius des kleinsten umfassenden Kreises
      */
     public double getSECRadius();
-
-    // TODO Triangulationslinienmethode
 }
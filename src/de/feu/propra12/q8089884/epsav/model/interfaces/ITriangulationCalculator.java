@@ -0,0 +1,30 @@
+/**
+ * Das Paket beinhaltet alle Interfaces, die verschiedene Zugriffsarten auf 
+ * eine Punkmenge voneinander abgrenzen, bestimmte Operationen auf diesen nach
+ * aussen zugaenglich machen und den generellen Umgang mit diesen naeher 
+ * spezifizieren.
+ */
+package de.feu.propra12.q8089884.epsav.model.interfaces;
+
+import de.feu.propra12.q8089884.epsav.util.Triangulation;
+
+/**
+ * Das Interface spezifiziert Methoden, die das Berechnen der
+ * Delaunay-Triangulation zur Verfuegung stellen.
+ * 
+ * @author Felix Wenz
+ * 
+ */
+public interface ITriangulationCalculator {
+
+    /**
+     * Die Methode berechnet die Delaunay-Triangulation der Punktmenge und gibt
+     * diese zurueck: Kein Punkt liegt echt im Umkreis eines Dreiecks. Die
+     * Ecken sind von 0 an nummeriert; die Reihenfolge der Punkte ist nicht
+     * festgelegt.
+     * 
+     * @return die Delaunay-Triangulation; ohne Dreiecke, falls alle Punkte auf
+     *         einer Geraden liegen
+     */
+    public Triangulation getDelaunayTriangulation();
+}
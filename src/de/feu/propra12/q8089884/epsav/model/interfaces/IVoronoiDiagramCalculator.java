@@ -0,0 +1,39 @@
+/**
+ * Das Paket beinhaltet alle Interfaces, die verschiedene Zugriffsarten auf 
+ * eine Punkmenge voneinander abgrenzen, bestimmte Operationen auf diesen nach
+ * aussen zugaenglich machen und den generellen Umgang mit diesen naeher 
+ * spezifizieren.
+ */
+package de.feu.propra12.q8089884.epsav.model.interfaces;
+
+import de.feu.propra12.q8089884.epsav.util.Circle;
+import de.feu.propra12.q8089884.epsav.util.VoronoiDiagram;
+
+/**
+ * Das Interface spezifiziert Methoden, die das Berechnen des
+ * Voronoi-Diagramms und des groessten leeren Kreises zur Verfuegung stellen.
+ * 
+ * @author Felix Wenz
+ * 
+ */
+public interface IVoronoiDiagramCalculator {
+
+    /**
+     * Die Methode berechnet das Voronoi-Diagramm der Punktmenge und gibt
+     * dieses zurueck. Es wird aus der Delaunay-Triangulation abgeleitet; die
+     * Zellen gehoeren zu deren Ecken.
+     * 
+     * @return das Voronoi-Diagramm
+     */
+    public VoronoiDiagram getVoronoiDiagram();
+
+    /**
+     * Die Methode berechnet den groessten Kreis, dessen Mittelpunkt in der
+     * konvexen Huelle liegt und der keinen Punkt der Punktmenge echt enthaelt,
+     * und gibt diesen zurueck.
+     * 
+     * @return der groesste leere Kreis; Circle.EMPTY fuer eine leere
+     *         Punktmenge
+     */
+    public Circle getLargestEmptyCircle();
+}
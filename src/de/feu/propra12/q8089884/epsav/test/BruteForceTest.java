@@ -0,0 +1,678 @@
+/**
+ * Das Paket beinhaltet alle Testklassen fuer die einzelnen Teile der EPSAV-Anwendung.
+ */
+package de.feu.propra12.q8089884.epsav.test;
+
+import java.math.BigInteger;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Comparator;
+import java.util.List;
+import java.util.Random;
+import java.util.TreeSet;
+
+import de.feu.propra12.q8089884.epsav.model.DynamicConvexHull;
+import de.feu.propra12.q8089884.epsav.model.DynamicTriangulation;
+import de.feu.propra12.q8089884.epsav.model.GridPointIndex;
+import de.feu.propra12.q8089884.epsav.model.KdTree;
+import de.feu.propra12.q8089884.epsav.model.PackedPointSet;
+import de.feu.propra12.q8089884.epsav.util.GeometricPredicates;
+import de.feu.propra12.q8089884.epsav.util.Point;
+import de.feu.propra12.q8089884.epsav.util.Triangulation;
+
+/**
+ * Die Klasse prueft die inkrementellen Datenstrukturen des Datenmodells gegen
+ * einfache, aber langsame Referenzberechnungen. Auf zufaellige Folgen von
+ * Einfuege-, Entferne- und Verschiebeoperationen hin werden verglichen:
+ * 
+ * - die von DynamicConvexHull gehaltene Huelle mit der monotonen Kette ueber
+ * alle Punkte
+ * 
+ * - die Triangulation von DynamicTriangulation auf leere Umkreise, passende
+ * gegenlaeufige Halbkanten und die Flaeche der konvexen Huelle
+ * 
+ * - die Nachbarschaftssuchen von KdTree und GridPointIndex mit dem
+ * Durchsuchen aller Punkte
+ * 
+ * - die exakten Tests von GeometricPredicates mit BigInteger-Rechnung, auch
+ * fuer Koordinaten nahe den Grenzen von int
+ * 
+ * Als Argumente koennen der Startwert des Zufallsgenerators und die Anzahl
+ * der Durchlaeufe je Test uebergeben werden; ausgegeben werden je Test die
+ * Anzahl der Pruefungen und der Abweichungen.
+ * 
+ * @author Felix Wenz
+ * 
+ */
+public class BruteForceTest {
+
+    /**
+     * die Anzahl der Durchlaeufe je Test, falls kein Argument uebergeben wird
+     */
+    private static final int ROUNDS = 100;
+
+    /**
+     * die Anzahl der Operationen je Durchlauf
+     */
+    private static final int STEPS = 100;
+
+    /**
+     * die Anzahl der Abweichungen, die hoechstens einzeln ausgegeben werden
+     */
+    private static final int MAX_REPORTS = 10;
+
+    /**
+     * die Anzahl der Pruefungen des laufenden Tests
+     */
+    private static int checks = 0;
+
+    /**
+     * die Anzahl der Abweichungen des laufenden Tests
+     */
+    private static int errors = 0;
+
+    /**
+     * die Anzahl der Abweichungen aller Tests
+     */
+    private static int totalErrors = 0;
+
+    public static void main(String[] args) {
+        long seed = args.length > 0 ? Long.parseLong(args[0]) : 0;
+        int rounds = args.length > 1 ? Integer.parseInt(args[1]) : ROUNDS;
+        Random random = new Random(seed);
+        System.out.println("BruteForce-Test (Startwert " + seed + ", "
+                + rounds + " Durchlaeufe):");
+
+        // DYNAMICCONVEXHULL-Test
+        // Einfuegen, Entfernen und Verschieben; nach jeder Operation die
+        // Huelle mit der monotonen Kette vergleichen
+        for (int round = 0; round < rounds; round++) {
+            try {
+                testConvexHull(random, round % 5);
+            } catch (RuntimeException e) {
+                check(false, e + " in Durchlauf " + round);
+            }
+        }
+        printResult("DynamicConvexHull-Test");
+
+        // DYNAMICTRIANGULATION-Test
+        // Einfuegen und Entfernen; die Triangulation muss nach jeder
+        // Operation die Delaunay-Eigenschaft erfuellen
+        for (int round = 0; round < rounds; round++) {
+            try {
+                testTriangulation(random, round % 5);
+            } catch (RuntimeException e) {
+                check(false, e + " in Durchlauf " + round);
+            }
+        }
+        printResult("DynamicTriangulation-Test");
+
+        // KDTREE-/GRIDPOINTINDEX-Test
+        // k naechste Punkte, Umkreissuche und naechster Punkt im Suchradius
+        // mit dem Durchsuchen aller Punkte vergleichen
+        for (int round = 0; round < rounds; round++) {
+            try {
+                testNearestPoints(random, round % 2);
+            } catch (RuntimeException e) {
+                check(false, e + " in Durchlauf " + round);
+            }
+        }
+        printResult("KdTree-/GridPointIndex-Test");
+
+        // GEOMETRICPREDICATES-Test
+        // Orientierung, Umkreis- und Thaleskreistest mit exakter Rechnung
+        // vergleichen, vor allem fuer (fast) entartete Lagen
+        for (int round = 0; round < rounds; round++) {
+            try {
+                testPredicates(random);
+            } catch (RuntimeException e) {
+                check(false, e + " in Durchlauf " + round);
+            }
+        }
+        printResult("GeometricPredicates-Test");
+
+        System.out.println(totalErrors == 0 ? "keine Abweichungen"
+                : totalErrors + " Abweichungen");
+    }
+
+    /**
+     * Die Methode fuehrt eine zufaellige Folge von Operationen auf einer
+     * DynamicConvexHull aus und vergleicht nach jeder Operation die Huelle.
+     * 
+     * @param random
+     *            der Zufallsgenerator
+     * @param mode
+     *            der Wertebereich der Koordinaten (siehe coordinate())
+     */
+    private static void testConvexHull(Random random, int mode) {
+        DynamicConvexHull hull = new DynamicConvexHull();
+        TreeSet<Long> points = new TreeSet<Long>();
+        // mit mehr Punkten beginnen, als ein Blatt haelt, damit Aenderungen
+        // die Ketten mehrerer Teilbaeume verbinden
+        int n = 100 + random.nextInt(300);
+        for (int i = 0; i < n; i++) {
+            int x = coordinate(random, mode);
+            int y = coordinate(random, mode, x);
+            hull.add(x, y);
+            points.add(PackedPointSet.pack(x, y));
+        }
+        for (int step = 0; step < STEPS; step++) {
+            int operation = random.nextInt(10);
+            if (operation < 6 || points.isEmpty()) {
+                int x = coordinate(random, mode);
+                int y = coordinate(random, mode, x);
+                check(hull.add(x, y) == points.add(PackedPointSet.pack(x, y)),
+                        "add(" + x + ", " + y + ")");
+            } else if (operation < 8) {
+                long key = randomElement(random, points);
+                check(hull.remove(PackedPointSet.unpackX(key),
+                        PackedPointSet.unpackY(key)), "remove");
+                points.remove(key);
+            } else {
+                long key = randomElement(random, points);
+                int x = coordinate(random, mode);
+                int y = coordinate(random, mode, x);
+                long newKey = PackedPointSet.pack(x, y);
+                boolean free = !points.contains(newKey);
+                check(hull.move(PackedPointSet.unpackX(key),
+                        PackedPointSet.unpackY(key), x, y) == free, "move");
+                if (free) {
+                    points.remove(key);
+                    points.add(newKey);
+                }
+            }
+            check(Arrays.equals(hull.getVertices(), monotoneChain(points)),
+                    "Huelle nach " + (step + 1) + " Operationen");
+        }
+    }
+
+    /**
+     * Die Methode fuehrt eine zufaellige Folge von Operationen auf einer
+     * DynamicTriangulation aus und prueft die Triangulation.
+     * 
+     * @param random
+     *            der Zufallsgenerator
+     * @param mode
+     *            der Wertebereich der Koordinaten (siehe coordinate())
+     */
+    private static void testTriangulation(Random random, int mode) {
+        DynamicTriangulation triangulation = new DynamicTriangulation();
+        TreeSet<Long> points = new TreeSet<Long>();
+        for (int step = 0; step < STEPS; step++) {
+            // die Punktmenge klein halten, da die Pruefung quadratisch ist
+            if (random.nextInt(10) < 6 && points.size() < 40
+                    || points.isEmpty()) {
+                int x = coordinate(random, mode);
+                int y = coordinate(random, mode, x);
+                check(triangulation.add(x, y) == points.add(PackedPointSet
+                        .pack(x, y)), "add(" + x + ", " + y + ")");
+            } else {
+                long key = randomElement(random, points);
+                check(triangulation.remove(PackedPointSet.unpackX(key),
+                        PackedPointSet.unpackY(key)), "remove");
+                points.remove(key);
+            }
+            checkTriangulation(triangulation.toTriangulation(), points, step);
+        }
+    }
+
+    /**
+     * Die Methode prueft eine Triangulation der uebergebenen Punkte: Die
+     * Ecken muessen genau die Punkte sein, gegenlaeufige Halbkanten muessen
+     * zueinander passen, alle Dreiecke muessen gleich orientiert sein, kein
+     * Punkt darf echt im Umkreis eines Dreiecks liegen und die Dreiecke
+     * muessen zusammen die konvexe Huelle ueberdecken.
+     */
+    private static void checkTriangulation(Triangulation triangulation,
+            TreeSet<Long> points, int step) {
+        String where = " nach " + (step + 1) + " Operationen";
+        TreeSet<Long> vertices = new TreeSet<Long>();
+        for (int v = 0; v < triangulation.getVertexCount(); v++) {
+            vertices.add(PackedPointSet.pack(triangulation.getxPos(v),
+                    triangulation.getyPos(v)));
+        }
+        check(vertices.size() == triangulation.getVertexCount()
+                && vertices.equals(points), "Ecken" + where);
+
+        for (int e = 0; e < triangulation.getHalfEdgeCount(); e++) {
+            int twin = triangulation.getTwin(e);
+            if (twin >= 0) {
+                // die gegenlaeufige Halbkante verbindet dieselben Ecken in
+                // umgekehrter Richtung
+                int next = Triangulation.next(e);
+                int twinNext = Triangulation.next(twin);
+                check(triangulation.getTwin(twin) == e
+                        && triangulation.getOrigin(twin) == triangulation
+                                .getOrigin(next)
+                        && triangulation.getOrigin(twinNext) == triangulation
+                                .getOrigin(e), "Halbkante " + e + where);
+            }
+        }
+
+        Point[] all = toPoints(points);
+        int orientation = 0;
+        BigInteger area = BigInteger.ZERO;
+        for (int t = 0; t < triangulation.getTriangleCount(); t++) {
+            Point a = vertex(triangulation, 3 * t);
+            Point b = vertex(triangulation, 3 * t + 1);
+            Point c = vertex(triangulation, 3 * t + 2);
+            BigInteger cross = cross(a, b, c);
+            if (orientation == 0)
+                orientation = cross.signum();
+            check(cross.signum() != 0 && cross.signum() == orientation,
+                    "Orientierung von Dreieck " + t + where);
+            area = area.add(cross.abs());
+            for (Point d : all) {
+                if (!d.equals(a) && !d.equals(b) && !d.equals(c))
+                    check(inCircle(a, b, c, d) * orientation <= 0, d
+                            + " im Umkreis von Dreieck " + t + where);
+            }
+        }
+        check(area.equals(doubleArea(monotoneChain(points))), "Flaeche"
+                + where);
+    }
+
+    /**
+     * Die Methode fuehrt eine zufaellige Folge von Operationen auf einem
+     * KdTree und einem GridPointIndex aus und vergleicht nach jeder Operation
+     * die Ergebnisse einiger Anfragen.
+     * 
+     * @param random
+     *            der Zufallsgenerator
+     * @param mode
+     *            der Wertebereich der Koordinaten (siehe coordinate())
+     */
+    private static void testNearestPoints(Random random, int mode) {
+        KdTree kdTree = new KdTree();
+        GridPointIndex gridIndex = new GridPointIndex();
+        TreeSet<Long> points = new TreeSet<Long>();
+
+        // die Haelfte der Durchlaeufe mit einem aufgebauten Baum beginnen
+        if (random.nextBoolean()) {
+            int n = random.nextInt(STEPS);
+            for (int i = 0; i < n; i++) {
+                int x = coordinate(random, mode);
+                int y = coordinate(random, mode);
+                if (points.add(PackedPointSet.pack(x, y)))
+                    gridIndex.add(x, y);
+            }
+            int[] xs = new int[points.size()];
+            int[] ys = new int[points.size()];
+            int i = 0;
+            for (long key : points) {
+                xs[i] = PackedPointSet.unpackX(key);
+                ys[i++] = PackedPointSet.unpackY(key);
+            }
+            kdTree.build(xs, ys, i);
+        }
+
+        int extent = mode == 0 ? 16 : 1 << 21;
+        for (int step = 0; step < STEPS; step++) {
+            if (random.nextInt(10) < 6 || points.isEmpty()) {
+                int x = coordinate(random, mode);
+                int y = coordinate(random, mode);
+                if (points.add(PackedPointSet.pack(x, y))) {
+                    kdTree.add(x, y);
+                    gridIndex.add(x, y);
+                }
+            } else {
+                long key = randomElement(random, points);
+                points.remove(key);
+                kdTree.remove(PackedPointSet.unpackX(key),
+                        PackedPointSet.unpackY(key));
+                gridIndex.remove(PackedPointSet.unpackX(key),
+                        PackedPointSet.unpackY(key));
+            }
+
+            int x = coordinate(random, mode);
+            int y = coordinate(random, mode);
+            Point[] byDistance = sortByDistance(points, x, y);
+            String query = " um (" + x + ", " + y + ") nach " + (step + 1)
+                    + " Operationen";
+
+            int k = random.nextInt(8);
+            Point[] nearest = Arrays.copyOf(byDistance,
+                    Math.min(k, byDistance.length));
+            check(Arrays.equals(kdTree.getKNearestPoints(x, y, k), nearest),
+                    k + " naechste Punkte" + query);
+
+            int radius = random.nextInt(extent / 4 + 1);
+            int within = 0;
+            while (within < byDistance.length
+                    && distance2(byDistance[within], x, y) <= (long) radius
+                            * radius) {
+                within++;
+            }
+            check(Arrays.equals(kdTree.getPointsWithinRadius(x, y, radius),
+                    Arrays.copyOf(byDistance, within)), "Radius " + radius
+                    + query);
+            check(equal(gridIndex.getNearestPointWithinRange(x, y, radius),
+                    within > 0 ? byDistance[0] : null), "Suchradius "
+                    + radius + query);
+        }
+    }
+
+    /**
+     * Die Methode vergleicht die Tests aus GeometricPredicates fuer zufaellige
+     * und fast entartete Punkte mit exakter Rechnung.
+     * 
+     * @param random
+     *            der Zufallsgenerator
+     */
+    private static void testPredicates(Random random) {
+        for (int i = 0; i < 1000; i++) {
+            Point a = limitPoint(random);
+            Point b = limitPoint(random);
+            Point c;
+            Point d;
+            switch (random.nextInt(3)) {
+            case 0:
+                // c (fast) auf der Geraden durch a und b
+                c = nearLine(random, a, b);
+                d = limitPoint(random);
+                break;
+            case 1:
+                // vier (fast) auf einem Kreis liegende Punkte
+                long centerX = coordinate(random, 2);
+                long centerY = coordinate(random, 2);
+                int r = 1 + random.nextInt(1 << 30);
+                a = clamped(centerX - r, centerY, random);
+                b = clamped(centerX, centerY - r, random);
+                c = clamped(centerX + r, centerY, random);
+                d = clamped(centerX, centerY + r, random);
+                break;
+            default:
+                c = limitPoint(random);
+                d = limitPoint(random);
+            }
+
+            int orientation = cross(a, b, c).signum();
+            int result = GeometricPredicates.orient2d(a.getxPos(),
+                    a.getyPos(), b.getxPos(), b.getyPos(), c.getxPos(),
+                    c.getyPos());
+            check(result == orientation, "orient2d(" + a + ", " + b + ", "
+                    + c + ")");
+            check(GeometricPredicates.inDiametralCircle(a.getxPos(),
+                    a.getyPos(), b.getxPos(), b.getyPos(), d.getxPos(),
+                    d.getyPos()) == inDiametralCircle(a, b, d),
+                    "inDiametralCircle(" + a + ", " + b + ", " + d + ")");
+            // inCircle erwartet die Ecken im mathematisch positiven Drehsinn
+            if (orientation < 0) {
+                Point swap = b;
+                b = c;
+                c = swap;
+            }
+            if (orientation != 0)
+                check(GeometricPredicates.inCircle(a.getxPos(), a.getyPos(),
+                        b.getxPos(), b.getyPos(), c.getxPos(), c.getyPos(),
+                        d.getxPos(), d.getyPos()) == inCircle(a, b, c, d),
+                        "inCircle(" + a + ", " + b + ", " + c + ", " + d
+                                + ")");
+        }
+    }
+
+    /**
+     * Die Methode zaehlt eine Pruefung und gibt eine Abweichung aus, falls
+     * die Pruefung fehlgeschlagen ist.
+     * 
+     * @param ok
+     *            das Ergebnis der Pruefung
+     * @param what
+     *            die Beschreibung der Pruefung
+     */
+    private static void check(boolean ok, String what) {
+        checks++;
+        if (!ok) {
+            errors++;
+            if (errors <= MAX_REPORTS)
+                System.out.println("Abweichung: " + what);
+        }
+    }
+
+    /**
+     * Die Methode gibt das Ergebnis des laufenden Tests aus und setzt die
+     * Zaehler zurueck.
+     */
+    private static void printResult(String test) {
+        System.out.println(test + ": " + checks + " Pruefungen, " + errors
+                + " Abweichungen");
+        totalErrors += errors;
+        checks = 0;
+        errors = 0;
+    }
+
+    /**
+     * Die Methode gibt eine zufaellige Koordinate zurueck. Modus 0 liefert
+     * ein kleines Raster mit vielen kolinearen und kozirkularen Punkten,
+     * Modus 1 einen mittleren Bereich, Modus 2 Werte nahe 0 und den Grenzen
+     * von int und Modus 3 beliebige Werte. Modus 4 liefert kleine
+     * x-Koordinaten fuer Punkte nahe einer Parabel (siehe coordinate(Random,
+     * int, int)).
+     */
+    private static int coordinate(Random random, int mode) {
+        switch (mode) {
+        case 0:
+            return random.nextInt(16);
+        case 1:
+            return random.nextInt(1 << 21) - (1 << 20);
+        case 3:
+            return random.nextInt();
+        case 4:
+            return random.nextInt(64);
+        default:
+            int[] bases = { Integer.MIN_VALUE, -(1 << 30), 0, 1 << 30,
+                    Integer.MAX_VALUE };
+            long value = (long) bases[random.nextInt(bases.length)]
+                    + random.nextInt(17) - 8;
+            return (int) Math.max(Integer.MIN_VALUE,
+                    Math.min(Integer.MAX_VALUE, value));
+        }
+    }
+
+    /**
+     * Die Methode gibt eine zufaellige y-Koordinate zur x-Koordinate zurueck.
+     * In Modus 4 liegt der Punkt auf oder knapp ueber einer von drei
+     * Parabeln; so entstehen viele Ecken der Huelle und viele kolineare und
+     * fast kolineare Ecken, bei denen die Bruecken zweier Teilhuellen nicht
+     * eindeutig sind.
+     */
+    private static int coordinate(Random random, int mode, int x) {
+        if (mode == 4)
+            return x * x / (1 + random.nextInt(3)) + random.nextInt(2);
+        return coordinate(random, mode);
+    }
+
+    /**
+     * Die Methode gibt einen zufaelligen Punkt zurueck, dessen Koordinaten
+     * nahe 0 oder den Grenzen von int liegen oder beliebig sind.
+     */
+    private static Point limitPoint(Random random) {
+        if (random.nextInt(4) == 0)
+            return new Point(random.nextInt(), random.nextInt());
+        return new Point(coordinate(random, 2), coordinate(random, 2));
+    }
+
+    /**
+     * Die Methode gibt einen Punkt nahe der Geraden durch a und b zurueck,
+     * falls ein solcher in int darstellbar ist, sonst einen beliebigen.
+     */
+    private static Point nearLine(Random random, Point a, Point b) {
+        long dx = (long) b.getxPos() - a.getxPos();
+        long dy = (long) b.getyPos() - a.getyPos();
+        // a + t (b - a) fuer ein kleines t, verschoben um hoechstens eins
+        int t = random.nextInt(5) - 2;
+        return clamped(a.getxPos() + t * dx, a.getyPos() + t * dy, random);
+    }
+
+    /**
+     * Die Methode gibt den Punkt mit den um hoechstens eins verschobenen und
+     * auf den Wertebereich von int begrenzten Koordinaten zurueck.
+     */
+    private static Point clamped(long x, long y, Random random) {
+        x += random.nextInt(3) - 1;
+        y += random.nextInt(3) - 1;
+        return new Point((int) Math.max(Integer.MIN_VALUE,
+                Math.min(Integer.MAX_VALUE, x)), (int) Math.max(
+                Integer.MIN_VALUE, Math.min(Integer.MAX_VALUE, y)));
+    }
+
+    /**
+     * Die Methode gibt einen zufaelligen Schluessel der nicht leeren Menge
+     * zurueck.
+     */
+    private static long randomElement(Random random, TreeSet<Long> points) {
+        Long key = points.ceiling(PackedPointSet.pack(random.nextInt(),
+                random.nextInt()));
+        return key != null ? key : points.first();
+    }
+
+    /**
+     * Die Methode wandelt die Schluessel in Punkte in (x, y)-Reihenfolge um.
+     */
+    private static Point[] toPoints(TreeSet<Long> points) {
+        Point[] result = new Point[points.size()];
+        int i = 0;
+        for (long key : points) {
+            result[i++] = new Point(PackedPointSet.unpackX(key),
+                    PackedPointSet.unpackY(key));
+        }
+        return result;
+    }
+
+    /**
+     * Die Methode berechnet die konvexe Huelle mit der monotonen Kette nach
+     * Andrew: beginnend beim kleinsten Punkt die noerdliche Kette von West
+     * nach Ost, dann die suedliche zurueck, ohne kolineare Punkte.
+     */
+    private static Point[] monotoneChain(TreeSet<Long> points) {
+        List<Point> north = new ArrayList<Point>();
+        List<Point> south = new ArrayList<Point>();
+        for (Point p : toPoints(points)) {
+            while (north.size() >= 2
+                    && cross(north.get(north.size() - 2),
+                            north.get(north.size() - 1), p).signum() <= 0)
+                north.remove(north.size() - 1);
+            north.add(p);
+            while (south.size() >= 2
+                    && cross(south.get(south.size() - 2),
+                            south.get(south.size() - 1), p).signum() >= 0)
+                south.remove(south.size() - 1);
+            south.add(p);
+        }
+        List<Point> result = new ArrayList<Point>(north);
+        for (int i = south.size() - 2; i > 0; i--) {
+            result.add(south.get(i));
+        }
+        return result.toArray(new Point[result.size()]);
+    }
+
+    /**
+     * Die Methode gibt den Betrag der doppelten Flaeche des Polygons zurueck.
+     */
+    private static BigInteger doubleArea(Point[] polygon) {
+        BigInteger area = BigInteger.ZERO;
+        for (int i = 1; i + 1 < polygon.length; i++) {
+            area = area.add(cross(polygon[0], polygon[i], polygon[i + 1]));
+        }
+        return area.abs();
+    }
+
+    /**
+     * Die Methode gibt die Ecke zurueck, an der die Halbkante beginnt.
+     */
+    private static Point vertex(Triangulation triangulation, int halfEdge) {
+        int v = triangulation.getOrigin(halfEdge);
+        return new Point(triangulation.getxPos(v), triangulation.getyPos(v));
+    }
+
+    /**
+     * Die Methode sortiert die Punkte nach ihrem Abstand zur Position, bei
+     * gleichem Abstand in (x, y)-Reihenfolge.
+     */
+    private static Point[] sortByDistance(TreeSet<Long> points, final int x,
+            final int y) {
+        Point[] result = toPoints(points);
+        // die Sortierung ist stabil, gleich weite Punkte bleiben in (x, y)-
+        // Reihenfolge
+        Arrays.sort(result, new Comparator<Point>() {
+            @Override
+            public int compare(Point p, Point q) {
+                long dp = distance2(p, x, y);
+                long dq = distance2(q, x, y);
+                return dp < dq ? -1 : (dp == dq ? 0 : 1);
+            }
+        });
+        return result;
+    }
+
+    /**
+     * Die Methode gibt das Quadrat des Abstands des Punktes zur Position
+     * zurueck.
+     */
+    private static long distance2(Point p, int x, int y) {
+        long dx = (long) p.getxPos() - x;
+        long dy = (long) p.getyPos() - y;
+        return dx * dx + dy * dy;
+    }
+
+    /**
+     * Die Methode vergleicht zwei Punkte, die auch null sein duerfen.
+     */
+    private static boolean equal(Point p, Point q) {
+        return p == null ? q == null : p.equals(q);
+    }
+
+    /**
+     * Die Methode berechnet das Kreuzprodukt (b - a) x (c - a) exakt.
+     */
+    private static BigInteger cross(Point a, Point b, Point c) {
+        return big(b.getxPos() - (long) a.getxPos()).multiply(
+                big(c.getyPos() - (long) a.getyPos())).subtract(
+                big(b.getyPos() - (long) a.getyPos()).multiply(
+                        big(c.getxPos() - (long) a.getxPos())));
+    }
+
+    /**
+     * Die Methode prueft exakt, ob d im Umkreis der im mathematisch positiven
+     * Drehsinn angegebenen Punkte a, b und c liegt.
+     * 
+     * @return 1 innerhalb, 0 auf dem Kreis, -1 ausserhalb
+     */
+    private static int inCircle(Point a, Point b, Point c, Point d) {
+        BigInteger adx = big(a.getxPos() - (long) d.getxPos());
+        BigInteger ady = big(a.getyPos() - (long) d.getyPos());
+        BigInteger bdx = big(b.getxPos() - (long) d.getxPos());
+        BigInteger bdy = big(b.getyPos() - (long) d.getyPos());
+        BigInteger cdx = big(c.getxPos() - (long) d.getxPos());
+        BigInteger cdy = big(c.getyPos() - (long) d.getyPos());
+        BigInteger aLift = adx.multiply(adx).add(ady.multiply(ady));
+        BigInteger bLift = bdx.multiply(bdx).add(bdy.multiply(bdy));
+        BigInteger cLift = cdx.multiply(cdx).add(cdy.multiply(cdy));
+        return aLift
+                .multiply(bdx.multiply(cdy).subtract(cdx.multiply(bdy)))
+                .add(bLift.multiply(cdx.multiply(ady).subtract(
+                        adx.multiply(cdy))))
+                .add(cLift.multiply(adx.multiply(bdy).subtract(
+                        bdx.multiply(ady)))).signum();
+    }
+
+    /**
+     * Die Methode prueft exakt, ob p im Kreis mit dem Durchmesser von a nach
+     * b liegt.
+     * 
+     * @return 1 innerhalb, 0 auf dem Kreis, -1 ausserhalb
+     */
+    private static int inDiametralCircle(Point a, Point b, Point p) {
+        return big(p.getxPos() - (long) a.getxPos())
+                .multiply(big(b.getxPos() - (long) p.getxPos()))
+                .add(big(p.getyPos() - (long) a.getyPos()).multiply(
+                        big(b.getyPos() - (long) p.getyPos()))).signum();
+    }
+
+    /**
+     * Die Methode wandelt einen long-Wert in einen BigInteger um.
+     */
+    private static BigInteger big(long value) {
+        return BigInteger.valueOf(value);
+    }
+}
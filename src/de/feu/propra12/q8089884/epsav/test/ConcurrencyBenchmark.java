@@ -0,0 +1,150 @@
+/**
+ * Das Paket beinhaltet alle Testklassen fuer die einzelnen Teile der EPSAV-Anwendung.
+ */
+package de.feu.propra12.q8089884.epsav.test;
+
+import java.util.Random;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.concurrent.atomic.AtomicLong;
+
+import de.feu.propra12.q8089884.epsav.model.SynchronizedCompletePointSetAlgebra;
+import de.feu.propra12.q8089884.epsav.util.PointSetException;
+
+/**
+ * Die Klasse misst den Durchsatz lesender Zugriffe auf die Punktmengenalgebra
+ * bei steigender Anzahl lesender Threads, waehrend ein Thread die Punktmenge
+ * laufend veraendert. Zum Vergleich werden dieselben Zugriffe einmal
+ * zusaetzlich ueber einen gemeinsamen Monitor serialisiert, wie es vor der
+ * Umstellung auf die Lese-/Schreibsperre der Fall war.
+ * 
+ * @author Felix Wenz
+ * 
+ */
+public class ConcurrencyBenchmark {
+
+    /**
+     * die Anzahl der Punkte in der Punktmenge
+     */
+    private static final int POINTS = 100000;
+
+    /**
+     * die Messdauer pro Durchlauf in Millisekunden
+     */
+    private static final long DURATION = 2000;
+
+    public static void main(String[] args) throws InterruptedException {
+        SynchronizedCompletePointSetAlgebra psa = new SynchronizedCompletePointSetAlgebra();
+        psa.addRandomPoints(POINTS, 0, 4000, 0, 4000);
+
+        int cores = Runtime.getRuntime().availableProcessors();
+        System.out.println("Kerne: " + cores + ", Punkte: " + POINTS);
+        System.out.println("Threads\tLese-/Schreibsperre\tMonitor "
+                + "(Lesezugriffe/s)");
+        for (int threads = 1; threads <= cores; threads *= 2) {
+            long rw = run(psa, threads, null);
+            long monitor = run(psa, threads, new Object());
+            System.out.println(threads + "\t" + rw + "\t\t\t" + monitor);
+        }
+    }
+
+    /**
+     * Die Methode fuehrt einen Messdurchlauf durch und gibt die Anzahl der
+     * Lesezugriffe pro Sekunde zurueck.
+     * 
+     * @param psa
+     *            die Punktmengenalgebra
+     * @param threads
+     *            die Anzahl lesender Threads
+     * @param monitor
+     *            falls ungleich null, werden alle Zugriffe zusaetzlich ueber
+     *            diesen Monitor serialisiert
+     * @return die Lesezugriffe pro Sekunde
+     * @throws InterruptedException
+     *             wird geworfen, falls der Thread unterbrochen wird
+     */
+    private static long run(final SynchronizedCompletePointSetAlgebra psa,
+            int threads, final Object monitor) throws InterruptedException {
+        final AtomicBoolean running = new AtomicBoolean(true);
+        final AtomicLong reads = new AtomicLong();
+        final CountDownLatch done = new CountDownLatch(threads + 1);
+
+        for (int t = 0; t < threads; t++) {
+            final Random random = new Random(t);
+            new Thread() {
+                @Override
+                public void run() {
+                    long count = 0;
+                    while (running.get()) {
+                        int x = random.nextInt(4000);
+                        int y = random.nextInt(4000);
+                        if (monitor == null) {
+                            read(psa, x, y);
+                        } else {
+                            synchronized (monitor) {
+                                read(psa, x, y);
+                            }
+                        }
+                        count++;
+                    }
+                    reads.addAndGet(count);
+                    done.countDown();
+                }
+            }.start();
+        }
+
+        // ein schreibender Thread verschiebt laufend Punkte
+        new Thread() {
+            @Override
+            public void run() {
+                Random random = new Random(-1);
+                while (running.get()) {
+                    int x = random.nextInt(4000);
+                    int y = random.nextInt(4000);
+                    if (monitor == null) {
+                        write(psa, x, y);
+                    } else {
+                        synchronized (monitor) {
+                            write(psa, x, y);
+                        }
+                    }
+                    try {
+                        Thread.sleep(1);
+                    } catch (InterruptedException e) {
+                        break;
+                    }
+                }
+                done.countDown();
+            }
+        }.start();
+
+        Thread.sleep(DURATION);
+        running.set(false);
+        done.await();
+        return reads.get() * 1000 / DURATION;
+    }
+
+    /**
+     * Die Methode fuehrt einen typischen Lesezugriff durch.
+     */
+    private static void read(SynchronizedCompletePointSetAlgebra psa, int x,
+            int y) {
+        psa.contains(x, y);
+        psa.getNearestPointWithinRange(x, y, 20);
+        psa.getKNearestPoints(x, y, 4);
+    }
+
+    /**
+     * Die Methode entfernt den naechstgelegenen Punkt und fuegt einen neuen
+     * Punkt an der uebergebenen Position ein.
+     */
+    private static void write(SynchronizedCompletePointSetAlgebra psa, int x,
+            int y) {
+        try {
+            psa.removePoint(psa.getKNearestPoints(x, y, 1)[0]);
+        } catch (PointSetException e) {
+            System.out.println(e);
+        }
+        psa.addPoint(x, y);
+    }
+}
@@ -0,0 +1,114 @@
+/**
+ * Das Paket beinhaltet alle Testklassen fuer die einzelnen Teile der EPSAV-Anwendung.
+ */
+package de.feu.propra12.q8089884.epsav.test;
+
+import java.util.Random;
+
+import de.feu.propra12.q8089884.epsav.model.DynamicConvexHull;
+
+/**
+ * Die Klasse misst, wie lange das Verschieben eines Punktes die konvexe Huelle
+ * in DynamicConvexHull aktualisiert, wenn alle Punkte in konvexer Lage und
+ * damit Ecken der Huelle sind. Die Punkte liegen auf der Parabel y = x (x -
+ * 1) / 2, die auch mit int-Koordinaten streng konvex ist. Ein Eckpunkt wird
+ * mehrfach nach aussen und zurueck gezogen, ein zweiter Punkt quer durch die
+ * Menge; die Zeit je Schritt soll nicht mit der Anzahl der Ecken wachsen.
+ * 
+ * @author Felix Wenz
+ * 
+ */
+public class DragBenchmark {
+
+    /**
+     * die Anzahlen der Punkte; bei der groessten passen die Koordinaten und
+     * ihre Differenzen gerade noch in int
+     */
+    private static final int[] SIZES = { 1000, 4000, 16000, 64000, 120000 };
+
+    /**
+     * die Anzahl der Schritte je Messung
+     */
+    private static final int STEPS = 20000;
+
+    /**
+     * die Anzahl der Messungen je Groesse; gewertet wird die schnellste
+     */
+    private static final int RUNS = 5;
+
+    public static void main(String[] args) {
+        System.out.println("Punkte\tEcken\tEcke (us)\tquer (us)");
+        for (int n : SIZES) {
+            DynamicConvexHull hull = new DynamicConvexHull();
+            for (int i = 0; i < n; i++) {
+                int x = i - n / 2;
+                hull.add(x, parabola(x));
+            }
+            int vertices = hull.getVertices().length;
+            long corner = Long.MAX_VALUE;
+            long across = Long.MAX_VALUE;
+            for (int run = 0; run < RUNS; run++) {
+                corner = Math.min(corner, dragVertex(hull, n / 4 - n / 2));
+                across = Math.min(across, dragAcross(hull, n));
+            }
+            if (hull.getVertices().length != vertices)
+                System.out.println("Abweichende Huelle bei " + n
+                        + " Punkten!");
+            System.out.println(n + "\t" + vertices + "\t"
+                    + String.format("%.2f", corner / 1000.0 / STEPS) + "\t\t"
+                    + String.format("%.2f", across / 1000.0 / STEPS));
+        }
+    }
+
+    /**
+     * Die Methode zieht den Eckpunkt mit der angegebenen x-Koordinate
+     * zufaellig um bis zu 100 Einheiten nach aussen und zurueck in seine
+     * Ausgangslage.
+     * 
+     * @return die Laufzeit in ns
+     */
+    private static long dragVertex(DynamicConvexHull hull, int x) {
+        Random random = new Random(0);
+        int y = parabola(x);
+        int yPos = y;
+        long start = System.nanoTime();
+        for (int step = 1; step < STEPS; step++) {
+            int newYPos = y - 1 - random.nextInt(100);
+            if (hull.move(x, yPos, x, newYPos))
+                yPos = newYPos;
+        }
+        hull.move(x, yPos, x, y);
+        return System.nanoTime() - start;
+    }
+
+    /**
+     * Die Methode zieht einen zusaetzlichen Punkt von unterhalb der Parabel
+     * senkrecht durch die Menge bis an ihren oberen Rand; anfangs verdeckt
+     * er die meisten Ecken, im Inneren keine.
+     * 
+     * @return die Laufzeit in ns
+     */
+    private static long dragAcross(DynamicConvexHull hull, int n) {
+        int top = parabola(n / 2);
+        int xPos = 1;
+        int yPos = -top / 8;
+        hull.add(xPos, yPos);
+        long start = System.nanoTime();
+        for (int step = 1; step < STEPS; step++) {
+            int newYPos = (int) (-top / 8 + 9L * top / 8 * step / STEPS);
+            if (newYPos != yPos && hull.move(xPos, yPos, xPos, newYPos))
+                yPos = newYPos;
+        }
+        long time = System.nanoTime() - start;
+        hull.remove(xPos, yPos);
+        return time;
+    }
+
+    /**
+     * Die Methode gibt die y-Koordinate des Parabelpunkts zur x-Koordinate
+     * zurueck.
+     */
+    private static int parabola(int x) {
+        return (int) ((long) x * (x - 1) / 2);
+    }
+}
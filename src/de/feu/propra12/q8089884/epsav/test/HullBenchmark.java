@@ -0,0 +1,69 @@
+/**
+ * Das Paket beinhaltet alle Testklassen fuer die einzelnen Teile der EPSAV-Anwendung.
+ */
+package de.feu.propra12.q8089884.epsav.test;
+
+import java.util.Arrays;
+import java.util.Random;
+
+import de.feu.propra12.q8089884.epsav.model.PackedPointSet;
+import de.feu.propra12.q8089884.epsav.model.ParallelConvexHullCalculator;
+import de.feu.propra12.q8089884.epsav.util.Point;
+
+/**
+ * Die Klasse misst die Laufzeit der parallelen Berechnung der konvexen Huelle
+ * fuer eine grosse Punktmenge bei steigender Anzahl von Threads und prueft,
+ * dass alle Durchlaeufe dieselbe Huelle liefern.
+ * 
+ * @author Felix Wenz
+ * 
+ */
+public class HullBenchmark {
+
+    /**
+     * die Anzahl der Punkte in der Punktmenge
+     */
+    private static final int POINTS = 10000000;
+
+    /**
+     * die Anzahl der Messungen je Threadanzahl; gewertet wird die schnellste
+     */
+    private static final int RUNS = 5;
+
+    public static void main(String[] args) {
+        Random random = new Random(0);
+        long[] keys = new long[POINTS];
+        for (int i = 0; i < POINTS; i++) {
+            keys[i] = PackedPointSet.pack(random.nextInt(1 << 20),
+                    random.nextInt(1 << 20));
+        }
+        PackedPointSet pointSet = new PackedPointSet();
+        pointSet.addAll(keys, keys.length);
+        keys = null;
+
+        int cores = Runtime.getRuntime().availableProcessors();
+        System.out.println("Kerne: " + cores + ", Punkte: "
+                + pointSet.size());
+        System.out.println("Threads\tZeit (ms)\tBeschleunigung");
+        Point[] reference = null;
+        long single = 0;
+        for (int threads = 1; threads <= cores; threads *= 2) {
+            long best = Long.MAX_VALUE;
+            for (int run = 0; run < RUNS; run++) {
+                long start = System.nanoTime();
+                Point[] hull = ParallelConvexHullCalculator.getConvexHull(
+                        pointSet, threads);
+                best = Math.min(best, System.nanoTime() - start);
+                if (reference == null)
+                    reference = hull;
+                else if (!Arrays.equals(reference, hull))
+                    System.out.println("Abweichende Huelle bei " + threads
+                            + " Threads!");
+            }
+            if (threads == 1)
+                single = best;
+            System.out.println(threads + "\t" + best / 1000000 + "\t\t"
+                    + String.format("%.2f", (double) single / best));
+        }
+    }
+}
@@ -0,0 +1,143 @@
+/**
+ * Das Paket beinhaltet alle Testklassen fuer die einzelnen Teile der EPSAV-Anwendung.
+ */
+package de.feu.propra12.q8089884.epsav.test;
+
+import java.util.Arrays;
+import java.util.Random;
+
+import de.feu.propra12.q8089884.epsav.model.AdaptiveHullEngine;
+import de.feu.propra12.q8089884.epsav.model.AklToussaintHullEngine;
+import de.feu.propra12.q8089884.epsav.model.ChanHullEngine;
+import de.feu.propra12.q8089884.epsav.model.MonotoneChainHullEngine;
+import de.feu.propra12.q8089884.epsav.model.PackedPointSet;
+import de.feu.propra12.q8089884.epsav.model.QuickHullEngine;
+import de.feu.propra12.q8089884.epsav.model.interfaces.IConvexHullEngine;
+
+/**
+ * Die Klasse vergleicht die Verfahren zur Berechnung der konvexen Huelle fuer
+ * verschiedene Punktverteilungen und -anzahlen. Fuer jede Punktmenge wird
+ * geprueft, dass alle Verfahren dieselbe Huelle liefern, und die schnellste
+ * von mehreren Messungen je Verfahren ausgegeben. Zuletzt folgt die Anzahl
+ * der Punkte, die der Filter nach Akl und Toussaint verwirft.
+ * 
+ * @author Felix Wenz
+ * 
+ */
+public class HullEngineBenchmark {
+
+    /**
+     * die Punktanzahlen
+     */
+    private static final int[] SIZES = { 1000, 100000, 2000000 };
+
+    /**
+     * die Namen der Punktverteilungen
+     */
+    private static final String[] DISTRIBUTIONS = { "Quadrat", "Kreisscheibe",
+            "Kreisring", "Normal" };
+
+    /**
+     * die Anzahl der Messungen je Verfahren; gewertet wird die schnellste
+     */
+    private static final int RUNS = 7;
+
+    public static void main(String[] args) {
+        AklToussaintHullEngine filter = new AklToussaintHullEngine();
+        IConvexHullEngine[] engines = { new MonotoneChainHullEngine(),
+                new QuickHullEngine(), new ChanHullEngine(),
+                new AdaptiveHullEngine(), filter };
+
+        System.out.print("Verteilung\tPunkte\tEcken");
+        for (IConvexHullEngine engine : engines) {
+            System.out.print("\t" + engine.getName() + " (us)");
+        }
+        System.out.println("\tverworfen");
+
+        for (int d = 0; d < DISTRIBUTIONS.length; d++) {
+            for (int size : SIZES) {
+                int[][] points = createPoints(d, size, new Random(d));
+                int[] xs = points[0];
+                int[] ys = points[1];
+                int n = xs.length;
+
+                int[] reference = engines[0].computeHull(xs, ys, n);
+                long culled = filter.getCulledPoints();
+                System.out.print(DISTRIBUTIONS[d] + "\t" + n + "\t"
+                        + reference.length);
+                for (IConvexHullEngine engine : engines) {
+                    long best = Long.MAX_VALUE;
+                    for (int run = 0; run < RUNS; run++) {
+                        long start = System.nanoTime();
+                        int[] hull = engine.computeHull(xs, ys, n);
+                        best = Math.min(best, System.nanoTime() - start);
+                        if (!Arrays.equals(reference, hull))
+                            System.out.print(" Abweichende Huelle bei "
+                                    + engine.getName() + "!");
+                    }
+                    System.out.print("\t" + best / 1000);
+                }
+                // je Messung verwirft der Filter dieselben Punkte
+                System.out.println("\t" + (filter.getCulledPoints() - culled)
+                        / RUNS);
+            }
+        }
+    }
+
+    /**
+     * Die Methode erzeugt paarweise verschiedene, nach (x, y) sortierte
+     * Punkte.
+     * 
+     * @param distribution
+     *            der Index der Verteilung
+     * @param size
+     *            die Anzahl der zu erzeugenden Punkte (vor dem Entfernen von
+     *            Duplikaten)
+     * @param random
+     *            der Zufallsgenerator
+     * @return die x- und die y-Koordinaten
+     */
+    private static int[][] createPoints(int distribution, int size,
+            Random random) {
+        int radius = 1 << 20;
+        long[] keys = new long[size];
+        for (int i = 0; i < size; i++) {
+            double x;
+            double y;
+            switch (distribution) {
+            case 0:
+                x = random.nextDouble() * 2 - 1;
+                y = random.nextDouble() * 2 - 1;
+                break;
+            case 1:
+            case 2: {
+                double angle = random.nextDouble() * 2 * Math.PI;
+                double r = distribution == 1 ? Math.sqrt(random.nextDouble())
+                        : 1 - random.nextDouble() * 0.001;
+                x = r * Math.cos(angle);
+                y = r * Math.sin(angle);
+                break;
+            }
+            default:
+                x = random.nextGaussian() / 4;
+                y = random.nextGaussian() / 4;
+            }
+            keys[i] = PackedPointSet.pack((int) (x * radius),
+                    (int) (y * radius));
+        }
+        PackedPointSet.sortKeys(keys, size);
+
+        int n = 0;
+        for (int i = 0; i < size; i++) {
+            if (n == 0 || keys[i] != keys[n - 1])
+                keys[n++] = keys[i];
+        }
+        int[] xs = new int[n];
+        int[] ys = new int[n];
+        for (int i = 0; i < n; i++) {
+            xs[i] = PackedPointSet.unpackX(keys[i]);
+            ys[i] = PackedPointSet.unpackY(keys[i]);
+        }
+        return new int[][] { xs, ys };
+    }
+}
@@ -78,6 +78,18 @@ public class ModelTest {
         System.out.println(psa.getNearestPointWithinRange(400, 400, 1));
         System.out.println();
 
+        // KNEARESTPOINTS-/POINTSWITHINRADIUS-Test
+        // Testet die Suche nach den k naechsten Punkten und die Umkreissuche
+        System.out.println("KNearestPoints-Test:");
+        for (Point p : psa.getKNearestPoints(10, 130, 3)) {
+            System.out.println(p);
+        }
+        System.out.println("PointsWithinRadius-Test:");
+        for (Point p : psa.getPointsWithinRadius(10, 130, 30)) {
+            System.out.println(p);
+        }
+        System.out.println();
+
         // MOVE-Test
         // vorhandenen und nicht vorhandene Punkte auf unterschiedliche Arten
         // bewegen; Punktmenge ausgeben
@@ -145,9 +157,10 @@ public class ModelTest {
         for (int i = 0; i < points.length; i++) {
             System.out.println(points[i]);
         }
-        // Punkt im Array manipulieren und mittels Ausgabe prüfen, ob das auch
-        // die Punktmenge verändert...was tatsächlich der Fall ist.
-        points[0].moveTo(1, 1);
+        // Array manipulieren und mittels Ausgabe prüfen, ob das auch die
+        // Punktmenge verändert...was nicht der Fall ist, da das Array nur
+        // unveränderliche Punkte enthält.
+        points[0] = new Point(1, 1);
         System.out.println("Array nach Manipulation:");
         for (int i = 0; i < points.length; i++) {
             System.out.println(points[i]);
@@ -0,0 +1,123 @@
+/**
+ * Das Paket beinhaltet alle Testklassen fuer die einzelnen Teile der EPSAV-Anwendung.
+ */
+package de.feu.propra12.q8089884.epsav.test;
+
+import java.lang.management.BufferPoolMXBean;
+import java.lang.management.ManagementFactory;
+import java.util.Random;
+
+import de.feu.propra12.q8089884.epsav.model.OffHeapPointSetAlgebra;
+import de.feu.propra12.q8089884.epsav.util.PointSetException;
+
+/**
+ * Die Klasse laedt eine grosse Punktmenge in die OffHeapPointSetAlgebra und
+ * misst die Zeiten fuer das Laden, die konvexe Huelle und den kleinsten
+ * umfassenden Kreis sowie den belegten Speicher auf dem Heap und ausserhalb
+ * davon. Die Anzahl der Punkte kann als erstes Argument uebergeben werden;
+ * der Heap darf dabei klein bleiben (etwa -Xmx256m).
+ * 
+ * @author Felix Wenz
+ * 
+ */
+public class OffHeapBenchmark {
+
+    /**
+     * die Anzahl der Punkte, falls kein Argument uebergeben wird
+     */
+    private static final int POINTS = 10000000;
+
+    /**
+     * die Anzahl der Punkte, die je Aufruf von addPoints() eingefuegt werden
+     */
+    private static final int CHUNK = 1000000;
+
+    /**
+     * die Anzahl der Messungen; gewertet wird die schnellste
+     */
+    private static final int RUNS = 5;
+
+    /**
+     * ein Megabyte
+     */
+    private static final long MB = 1024 * 1024;
+
+    public static void main(String[] args) throws PointSetException {
+        int points = args.length > 0 ? Integer.parseInt(args[0]) : POINTS;
+        long heapBefore = usedHeap();
+
+        // in Abschnitten laden, damit die Koordinatenarrays klein bleiben
+        OffHeapPointSetAlgebra pointSetAlgebra = new OffHeapPointSetAlgebra();
+        Random random = new Random(0);
+        int[] xPositions = new int[CHUNK];
+        int[] yPositions = new int[CHUNK];
+        long load = System.nanoTime();
+        for (int added = 0; added < points; added += CHUNK) {
+            int n = Math.min(CHUNK, points - added);
+            if (n < CHUNK) {
+                xPositions = new int[n];
+                yPositions = new int[n];
+            }
+            for (int i = 0; i < n; i++) {
+                xPositions[i] = random.nextInt(1 << 24);
+                yPositions[i] = random.nextInt(1 << 24);
+            }
+            pointSetAlgebra.addPoints(xPositions, yPositions);
+        }
+        load = System.nanoTime() - load;
+        xPositions = null;
+        yPositions = null;
+
+        long hull = Long.MAX_VALUE;
+        long circle = Long.MAX_VALUE;
+        int vertices = 0;
+        for (int run = 0; run < RUNS; run++) {
+            // ein Punkt ausserhalb des Wertebereichs verwirft die
+            // zwischengespeicherten Ergebnisse
+            pointSetAlgebra.addPoint(-1, -1);
+            pointSetAlgebra.removePoint(-1, -1);
+            long start = System.nanoTime();
+            vertices = pointSetAlgebra.getConvexHull().length;
+            hull = Math.min(hull, System.nanoTime() - start);
+            start = System.nanoTime();
+            pointSetAlgebra.getSECRadius();
+            circle = Math.min(circle, System.nanoTime() - start);
+        }
+        long heapAfter = usedHeap();
+
+        System.out.println("Punkte: " + pointSetAlgebra.size() + ", Ecken: "
+                + vertices);
+        System.out.println("Laden (ms):\t\t" + load / 1000000);
+        System.out.println("Huelle (ms):\t\t" + hull / 1000000);
+        System.out.println("Kreis (ms):\t\t"
+                + String.format("%.3f", circle / 1000000.0));
+        System.out.println("Heap (MB):\t\t" + (heapAfter - heapBefore) / MB
+                + " von " + Runtime.getRuntime().maxMemory() / MB);
+        System.out.println("ausserhalb (MB):\t" + directMemory() / MB);
+    }
+
+    /**
+     * Die Methode gibt den nach einer Speicherbereinigung belegten Heap in
+     * Byte zurueck.
+     */
+    private static long usedHeap() {
+        Runtime runtime = Runtime.getRuntime();
+        for (int i = 0; i < 3; i++) {
+            System.gc();
+        }
+        return runtime.totalMemory() - runtime.freeMemory();
+    }
+
+    /**
+     * Die Methode gibt den von direkten Puffern belegten Speicher in Byte
+     * zurueck.
+     */
+    private static long directMemory() {
+        for (BufferPoolMXBean pool : ManagementFactory
+                .getPlatformMXBeans(BufferPoolMXBean.class)) {
+            if (pool.getName().equals("direct"))
+                return pool.getMemoryUsed();
+        }
+        return 0;
+    }
+}
@@ -0,0 +1,120 @@
+/**
+ * Das Paket beinhaltet alle Testklassen fuer die einzelnen Teile der EPSAV-Anwendung.
+ */
+package de.feu.propra12.q8089884.epsav.test;
+
+import java.io.BufferedWriter;
+import java.io.File;
+import java.io.FileOutputStream;
+import java.io.IOException;
+import java.io.OutputStreamWriter;
+import java.lang.management.ManagementFactory;
+import java.lang.management.MemoryPoolMXBean;
+import java.lang.management.MemoryType;
+import java.util.Random;
+
+import de.feu.propra12.q8089884.epsav.model.StreamingConvexHull;
+
+/**
+ * Die Klasse misst, wie lange StreamingConvexHull fuer die konvexe Huelle und
+ * den kleinsten umfassenden Kreis einer grossen Punktdatei braucht und wie
+ * viel Heap dabei hoechstens belegt ist. Ohne Argument wird eine Datei mit
+ * fuenf Millionen zufaelligen Punkten erzeugt, sonst die uebergebene Datei
+ * gelesen. Die Messung ist fuer einen kleinen Heap gedacht (etwa -Xmx256m).
+ * 
+ * @author Felix Wenz
+ * 
+ */
+public class StreamingBenchmark {
+
+    /**
+     * die Anzahl der Punkte der erzeugten Datei
+     */
+    private static final int POINTS = 5000000;
+
+    /**
+     * die Anzahl der Messungen; gewertet wird die schnellste
+     */
+    private static final int RUNS = 3;
+
+    /**
+     * ein Megabyte
+     */
+    private static final long MB = 1024 * 1024;
+
+    public static void main(String[] args) throws IOException {
+        File file;
+        if (args.length > 0) {
+            file = new File(args[0]);
+        } else {
+            file = File.createTempFile("streaming", ".points");
+            file.deleteOnExit();
+            writeRandomPoints(file, POINTS);
+        }
+
+        long best = Long.MAX_VALUE;
+        StreamingConvexHull streamingConvexHull = null;
+        for (int run = 0; run < RUNS; run++) {
+            System.gc();
+            resetPeakHeap();
+            long start = System.nanoTime();
+            streamingConvexHull = new StreamingConvexHull();
+            streamingConvexHull.importPointsFromFile(file);
+            streamingConvexHull.getConvexHull();
+            streamingConvexHull.getSECRadius();
+            best = Math.min(best, System.nanoTime() - start);
+        }
+
+        System.out.println("Datei: " + file.length() / MB + " MB, Punkte: "
+                + streamingConvexHull.getPointCount() + ", Ecken: "
+                + streamingConvexHull.getConvexHull().length);
+        System.out.println("Zeit (ms):\t\t" + best / 1000000);
+        System.out.println("Heap hoechstens (MB):\t" + peakHeap() / MB
+                + " von " + Runtime.getRuntime().maxMemory() / MB);
+    }
+
+    /**
+     * Die Methode schreibt zufaellige Punkte im Dateiformat (ein Punkt pro
+     * Zeile) in die Datei.
+     */
+    private static void writeRandomPoints(File file, int points)
+            throws IOException {
+        Random random = new Random(0);
+        BufferedWriter writer = new BufferedWriter(new OutputStreamWriter(
+                new FileOutputStream(file), "Cp1252"));
+        try {
+            for (int i = 0; i < points; i++) {
+                writer.write(Integer.toString(random.nextInt(1 << 24)));
+                writer.write(' ');
+                writer.write(Integer.toString(random.nextInt(1 << 24)));
+                writer.write('\n');
+            }
+        } finally {
+            writer.close();
+        }
+    }
+
+    /**
+     * Die Methode setzt die Hoechstwerte aller Speicherbereiche des Heaps
+     * zurueck.
+     */
+    private static void resetPeakHeap() {
+        for (MemoryPoolMXBean pool : ManagementFactory.getMemoryPoolMXBeans()) {
+            if (pool.getType() == MemoryType.HEAP)
+                pool.resetPeakUsage();
+        }
+    }
+
+    /**
+     * Die Methode gibt die Summe der Hoechstwerte aller Speicherbereiche des
+     * Heaps seit dem letzten Zuruecksetzen in Byte zurueck.
+     */
+    private static long peakHeap() {
+        long peak = 0;
+        for (MemoryPoolMXBean pool : ManagementFactory.getMemoryPoolMXBeans()) {
+            if (pool.getType() == MemoryType.HEAP)
+                peak += pool.getPeakUsage().getUsed();
+        }
+        return peak;
+    }
+}
@@ -0,0 +1,129 @@
+/**
+ * Das Paket beinhaltet alle Testklassen fuer die einzelnen Teile der EPSAV-Anwendung.
+ */
+package de.feu.propra12.q8089884.epsav.test;
+
+import java.util.Random;
+
+import de.feu.propra12.q8089884.epsav.model.DelaunayTriangulator;
+import de.feu.propra12.q8089884.epsav.model.DynamicTriangulation;
+import de.feu.propra12.q8089884.epsav.model.LargestEmptyCircleCalculator;
+import de.feu.propra12.q8089884.epsav.model.MonotoneChainHullEngine;
+import de.feu.propra12.q8089884.epsav.model.PackedPointSet;
+import de.feu.propra12.q8089884.epsav.model.interfaces.IPointCursor;
+import de.feu.propra12.q8089884.epsav.util.Point;
+import de.feu.propra12.q8089884.epsav.util.Triangulation;
+import de.feu.propra12.q8089884.epsav.util.VoronoiDiagram;
+
+/**
+ * Die Klasse misst die Laufzeit der Delaunay-Triangulation fuer zufaellige
+ * Punktmengen verschiedener Groesse und prueft die Anzahl der Dreiecke: Eine
+ * Triangulation von n Punkten, von denen h auf dem Rand der konvexen Huelle
+ * liegen, hat genau 2n - 2 - h Dreiecke. Zusaetzlich wird die mittlere Dauer
+ * einer Verschiebung um wenige Einheiten in der fortgeschriebenen
+ * Triangulation (siehe DynamicTriangulation) sowie die Laufzeit des daraus
+ * abgeleiteten Voronoi-Diagramms und des groessten leeren Kreises gemessen.
+ * 
+ * @author Felix Wenz
+ * 
+ */
+public class TriangulationBenchmark {
+
+    /**
+     * die Punktanzahlen
+     */
+    private static final int[] SIZES = { 1000, 100000, 1000000 };
+
+    /**
+     * die Anzahl der Messungen je Punktanzahl; gewertet wird die schnellste
+     */
+    private static final int RUNS = 5;
+
+    /**
+     * die Anzahl der Verschiebungen je Punktanzahl
+     */
+    private static final int MOVES = 100000;
+
+    public static void main(String[] args) {
+        System.out.println("Punkte\tDreiecke\tZeit (ms)\tVerschieben (ns)"
+                + "\tVoronoi (ms)\tLeerer Kreis (ms)");
+        for (int size : SIZES) {
+            Random random = new Random(size);
+            long[] keys = new long[size];
+            for (int i = 0; i < size; i++) {
+                keys[i] = PackedPointSet.pack(random.nextInt(1 << 20),
+                        random.nextInt(1 << 20));
+            }
+            PackedPointSet pointSet = new PackedPointSet();
+            pointSet.addAll(keys, keys.length);
+            int n = pointSet.size();
+            int[] xs = new int[n];
+            int[] ys = new int[n];
+            IPointCursor cursor = pointSet.cursor();
+            for (int i = 0; cursor.next(); i++) {
+                xs[i] = cursor.getxPos();
+                ys[i] = cursor.getyPos();
+            }
+
+            long best = Long.MAX_VALUE;
+            Triangulation triangulation = null;
+            for (int run = 0; run < RUNS; run++) {
+                long start = System.nanoTime();
+                triangulation = DelaunayTriangulator.triangulate(xs, ys, n);
+                best = Math.min(best, System.nanoTime() - start);
+            }
+
+            int hullEdges = 0;
+            for (int e = 0; e < triangulation.getHalfEdgeCount(); e++) {
+                if (triangulation.getTwin(e) < 0)
+                    hullEdges++;
+            }
+            if (triangulation.getTriangleCount() != 2 * n - 2 - hullEdges)
+                System.out.println("Falsche Anzahl von Dreiecken bei " + n
+                        + " Punkten!");
+
+            int[] indices = new MonotoneChainHullEngine().computeHull(xs, ys,
+                    n);
+            Point[] hull = new Point[indices.length];
+            for (int i = 0; i < indices.length; i++) {
+                hull[i] = new Point(xs[indices[i]], ys[indices[i]]);
+            }
+            long voronoi = Long.MAX_VALUE;
+            long circle = Long.MAX_VALUE;
+            for (int run = 0; run < RUNS; run++) {
+                long start = System.nanoTime();
+                VoronoiDiagram diagram = new VoronoiDiagram(triangulation);
+                long middle = System.nanoTime();
+                LargestEmptyCircleCalculator.getLargestEmptyCircle(diagram,
+                        hull);
+                voronoi = Math.min(voronoi, middle - start);
+                circle = Math.min(circle, System.nanoTime() - middle);
+            }
+
+            DynamicTriangulation dynamic = new DynamicTriangulation();
+            dynamic.rebuild(pointSet.cursor());
+            long start = System.nanoTime();
+            for (int i = 0; i < MOVES; i++) {
+                int v = random.nextInt(n);
+                int xPos = xs[v] + random.nextInt(65) - 32;
+                int yPos = ys[v] + random.nextInt(65) - 32;
+                dynamic.remove(xs[v], ys[v]);
+                if (dynamic.add(xPos, yPos)) {
+                    xs[v] = xPos;
+                    ys[v] = yPos;
+                } else {
+                    // die Zielposition ist belegt
+                    dynamic.add(xs[v], ys[v]);
+                }
+            }
+            long move = (System.nanoTime() - start) / MOVES;
+            if (dynamic.size() != n)
+                System.out.println("Falsche Anzahl von Punkten bei " + n
+                        + " Punkten!");
+
+            System.out.println(n + "\t" + triangulation.getTriangleCount()
+                    + "\t\t" + best / 1000000 + "\t\t" + move + "\t\t"
+                    + voronoi / 1000000 + "\t\t" + circle / 1000000);
+        }
+    }
+}
@@ -0,0 +1,89 @@
+/**
+ * Das Paket beinhaltet alle (abstrakten) Klassen, Interfaces und Enums, 
+ * die im Allgemeinen zum Arbeiten mit/auf Punktmengen benoetigt werden.
+ */
+package de.feu.propra12.q8089884.epsav.util;
+
+/**
+ * Die Klasse repraesentiert einen Kreis im zweidimensionalen Raum, etwa den
+ * kleinsten umfassenden Kreis einer Punktmenge. Mittelpunkt und Radius
+ * stammen stets aus derselben Berechnung; Kreise sind unveraenderlich.
+ * 
+ * @author Felix Wenz
+ * 
+ */
+public final class Circle {
+
+    /**
+     * der leere Kreis einer leeren Punktmenge
+     */
+    public static final Circle EMPTY = new Circle(0, 0, 0);
+
+    /**
+     * Die x-Koordinate des Mittelpunkts.
+     */
+    private final double centerX;
+
+    /**
+     * Die y-Koordinate des Mittelpunkts.
+     */
+    private final double centerY;
+
+    /**
+     * Der Radius.
+     */
+    private final double radius;
+
+    /**
+     * Der Konstruktor fuer einen Kreis.
+     * 
+     * @param centerX
+     *            die x-Koordinate des Mittelpunkts
+     * @param centerY
+     *            die y-Koordinate des Mittelpunkts
+     * @param radius
+     *            der Radius
+     */
+    public Circle(double centerX, double centerY, double radius) {
+        this.centerX = centerX;
+        this.centerY = centerY;
+        this.radius = radius;
+    }
+
+    /**
+     * Die Methode gibt die x-Koordinate des Mittelpunkts zurueck.
+     * 
+     * @return die x-Koordinate
+     */
+    public double getCenterX() {
+        return centerX;
+    }
+
+    /**
+     * Die Methode gibt die y-Koordinate des Mittelpunkts zurueck.
+     * 
+     * @return die y-Koordinate
+     */
+    public double getCenterY() {
+        return centerY;
+    }
+
+    /**
+     * Die Methode gibt den Radius zurueck.
+     * 
+     * @return der Radius
+     */
+    public double getRadius() {
+        return radius;
+    }
+
+    /*
+     * (non-Javadoc)
+     * 
+     * @see java.lang.Object#toString()
+     */
+    @Override
+    public String toString() {
+        return centerX + " " + centerY + " " + radius;
+    }
+}
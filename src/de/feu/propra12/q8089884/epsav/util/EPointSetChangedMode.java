@@ -17,6 +17,11 @@ public enum EPointSetChangedMode {
      */
     POINT_ADDED,
 
+    /**
+     * Hinzufuegen mehrerer Punkte auf einmal (z.B. beim Import)
+     */
+    POINTS_ADDED,
+
     /**
      * Aenderung an einem Punkt
      */
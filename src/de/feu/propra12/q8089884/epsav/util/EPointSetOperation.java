@@ -23,6 +23,16 @@ public enum EPointSetOperation {
      */
     MOVE_POINT,
 
+    /**
+     * interaktives Verschieben eines Punktes beginnen
+     */
+    START_MOVING_POINT,
+
+    /**
+     * interaktives Verschieben eines Punktes beenden
+     */
+    STOP_MOVING_POINT,
+
     /**
      * Punkt entfernen
      */
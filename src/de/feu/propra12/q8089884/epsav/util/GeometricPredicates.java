@@ -0,0 +1,192 @@
+/**
+ * Das Paket beinhaltet alle (abstrakten) Klassen, Interfaces und Enums,
+ * die im Allgemeinen zum Arbeiten mit/auf Punktmengen benoetigt werden.
+ */
+package de.feu.propra12.q8089884.epsav.util;
+
+import java.math.BigInteger;
+
+/**
+ * Die Klasse stellt exakte geometrische Praedikate fuer Punkte mit
+ * int-Koordinaten bereit: die Orientierung dreier Punkte (orient2d) und die
+ * Lage eines Punktes zu einem Kreis (inCircle). Die Ergebnisse sind fuer den
+ * gesamten Wertebereich von int exakt, obwohl die Zwischenergebnisse den
+ * Wertebereich von long uebersteigen koennen.
+ * 
+ * Passen bei orient2d die Differenzen der Koordinaten in int, wie bei
+ * ueblichen Punktmengen, koennen die Produkte in long nicht ueberlaufen und
+ * sind exakt. Andernfalls und bei inCircle wird das Praedikat zunaechst in
+ * double ausgewertet. Die Differenzen der Koordinaten sind dabei exakt; der
+ * Rundungsfehler der Produkte und Summen ist nach Shewchuk durch ein
+ * Vielfaches ihrer Betraege beschraenkt. Liegt das Ergebnis betragsmaessig
+ * ueber dieser Schranke, ist sein Vorzeichen sicher. Nur in den seltenen
+ * Faellen nahe null wird exakt mit BigInteger gerechnet.
+ * 
+ * @author Felix Wenz
+ * 
+ */
+public final class GeometricPredicates {
+
+    /**
+     * die halbe Maschinengenauigkeit von double (2^-53)
+     */
+    private static final double EPSILON = 1.0 / (1L << 53);
+
+    /**
+     * die relative Fehlerschranke fuer Summen und Differenzen zweier Produkte
+     */
+    private static final double PRODUCT_ERROR_BOUND = (3 + 16 * EPSILON)
+            * EPSILON;
+
+    /**
+     * die relative Fehlerschranke fuer incircle
+     */
+    private static final double INCIRCLE_ERROR_BOUND = (10 + 96 * EPSILON)
+            * EPSILON;
+
+    /**
+     * Die Klasse stellt nur statische Methoden bereit.
+     */
+    private GeometricPredicates() {
+
+    }
+
+    /**
+     * Die Methode bestimmt die Orientierung der Punkte a, b und c, also das
+     * Vorzeichen des Kreuzprodukts (b - a) x (c - a).
+     * 
+     * @return 1, falls c links von der Geraden von a nach b liegt (die Punkte
+     *         also im mathematisch positiven Drehsinn liegen), -1, falls c
+     *         rechts davon liegt, und 0, falls die Punkte kolinear sind
+     */
+    public static int orient2d(int ax, int ay, int bx, int by, int cx, int cy) {
+        return crossSign((long) bx - ax, (long) by - ay, (long) cx - ax,
+                (long) cy - ay);
+    }
+
+    /**
+     * Die Methode bestimmt das Vorzeichen des Kreuzprodukts u x v = ux * vy -
+     * uy * vx. Die Komponenten duerfen betragsmaessig hoechstens 2^53 sein,
+     * etwa Differenzen zweier int-Koordinaten.
+     * 
+     * @return das Vorzeichen (-1, 0 oder 1)
+     */
+    public static int crossSign(long ux, long uy, long vx, long vy) {
+        if (fitsInt(ux) && fitsInt(uy) && fitsInt(vx) && fitsInt(vy))
+            // die Produkte sind kleiner als 2^62, ihre Differenz passt in long
+            return Long.signum(ux * vy - uy * vx);
+        double left = (double) ux * vy;
+        double right = (double) uy * vx;
+        double det = left - right;
+        double bound = PRODUCT_ERROR_BOUND * (Math.abs(left) + Math.abs(right));
+        if (det > bound)
+            return 1;
+        if (-det > bound)
+            return -1;
+        return exactSign(ux, vy, -uy, vx);
+    }
+
+    /**
+     * Die Methode prueft, ob der Punkt p im Kreis mit dem Durchmesser von a
+     * nach b liegt, also ob der Winkel a p b mindestens ein rechter ist.
+     * 
+     * @return 1, falls p im Kreis liegt, -1, falls p ausserhalb liegt, und 0,
+     *         falls p auf dem Rand liegt
+     */
+    public static int inDiametralCircle(int ax, int ay, int bx, int by,
+            int px, int py) {
+        // Vorzeichen des negierten Skalarprodukts (a - p) . (b - p)
+        long ux = (long) px - ax;
+        long uy = (long) py - ay;
+        long vx = (long) bx - px;
+        long vy = (long) by - py;
+        if (fitsInt(ux) && fitsInt(uy) && fitsInt(vx) && fitsInt(vy))
+            return Long.signum(ux * vx + uy * vy);
+        double left = (double) ux * vx;
+        double right = (double) uy * vy;
+        double dot = left + right;
+        double bound = PRODUCT_ERROR_BOUND * (Math.abs(left) + Math.abs(right));
+        if (dot > bound)
+            return 1;
+        if (-dot > bound)
+            return -1;
+        return exactSign(ux, vx, uy, vy);
+    }
+
+    /**
+     * Die Methode prueft, ob der Punkt d im Umkreis der Punkte a, b und c
+     * liegt, die im mathematisch positiven Drehsinn angegeben sein muessen.
+     * Bei umgekehrtem Drehsinn kehrt sich das Vorzeichen um.
+     * 
+     * @return 1, falls d im Umkreis liegt, -1, falls d ausserhalb liegt, und
+     *         0, falls die vier Punkte auf einem Kreis liegen
+     */
+    public static int inCircle(int ax, int ay, int bx, int by, int cx, int cy,
+            int dx, int dy) {
+        long adx = (long) ax - dx;
+        long ady = (long) ay - dy;
+        long bdx = (long) bx - dx;
+        long bdy = (long) by - dy;
+        long cdx = (long) cx - dx;
+        long cdy = (long) cy - dy;
+
+        double bdxcdy = (double) bdx * cdy;
+        double cdxbdy = (double) cdx * bdy;
+        double aLift = (double) adx * adx + (double) ady * ady;
+        double cdxady = (double) cdx * ady;
+        double adxcdy = (double) adx * cdy;
+        double bLift = (double) bdx * bdx + (double) bdy * bdy;
+        double adxbdy = (double) adx * bdy;
+        double bdxady = (double) bdx * ady;
+        double cLift = (double) cdx * cdx + (double) cdy * cdy;
+
+        double det = aLift * (bdxcdy - cdxbdy) + bLift * (cdxady - adxcdy)
+                + cLift * (adxbdy - bdxady);
+        double permanent = (Math.abs(bdxcdy) + Math.abs(cdxbdy)) * aLift
+                + (Math.abs(cdxady) + Math.abs(adxcdy)) * bLift
+                + (Math.abs(adxbdy) + Math.abs(bdxady)) * cLift;
+        double bound = INCIRCLE_ERROR_BOUND * permanent;
+        if (det > bound)
+            return 1;
+        if (-det > bound)
+            return -1;
+
+        BigInteger[] a = { BigInteger.valueOf(adx), BigInteger.valueOf(ady) };
+        BigInteger[] b = { BigInteger.valueOf(bdx), BigInteger.valueOf(bdy) };
+        BigInteger[] c = { BigInteger.valueOf(cdx), BigInteger.valueOf(cdy) };
+        return lift(a).multiply(cross(b, c))
+                .add(lift(b).multiply(cross(c, a)))
+                .add(lift(c).multiply(cross(a, b))).signum();
+    }
+
+    /**
+     * Die Methode bestimmt exakt das Vorzeichen von a * b + c * d.
+     */
+    private static int exactSign(long a, long b, long c, long d) {
+        return BigInteger.valueOf(a).multiply(BigInteger.valueOf(b))
+                .add(BigInteger.valueOf(c).multiply(BigInteger.valueOf(d)))
+                .signum();
+    }
+
+    /**
+     * Die Methode prueft, ob ein Wert betragsmaessig hoechstens
+     * Integer.MAX_VALUE ist.
+     */
+    private static boolean fitsInt(long value) {
+        return value >= -Integer.MAX_VALUE && value <= Integer.MAX_VALUE;
+    }
+
+    /**
+     * Die Methode berechnet das Kreuzprodukt u x v.
+     */
+    private static BigInteger cross(BigInteger[] u, BigInteger[] v) {
+        return u[0].multiply(v[1]).subtract(u[1].multiply(v[0]));
+    }
+
+    /**
+     * Die Methode berechnet das Quadrat der Laenge von u.
+     */
+    private static BigInteger lift(BigInteger[] u) {
+        return u[0].multiply(u[0]).add(u[1].multiply(u[1]));
+    }
+}
@@ -5,22 +5,25 @@
 package de.feu.propra12.q8089884.epsav.util;
 
 /**
- * Die Klasse repraesentiert einen Punkt im zweidimensionalen Raum.
+ * Die Klasse repraesentiert einen Punkt im zweidimensionalen Raum. Punkte sind
+ * unveraenderlich; ein Verschieben wird als Entfernen des alten und Einfuegen
+ * eines neuen Punktes ausgedrueckt. Punkte koennen daher ohne Synchronisation
+ * zwischen Threads und Schnappschuessen geteilt werden.
  * 
  * @author Felix Wenz
  * 
  */
-public class Point implements Comparable<Point> {
+public final class Point implements Comparable<Point> {
 
     /**
      * Die x-Koordinate des Punktes.
      */
-    private int xPos;
+    private final int xPos;
 
     /**
      * Die y-Koordinate des Punktes.
      */
-    private int yPos;
+    private final int yPos;
 
     /**
      * Der Konstruktor für einen Punkt im zweidimensionalen Raum.
@@ -35,58 +38,24 @@ public class Point implements Comparable<Point> {
         this.yPos = yPos;
     }
 
-    /**
-     * Die Methode bewegt den Punkt an die uebergebenen Koordinaten.
-     * 
-     * @param xPos
-     *            die x-Koordinate
-     * @param yPos
-     *            die y-Koordinate
-     */
-    @SuppressWarnings("hiding")
-    public synchronized void moveTo(int xPos, int yPos) {
-        setxPos(xPos);
-        setyPos(yPos);
-    }
-
     /**
      * Die Methode gibt die x-Koordinate des Punktes zurueck.
      * 
      * @return die x-Koordinate
      */
-    public synchronized int getxPos() {
+    public int getxPos() {
         return xPos;
     }
 
-    /**
-     * Die Methode setzt die x-Koordinate des Punktes neu.
-     * 
-     * @param xPos
-     *            die zu setzende x-Koordinate
-     */
-    public synchronized void setxPos(int xPos) {
-        this.xPos = xPos;
-    }
-
     /**
      * Die Methode gibt die y-Koordinate des Punktes zurueck.
      * 
      * @return die y-Koordinate
      */
-    public synchronized int getyPos() {
+    public int getyPos() {
         return yPos;
     }
 
-    /**
-     * Die Methode setzt die x-Koordinate des Punktes neu.
-     * 
-     * @param xPos
-     *            die zu setzende x-Koordinate
-     */
-    public synchronized void setyPos(int yPos) {
-        this.yPos = yPos;
-    }
-
     /*
      * (non-Javadoc)
      * 
@@ -0,0 +1,171 @@
+/**
+ * Das Paket beinhaltet alle (abstrakten) Klassen, Interfaces und Enums,
+ * die im Allgemeinen zum Arbeiten mit/auf Punktmengen benoetigt werden.
+ */
+package de.feu.propra12.q8089884.epsav.util;
+
+import java.util.Arrays;
+
+/**
+ * Die Klasse stellt einen wiederverwendbaren Puffer fuer Punktkoordinaten dar.
+ * Die Koordinaten liegen in zwei int-Arrays, die nur bei Bedarf wachsen; wird
+ * derselbe Puffer fuer wiederholte Berechnungen verwendet, entstehen nach den
+ * ersten Aufrufen keine neuen Objekte mehr.
+ * 
+ * Die Klasse ist nicht threadsicher; ein Puffer gehoert dem Aufrufer.
+ * 
+ * @author Felix Wenz
+ * 
+ */
+public final class PointBuffer {
+
+    /**
+     * die x-Koordinaten
+     */
+    private int[] xPositions;
+
+    /**
+     * die y-Koordinaten
+     */
+    private int[] yPositions;
+
+    /**
+     * die Anzahl der Punkte
+     */
+    private int size = 0;
+
+    /**
+     * Der Standardkonstruktor fuer einen leeren Puffer.
+     */
+    public PointBuffer() {
+        this(16);
+    }
+
+    /**
+     * Der Konstruktor fuer einen leeren Puffer mit der angegebenen
+     * Anfangskapazitaet.
+     * 
+     * @param capacity
+     *            die Anzahl der Punkte, die ohne Wachsen Platz finden
+     */
+    public PointBuffer(int capacity) {
+        xPositions = new int[Math.max(1, capacity)];
+        yPositions = new int[xPositions.length];
+    }
+
+    /**
+     * Die Methode gibt die Anzahl der Punkte zurueck.
+     * 
+     * @return die Anzahl der Punkte
+     */
+    public int size() {
+        return size;
+    }
+
+    /**
+     * Die Methode gibt die x-Koordinate des Punktes mit dem uebergebenen Index
+     * zurueck.
+     * 
+     * @param index
+     *            der Index, kleiner als size()
+     * @return die x-Koordinate
+     */
+    public int getxPos(int index) {
+        return xPositions[index];
+    }
+
+    /**
+     * Die Methode gibt die y-Koordinate des Punktes mit dem uebergebenen Index
+     * zurueck.
+     * 
+     * @param index
+     *            der Index, kleiner als size()
+     * @return die y-Koordinate
+     */
+    public int getyPos(int index) {
+        return yPositions[index];
+    }
+
+    /**
+     * Die Methode haengt einen Punkt an.
+     * 
+     * @param xPos
+     *            die x-Koordinate
+     * @param yPos
+     *            die y-Koordinate
+     */
+    public void add(int xPos, int yPos) {
+        if (size == xPositions.length) {
+            xPositions = Arrays.copyOf(xPositions, size * 2);
+            yPositions = Arrays.copyOf(yPositions, size * 2);
+        }
+        xPositions[size] = xPos;
+        yPositions[size] = yPos;
+        size++;
+    }
+
+    /**
+     * Die Methode haengt die Koordinaten der uebergebenen Punkte an.
+     * 
+     * @param points
+     *            die Punkte
+     */
+    public void addAll(Point[] points) {
+        for (Point p : points) {
+            add(p.getxPos(), p.getyPos());
+        }
+    }
+
+    /**
+     * Die Methode verkuerzt den Puffer auf die uebergebene Anzahl von Punkten;
+     * die Kapazitaet bleibt erhalten.
+     * 
+     * @param size
+     *            die neue Anzahl der Punkte, hoechstens size()
+     */
+    public void truncate(int size) {
+        if (size < 0 || size > this.size)
+            throw new IndexOutOfBoundsException(String.valueOf(size));
+        this.size = size;
+    }
+
+    /**
+     * Die Methode leert den Puffer; die Kapazitaet bleibt erhalten.
+     */
+    public void clear() {
+        size = 0;
+    }
+
+    /**
+     * Die Methode kehrt die Reihenfolge der Punkte von from (einschliesslich)
+     * bis to (ausschliesslich) um.
+     * 
+     * @param from
+     *            der Index des ersten Punktes
+     * @param to
+     *            der Index hinter dem letzten Punkt, hoechstens size()
+     */
+    public void reverse(int from, int to) {
+        for (int i = from, j = to - 1; i < j; i++, j--) {
+            int x = xPositions[i];
+            xPositions[i] = xPositions[j];
+            xPositions[j] = x;
+            int y = yPositions[i];
+            yPositions[i] = yPositions[j];
+            yPositions[j] = y;
+        }
+    }
+
+    /**
+     * Die Methode erzeugt fuer alle Punkte des Puffers neue Punktobjekte.
+     * 
+     * @return die Punkte in der Reihenfolge des Puffers
+     */
+    public Point[] toPointArray() {
+        Point[] result = new Point[size];
+        for (int i = 0; i < size; i++) {
+            result[i] = new Point(xPositions[i], yPositions[i]);
+        }
+        return result;
+    }
+}
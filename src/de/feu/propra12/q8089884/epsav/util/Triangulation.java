@@ -0,0 +1,188 @@
+/**
+ * Das Paket beinhaltet alle (abstrakten) Klassen, Interfaces und Enums,
+ * die im Allgemeinen zum Arbeiten mit/auf Punktmengen benoetigt werden.
+ */
+package de.feu.propra12.q8089884.epsav.util;
+
+/**
+ * Die Klasse repraesentiert eine Triangulation einer Punktmenge als kompakte
+ * Halbkantenstruktur aus primitiven Arrays. Jedes Dreieck t besteht aus den
+ * drei Halbkanten 3t, 3t + 1 und 3t + 2, die es im mathematisch positiven
+ * Drehsinn umlaufen. Zu jeder Halbkante sind ihr Anfangspunkt und die
+ * gegenlaeufige Halbkante des Nachbardreiecks gespeichert; die naechste und
+ * die vorige Halbkante im selben Dreieck ergeben sich aus dem Index (siehe
+ * next(int) und prev(int)). Die Ecken sind von 0 an nummeriert.
+ * 
+ * Liegen alle Punkte auf einer Geraden, gibt es keine Dreiecke. Eine
+ * Triangulation ist unveraenderlich.
+ * 
+ * @author Felix Wenz
+ * 
+ */
+public final class Triangulation {
+
+    /**
+     * die leere Triangulation einer leeren Punktmenge
+     */
+    public static final Triangulation EMPTY = new Triangulation(new int[0],
+            new int[0], new int[0], new int[0]);
+
+    /**
+     * die x-Koordinaten der Ecken
+     */
+    private final int[] xPositions;
+
+    /**
+     * die y-Koordinaten der Ecken
+     */
+    private final int[] yPositions;
+
+    /**
+     * die Anfangspunkte der Halbkanten
+     */
+    private final int[] origins;
+
+    /**
+     * die gegenlaeufigen Halbkanten; -1 fuer Kanten der konvexen Huelle
+     */
+    private final int[] twins;
+
+    /**
+     * Der Konstruktor fuer eine Triangulation. Die Arrays werden nicht
+     * kopiert und duerfen danach nicht mehr veraendert werden.
+     * 
+     * @param xPositions
+     *            die x-Koordinaten der Ecken
+     * @param yPositions
+     *            die y-Koordinaten der Ecken
+     * @param origins
+     *            die Anfangspunkte der Halbkanten, je drei pro Dreieck
+     * @param twins
+     *            die gegenlaeufigen Halbkanten; -1 fuer Kanten der konvexen
+     *            Huelle
+     */
+    public Triangulation(int[] xPositions, int[] yPositions, int[] origins,
+            int[] twins) {
+        this.xPositions = xPositions;
+        this.yPositions = yPositions;
+        this.origins = origins;
+        this.twins = twins;
+    }
+
+    /**
+     * Die Methode gibt die Anzahl der Ecken zurueck.
+     * 
+     * @return die Anzahl der Ecken
+     */
+    public int getVertexCount() {
+        return xPositions.length;
+    }
+
+    /**
+     * Die Methode gibt die x-Koordinate einer Ecke zurueck.
+     * 
+     * @param vertex
+     *            die Ecke
+     * @return die x-Koordinate
+     */
+    public int getxPos(int vertex) {
+        return xPositions[vertex];
+    }
+
+    /**
+     * Die Methode gibt die y-Koordinate einer Ecke zurueck.
+     * 
+     * @param vertex
+     *            die Ecke
+     * @return die y-Koordinate
+     */
+    public int getyPos(int vertex) {
+        return yPositions[vertex];
+    }
+
+    /**
+     * Die Methode gibt die Anzahl der Dreiecke zurueck.
+     * 
+     * @return die Anzahl der Dreiecke
+     */
+    public int getTriangleCount() {
+        return origins.length / 3;
+    }
+
+    /**
+     * Die Methode gibt die Anzahl der Halbkanten zurueck, also das Dreifache
+     * der Anzahl der Dreiecke.
+     * 
+     * @return die Anzahl der Halbkanten
+     */
+    public int getHalfEdgeCount() {
+        return origins.length;
+    }
+
+    /**
+     * Die Methode gibt den Anfangspunkt einer Halbkante zurueck. Der Endpunkt
+     * ist der Anfangspunkt von next(halfEdge).
+     * 
+     * @param halfEdge
+     *            die Halbkante
+     * @return die Ecke, an der die Halbkante beginnt
+     */
+    public int getOrigin(int halfEdge) {
+        return origins[halfEdge];
+    }
+
+    /**
+     * Die Methode gibt die gegenlaeufige Halbkante des Nachbardreiecks zurueck.
+     * 
+     * @param halfEdge
+     *            die Halbkante
+     * @return die gegenlaeufige Halbkante; -1, falls die Kante auf der
+     *         konvexen Huelle liegt
+     */
+    public int getTwin(int halfEdge) {
+        return twins[halfEdge];
+    }
+
+    /**
+     * Die Methode gibt die naechste Halbkante im selben Dreieck zurueck.
+     * 
+     * @param halfEdge
+     *            die Halbkante
+     * @return die naechste Halbkante
+     */
+    public static int next(int halfEdge) {
+        return halfEdge % 3 == 2 ? halfEdge - 2 : halfEdge + 1;
+    }
+
+    /**
+     * Die Methode gibt die vorige Halbkante im selben Dreieck zurueck.
+     * 
+     * @param halfEdge
+     *            die Halbkante
+     * @return die vorige Halbkante
+     */
+    public static int prev(int halfEdge) {
+        return halfEdge % 3 == 0 ? halfEdge + 2 : halfEdge - 1;
+    }
+
+    /**
+     * Die Methode legt fuer jede Kante der Triangulation ihre beiden Endpunkte
+     * nacheinander im uebergebenen Puffer ab. Jede Kante kommt genau einmal
+     * vor.
+     * 
+     * @param result
+     *            der Puffer fuer die Endpunkte; wird zuvor geleert
+     */
+    public void getEdges(PointBuffer result) {
+        result.clear();
+        for (int e = 0; e < origins.length; e++) {
+            // innere Kanten nur von der Halbkante mit dem groesseren Index
+            if (twins[e] > e)
+                continue;
+            int from = origins[e];
+            int to = origins[next(e)];
+            result.add(xPositions[from], yPositions[from]);
+            result.add(xPositions[to], yPositions[to]);
+        }
+    }
+}
@@ -0,0 +1,312 @@
+/**
+ * Das Paket beinhaltet alle (abstrakten) Klassen, Interfaces und Enums,
+ * die im Allgemeinen zum Arbeiten mit/auf Punktmengen benoetigt werden.
+ */
+package de.feu.propra12.q8089884.epsav.util;
+
+/**
+ * Die Klasse repraesentiert das Voronoi-Diagramm einer Punktmenge als Dual
+ * ihrer Delaunay-Triangulation in primitiven Arrays. Die Ecken des Diagramms
+ * sind die Umkreismittelpunkte der Dreiecke; Ecke t gehoert zu Dreieck t der
+ * Triangulation. Jede innere Kante der Triangulation ergibt eine Kante
+ * zwischen den Ecken ihrer beiden Dreiecke, jede Kante der konvexen Huelle
+ * einen Strahl, der von der Ecke ihres Dreiecks senkrecht nach aussen
+ * verlaeuft. Die Zelle eines Punktes besteht aus den Ecken der Dreiecke um
+ * ihn im mathematisch positiven Drehsinn; die Zelle eines Punktes auf der
+ * Huelle ist unbeschraenkt und beginnt und endet mit dem Anfangspunkt eines
+ * Strahls.
+ * 
+ * Das Diagramm wird in O(n) aus der Triangulation abgeleitet. Liegen alle
+ * Punkte auf einer Geraden, hat es keine Ecken und Kanten; die Zellen sind
+ * dann Streifen zwischen parallelen Geraden, die hier nicht dargestellt
+ * werden. Ein Voronoi-Diagramm ist unveraenderlich.
+ * 
+ * @author Felix Wenz
+ * 
+ */
+public final class VoronoiDiagram {
+
+    /**
+     * die zugrunde liegende Delaunay-Triangulation
+     */
+    private final Triangulation triangulation;
+
+    /**
+     * die x-Koordinaten der Ecken
+     */
+    private final double[] vertexX;
+
+    /**
+     * die y-Koordinaten der Ecken
+     */
+    private final double[] vertexY;
+
+    /**
+     * die Anfangsecken der Kanten
+     */
+    private final int[] edgeStarts;
+
+    /**
+     * die Endecken der Kanten; -1 fuer Strahlen
+     */
+    private final int[] edgeEnds;
+
+    /**
+     * die zu den Kanten dualen Halbkanten der Triangulation
+     */
+    private final int[] edgeDuals;
+
+    /**
+     * der Beginn der Zelle jedes Punktes in cellVertices; der Eintrag hinter
+     * dem letzten Punkt ist die Gesamtlaenge
+     */
+    private final int[] cellOffsets;
+
+    /**
+     * die Ecken aller Zellen hintereinander
+     */
+    private final int[] cellVertices;
+
+    /**
+     * je Punkt, ob seine Zelle beschraenkt ist
+     */
+    private final boolean[] bounded;
+
+    /**
+     * Der Konstruktor leitet das Voronoi-Diagramm aus einer
+     * Delaunay-Triangulation ab.
+     * 
+     * @param triangulation
+     *            die Delaunay-Triangulation
+     */
+    public VoronoiDiagram(Triangulation triangulation) {
+        this.triangulation = triangulation;
+        int triangles = triangulation.getTriangleCount();
+        int halfEdges = triangulation.getHalfEdgeCount();
+        int sites = triangulation.getVertexCount();
+
+        vertexX = new double[triangles];
+        vertexY = new double[triangles];
+        for (int t = 0; t < triangles; t++) {
+            setCircumcenter(t);
+        }
+
+        // je innerer Kante eine Halbkante, je Huellkante ein Strahl
+        int edges = 0;
+        for (int e = 0; e < halfEdges; e++) {
+            if (triangulation.getTwin(e) < e)
+                edges++;
+        }
+        edgeStarts = new int[edges];
+        edgeEnds = new int[edges];
+        edgeDuals = new int[edges];
+        int edge = 0;
+        for (int e = 0; e < halfEdges; e++) {
+            int twin = triangulation.getTwin(e);
+            if (twin >= e)
+                continue;
+            edgeStarts[edge] = e / 3;
+            edgeEnds[edge] = twin < 0 ? -1 : twin / 3;
+            edgeDuals[edge] = e;
+            edge++;
+        }
+
+        // je Punkt eine ausgehende Halbkante; bei Punkten auf der Huelle die
+        // Huellkante, mit der der Umlauf gegen den Uhrzeigersinn beginnt
+        int[] first = new int[sites];
+        for (int v = 0; v < sites; v++) {
+            first[v] = -1;
+        }
+        for (int e = 0; e < halfEdges; e++) {
+            int v = triangulation.getOrigin(e);
+            if (first[v] < 0 || triangulation.getTwin(e) < 0)
+                first[v] = e;
+        }
+        cellOffsets = new int[sites + 1];
+        bounded = new boolean[sites];
+        for (int v = 0; v < sites; v++) {
+            cellOffsets[v + 1] = cellOffsets[v] + walk(first[v], null, 0);
+        }
+        cellVertices = new int[cellOffsets[sites]];
+        for (int v = 0; v < sites; v++) {
+            bounded[v] = first[v] >= 0
+                    && triangulation.getTwin(first[v]) >= 0;
+            walk(first[v], cellVertices, cellOffsets[v]);
+        }
+    }
+
+    /**
+     * Die Methode laeuft gegen den Uhrzeigersinn um den Anfangspunkt der
+     * Halbkante, bis sie wieder am Anfang oder an der Huelle ankommt, und
+     * traegt die Dreiecke ab offset in vertices ein, falls vertices nicht
+     * null ist.
+     * 
+     * @return die Anzahl der Dreiecke
+     */
+    private int walk(int start, int[] vertices, int offset) {
+        if (start < 0)
+            return 0;
+        int count = 0;
+        int e = start;
+        do {
+            if (vertices != null)
+                vertices[offset + count] = e / 3;
+            count++;
+            e = triangulation.getTwin(Triangulation.prev(e));
+        } while (e >= 0 && e != start);
+        return count;
+    }
+
+    /**
+     * Die Methode berechnet den Umkreismittelpunkt des Dreiecks t relativ zu
+     * seiner ersten Ecke, damit die Differenzen exakt bleiben.
+     */
+    private void setCircumcenter(int t) {
+        int a = triangulation.getOrigin(3 * t);
+        int b = triangulation.getOrigin(3 * t + 1);
+        int c = triangulation.getOrigin(3 * t + 2);
+        long bx = (long) triangulation.getxPos(b) - triangulation.getxPos(a);
+        long by = (long) triangulation.getyPos(b) - triangulation.getyPos(a);
+        long cx = (long) triangulation.getxPos(c) - triangulation.getxPos(a);
+        long cy = (long) triangulation.getyPos(c) - triangulation.getyPos(a);
+        // die Dreiecke sind echt positiv orientiert, die Determinante also
+        // nicht null; in long exakt, solange die Differenzen in int passen
+        double det;
+        if (Math.abs(bx) <= Integer.MAX_VALUE
+                && Math.abs(by) <= Integer.MAX_VALUE
+                && Math.abs(cx) <= Integer.MAX_VALUE
+                && Math.abs(cy) <= Integer.MAX_VALUE)
+            det = 2.0 * (bx * cy - by * cx);
+        else
+            det = 2.0 * ((double) bx * cy - (double) by * cx);
+        double bLift = (double) bx * bx + (double) by * by;
+        double cLift = (double) cx * cx + (double) cy * cy;
+        vertexX[t] = triangulation.getxPos(a) + (cy * bLift - by * cLift)
+                / det;
+        vertexY[t] = triangulation.getyPos(a) + (bx * cLift - cx * bLift)
+                / det;
+    }
+
+    /**
+     * Die Methode gibt die zugrunde liegende Delaunay-Triangulation zurueck.
+     * Ihre Ecken sind die Punkte, deren Zellen das Diagramm beschreibt.
+     * 
+     * @return die Triangulation
+     */
+    public Triangulation getTriangulation() {
+        return triangulation;
+    }
+
+    /**
+     * Die Methode gibt die Anzahl der Ecken zurueck.
+     * 
+     * @return die Anzahl der Ecken, gleich der Anzahl der Dreiecke
+     */
+    public int getVertexCount() {
+        return vertexX.length;
+    }
+
+    /**
+     * Die Methode gibt die x-Koordinate einer Ecke zurueck.
+     * 
+     * @param vertex
+     *            die Ecke
+     * @return die x-Koordinate
+     */
+    public double getVertexX(int vertex) {
+        return vertexX[vertex];
+    }
+
+    /**
+     * Die Methode gibt die y-Koordinate einer Ecke zurueck.
+     * 
+     * @param vertex
+     *            die Ecke
+     * @return die y-Koordinate
+     */
+    public double getVertexY(int vertex) {
+        return vertexY[vertex];
+    }
+
+    /**
+     * Die Methode gibt die Anzahl der Kanten einschliesslich der Strahlen
+     * zurueck.
+     * 
+     * @return die Anzahl der Kanten
+     */
+    public int getEdgeCount() {
+        return edgeStarts.length;
+    }
+
+    /**
+     * Die Methode gibt die Anfangsecke einer Kante zurueck.
+     * 
+     * @param edge
+     *            die Kante
+     * @return die Ecke, an der die Kante oder der Strahl beginnt
+     */
+    public int getEdgeStart(int edge) {
+        return edgeStarts[edge];
+    }
+
+    /**
+     * Die Methode gibt die Endecke einer Kante zurueck.
+     * 
+     * @param edge
+     *            die Kante
+     * @return die Ecke, an der die Kante endet; -1 fuer einen Strahl
+     */
+    public int getEdgeEnd(int edge) {
+        return edgeEnds[edge];
+    }
+
+    /**
+     * Die Methode gibt die zu einer Kante duale Halbkante der Triangulation
+     * zurueck. Die Kante liegt auf der Mittelsenkrechten ihrer beiden
+     * Endpunkte; ein Strahl verlaeuft rechts von ihr nach aussen.
+     * 
+     * @param edge
+     *            die Kante
+     * @return die Halbkante der Triangulation
+     */
+    public int getEdgeDual(int edge) {
+        return edgeDuals[edge];
+    }
+
+    /**
+     * Die Methode gibt die Anzahl der Ecken einer Zelle zurueck.
+     * 
+     * @param site
+     *            der Punkt, also die Ecke der Triangulation
+     * @return die Anzahl der Ecken seiner Zelle
+     */
+    public int getCellSize(int site) {
+        return cellOffsets[site + 1] - cellOffsets[site];
+    }
+
+    /**
+     * Die Methode gibt eine Ecke einer Zelle zurueck. Die Ecken folgen im
+     * mathematisch positiven Drehsinn aufeinander.
+     * 
+     * @param site
+     *            der Punkt
+     * @param index
+     *            die Nummer der Ecke in der Zelle
+     * @return die Ecke
+     */
+    public int getCellVertex(int site, int index) {
+        return cellVertices[cellOffsets[site] + index];
+    }
+
+    /**
+     * Die Methode prueft, ob eine Zelle beschraenkt ist, der Punkt also nicht
+     * auf dem Rand der konvexen Huelle liegt.
+     * 
+     * @param site
+     *            der Punkt
+     * @return wahr, falls die Zelle beschraenkt ist
+     */
+    public boolean isCellBounded(int site) {
+        return bounded[site];
+    }
+}
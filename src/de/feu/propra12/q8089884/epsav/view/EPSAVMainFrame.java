@@ -754,6 +754,11 @@ public class EPSAVMainFrame extends JFrame implements IPointSetOperationSource,
                 pPointSetAlgebra.setdX(selectedPoint.getxPos() - cursorX);
                 pPointSetAlgebra.setdY(selectedPoint.getyPos() - cursorY);
                 pPointSetAlgebra.setUserMovingPoint(true);
+                // waehrend des Ziehens fuehrt das Modell die Huelle der
+                // uebrigen Punkte nicht fort
+                Object[] args = { selectedPoint };
+                fireOperationEvent(new PointSetOperationEvent(this,
+                        EPointSetOperation.START_MOVING_POINT, args));
             }
             refresh();
         }
@@ -767,6 +772,9 @@ public class EPSAVMainFrame extends JFrame implements IPointSetOperationSource,
      */
     @Override
     public void mouseReleased(MouseEvent e) {
+        if (pPointSetAlgebra.isUserMovingPoint())
+            fireOperationEvent(new PointSetOperationEvent(this,
+                    EPointSetOperation.STOP_MOVING_POINT, null));
         pPointSetAlgebra.setdX(0);
         pPointSetAlgebra.setdY(0);
         pPointSetAlgebra.setUserMovingPoint(false);
@@ -792,9 +800,8 @@ public class EPSAVMainFrame extends JFrame implements IPointSetOperationSource,
                 Object[] args = { pPointSetAlgebra.getSelectedPoint(), newPos };
                 fireOperationEvent(new PointSetOperationEvent(this,
                         EPointSetOperation.MOVE_POINT, args));
-                // ausgewaehlten Punkt verschieben
-                pPointSetAlgebra.getSelectedPoint().moveTo(newPos.getxPos(),
-                        newPos.getyPos());
+                // der verschobene Punkt ist nun der ausgewaehlte Punkt
+                pPointSetAlgebra.setSelectedPoint(newPos);
                 refresh();
             }
         }
@@ -8,8 +8,9 @@ import java.awt.*;
 
 import javax.swing.JPanel;
 
-import de.feu.propra12.q8089884.epsav.model.interfaces.IROPointSetAlgebra;
+import de.feu.propra12.q8089884.epsav.model.interfaces.*;
 import de.feu.propra12.q8089884.epsav.util.Point;
+import de.feu.propra12.q8089884.epsav.util.Triangulation;
 
 /**
  * Die Klasse stellt die Zeichenflaeche fuer eine Punktmengenalgebra dar.
@@ -75,16 +76,30 @@ public class PointSetAlgebraPanel extends JPanel implements
     }
 
     /**
-     * Die Methode zeichnet die Punktmengenalgebra in ein Grafikobjekt.
+     * Die Methode zeichnet die Punktmengenalgebra in ein Grafikobjekt. Stellt
+     * die Punktmenge Schnappschuesse zur Verfuegung, wird fuer das gesamte
+     * Bild genau ein Schnappschuss verwendet; die Punktmenge wird dann
+     * waehrend des Zeichnens nicht gesperrt und die Punkte werden nicht
+     * kopiert.
      * 
      * @param g2
      *            das Grafikobjekt
      */
     private void drawPointSetAlgebra(Graphics2D g2) {
-        drawPointSet(g2);
-        drawConvexHull(g2);
-        drawTriangulationLines(g2);
-        drawSmallestEnclosingCircle(g2);
+        if (pointSetAlgebra instanceof IPointSetSnapshotProvider) {
+            IPointSetSnapshot snapshot = ((IPointSetSnapshotProvider) pointSetAlgebra)
+                    .getSnapshot();
+            drawTriangulationLines(g2, snapshot);
+            drawPointSet(g2, snapshot.cursor());
+            drawConvexHull(g2, snapshot);
+            drawSmallestEnclosingCircle(g2, snapshot, snapshot.isEmpty());
+        } else {
+            drawTriangulationLines(g2, pointSetAlgebra);
+            drawPointSet(g2);
+            drawConvexHull(g2, pointSetAlgebra);
+            drawSmallestEnclosingCircle(g2, pointSetAlgebra,
+                    pointSetAlgebra.isEmpty());
+        }
     }
 
     /**
@@ -94,36 +109,86 @@ public class PointSetAlgebraPanel extends JPanel implements
      * @param g2
      *            das Grafikobjekt
      */
-    private void drawPointSet(Graphics2D g2) {
-        // alle Punkte zeichnen
-        for (Point p : pointSetAlgebra.getAllPoints()) {
-            if (p.equals(selectedPoint)) {
-                // den ausgewaehlten Punkt groesser und blau darstellen
-                g2.setColor(Color.BLUE);
-                g2.fillOval(selectedPoint.getxPos() - 5,
-                        selectedPoint.getyPos() - 5, 11, 11);
-            } else {
-                g2.setColor(Color.BLACK);
-                g2.fillOval(p.getxPos() - 3, p.getyPos() - 3, 7, 7);
+    private void drawPointSet(final Graphics2D g2) {
+        // alle Punkte zeichnen, ohne sie zu kopieren
+        pointSetAlgebra.forEachPoint(new IPointVisitor() {
+            @Override
+            public void visit(int xPos, int yPos) {
+                drawPoint(g2, xPos, yPos);
             }
+        });
+    }
+
+    /**
+     * Die Methode zeichnet die Elemente der Punktmenge, die der Cursor
+     * durchlaeuft, unter Beruecksichtigung des aktuell ausgewaehlten Punktes.
+     * 
+     * @param g2
+     *            das Grafikobjekt
+     * @param cursor
+     *            der Cursor ueber die Punkte
+     */
+    private void drawPointSet(Graphics2D g2, IPointCursor cursor) {
+        while (cursor.next()) {
+            drawPoint(g2, cursor.getxPos(), cursor.getyPos());
+        }
+    }
+
+    /**
+     * Die Methode zeichnet einen Punkt; der ausgewaehlte Punkt wird groesser
+     * und blau dargestellt.
+     * 
+     * @param g2
+     *            das Grafikobjekt
+     * @param xPos
+     *            die x-Koordinate
+     * @param yPos
+     *            die y-Koordinate
+     */
+    private void drawPoint(Graphics2D g2, int xPos, int yPos) {
+        if (isSelectedPoint(xPos, yPos)) {
+            g2.setColor(Color.BLUE);
+            g2.fillOval(xPos - 5, yPos - 5, 11, 11);
+        } else {
+            g2.setColor(Color.BLACK);
+            g2.fillOval(xPos - 3, yPos - 3, 7, 7);
         }
     }
 
+    /**
+     * Die Methode prueft, ob die uebergebenen Koordinaten die des aktuell
+     * ausgewaehlten Punktes sind.
+     * 
+     * @param xPos
+     *            die x-Koordinate
+     * @param yPos
+     *            die y-Koordinate
+     * @return wahr, falls der Punkt ausgewaehlt ist
+     */
+    private boolean isSelectedPoint(int xPos, int yPos) {
+        return selectedPoint != null && selectedPoint.getxPos() == xPos
+                && selectedPoint.getyPos() == yPos;
+    }
+
     /**
      * Die Methode zeichnet die konvexe Huelle.
      * 
      * @param g2
      *            das Grafikobjekt
+     * @param hullCalculator
+     *            liefert die konvexe Huelle
      */
-    private void drawConvexHull(Graphics2D g2) {
-        Point[] convexHull = pointSetAlgebra.getConvexHull();
+    private void drawConvexHull(Graphics2D g2,
+            IConvexHullCalculator hullCalculator) {
+        Point[] convexHull = hullCalculator.getConvexHull();
         // Punkte des Polygons verbinden
         if (convexHull != null)
             for (int i = 0; i < convexHull.length - 1; i++) {
                 // Linien zum gerade ausgewaehlten Punkt sollen blau gezeichnet
                 // werden, wenn dieser gerade bewegt wird
                 if (isUserMovingPoint()
-                        && ((convexHull[i] == selectedPoint) || (convexHull[i + 1] == selectedPoint)))
+                        && (convexHull[i].equals(selectedPoint) || convexHull[i + 1]
+                                .equals(selectedPoint)))
                     g2.setColor(Color.BLUE);
                 else
                     g2.setColor(Color.BLACK);
@@ -134,7 +199,9 @@ public class PointSetAlgebraPanel extends JPanel implements
                 // Polygon schliessen
                 if (convexHull.length > 2) {
                     if (isUserMovingPoint()
-                            && ((convexHull[convexHull.length - 1] == selectedPoint) || (convexHull[0] == selectedPoint)))
+                            && (convexHull[convexHull.length - 1]
+                                    .equals(selectedPoint) || convexHull[0]
+                                    .equals(selectedPoint)))
                         g2.setColor(Color.BLUE);
                     else
                         g2.setColor(Color.BLACK);
@@ -146,14 +213,30 @@ public class PointSetAlgebraPanel extends JPanel implements
     }
 
     /**
-     * Die Methode zeichnet die Triangulationslinien.
+     * Die Methode zeichnet die Kanten der Delaunay-Triangulation. Sie werden
+     * vor den Punkten und der konvexen Huelle hellgrau gezeichnet, damit diese
+     * sichtbar bleiben.
      * 
      * @param g2
      *            das Grafikobjekt
+     * @param triangulationCalculator
+     *            liefert die Delaunay-Triangulation
      */
-    private void drawTriangulationLines(Graphics2D g2) {
-        // TODO Auto-generated method stub
-
+    private void drawTriangulationLines(Graphics2D g2,
+            ITriangulationCalculator triangulationCalculator) {
+        Triangulation triangulation = triangulationCalculator
+                .getDelaunayTriangulation();
+        g2.setColor(Color.LIGHT_GRAY);
+        for (int e = 0; e < triangulation.getHalfEdgeCount(); e++) {
+            // innere Kanten nur einmal zeichnen
+            if (triangulation.getTwin(e) > e)
+                continue;
+            int from = triangulation.getOrigin(e);
+            int to = triangulation.getOrigin(Triangulation.next(e));
+            g2.drawLine(triangulation.getxPos(from),
+                    triangulation.getyPos(from), triangulation.getxPos(to),
+                    triangulation.getyPos(to));
+        }
     }
 
     /**
@@ -161,13 +244,18 @@ public class PointSetAlgebraPanel extends JPanel implements
      * 
      * @param g2
      *            das Grafikobjekt
+     * @param circleCalculator
+     *            liefert den kleinsten umfassenden Kreis
+     * @param empty
+     *            wahr, falls die Punktmenge leer ist
      */
-    private void drawSmallestEnclosingCircle(Graphics2D g2) {
-        if (!pointSetAlgebra.isEmpty()) {
+    private void drawSmallestEnclosingCircle(Graphics2D g2,
+            ISmallestEnclosingCircleCalculator circleCalculator, boolean empty) {
+        if (!empty) {
             g2.setColor(Color.BLACK);
-            int radius = (int) pointSetAlgebra.getSECRadius();
-            g2.drawOval((int) pointSetAlgebra.getSECCenterPointX() - radius,
-                    (int) pointSetAlgebra.getSECCenterPointY() - radius,
+            int radius = (int) circleCalculator.getSECRadius();
+            g2.drawOval((int) circleCalculator.getSECCenterPointX() - radius,
+                    (int) circleCalculator.getSECCenterPointY() - radius,
                     radius * 2, radius * 2);
         }
 